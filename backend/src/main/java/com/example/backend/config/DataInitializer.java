@@ -110,10 +110,7 @@ public class DataInitializer implements ApplicationRunner, CommandLineRunner {
         log.info("Creating basic Driver position...");
 
         // Check if a general "Driver" position already exists
-        Optional<JobPosition> existingDriver = jobPositionRepository.findAll()
-                .stream()
-                .filter(jp -> "Driver".equals(jp.getPositionName()))
-                .findFirst();
+        Optional<JobPosition> existingDriver = jobPositionRepository.findFirstByPositionName("Driver");
 
         if (existingDriver.isEmpty()) {
             // Find the Logistics department
@@ -153,10 +150,7 @@ public class DataInitializer implements ApplicationRunner, CommandLineRunner {
         String requiredPositionName = equipmentType.getRequiredDriverPosition();
 
         // Check if the position already exists
-        Optional<JobPosition> existingPosition = jobPositionRepository.findAll()
-                .stream()
-                .filter(jp -> requiredPositionName.equals(jp.getPositionName()))
-                .findFirst();
+        Optional<JobPosition> existingPosition = jobPositionRepository.findFirstByPositionName(requiredPositionName);
 
         if (existingPosition.isEmpty()) {
             // Find the Logistics department (default for driver positions)
@@ -0,0 +1,85 @@
+package com.example.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the PostgreSQL full-text and trigram search structures used by FinanceSearchService.
+ * Hibernate's ddl-auto cannot create generated tsvector columns or GIN indexes, so they are
+ * applied here on startup. Every statement is idempotent; the generated columns are kept up
+ * to date by PostgreSQL on every insert and update.
+ * A missing index only makes search slower. A missing search_vector column would break the
+ * full-text query, so that failure is recorded and FinanceSearchService falls back to plain
+ * LIKE matching (see {@link #isFullTextAvailable()}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FinanceSearchIndexInitializer implements ApplicationRunner {
+
+    private static final List<String> SEARCH_DDL = List.of(
+            // Trigram matching for partial reference numbers and names (also serves the existing LOWER(..) LIKE queries)
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+
+            // Invoices
+            "ALTER TABLE invoices ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "to_tsvector('simple'::regconfig, coalesce(invoice_number, '') || ' ' || coalesce(vendor_name, '') || ' ' || coalesce(description, ''))) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_invoices_search_vector ON invoices USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_invoices_invoice_number_trgm ON invoices USING gin (lower(invoice_number) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_invoices_vendor_name_trgm ON invoices USING gin (lower(vendor_name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_invoices_description_trgm ON invoices USING gin (lower(description) gin_trgm_ops)",
+
+            // Payments
+            "ALTER TABLE payments ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "to_tsvector('simple'::regconfig, coalesce(reference_number, '') || ' ' || coalesce(notes, ''))) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_payments_search_vector ON payments USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_payments_reference_number_trgm ON payments USING gin (lower(reference_number) gin_trgm_ops)",
+
+            // Journal entries
+            "ALTER TABLE journal_entries ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "to_tsvector('simple'::regconfig, coalesce(reference_number, '') || ' ' || coalesce(description, ''))) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_journal_entries_search_vector ON journal_entries USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_journal_entries_reference_number_trgm ON journal_entries USING gin (reference_number gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_journal_entries_reference_number_lower_trgm ON journal_entries USING gin (lower(reference_number) gin_trgm_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Stays false until every search_vector column is known to exist
+    private volatile boolean fullTextAvailable;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Ensuring finance search indexes...");
+
+        boolean columnsCreated = true;
+        for (String statement : SEARCH_DDL) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (Exception e) {
+                if (statement.contains("search_vector tsvector")) {
+                    columnsCreated = false;
+                    log.error("Could not add finance search column [{}]: {}. Finance search falls back to LIKE matching",
+                            statement, e.getMessage());
+                } else {
+                    // Without an index (e.g. pg_trgm not installable) the same queries run, just slower
+                    log.warn("Could not apply finance search DDL [{}]: {}", statement, e.getMessage());
+                }
+            }
+        }
+        fullTextAvailable = columnsCreated;
+    }
+
+    /**
+     * Whether the search_vector columns exist and the full-text query can be used.
+     */
+    public boolean isFullTextAvailable() {
+        return fullTextAvailable;
+    }
+}
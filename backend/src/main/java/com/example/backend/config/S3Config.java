@@ -8,6 +8,7 @@ import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
@@ -52,6 +53,8 @@ public class S3Config {
                     .credentialsProvider(StaticCredentialsProvider.create(
                             AwsBasicCredentials.create("minioadmin", "minioadmin")
                     ))
+                    // Same path-style addressing as the client, so presigned URLs resolve against MinIO
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
                     .build();
         } else {
             // Production with AWS S3
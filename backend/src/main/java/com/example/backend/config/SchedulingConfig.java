@@ -0,0 +1,15 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background work (audit log flushing and other periodic jobs).
+ * The scheduler pool size is spring.task.scheduling.pool.size; it is more than one thread
+ * so the frequent audit relay is not held up by long nightly jobs (lot compaction,
+ * storage sweep, outbox purge).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
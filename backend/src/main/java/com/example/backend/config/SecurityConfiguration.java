@@ -4,6 +4,7 @@ import com.example.backend.models.user.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -41,6 +42,8 @@ public class SecurityConfiguration {
                         .requestMatchers("/api/v1/admin/**").hasAuthority(Role.ADMIN.name())
                         .requestMatchers("/ws/**").permitAll()  // Allow WebSocket endpoint
                         .requestMatchers("/ws-native/**").permitAll()  // Allow native WebSocket endpoint
+                        .requestMatchers(HttpMethod.GET, "/api/v1/files/**").permitAll()  // Stored files, public like S3 object URLs
+                        .requestMatchers(HttpMethod.HEAD, "/api/v1/files/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
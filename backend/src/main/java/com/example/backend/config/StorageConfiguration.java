@@ -2,6 +2,7 @@ package com.example.backend.config;
 
 import com.example.backend.services.FileStorageService;
 import com.example.backend.services.MinioService;
+import com.example.backend.services.impl.LocalFileStorageService;
 import com.example.backend.services.impl.S3ServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,13 +27,20 @@ public class StorageConfiguration {
     @Autowired(required = false)
     private S3Presigner s3Presigner;
 
+    @Autowired(required = false)
+    private LocalFileStorageService localFileStorageService;
+
     @Bean
     @Primary
     public FileStorageService fileStorageService() {
         System.out.println("🔧 Configuring storage type: " + storageType);
         System.out.println("🔧 S3 enabled: " + s3Enabled);
 
-        if ("s3".equalsIgnoreCase(storageType)) {
+        if ("local".equalsIgnoreCase(storageType) && localFileStorageService != null) {
+            System.out.println("📦 Using local filesystem for file storage");
+            localFileStorageService.initializeService();
+            return localFileStorageService;
+        } else if ("s3".equalsIgnoreCase(storageType)) {
             System.out.println("📦 Using AWS S3 for file storage");
             return new S3ServiceImpl(s3Client, s3Presigner);
         } else if (s3Enabled) {
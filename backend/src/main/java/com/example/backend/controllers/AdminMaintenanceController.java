@@ -0,0 +1,175 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.ReferenceDataCacheStatsDTO;
+import com.example.backend.dto.warehouse.ItemLotCompactionResultDTO;
+import com.example.backend.models.equipment.ConsumableBackfillJob;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.equipment.ConsumableResolutionBackfillService;
+import com.example.backend.services.finance.fixedAssets.DepreciationPostingService;
+import com.example.backend.services.finance.generalLedger.LedgerBalanceService;
+import com.example.backend.services.hr.PromotionAnalyticsService;
+import com.example.backend.services.hr.PromotionPathService;
+import com.example.backend.services.warehouse.ItemLotCompactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backfill, repair and cache maintenance operations. Everything under /api/v1/admin
+ * is restricted to ADMIN users by SecurityConfiguration.
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminMaintenanceController {
+
+    private final PromotionAnalyticsService promotionAnalyticsService;
+    private final PromotionPathService promotionPathService;
+    private final ReferenceDataCache referenceDataCache;
+    private final ItemLotCompactionService itemLotCompactionService;
+    private final ConsumableResolutionBackfillService consumableResolutionBackfillService;
+    private final DepreciationPostingService depreciationPostingService;
+    private final LedgerBalanceService ledgerBalanceService;
+
+    /**
+     * Recompute the monthly promotion stats from all promotion requests (backfill/repair)
+     */
+    @PostMapping("/promotions/analytics/rebuild")
+    public ResponseEntity<?> rebuildPromotionAnalytics() {
+        try {
+            int rows = promotionAnalyticsService.rebuildStats();
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "rebuiltRows", rows
+            ));
+        } catch (Exception e) {
+            log.error("Error rebuilding promotion analytics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Recompute the promotion path graph from implemented promotions (backfill/repair)
+     */
+    @PostMapping("/promotions/paths/rebuild")
+    public ResponseEntity<?> rebuildPromotionPaths() {
+        try {
+            int edges = promotionPathService.rebuildGraph();
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "rebuiltEdges", edges
+            ));
+        } catch (Exception e) {
+            log.error("Error rebuilding promotion paths", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Give depreciation lines without an account the configured accounts, then recompute
+     * all ledger balances from approved journal entry lines (backfill/repair)
+     */
+    @PostMapping("/general-ledger/balances/rebuild")
+    public ResponseEntity<?> rebuildLedgerBalances() {
+        try {
+            int linesAssigned = 0;
+            try {
+                linesAssigned = depreciationPostingService.assignMissingLineAccounts();
+            } catch (IllegalStateException e) {
+                // Accounts not configured: rebuild anyway, those lines stay in the unassigned bucket
+                log.warn("Skipping depreciation line account assignment: {}", e.getMessage());
+            }
+            int rows = ledgerBalanceService.rebuildBalances();
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "rebuiltRows", rows,
+                    "depreciationLinesAssigned", linesAssigned
+            ));
+        } catch (Exception e) {
+            log.error("Error rebuilding ledger balances", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                    "success", false,
+                    "error", String.valueOf(e.getMessage())
+            ));
+        }
+    }
+
+    /**
+     * Hit/miss, eviction and invalidation counters per reference data cache
+     */
+    @GetMapping("/reference-data/cache/stats")
+    public ResponseEntity<List<ReferenceDataCacheStatsDTO>> getReferenceDataCacheStats() {
+        return ResponseEntity.ok(referenceDataCache.getStats());
+    }
+
+    /**
+     * Drop all cached reference data, e.g. after editing master tables directly in the database
+     */
+    @PostMapping("/reference-data/cache/invalidate")
+    public ResponseEntity<Map<String, String>> invalidateReferenceDataCaches() {
+        referenceDataCache.invalidateAll();
+        return ResponseEntity.ok(Map.of("message", "Reference data caches invalidated"));
+    }
+
+    /**
+     * Merge fragmented warehouse lots now instead of waiting for the nightly run
+     */
+    @PostMapping("/items/compaction")
+    public ResponseEntity<?> compactItemLots() {
+        try {
+            return ResponseEntity.ok(itemLotCompactionService.compactAll());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "Conflict", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/items/compaction/last")
+    public ResponseEntity<ItemLotCompactionResultDTO> getLastItemLotCompaction() {
+        ItemLotCompactionResultDTO result = itemLotCompactionService.getLastResult();
+        return result != null ? ResponseEntity.ok(result) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Start (or resume) the background backfill that copies consumable resolutions onto
+     * their transaction items. Progress is available from the status endpoint.
+     */
+    @PostMapping("/equipment/consumables/backfill-resolved-items")
+    public ResponseEntity<?> backfillResolvedTransactionItems(
+            @RequestParam(defaultValue = "false") boolean restart,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            ConsumableBackfillJob job = consumableResolutionBackfillService.start(userDetails.getUsername(), restart);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Progress of the most recent consumable backfill run
+     */
+    @GetMapping("/equipment/consumables/backfill-resolved-items/status")
+    public ResponseEntity<ConsumableBackfillJob> getConsumableBackfillStatus() {
+        ConsumableBackfillJob job = consumableResolutionBackfillService.getLatestJob();
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.noContent().build();
+    }
+}
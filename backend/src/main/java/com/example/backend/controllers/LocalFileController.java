@@ -0,0 +1,154 @@
+package com.example.backend.controllers;
+
+import com.example.backend.services.impl.LocalFileStorageService;
+import com.example.backend.services.impl.LocalFileStorageService.StoredObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Serves files of the local filesystem storage backend (storage.type=local).
+ * Supports single byte-range requests and hands the file to Tomcat's sendfile when available,
+ * falling back to FileChannel.transferTo, so file content is not copied through the heap.
+ * The endpoint is public, so only inline-safe types (raster images, PDF) are shown in the
+ * browser; anything else (HTML, SVG, ...) is sent as a sandboxed download.
+ */
+@RestController
+@RequestMapping("/api/v1/files")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileController {
+
+    // Tomcat request attributes for zero-copy sendfile
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Types that cannot run script when rendered inline
+    private static final Set<String> INLINE_CONTENT_TYPES = Set.of(
+            "image/png", "image/jpeg", "image/gif", "image/webp", "image/bmp", "application/pdf");
+
+    private final LocalFileStorageService localFileStorageService;
+
+    @RequestMapping(value = "/{bucket}/{*key}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serveFile(@PathVariable String bucket,
+                          @PathVariable String key,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        Optional<StoredObject> found;
+        try {
+            found = localFileStorageService.getObject(bucket, key.startsWith("/") ? key.substring(1) : key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        StoredObject object = found.get();
+        long length = object.size();
+        String eTag = "\"" + object.contentHash() + "\"";
+
+        // Uploaded content must never be sniffed into, or rendered as, an active document on our origin
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (!isInlineSafe(object.contentType())) {
+            String fileName = key.substring(key.lastIndexOf('/') + 1);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(fileName, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+            response.setHeader("Content-Security-Policy", "sandbox");
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, object.lastModified());
+
+        if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        // Single ranges are served as 206; multi-range requests get the whole file (allowed by RFC 9110)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start > end || start >= length) {
+                        throw new IllegalArgumentException("Range not satisfiable");
+                    }
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentType(object.contentType());
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file straight from the page cache to the socket after this method returns
+            request.setAttribute(SENDFILE_FILENAME, object.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(object.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static boolean isInlineSafe(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+        return INLINE_CONTENT_TYPES.contains(mediaType.toLowerCase(Locale.ROOT));
+    }
+}
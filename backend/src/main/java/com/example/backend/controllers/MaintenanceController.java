@@ -2,6 +2,7 @@ package com.example.backend.controllers;
 
 import com.example.backend.dtos.*;
 import com.example.backend.exceptions.MaintenanceException;
+import com.example.backend.services.MaintenanceDashboardService;
 import com.example.backend.services.MaintenanceService;
 import com.example.backend.services.ContactService;
 import lombok.RequiredArgsConstructor;
@@ -23,13 +24,14 @@ import java.util.Map;
 public class MaintenanceController {
     
     private final MaintenanceService maintenanceService;
+    private final MaintenanceDashboardService maintenanceDashboardService;
     private final ContactService contactService;
     
     // Dashboard
     @GetMapping("/dashboard")
     public ResponseEntity<MaintenanceDashboardDto> getDashboard() {
         try {
-            MaintenanceDashboardDto dashboard = maintenanceService.getDashboardData();
+            MaintenanceDashboardDto dashboard = maintenanceDashboardService.getDashboardData();
             return ResponseEntity.ok(dashboard);
         } catch (Exception e) {
             log.error("Error retrieving dashboard data: {}", e.getMessage());
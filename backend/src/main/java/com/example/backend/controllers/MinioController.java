@@ -1,6 +1,7 @@
 package com.example.backend.controllers;
 
 import com.example.backend.services.FileStorageService;
+import com.example.backend.services.equipment.EquipmentPhotoService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,9 +16,11 @@ import java.util.UUID;
 public class MinioController {
 
     private final FileStorageService fileStorageService;
+    private final EquipmentPhotoService equipmentPhotoService;
 
-    public MinioController(FileStorageService fileStorageService) {
+    public MinioController(FileStorageService fileStorageService, EquipmentPhotoService equipmentPhotoService) {
         this.fileStorageService = fileStorageService;
+        this.equipmentPhotoService = equipmentPhotoService;
     }
 
     @PostMapping("/upload")
@@ -67,7 +70,7 @@ public class MinioController {
     @GetMapping("/equipment/{equipmentId}/main-photo")
     public ResponseEntity<String> getEquipmentMainPhoto(@PathVariable UUID equipmentId) {
         try {
-            String imageUrl = fileStorageService.getEquipmentMainPhoto(equipmentId);
+            String imageUrl = equipmentPhotoService.getMainPhotoUrl(equipmentId);
             return ResponseEntity.ok(imageUrl);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
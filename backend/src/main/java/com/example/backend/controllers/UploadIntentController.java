@@ -0,0 +1,63 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.equipment.DocumentDTO;
+import com.example.backend.dto.storage.UploadCompletionRequestDTO;
+import com.example.backend.dto.storage.UploadIntentRequestDTO;
+import com.example.backend.dto.storage.UploadIntentResponseDTO;
+import com.example.backend.exceptions.ResourceAlreadyExistsException;
+import com.example.backend.exceptions.ResourceNotFoundException;
+import com.example.backend.services.UploadIntentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Direct browser uploads: request an intent, PUT the file to the returned URL,
+ * then call the matching /complete endpoint for documents and equipment photos.
+ */
+@RestController
+@RequestMapping("/api/v1/uploads")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class UploadIntentController {
+
+    private final UploadIntentService uploadIntentService;
+
+    @PostMapping("/intents")
+    public ResponseEntity<UploadIntentResponseDTO> createIntent(@RequestBody UploadIntentRequestDTO request) {
+        return ResponseEntity.ok(uploadIntentService.createIntent(request));
+    }
+
+    @PostMapping("/documents/complete")
+    public ResponseEntity<DocumentDTO> completeDocumentUpload(@RequestBody UploadCompletionRequestDTO request) {
+        return new ResponseEntity<>(uploadIntentService.completeDocumentUpload(request), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/equipment-photos/complete")
+    public ResponseEntity<Map<String, String>> completeEquipmentPhotoUpload(@RequestBody UploadCompletionRequestDTO request) {
+        return ResponseEntity.ok(Map.of("imageUrl", uploadIntentService.completeEquipmentPhotoUpload(request)));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(ResourceNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+
+    @ExceptionHandler(ResourceAlreadyExistsException.class)
+    public ResponseEntity<Map<String, String>> handleAlreadyExists(ResourceAlreadyExistsException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalState(IllegalStateException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+}
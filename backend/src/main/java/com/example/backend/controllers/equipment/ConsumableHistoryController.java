@@ -2,6 +2,7 @@ package com.example.backend.controllers.equipment;
 
 import com.example.backend.dto.transaction.TransactionDTO;
 import com.example.backend.dto.equipment.ConsumableHistoryDTO;
+import com.example.backend.dto.equipment.ConsumableLedgerDTO;
 import com.example.backend.models.equipment.Consumable;
 import com.example.backend.models.transaction.Transaction;
 import com.example.backend.services.equipment.ConsumablesService;
@@ -66,20 +67,17 @@ public class ConsumableHistoryController {
     }
     
     /**
-     * EMERGENCY ENDPOINT: Manually trigger backfill for all resolved transaction items
-     * This fixes historical data that was resolved before the transaction item update fix
+     * Ledger of a consumable: dated movements of its item type and its resolutions, oldest first,
+     * with a running balance
+     *
+     * Endpoint: GET /api/v1/equipment/consumables/{consumableId}/ledger
      */
-    @PostMapping("/consumables/backfill-resolved-items")
-    public ResponseEntity<String> backfillResolvedTransactionItems() {
+    @GetMapping("/consumables/{consumableId}/ledger")
+    public ResponseEntity<ConsumableLedgerDTO> getConsumableLedger(@PathVariable UUID consumableId) {
         try {
-            System.out.println("🚨 Manual backfill triggered via API endpoint");
-            consumablesService.manualBackfillAllResolvedTransactionItems();
-            return ResponseEntity.ok("Backfill completed successfully. Check logs for details.");
-        } catch (Exception e) {
-            System.out.println("💥 Backfill failed: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Backfill failed: " + e.getMessage());
+            return ResponseEntity.ok(consumablesService.getConsumableLedger(consumableId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
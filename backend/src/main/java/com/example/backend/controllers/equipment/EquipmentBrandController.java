@@ -5,6 +5,7 @@ import com.example.backend.services.equipment.EquipmentBrandService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,8 +17,8 @@ public class EquipmentBrandController {
     private EquipmentBrandService equipmentBrandService;
 
     @GetMapping
-    public ResponseEntity<List<EquipmentBrand>> getAllEquipmentBrands() {
-        return ResponseEntity.ok(equipmentBrandService.getAllEquipmentBrands());
+    public ResponseEntity<List<EquipmentBrand>> getAllEquipmentBrands(WebRequest request) {
+        return equipmentBrandService.getAllEquipmentBrandsCached().toResponse(request);
     }
 
     @GetMapping("/{id}")
@@ -6,6 +6,7 @@ import com.example.backend.models.equipment.Consumable;
 import com.example.backend.models.warehouse.ItemStatus;
 import com.example.backend.services.equipment.ConsumablesService;
 import com.example.backend.services.equipment.EquipmentService;
+import com.example.backend.services.equipment.EquipmentTimelineService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +34,9 @@ public class EquipmentController {
     @Autowired
     private ConsumablesService consumablesService;
 
+    @Autowired
+    private EquipmentTimelineService equipmentTimelineService;
+
 
 
     // GET endpoints
@@ -42,6 +46,44 @@ public class EquipmentController {
         return ResponseEntity.ok(equipmentService.getAllEquipment());
     }
 
+    @GetMapping("/catalog")
+    public ResponseEntity<?> getEquipmentCatalog(
+            @RequestParam(required = false) UUID siteId,
+            @RequestParam(required = false) UUID typeId,
+            @RequestParam(required = false) UUID brandId,
+            @RequestParam(required = false) EquipmentStatus status,
+            @RequestParam(required = false) UUID driverId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(equipmentService.getEquipmentCatalog(
+                    siteId, typeId, brandId, status, driverId, search, cursor, size));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Bad Request");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("status", 400);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<?> getEquipmentTimeline(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(equipmentTimelineService.getTimeline(id, cursor, size));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Bad Request");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("status", 400);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
     @GetMapping("/status-options")
     public ResponseEntity<List<Map<String, String>>> getEquipmentStatusOptions() {
         List<Map<String, String>> statusOptions = new ArrayList<>();
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,8 +24,8 @@ public class EquipmentTypeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<EquipmentTypeDTO>> getAllEquipmentTypes() {
-        return ResponseEntity.ok(equipmentTypeService.getAllEquipmentTypes());
+    public ResponseEntity<List<EquipmentTypeDTO>> getAllEquipmentTypes(WebRequest request) {
+        return equipmentTypeService.getAllEquipmentTypesCached().toResponse(request);
     }
 
     @GetMapping("/{id}")
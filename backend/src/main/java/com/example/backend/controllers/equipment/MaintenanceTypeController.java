@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -22,14 +23,14 @@ public class MaintenanceTypeController {
 
     // Get all active maintenance types (returns DTOs for consistency)
     @GetMapping
-    public ResponseEntity<List<MaintenanceTypeDTO>> getAllMaintenanceTypes() {
-        return ResponseEntity.ok(maintenanceTypeService.getAllMaintenanceTypes());
+    public ResponseEntity<List<MaintenanceTypeDTO>> getAllMaintenanceTypes(WebRequest request) {
+        return maintenanceTypeService.getAllMaintenanceTypesCached().toResponse(request);
     }
 
     // Get all maintenance types (both active and inactive) for management interface
     @GetMapping("/management")
-    public ResponseEntity<List<MaintenanceTypeDTO>> getAllMaintenanceTypesForManagement() {
-        return ResponseEntity.ok(maintenanceTypeService.getAllMaintenanceTypesForManagement());
+    public ResponseEntity<List<MaintenanceTypeDTO>> getAllMaintenanceTypesForManagement(WebRequest request) {
+        return maintenanceTypeService.getAllMaintenanceTypesForManagementCached().toResponse(request);
     }
 
     // Get maintenance type by id
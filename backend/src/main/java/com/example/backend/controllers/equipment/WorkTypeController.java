@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,13 +19,13 @@ public class WorkTypeController {
     private WorkTypeService workTypeService;
 
     @GetMapping("/worktypes")
-    public ResponseEntity<List<WorkTypeDTO>> getAllWorkTypes() {
-        return ResponseEntity.ok(workTypeService.getAllWorkTypes());
+    public ResponseEntity<List<WorkTypeDTO>> getAllWorkTypes(WebRequest request) {
+        return workTypeService.getAllWorkTypesCached().toResponse(request);
     }
 
     @GetMapping("/worktypes/management")
-    public ResponseEntity<List<WorkTypeDTO>> getAllWorkTypesForManagement() {
-        return ResponseEntity.ok(workTypeService.getAllWorkTypesForManagement());
+    public ResponseEntity<List<WorkTypeDTO>> getAllWorkTypesForManagement(WebRequest request) {
+        return workTypeService.getAllWorkTypesForManagementCached().toResponse(request);
     }
 
     @GetMapping("/worktypes/{id}")
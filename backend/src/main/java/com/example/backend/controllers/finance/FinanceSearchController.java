@@ -0,0 +1,45 @@
+package com.example.backend.controllers.finance;
+
+import com.example.backend.dto.finance.FinanceSearchResultDTO;
+import com.example.backend.services.finance.FinanceSearchService;
+import com.example.backend.services.finance.FinanceSearchService.SearchType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/finance/search")
+@CrossOrigin(origins = "*")
+public class FinanceSearchController {
+
+    private final FinanceSearchService financeSearchService;
+
+    @Autowired
+    public FinanceSearchController(FinanceSearchService financeSearchService) {
+        this.financeSearchService = financeSearchService;
+    }
+
+    /**
+     * Search invoices, payments and journal entries by reference number, vendor or description.
+     * Example: /api/v1/finance/search?q=acme&types=INVOICE,PAYMENT&page=0&size=20
+     */
+    @GetMapping
+    public ResponseEntity<Page<FinanceSearchResultDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<SearchType> types,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(financeSearchService.search(q, types, PageRequest.of(Math.max(page, 0), pageSize)));
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+}
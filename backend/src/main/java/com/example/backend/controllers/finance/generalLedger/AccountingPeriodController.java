@@ -1,9 +1,11 @@
 package com.example.backend.controllers.finance.generalLedger;
 
+import com.example.backend.dto.finance.fixedAssets.DepreciationPostingResultDTO;
 import com.example.backend.dto.finance.generalLedger.AccountingPeriodRequestDTO;
 import com.example.backend.dto.finance.generalLedger.AccountingPeriodResponseDTO;
 import com.example.backend.models.user.User;
 import com.example.backend.repositories.user.UserRepository;
+import com.example.backend.services.finance.fixedAssets.DepreciationPostingService;
 import com.example.backend.services.finance.generalLedger.AccountingPeriodService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -21,12 +23,15 @@ import java.util.UUID;
 public class AccountingPeriodController {
 
     private final AccountingPeriodService accountingPeriodService;
+    private final DepreciationPostingService depreciationPostingService;
     private final UserRepository userRepository;
 
     @Autowired
     public AccountingPeriodController(AccountingPeriodService accountingPeriodService,
+                                      DepreciationPostingService depreciationPostingService,
                                       UserRepository userRepository) {
         this.accountingPeriodService = accountingPeriodService;
+        this.depreciationPostingService = depreciationPostingService;
         this.userRepository = userRepository;
     }
 
@@ -83,4 +88,31 @@ public class AccountingPeriodController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping("/{id}/depreciation")
+    public ResponseEntity<?> postDepreciation(@PathVariable UUID id) {
+        try {
+            // Get the currently logged-in user
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String username = authentication.getName();
+
+            User currentUser = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new RuntimeException("Logged-in user not found in the database"));
+
+            DepreciationPostingResultDTO response = depreciationPostingService.postDepreciationForPeriod(id, currentUser.getId());
+            return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            // Missing configuration, e.g. the depreciation accounts
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
+    @GetMapping("/{id}/depreciation")
+    public ResponseEntity<DepreciationPostingResultDTO> getDepreciationSummary(@PathVariable UUID id) {
+        DepreciationPostingResultDTO summary = depreciationPostingService.getDepreciationSummary(id);
+        return ResponseEntity.ok(summary);
+    }
+}
@@ -1,16 +1,17 @@
 package com.example.backend.controllers.finance.generalLedger;
 
 import com.example.backend.dto.finance.generalLedger.AuditLogResponseDTO;
+import com.example.backend.dto.finance.generalLedger.AuditWriterStatsDTO;
 import com.example.backend.services.finance.generalLedger.AuditService;
 import com.example.backend.utils.ExportUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -22,12 +23,10 @@ import java.util.UUID;
 public class AuditController {
 
     private final AuditService auditService;
-    private final ExportUtil exportUtil;
 
     @Autowired
-    public AuditController(AuditService auditService, ExportUtil exportUtil) {
+    public AuditController(AuditService auditService) {
         this.auditService = auditService;
-        this.exportUtil = exportUtil;
     }
 
     // Add this new endpoint to get all audit logs
@@ -49,6 +48,11 @@ public class AuditController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/writer-stats")
+    public ResponseEntity<AuditWriterStatsDTO> getWriterStats() {
+        return ResponseEntity.ok(auditService.getWriterStats());
+    }
+
     @GetMapping("/entity/{entityType}/{entityId}")
     public ResponseEntity<List<AuditLogResponseDTO>> getAuditLogsByEntity(
             @PathVariable String entityType,
@@ -80,42 +84,38 @@ public class AuditController {
     }
 
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportAuditLogs(
+    public void exportAuditLogs(
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) UUID entityId,
             @RequestParam(required = false) UUID userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-
-        try {
-            List<AuditLogResponseDTO> logs;
-
-            if (entityType != null && entityId != null) {
-                logs = auditService.getAuditLogsByEntity(entityType, entityId);
-            } else if (userId != null) {
-                logs = auditService.getAuditLogsByUser(userId);
-            } else if (startDate != null && endDate != null) {
-                logs = auditService.getAuditLogsByDateRange(startDate, endDate);
-            } else if (entityType != null) {
-                logs = auditService.getAuditLogsByEntityType(entityType);
-            } else {
-                // Changed to get all logs instead of just 30 days
-                logs = auditService.getAllAuditLogs();
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "xlsx") String format,
+            HttpServletResponse response) throws IOException {
+
+        boolean csv = "csv".equalsIgnoreCase(format);
+
+        if (!csv) {
+            long rows = auditService.countAuditLogsForExport(entityType, entityId, userId, startDate, endDate);
+            if (rows > ExportUtil.MAX_EXCEL_DATA_ROWS) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Export has " + rows
+                        + " rows, more than an XLSX sheet can hold (" + ExportUtil.MAX_EXCEL_DATA_ROWS
+                        + "). Narrow the filters or use format=csv.");
+                return;
             }
+        }
 
-            // Use the Excel export method
-            byte[] excelData = exportUtil.exportAuditLogsToExcel(logs);
-
-            // Return with Excel content type and .xlsx extension
-            return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=\"audit_logs.xlsx\"")
-                    // Use modern Excel content type (Office 2007+)
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(excelData.length)
-                    .body(excelData);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        // Rows are streamed straight into the response, so headers must be set before writing
+        if (csv) {
+            response.setContentType("text/csv; charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=\"audit_logs.csv\"");
+        } else {
+            // Use modern Excel content type (Office 2007+)
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            response.setHeader("Content-Disposition", "attachment; filename=\"audit_logs.xlsx\"");
         }
+
+        auditService.exportAuditLogs(entityType, entityId, userId, startDate, endDate, csv, response.getOutputStream());
+        response.flushBuffer();
     }
-}
\ No newline at end of file
+}
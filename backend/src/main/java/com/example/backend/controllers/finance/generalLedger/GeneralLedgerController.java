@@ -0,0 +1,45 @@
+package com.example.backend.controllers.finance.generalLedger;
+
+import com.example.backend.dto.finance.generalLedger.AccountStatementResponseDTO;
+import com.example.backend.dto.finance.generalLedger.TrialBalanceResponseDTO;
+import com.example.backend.services.finance.generalLedger.LedgerBalanceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/general-ledger")
+public class GeneralLedgerController {
+
+    private final LedgerBalanceService ledgerBalanceService;
+
+    @Autowired
+    public GeneralLedgerController(LedgerBalanceService ledgerBalanceService) {
+        this.ledgerBalanceService = ledgerBalanceService;
+    }
+
+    @GetMapping("/trial-balance")
+    public ResponseEntity<TrialBalanceResponseDTO> getTrialBalance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        LocalDate dateToUse = asOfDate != null ? asOfDate : LocalDate.now();
+        return ResponseEntity.ok(ledgerBalanceService.getTrialBalance(dateToUse));
+    }
+
+    @GetMapping("/accounts/{accountId}/statement")
+    public ResponseEntity<AccountStatementResponseDTO> getAccountStatement(
+            @PathVariable UUID accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(ledgerBalanceService.getAccountStatement(accountId, startDate, endDate));
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(ex.getMessage())));
+    }
+}
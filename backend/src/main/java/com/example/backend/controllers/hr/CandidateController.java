@@ -6,11 +6,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -28,6 +31,24 @@ public class CandidateController {
         return ResponseEntity.ok(candidateService.getAllCandidates());
     }
 
+    // Search candidates with optional filters
+    // GET /api/v1/candidates/search?status=APPLIED&vacancyId=...&fromDate=2024-01-01&toDate=2024-12-31&page=0&size=20
+    @GetMapping("/search")
+    public ResponseEntity<?> searchCandidates(
+            @RequestParam(required = false) Candidate.CandidateStatus status,
+            @RequestParam(required = false) UUID vacancyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<Candidate> candidates = candidateService.searchCandidates(status, vacancyId, fromDate, toDate, page, size);
+            return ResponseEntity.ok(candidates);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Get candidate by ID
     @GetMapping("/{id}")
     public ResponseEntity<Candidate> getCandidateById(@PathVariable UUID id) {
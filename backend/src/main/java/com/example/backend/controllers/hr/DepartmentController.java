@@ -1,5 +1,6 @@
 package com.example.backend.controllers.hr;
 
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import com.example.backend.services.hr.DepartmentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.*;
 
@@ -21,12 +23,12 @@ public class DepartmentController {
     private DepartmentService departmentService;
 
     @GetMapping
-    public ResponseEntity<?> getAllDepartments() {
+    public ResponseEntity<?> getAllDepartments(WebRequest request) {
         try {
             logger.info("Fetching all departments...");
-            List<Map<String, Object>> departments = departmentService.getAllDepartmentsAsMap();
-            logger.info("Successfully fetched {} departments", departments.size());
-            return ResponseEntity.ok(departments);
+            CachedValue<List<Map<String, Object>>> departments = departmentService.getAllDepartmentsAsMapCached();
+            logger.info("Successfully fetched {} departments", departments.value().size());
+            return departments.toResponse(request);
         } catch (Exception e) {
             logger.error("Error fetching departments: ", e);
             Map<String, String> errorResponse = new HashMap<>();
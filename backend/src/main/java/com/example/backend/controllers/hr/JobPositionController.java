@@ -2,6 +2,7 @@ package com.example.backend.controllers.hr;
 
 import com.example.backend.dto.hr.JobPositionDTO;
 import com.example.backend.dto.hr.JobPositionDetailsDTO;
+import com.example.backend.dto.hr.JobPositionDetailsSection;
 import com.example.backend.dto.hr.employee.EmployeeSummaryDTO;
 import com.example.backend.dto.hr.promotions.PromotionStatsDTO;
 import com.example.backend.dto.hr.promotions.PromotionSummaryDTO;
@@ -9,6 +10,7 @@ import com.example.backend.models.hr.Employee;
 import com.example.backend.models.hr.JobPosition;
 import com.example.backend.models.hr.PromotionRequest;
 import com.example.backend.repositories.hr.JobPositionRepository;
+import com.example.backend.services.hr.JobPositionDetailsService;
 import com.example.backend.services.hr.JobPositionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +29,9 @@ public class JobPositionController {
     @Autowired
     private JobPositionRepository jobPositionRepository;
 
+    @Autowired
+    private JobPositionDetailsService jobPositionDetailsService;
+
     /**
      * Create a new job position using DTO
      */
@@ -56,7 +61,9 @@ public class JobPositionController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<JobPositionDTO> updateJobPosition(@PathVariable UUID id, @RequestBody JobPositionDTO jobPositionDTO) {
-        return ResponseEntity.ok(jobPositionService.updateJobPosition(id, jobPositionDTO));
+        JobPositionDTO updated = jobPositionService.updateJobPosition(id, jobPositionDTO);
+        jobPositionDetailsService.evict(id);
+        return ResponseEntity.ok(updated);
     }
 
     /**
@@ -65,6 +72,7 @@ public class JobPositionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteJobPosition(@PathVariable UUID id) {
         jobPositionService.deleteJobPosition(id);
+        jobPositionDetailsService.evict(id);
         return ResponseEntity.noContent().build();
     }
 
@@ -137,10 +145,13 @@ public class JobPositionController {
     /**
      * Get comprehensive job position details with all analytics, employees, and promotions
      * This is the main endpoint for the job position details page
+     * Pass sections (EMPLOYEES, ANALYTICS, PROMOTIONS, VACANCIES) to load only part of the page
      */
     @GetMapping("/{id}/details")
-    public ResponseEntity<JobPositionDetailsDTO> getJobPositionDetails(@PathVariable UUID id) {
-        JobPositionDetailsDTO details = jobPositionService.getJobPositionDetailsDTO(id);
+    public ResponseEntity<JobPositionDetailsDTO> getJobPositionDetails(
+            @PathVariable UUID id,
+            @RequestParam(required = false) List<JobPositionDetailsSection> sections) {
+        JobPositionDetailsDTO details = jobPositionDetailsService.getDetails(id, sections);
         return ResponseEntity.ok(details);
     }
 
@@ -2,6 +2,7 @@ package com.example.backend.controllers.hr;
 
 import com.example.backend.dto.hr.promotions.*;
 import com.example.backend.models.hr.PromotionRequest;
+import com.example.backend.services.hr.PromotionAnalyticsService;
 import com.example.backend.services.hr.PromotionRequestService;
 import com.example.backend.services.hr.PromotionRequestMapperService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class PromotionRequestController {
 
     private final PromotionRequestService promotionRequestService;
     private final PromotionRequestMapperService mapperService;
+    private final PromotionAnalyticsService promotionAnalyticsService;
 
     /**
      * Create a new promotion request using DTO
@@ -420,12 +422,12 @@ public class PromotionRequestController {
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) UUID departmentId) {
         try {
-            // This would require implementing analytics in the service
+            int yearToUse = year != null ? year : java.time.LocalDate.now().getYear();
+            PromotionAnalyticsDTO analytics = promotionAnalyticsService.getAnalytics(yearToUse, departmentId);
+
             return ResponseEntity.ok(Map.of(
                     "success", true,
-                    "message", "Promotion analytics endpoint - implementation needed",
-                    "year", year,
-                    "departmentId", departmentId
+                    "data", analytics
             ));
         } catch (Exception e) {
             log.error("Error fetching promotion analytics", e);
@@ -6,6 +6,7 @@ import com.example.backend.models.hr.Candidate;
 import com.example.backend.services.hr.VacancyService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -115,4 +116,12 @@ public class VacancyController {
         List<Candidate> potentialCandidates = vacancyService.getPotentialCandidates();
         return ResponseEntity.ok(potentialCandidates);
     }
+
+    // Get one page of potential candidates
+    @GetMapping("/potential-candidates/paged")
+    public ResponseEntity<Page<Candidate>> getPotentialCandidatesPaged(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(vacancyService.getPotentialCandidates(page, size));
+    }
 }
\ No newline at end of file
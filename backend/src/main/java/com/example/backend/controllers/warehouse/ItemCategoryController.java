@@ -29,7 +29,6 @@ public class ItemCategoryController {
     // Get all categories
     @GetMapping
     public ResponseEntity<List<ItemCategory>> getAllCategories() {
-        System.out.println("************");
         List<ItemCategory> categories = itemCategoryService.getAllCategories();
         return new ResponseEntity<>(categories, HttpStatus.OK);
     }
@@ -55,6 +54,20 @@ public class ItemCategoryController {
         return new ResponseEntity<>(categories, HttpStatus.OK);
     }
 
+    // Get a category and all of its descendants
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<List<ItemCategory>> getCategorySubtree(@PathVariable UUID id) {
+        List<ItemCategory> categories = itemCategoryService.getCategorySubtree(id);
+        return new ResponseEntity<>(categories, HttpStatus.OK);
+    }
+
+    // Get the path from the top-level category down to this category
+    @GetMapping("/{id}/path")
+    public ResponseEntity<List<ItemCategory>> getCategoryPath(@PathVariable UUID id) {
+        List<ItemCategory> categories = itemCategoryService.getCategoryPath(id);
+        return new ResponseEntity<>(categories, HttpStatus.OK);
+    }
+
     // Get a category by ID
     @GetMapping("/{id}")
     public ResponseEntity<ItemCategory> getCategoryById(@PathVariable UUID id) {
@@ -1,6 +1,8 @@
 package com.example.backend.controllers.warehouse;
 
 
+import com.example.backend.dto.item.ItemReceiptRequestDTO;
+import com.example.backend.dto.item.ItemReceiptResultDTO;
 import com.example.backend.dto.item.ItemResolutionDTO;
 import com.example.backend.models.warehouse.Item;
 import com.example.backend.models.warehouse.ItemResolution;
@@ -13,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -154,6 +158,18 @@ public class ItemController {
         }
     }
 
+    @PostMapping("/receipts")
+    public ResponseEntity<?> receiveItems(@RequestBody ItemReceiptRequestDTO request,
+                                          @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            ItemReceiptResultDTO result = itemService.receiveItems(request, userDetails.getUsername());
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Validation Error", "message", e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/{itemId}")
     public ResponseEntity<Void> deleteItem(@PathVariable UUID itemId) {
         try {
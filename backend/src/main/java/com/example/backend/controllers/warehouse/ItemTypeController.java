@@ -1,12 +1,14 @@
 package com.example.backend.controllers.warehouse;
 
 
+import com.example.backend.dto.warehouse.ItemTypeCategoryGroupDTO;
 import com.example.backend.models.warehouse.ItemType;
 import com.example.backend.services.warehouse.ItemTypeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -29,9 +31,14 @@ public class ItemTypeController {
 
     // Get all ItemTypes (no need for warehouse-specific logic)
     @GetMapping
-    public ResponseEntity<List<ItemType>> getAllItemTypes() {
-        List<ItemType> itemTypes = itemTypeService.getAllItemTypes();
-        return ResponseEntity.ok(itemTypes);
+    public ResponseEntity<List<ItemType>> getAllItemTypes(WebRequest request) {
+        return itemTypeService.getAllItemTypesCached().toResponse(request);
+    }
+
+    // Get all ItemTypes grouped by category, in category tree order
+    @GetMapping("/by-category")
+    public ResponseEntity<List<ItemTypeCategoryGroupDTO>> getItemTypesGroupedByCategory() {
+        return ResponseEntity.ok(itemTypeService.getItemTypesGroupedByCategory());
     }
 
     // Update an existing ItemType
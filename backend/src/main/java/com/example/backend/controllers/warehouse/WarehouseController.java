@@ -2,16 +2,19 @@ package com.example.backend.controllers.warehouse;
 
 
 import com.example.backend.dto.warehouse.WarehouseAssignmentDTO;
+import com.example.backend.dto.warehouse.WarehouseEmployeeSummaryDTO;
+import com.example.backend.dto.warehouse.WarehouseSummaryDTO;
 import com.example.backend.models.hr.Employee;
 import com.example.backend.models.warehouse.Warehouse;
 import com.example.backend.models.warehouse.WarehouseEmployee;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
-import com.example.backend.services.MinioService;
+import com.example.backend.services.FileStorageService;
 import com.example.backend.services.warehouse.WarehouseEmployeeService;
 import com.example.backend.services.warehouse.WarehouseService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -34,60 +37,27 @@ public class WarehouseController {
     @Autowired
     private WarehouseEmployeeService warehouseEmployeeService;
     @Autowired
-    private MinioService minioService;
+    private FileStorageService fileStorageService;
 
 
 
     @GetMapping
     public List<Map<String, Object>> getAllWarehouses() {
-        List<Warehouse> warehouses = warehouseRepository.findAll();
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        for (Warehouse warehouse : warehouses) {
-            Map<String, Object> warehouseMap = new HashMap<>();
-            warehouseMap.put("id", warehouse.getId());
-            warehouseMap.put("name", warehouse.getName());
-            warehouseMap.put("photoUrl", warehouse.getPhotoUrl());
-
-            // Handle site
-            if (warehouse.getSite() != null) {
-                Map<String, Object> siteMap = new HashMap<>();
-                siteMap.put("id", warehouse.getSite().getId());
-                siteMap.put("name", warehouse.getSite().getName());
-                warehouseMap.put("site", siteMap);
-            }
-
-            // Handle employees with full details
-            List<Map<String, Object>> employeesList = new ArrayList<>();
-            if (warehouse.getEmployees() != null) {
-                for (Employee employee : warehouse.getEmployees()) {
-                    Map<String, Object> employeeMap = new HashMap<>();
-                    employeeMap.put("id", employee.getId());
-                    employeeMap.put("firstName", employee.getFirstName());
-                    employeeMap.put("lastName", employee.getLastName());
-                    employeeMap.put("email", employee.getEmail());
-                    employeeMap.put("photoUrl", employee.getPhotoUrl());
-
-                    // Add job position if available - renamed from position to jobPosition
-                    if (employee.getJobPosition() != null) {
-                        Map<String, Object> jobPositionMap = new HashMap<>();
-                        jobPositionMap.put("id", employee.getJobPosition().getId());
-                        jobPositionMap.put("positionName", employee.getJobPosition().getPositionName());
-                        employeeMap.put("jobPosition", jobPositionMap); // Renamed from position to jobPosition
-                    }
-
-                    employeesList.add(employeeMap);
-                }
-            }
-            warehouseMap.put("employees", employeesList);
-
-            result.add(warehouseMap);
-        }
-
-        return result;
+        return warehouseService.getAllWarehouses();
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<List<WarehouseSummaryDTO>> getWarehouseSummaries() {
+        return ResponseEntity.ok(warehouseService.getWarehouseSummaries());
+    }
 
+    @GetMapping("/{warehouseId}/employees")
+    public ResponseEntity<Page<WarehouseEmployeeSummaryDTO>> getWarehouseEmployees(
+            @PathVariable UUID warehouseId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(warehouseService.getWarehouseEmployees(warehouseId, page, size));
+    }
 
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getWarehouseDetails(@PathVariable UUID id) {
@@ -164,8 +134,8 @@ public class WarehouseController {
 
             // Upload photo if provided
             if (photo != null && !photo.isEmpty()) {
-                String fileName = minioService.uploadFile(photo);
-                String fileUrl = minioService.getFileUrl(fileName);
+                String fileName = fileStorageService.uploadFile(photo);
+                String fileUrl = fileStorageService.getFileUrl(fileName);
                 warehouseData.put("photoUrl", fileUrl);
             }
 
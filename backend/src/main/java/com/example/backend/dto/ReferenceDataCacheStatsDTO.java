@@ -0,0 +1,16 @@
+package com.example.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class ReferenceDataCacheStatsDTO {
+    private String cacheName;
+    private int entries;
+    private int maxEntries;
+    private long ttlSeconds;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long invalidations;
+}
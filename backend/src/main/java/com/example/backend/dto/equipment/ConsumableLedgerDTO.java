@@ -0,0 +1,25 @@
+package com.example.backend.dto.equipment;
+
+import com.example.backend.models.warehouse.ItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumableLedgerDTO {
+    private UUID consumableId;
+    private UUID equipmentId;
+    private UUID itemTypeId;
+    private String itemTypeName;
+    private ItemStatus status;
+    private int currentQuantity;
+    // Oldest first; the last entry's running balance is the ledger total
+    private List<ConsumableLedgerEntryDTO> entries;
+}
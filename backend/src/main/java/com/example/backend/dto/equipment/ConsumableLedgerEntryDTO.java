@@ -0,0 +1,50 @@
+package com.example.backend.dto.equipment;
+
+import com.example.backend.models.PartyType;
+import com.example.backend.models.transaction.TransactionStatus;
+import com.example.backend.models.warehouse.ResolutionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One dated line of a consumable ledger: a transaction movement of the consumable's
+ * item type, or a resolution (which does not change the quantity)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumableLedgerEntryDTO {
+
+    public enum EntryType {
+        TRANSACTION,
+        RESOLUTION
+    }
+
+    private EntryType entryType;
+    // Transaction item id for movements, resolution id for resolutions
+    private UUID entryId;
+    private LocalDateTime date;
+
+    private UUID transactionId;
+    private Integer batchNumber;
+    private TransactionStatus transactionStatus;
+    private PartyType senderType;
+    private String senderName;
+    private PartyType receiverType;
+    private String receiverName;
+
+    // Positive when the equipment received the items, negative when it sent them;
+    // zero while the transaction is not accepted
+    private int quantityChange;
+    private long runningBalance;
+
+    private ResolutionType resolutionType;
+    private String resolutionNotes;
+    private String resolvedBy;
+}
@@ -0,0 +1,35 @@
+package com.example.backend.dto.equipment;
+
+import com.example.backend.models.equipment.EquipmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Slim equipment row for the catalog list; the full record comes from EquipmentDTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentCatalogItemDTO {
+    private UUID id;
+    private String name;
+    private String model;
+    private String serialNumber;
+    private EquipmentStatus status;
+    private UUID typeId;
+    private String typeName;
+    private UUID brandId;
+    private String brandName;
+    private UUID siteId;
+    private String siteName;
+    private UUID mainDriverId;
+    private String mainDriverName;
+    private UUID subDriverId;
+    private String subDriverName;
+    private String imageUrl;
+}
@@ -0,0 +1,22 @@
+package com.example.backend.dto.equipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the equipment catalog. Pass nextCursor back as the cursor parameter
+ * to fetch the following page; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentCatalogPageDTO {
+    private List<EquipmentCatalogItemDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
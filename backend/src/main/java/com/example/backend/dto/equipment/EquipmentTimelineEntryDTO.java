@@ -0,0 +1,49 @@
+package com.example.backend.dto.equipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One event on an equipment timeline. Common fields are always set; the rest only
+ * for the entry types they belong to.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentTimelineEntryDTO {
+
+    // Declaration order is the tie-break between entries with the same timestamp
+    public enum EntryType {
+        TRANSACTION,
+        MAINTENANCE,
+        SARKY_LOG,
+        DOCUMENT
+    }
+
+    private EntryType type;
+    private UUID id;
+    // Sarky logs and documents only carry a date; they are placed at the start of that day
+    private LocalDateTime timestamp;
+    private String title;
+    private String status;
+    private String description;
+
+    // Transactions: INCOMING or OUTGOING from the equipment's point of view
+    private String direction;
+    private Integer batchNumber;
+
+    // Maintenance technician or sarky log driver
+    private String personName;
+
+    // Sarky logs
+    private Double workedHours;
+
+    // Documents
+    private String fileUrl;
+}
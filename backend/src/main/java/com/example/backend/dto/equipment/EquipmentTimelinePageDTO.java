@@ -0,0 +1,22 @@
+package com.example.backend.dto.equipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of an equipment timeline, newest first. Pass nextCursor back as the cursor
+ * parameter to fetch older entries; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentTimelinePageDTO {
+    private List<EquipmentTimelineEntryDTO> entries;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,27 @@
+package com.example.backend.dto.finance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinanceSearchResultDTO {
+
+    private String type; // INVOICE, PAYMENT or JOURNAL_ENTRY
+    private UUID id;
+    private String reference;
+    private String title;
+    private String description;
+    private LocalDate date;
+    private BigDecimal amount;
+    private String status;
+    private double rank;
+}
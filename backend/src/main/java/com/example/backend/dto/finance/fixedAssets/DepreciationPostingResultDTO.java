@@ -0,0 +1,29 @@
+package com.example.backend.dto.finance.fixedAssets;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepreciationPostingResultDTO {
+
+    private UUID periodId;
+    private String periodName;
+
+    // Outcome of this run
+    private Integer assetsPosted;
+    private Integer assetsAlreadyPosted;
+    private Integer assetsWithNoDepreciation;
+
+    // Totals across everything posted for the period (including earlier runs)
+    private BigDecimal totalDepreciation;
+    private List<SiteDepreciationTotalDTO> siteTotals;
+}
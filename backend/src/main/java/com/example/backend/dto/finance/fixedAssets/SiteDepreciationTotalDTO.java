@@ -0,0 +1,21 @@
+package com.example.backend.dto.finance.fixedAssets;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SiteDepreciationTotalDTO {
+
+    private UUID siteId; // null for assets not assigned to a site
+    private String siteName;
+    private Integer assetCount;
+    private BigDecimal totalDepreciation;
+}
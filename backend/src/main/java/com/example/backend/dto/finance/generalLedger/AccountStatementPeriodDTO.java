@@ -0,0 +1,19 @@
+package com.example.backend.dto.finance.generalLedger;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class AccountStatementPeriodDTO {
+    private int year;
+    private int month;
+    // Days of the month covered; narrower than the month at the ends of the statement range
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private BigDecimal debitTotal;
+    private BigDecimal creditTotal;
+    private BigDecimal netMovement;
+    private BigDecimal runningBalance;
+}
@@ -0,0 +1,18 @@
+package com.example.backend.dto.finance.generalLedger;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class AccountStatementResponseDTO {
+    private UUID accountId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private List<AccountStatementPeriodDTO> periods;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto.finance.generalLedger;
+
+import lombok.Data;
+
+@Data
+public class AuditWriterStatsDTO {
+    // Outbox events not yet written to audit_logs (and still being retried)
+    private long pendingEvents;
+    // Outbox events that reached the attempt limit and need attention
+    private long failedEvents;
+    // Counters of this instance since startup
+    private long writtenEvents;
+    private long failedAttempts;
+}
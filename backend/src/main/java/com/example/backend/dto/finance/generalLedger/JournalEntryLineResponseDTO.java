@@ -8,6 +8,7 @@ import java.util.UUID;
 @Data
 public class JournalEntryLineResponseDTO {
     private UUID id;
+    private UUID accountId;
     private String accountName;
     private String accountNumber;
     private BigDecimal amount;
@@ -0,0 +1,14 @@
+package com.example.backend.dto.finance.generalLedger;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+public class TrialBalanceLineDTO {
+    private UUID accountId;
+    private BigDecimal debitTotal;
+    private BigDecimal creditTotal;
+    private BigDecimal balance; // debits - credits
+}
@@ -0,0 +1,16 @@
+package com.example.backend.dto.finance.generalLedger;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class TrialBalanceResponseDTO {
+    private LocalDate asOfDate;
+    private List<TrialBalanceLineDTO> lines;
+    private BigDecimal totalDebits;
+    private BigDecimal totalCredits;
+    private boolean balanced;
+}
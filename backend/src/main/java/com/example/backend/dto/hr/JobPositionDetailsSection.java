@@ -0,0 +1,8 @@
+package com.example.backend.dto.hr;
+
+public enum JobPositionDetailsSection {
+    EMPLOYEES,   // Employee list, counts and employees eligible for promotion
+    ANALYTICS,   // Salary, distribution and health analytics
+    PROMOTIONS,  // Promotion counts, lists and career paths
+    VACANCIES    // Vacancy summary counts
+}
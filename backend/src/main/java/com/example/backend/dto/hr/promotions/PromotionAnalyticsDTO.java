@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 /**
  * DTO for promotion analytics
@@ -15,10 +16,12 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 public class PromotionAnalyticsDTO {
-    private java.util.Map<String, Long> promotionsByDepartment;
+    // Department figures are keyed by department id; departmentNames resolves them for display
+    private java.util.Map<UUID, Long> promotionsByDepartment;
     private java.util.Map<String, Long> promotionsByPosition;
-    private java.util.Map<String, BigDecimal> averageSalaryIncreaseByDepartment;
-    private java.util.Map<String, Double> approvalRateByDepartment;
+    private java.util.Map<UUID, BigDecimal> averageSalaryIncreaseByDepartment;
+    private java.util.Map<UUID, Double> approvalRateByDepartment;
+    private java.util.Map<UUID, String> departmentNames;
     private java.util.List<MonthlyPromotionTrendDTO> monthlyTrends;
     private java.util.List<TopPerformerDTO> topPerformers;
 }
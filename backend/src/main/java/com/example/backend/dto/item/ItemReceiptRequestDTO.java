@@ -0,0 +1,26 @@
+package com.example.backend.dto.item;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A delivery received into one warehouse, one line per item type. The receiving user is
+ * the authenticated user.
+ */
+@Data
+public class ItemReceiptRequestDTO {
+    private UUID warehouseId;
+    private LocalDateTime receivedAt;
+    // Add quantities to an existing manually received lot of the same type instead of opening a new one
+    private boolean mergeIntoExisting;
+    private List<Line> lines;
+
+    @Data
+    public static class Line {
+        private UUID itemTypeId;
+        private int quantity;
+    }
+}
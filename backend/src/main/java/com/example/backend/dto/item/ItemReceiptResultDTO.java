@@ -0,0 +1,22 @@
+package com.example.backend.dto.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemReceiptResultDTO {
+    private UUID warehouseId;
+    // Lots opened by this receipt
+    private List<UUID> createdItemIds;
+    // Existing lots the receipt was merged into
+    private List<UUID> mergedItemIds;
+    private int totalQuantity;
+}
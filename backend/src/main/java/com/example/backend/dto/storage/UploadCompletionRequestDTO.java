@@ -0,0 +1,25 @@
+package com.example.backend.dto.storage;
+
+import com.example.backend.models.equipment.Document.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadCompletionRequestDTO {
+    private EntityType entityType;
+    private UUID entityId;
+    private String key; // Object key returned by the upload intent
+
+    // Document details
+    private String name;
+    private String type;
+
+    // Optional sarky assignment
+    private Integer sarkyMonth;
+    private Integer sarkyYear;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto.storage;
+
+import com.example.backend.models.equipment.Document.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadIntentRequestDTO {
+    private UploadPurpose purpose;
+
+    // Owning entity; required for DOCUMENT (entity type + id) and EQUIPMENT_PHOTO (equipment id)
+    private EntityType entityType;
+    private UUID entityId;
+
+    private String fileName;
+    private String contentType;
+    private Long fileSize; // bytes, enforced by the signed URL
+}
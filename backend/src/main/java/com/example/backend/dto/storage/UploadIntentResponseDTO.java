@@ -0,0 +1,23 @@
+package com.example.backend.dto.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadIntentResponseDTO {
+    private String method;               // HTTP method the browser must use (PUT)
+    private String uploadUrl;            // Presigned URL to send the file bytes to
+    private Map<String, String> headers; // Headers the browser must send with the upload
+    private String bucket;
+    private String key;
+    private String fileUrl;              // URL of the object once uploaded
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,8 @@
+package com.example.backend.dto.storage;
+
+public enum UploadPurpose {
+    DOCUMENT,          // Entity document, registered through the completion callback
+    EQUIPMENT_PHOTO,   // Equipment main image, recorded in the photo cache through the completion callback
+    EMPLOYEE_PHOTO,    // Employee photo / ID images; the returned fileUrl is sent with the employee data
+    CANDIDATE_RESUME   // Candidate resume; the returned fileUrl is sent with the candidate data
+}
@@ -0,0 +1,21 @@
+package com.example.backend.dto.warehouse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemLotCompactionResultDTO {
+    private LocalDateTime startedAt;
+    private long durationMillis;
+    // Warehouses that had at least one group of mergeable lots
+    private int warehousesScanned;
+    private int warehousesFailed;
+    private long rowsRemoved;
+}
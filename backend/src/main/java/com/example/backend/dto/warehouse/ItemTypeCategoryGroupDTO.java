@@ -0,0 +1,23 @@
+package com.example.backend.dto.warehouse;
+
+import com.example.backend.models.warehouse.ItemType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemTypeCategoryGroupDTO {
+    private UUID categoryId;
+    private String categoryName;
+    private UUID parentCategoryId;
+    // Category names from the top-level category down to this one
+    private List<String> categoryPath;
+    private List<ItemType> itemTypes;
+}
@@ -0,0 +1,22 @@
+package com.example.backend.dto.warehouse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseEmployeeSummaryDTO {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String photoUrl;
+    private UUID jobPositionId;
+    private String positionName;
+}
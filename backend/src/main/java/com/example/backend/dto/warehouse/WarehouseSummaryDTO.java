@@ -0,0 +1,26 @@
+package com.example.backend.dto.warehouse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Warehouse row for the warehouse grid: site, staff count and manager,
+ * without the employee list itself
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseSummaryDTO {
+    private UUID id;
+    private String name;
+    private String photoUrl;
+    private UUID siteId;
+    private String siteName;
+    private long employeeCount;
+    private String managerName;
+}
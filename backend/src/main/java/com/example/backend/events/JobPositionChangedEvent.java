@@ -0,0 +1,27 @@
+package com.example.backend.events;
+
+import com.example.backend.models.hr.JobPosition;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Event published when data shown for job positions changes outside JobPositionService:
+ * employees joining, leaving or moving between positions, promotion requests and vacancies
+ */
+@Getter
+public class JobPositionChangedEvent {
+    private final Set<UUID> jobPositionIds;
+
+    public JobPositionChangedEvent(JobPosition... jobPositions) {
+        this.jobPositionIds = Arrays.stream(jobPositions)
+                .filter(Objects::nonNull)
+                .map(JobPosition::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.events;
+
+import com.example.backend.services.hr.JobPositionDetailsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached job position data once a change to the position's employees,
+ * promotions or vacancies is committed
+ */
+@Component
+@RequiredArgsConstructor
+public class JobPositionEventListener {
+
+    private final JobPositionDetailsService jobPositionDetailsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleJobPositionChanged(JobPositionChangedEvent event) {
+        event.getJobPositionIds().forEach(jobPositionDetailsService::evict);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.events;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Event published when a maintenance record or one of its steps is created, changed or removed
+ */
+@Getter
+public class MaintenanceChangedEvent {
+    private final UUID maintenanceRecordId;
+
+    public MaintenanceChangedEvent(UUID maintenanceRecordId) {
+        this.maintenanceRecordId = maintenanceRecordId;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.backend.models.equipment;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of a resolved-consumable backfill run. The checkpoint (last consumable id)
+ * is committed together with each chunk, so an interrupted run resumes where it stopped.
+ */
+@Entity
+@Table(name = "consumable_backfill_jobs")
+@Data
+public class ConsumableBackfillJob {
+
+    public enum JobStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status;
+
+    // Resolved consumables when the run started
+    @Column(name = "total_consumables", nullable = false)
+    private long totalConsumables;
+
+    @Column(name = "processed_consumables", nullable = false)
+    private long processedConsumables;
+
+    @Column(name = "updated_items", nullable = false)
+    private long updatedItems;
+
+    // Consumables are processed in id order; everything up to and including this id is done
+    @Column(name = "last_consumable_id")
+    private UUID lastConsumableId;
+
+    @Column(name = "started_by")
+    private String startedBy;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+}
@@ -9,6 +9,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_consumable_resolution_transaction", columnList = "transaction_id"),
+        @Index(name = "idx_consumable_resolution_consumable", columnList = "consumable_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
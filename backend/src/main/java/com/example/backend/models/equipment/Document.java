@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_file_url", columnList = "file_url")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
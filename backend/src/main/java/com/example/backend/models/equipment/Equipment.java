@@ -18,6 +18,12 @@ import java.util.UUID;
 @Data
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_equipment_name_id", columnList = "name, id"),
+        @Index(name = "idx_equipment_site", columnList = "site_id"),
+        @Index(name = "idx_equipment_type", columnList = "equipment_type_id"),
+        @Index(name = "idx_equipment_status", columnList = "status")
+})
 public class Equipment {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -0,0 +1,43 @@
+package com.example.backend.models.equipment;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cached location of an equipment's main photo, so photo URLs are read from the
+ * database instead of listing the equipment bucket in object storage.
+ * A row with a null url means the equipment is known to have no main photo.
+ */
+@Entity
+@Table(name = "equipment_photos")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentPhoto {
+
+    @Id
+    @Column(name = "equipment_id", nullable = false)
+    private UUID equipmentId;
+
+    @Column(name = "object_key", length = 1000)
+    private String objectKey;
+
+    @Column(name = "url", length = 1000)
+    private String url;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
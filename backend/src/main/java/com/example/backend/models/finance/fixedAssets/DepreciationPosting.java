@@ -0,0 +1,58 @@
+package com.example.backend.models.finance.fixedAssets;
+
+import com.example.backend.models.finance.generalLedger.AccountingPeriod;
+import com.example.backend.models.finance.generalLedger.JournalEntry;
+import com.example.backend.models.site.Site;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Record of depreciation posted to the general ledger for one asset in one accounting period.
+ * The unique constraint makes the period-end posting job idempotent per (asset, period).
+ */
+@Builder
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "depreciation_postings",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"asset_id", "accounting_period_id"})
+        })
+public class DepreciationPosting {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "asset_id", nullable = false)
+    private FixedAssets asset;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "accounting_period_id", nullable = false)
+    private AccountingPeriod accountingPeriod;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "journal_entry_id", nullable = false)
+    private JournalEntry journalEntry;
+
+    // Site the asset belonged to when the depreciation was posted (used for per-site totals)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "site_id")
+    private Site site;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @CreationTimestamp
+    private LocalDateTime postedAt;
+}
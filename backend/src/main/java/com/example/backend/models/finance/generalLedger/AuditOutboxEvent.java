@@ -0,0 +1,61 @@
+package com.example.backend.models.finance.generalLedger;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit event written in the same transaction as the audited change and relayed
+ * to audit_logs by AuditLogWriter. The id becomes the audit log id, so relaying
+ * an event twice is harmless.
+ */
+@Entity
+@Table(name = "audit_outbox", indexes = {
+        @Index(name = "idx_audit_outbox_pending", columnList = "sent_at, created_at")
+})
+@Data
+public class AuditOutboxEvent {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "entity_type")
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private UUID entityId;
+
+    @Enumerated(EnumType.STRING)
+    private AuditAction action;
+
+    @Column(length = 4000)
+    private String changes;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    // Time of the audited change
+    private LocalDateTime timestamp;
+
+    @Column(name = "ip_address")
+    private String ipAddress;
+
+    @Column(name = "user_agent")
+    private String userAgent;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Set once the event has been written to audit_logs
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // Failed single-row relay attempts; events at the limit are no longer retried
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
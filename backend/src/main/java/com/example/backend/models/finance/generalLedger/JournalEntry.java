@@ -13,7 +13,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "journal_entries")
+@Table(name = "journal_entries", indexes = {
+        @Index(name = "idx_journal_entries_status_entry_date", columnList = "status, entry_date")
+})
 @Data
 public class JournalEntry {
 
@@ -7,7 +7,9 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "journal_entry_lines")
+@Table(name = "journal_entry_lines", indexes = {
+        @Index(name = "idx_journal_entry_lines_account_id", columnList = "account_id")
+})
 @Data
 public class JournalEntryLine {
 
@@ -22,6 +24,10 @@ public class JournalEntryLine {
 
     private String description;
 
+    // Account reference from the request; kept as a plain id until the chart of accounts is wired back in
+    @Column(name = "account_id")
+    private UUID accountId;
+
     @ManyToOne
     @JoinColumn(name = "journal_entry_id", nullable = false)
     private JournalEntry journalEntry;
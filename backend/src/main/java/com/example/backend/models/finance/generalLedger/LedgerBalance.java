@@ -0,0 +1,47 @@
+package com.example.backend.models.finance.generalLedger;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-account, per-month totals of approved journal entry lines.
+ * Maintained incrementally by LedgerBalanceService so trial balances and
+ * account statements never have to re-read raw journal entry lines.
+ */
+@Entity
+@Table(name = "ledger_balances",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"account_id", "period_key"})
+        })
+@Data
+public class LedgerBalance {
+
+    // Bucket for lines posted without an account
+    public static final UUID UNASSIGNED_ACCOUNT = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    // Calendar month of the entry date as yyyyMM, e.g. 202501
+    @Column(name = "period_key", nullable = false)
+    private Integer periodKey;
+
+    @Column(name = "debit_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal debitTotal = BigDecimal.ZERO;
+
+    @Column(name = "credit_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal creditTotal = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
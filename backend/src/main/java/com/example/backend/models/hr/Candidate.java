@@ -11,6 +11,11 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_candidate_status", columnList = "candidate_status"),
+        @Index(name = "idx_candidate_vacancy_status", columnList = "vacancy_id, candidate_status"),
+        @Index(name = "idx_candidate_application_date", columnList = "application_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
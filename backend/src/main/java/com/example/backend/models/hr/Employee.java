@@ -19,6 +19,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = @Index(name = "idx_employee_warehouse", columnList = "warehouse_id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,6 +13,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = @Index(name = "idx_job_position_name", columnList = "position_name"))
 @Builder
 @Data
 @NoArgsConstructor
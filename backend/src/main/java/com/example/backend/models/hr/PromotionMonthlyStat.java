@@ -0,0 +1,53 @@
+package com.example.backend.models.hr;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Number of promotion requests per creation month, department and current status,
+ * with their summed salary increase. Maintained by PromotionAnalyticsService as
+ * requests are created and change state, so analytics never scan promotion_requests.
+ */
+@Entity
+@Table(name = "promotion_monthly_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"period_key", "department_id", "status"})
+        })
+@Data
+public class PromotionMonthlyStat {
+
+    // Bucket for requests whose position has no department
+    public static final UUID UNASSIGNED_DEPARTMENT = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    // Calendar month the request was created in as yyyyMM, e.g. 202501
+    @Column(name = "period_key", nullable = false)
+    private Integer periodKey;
+
+    // Department of the employee's position at request time
+    @Column(name = "department_id", nullable = false)
+    private UUID departmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PromotionRequest.PromotionStatus status;
+
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount = 0L;
+
+    // Sum of proposed minus current salary over the requests in this bucket
+    @Column(name = "salary_increase_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal salaryIncreaseTotal = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.example.backend.models.hr;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One edge of the promotion path graph: how many implemented promotions went
+ * from one job position to another. Maintained by PromotionPathService when a
+ * promotion is implemented, so career-path reads never scan promotion requests.
+ */
+@Entity
+@Table(name = "promotion_path_edges",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"from_position_id", "to_position_id"})
+        },
+        indexes = {
+                @Index(name = "idx_promotion_path_edges_to", columnList = "to_position_id")
+        })
+@Data
+@EqualsAndHashCode(exclude = {"fromPosition", "toPosition"})
+@ToString(exclude = {"fromPosition", "toPosition"})
+public class PromotionPathEdge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "from_position_id", nullable = false)
+    private JobPosition fromPosition;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "to_position_id", nullable = false)
+    private JobPosition toPosition;
+
+    @Column(name = "promotion_count", nullable = false)
+    private Long promotionCount = 0L;
+
+    @Column(name = "last_promoted_at")
+    private LocalDateTime lastPromotedAt;
+}
@@ -129,6 +129,11 @@ public class PromotionRequest {
     @Column(name = "training_plan", length = 1000)
     private String trainingPlan;
 
+    // Department this request is counted under in promotion_monthly_stats, fixed when it is first counted
+    // so later status changes move it between buckets of the same department
+    @Column(name = "stats_department_id")
+    private UUID statsDepartmentId;
+
     // Audit fields
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
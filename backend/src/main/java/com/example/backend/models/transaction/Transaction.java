@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_receiver", columnList = "receiver_id, receiver_type"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -61,6 +63,7 @@ public class Transaction {
     // Transaction items - new relationship
     @OneToMany(mappedBy = "transaction", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties({"transaction", "hibernateLazyInitializer", "handler"})
+    @BatchSize(size = 50)
     private List<TransactionItem> items;
 
 
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_item_transaction_type", columnList = "transaction_id, item_type_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
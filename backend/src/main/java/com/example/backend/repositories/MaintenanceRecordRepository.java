@@ -91,6 +91,26 @@ public interface MaintenanceRecordRepository extends JpaRepository<MaintenanceRe
            "FROM MaintenanceRecord r WHERE r.status = 'COMPLETED'")
     Object[] getMaintenanceStatistics();
     
+    // Dashboard: record count and cost per status in one pass
+    @Query("SELECT r.status, COUNT(r), COALESCE(SUM(r.totalCost), 0) FROM MaintenanceRecord r GROUP BY r.status")
+    List<Object[]> getCountAndCostByStatus();
+    
+    // Dashboard: count overdue records without loading them
+    @Query("SELECT COUNT(r) FROM MaintenanceRecord r WHERE r.status = 'ACTIVE' AND r.expectedCompletionDate < :now")
+    long countOverdueRecords(@Param("now") LocalDateTime now);
+    
+    // Dashboard: ids of the most recent records (top-N, no collection fetch so the limit runs in the database)
+    @Query("SELECT r.id FROM MaintenanceRecord r ORDER BY r.creationDate DESC")
+    List<UUID> findRecentRecordIds(Pageable pageable);
+    
+    // Dashboard: load records together with their steps and contacts
+    @Query("SELECT DISTINCT r FROM MaintenanceRecord r " +
+           "LEFT JOIN FETCH r.steps s " +
+           "LEFT JOIN FETCH s.responsibleContact " +
+           "LEFT JOIN FETCH r.currentResponsibleContact " +
+           "WHERE r.id IN :ids")
+    List<MaintenanceRecord> findByIdInWithSteps(@Param("ids") List<UUID> ids);
+    
     // Find records by maintenance type (if applicable)
     @Query("SELECT r FROM MaintenanceRecord r WHERE r.initialIssueDescription LIKE %:maintenanceType%")
     List<MaintenanceRecord> findByMaintenanceType(@Param("maintenanceType") String maintenanceType);
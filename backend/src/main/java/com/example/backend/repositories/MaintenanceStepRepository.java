@@ -97,6 +97,10 @@ public interface MaintenanceStepRepository extends JpaRepository<MaintenanceStep
            "FROM MaintenanceStep s WHERE s.actualEndDate IS NOT NULL")
     Object[] getStepStatistics();
     
+    // Dashboard: total and completed step counts in one query
+    @Query("SELECT COUNT(s), COALESCE(SUM(CASE WHEN s.actualEndDate IS NOT NULL THEN 1 ELSE 0 END), 0) FROM MaintenanceStep s")
+    List<Object[]> getStepCounts();
+    
     // Find steps by maintenance record with status filter
     @Query("SELECT s FROM MaintenanceStep s WHERE s.maintenanceRecord.id = :recordId AND " +
            "(:completed IS NULL OR CASE WHEN :completed = true THEN s.actualEndDate IS NOT NULL ELSE s.actualEndDate IS NULL END)")
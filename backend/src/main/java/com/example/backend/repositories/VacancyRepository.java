@@ -3,6 +3,8 @@ package com.example.backend.repositories;
 import com.example.backend.models.hr.JobPosition;
 import com.example.backend.models.hr.Vacancy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,8 @@ import java.util.UUID;
 public interface VacancyRepository extends JpaRepository<Vacancy, UUID> {
     List<Vacancy> findByJobPosition(JobPosition jobPosition);
     List<Vacancy> findByStatus(String status);
+
+    // Vacancy counts of a position by status
+    @Query("SELECT v.status, COUNT(v) FROM Vacancy v WHERE v.jobPosition.id = :jobPositionId GROUP BY v.status")
+    List<Object[]> countByStatusForJobPosition(@Param("jobPositionId") UUID jobPositionId);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.backend.repositories.equipment;
+
+import com.example.backend.models.equipment.ConsumableBackfillJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ConsumableBackfillJobRepository extends JpaRepository<ConsumableBackfillJob, UUID> {
+
+    Optional<ConsumableBackfillJob> findFirstByOrderByStartedAtDesc();
+
+    // Job row locked for the current chunk; runners on other instances wait and then see the new checkpoint
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ConsumableBackfillJob j WHERE j.id = :id")
+    Optional<ConsumableBackfillJob> findByIdForUpdate(@Param("id") UUID id);
+
+    // Transaction-scoped advisory lock serializing backfill starts across instances; false if held elsewhere
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryStartLock(@Param("key") long key);
+}
@@ -4,7 +4,9 @@ package com.example.backend.repositories.equipment;
 import com.example.backend.models.equipment.Consumable;
 import com.example.backend.models.transaction.Transaction;
 import com.example.backend.models.warehouse.ItemStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,6 +39,41 @@ public interface ConsumableRepository extends JpaRepository<Consumable, UUID> {
     // Method to get ALL resolved consumables (for backfill)
     List<Consumable> findByResolvedTrue();
 
+    long countByResolvedTrue();
+
+    // Next chunk of resolved consumable ids in id order, after the given id (backfill checkpoint)
+    @Query("SELECT c.id FROM Consumable c WHERE c.resolved = true " +
+           "AND (:afterId IS NULL OR c.id > :afterId) ORDER BY c.id")
+    List<UUID> findResolvedIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    // Copy consumable resolutions onto the rejected/partially accepted items of the same item type in
+    // transactions received by the consumable's equipment, for the items matched by the given consumables.
+    // Several resolved consumables can match one item; it gets the latest resolution among all of them
+    // (ties broken by resolution id), so the result does not depend on chunking or join order.
+    // Returns the number of items updated
+    @Modifying
+    @Query(value = "UPDATE transaction_item ti SET " +
+           "is_resolved = true, " +
+           "fully_resolved = true, " +
+           "resolution_type = r.resolution_type, " +
+           "resolution_notes = r.notes, " +
+           "resolved_by = r.resolved_by, " +
+           "corrected_quantity = COALESCE(r.corrected_quantity, ti.corrected_quantity) " +
+           "FROM (SELECT DISTINCT ON (item.id) item.id AS transaction_item_id, " +
+           "             cr.resolution_type, cr.notes, cr.resolved_by, cr.corrected_quantity " +
+           "      FROM transaction_item item " +
+           "      JOIN transaction t ON t.id = item.transaction_id AND t.receiver_type = 'EQUIPMENT' " +
+           "      JOIN consumable c ON c.equipment_id = t.receiver_id AND c.item_id = item.item_type_id " +
+           "                       AND c.resolved = true " +
+           "      JOIN consumable_resolution cr ON cr.consumable_id = c.id " +
+           "      WHERE item.status IN ('REJECTED', 'PARTIALLY_ACCEPTED') " +
+           "      AND EXISTS (SELECT 1 FROM consumable chunk WHERE chunk.id IN (:consumableIds) " +
+           "                  AND chunk.equipment_id = t.receiver_id AND chunk.item_id = item.item_type_id) " +
+           "      ORDER BY item.id, cr.resolved_at DESC NULLS LAST, cr.id DESC) r " +
+           "WHERE ti.id = r.transaction_item_id",
+           nativeQuery = true)
+    int backfillResolutionsToTransactionItems(@Param("consumableIds") List<UUID> consumableIds);
+
     // Method to find consumables by transaction and status
     List<Consumable> findByTransactionAndStatusIn(Transaction transaction, List<ItemStatus> statuses);
 
@@ -85,4 +122,59 @@ public interface ConsumableRepository extends JpaRepository<Consumable, UUID> {
            "AND ti.itemType.id = (SELECT c.itemType.id FROM Consumable c WHERE c.id = :consumableId)) " +
            "ORDER BY t.createdAt DESC NULLS LAST")
     List<Transaction> findTransactionHistoryForConsumable(@Param("consumableId") UUID consumableId);
+
+    // Transactions linked to a consumable, with their items and item types in the same query
+    @Query("SELECT DISTINCT t FROM Consumable c JOIN c.transactions t " +
+           "LEFT JOIN FETCH t.items i LEFT JOIN FETCH i.itemType " +
+           "WHERE c.id = :consumableId")
+    List<Transaction> findLinkedTransactionsWithItems(@Param("consumableId") UUID consumableId);
+
+    // Ledger of one consumable, oldest first. Movements come from the transactions linked to the consumable
+    // (or, for consumables without links, consumable transactions received by its equipment), restricted to
+    // items of the consumable's type; resolutions are listed with no quantity change. Row layout:
+    // [entryType, entryId, entryDate, transactionId, batchNumber, transactionStatus, senderType, senderName,
+    //  receiverType, receiverName, quantityChange, runningBalance, resolutionType, resolutionNotes, resolvedBy]
+    @Query(value = "WITH tx AS (" +
+           "  SELECT ct.transaction_id AS id FROM consumable_transactions ct WHERE ct.consumable_id = :consumableId " +
+           "  UNION " +
+           "  SELECT t.id FROM consumable c JOIN transaction t " +
+           "    ON t.receiver_type = 'EQUIPMENT' AND t.receiver_id = c.equipment_id AND t.purpose = 'CONSUMABLE' " +
+           "  WHERE c.id = :consumableId " +
+           "  AND NOT EXISTS (SELECT 1 FROM consumable_transactions ct WHERE ct.consumable_id = :consumableId)" +
+           "), ledger AS (" +
+           "  SELECT 'TRANSACTION' AS entry_type, ti.id AS entry_id, " +
+           "         COALESCE(t.completed_at, t.transaction_date, t.created_at) AS entry_date, " +
+           "         t.id AS transaction_id, t.batch_number, t.status AS transaction_status, " +
+           "         t.sender_type, COALESCE(sw.name, se.name, sm.name) AS sender_name, " +
+           "         t.receiver_type, COALESCE(rw.name, re.name, rm.name) AS receiver_name, " +
+           "         CASE WHEN t.status NOT IN ('ACCEPTED', 'PARTIALLY_ACCEPTED', 'RESOLVED') THEN 0 " +
+           "              WHEN t.receiver_type = 'EQUIPMENT' AND t.receiver_id = c.equipment_id " +
+           "              THEN COALESCE(ti.equipment_received_quantity, ti.quantity) " +
+           "              ELSE -ti.quantity END AS quantity_change, " +
+           "         CAST(NULL AS varchar) AS resolution_type, CAST(NULL AS varchar) AS resolution_notes, " +
+           "         CAST(NULL AS varchar) AS resolved_by " +
+           "  FROM consumable c " +
+           "  JOIN transaction t ON t.id IN (SELECT id FROM tx) " +
+           "  JOIN transaction_item ti ON ti.transaction_id = t.id AND ti.item_type_id = c.item_id " +
+           "  LEFT JOIN warehouse sw ON t.sender_type = 'WAREHOUSE' AND sw.id = t.sender_id " +
+           "  LEFT JOIN equipment se ON t.sender_type = 'EQUIPMENT' AND se.id = t.sender_id " +
+           "  LEFT JOIN merchant sm ON t.sender_type = 'MERCHANT' AND sm.id = t.sender_id " +
+           "  LEFT JOIN warehouse rw ON t.receiver_type = 'WAREHOUSE' AND rw.id = t.receiver_id " +
+           "  LEFT JOIN equipment re ON t.receiver_type = 'EQUIPMENT' AND re.id = t.receiver_id " +
+           "  LEFT JOIN merchant rm ON t.receiver_type = 'MERCHANT' AND rm.id = t.receiver_id " +
+           "  WHERE c.id = :consumableId " +
+           "  UNION ALL " +
+           "  SELECT 'RESOLUTION', cr.id, cr.resolved_at, NULL, NULL, NULL, NULL, NULL, NULL, NULL, 0, " +
+           "         cr.resolution_type, cr.notes, cr.resolved_by " +
+           "  FROM consumable_resolution cr WHERE cr.consumable_id = :consumableId" +
+           ") " +
+           "SELECT entry_type, entry_id, entry_date, transaction_id, batch_number, transaction_status, " +
+           "       sender_type, sender_name, receiver_type, receiver_name, quantity_change, " +
+           "       SUM(quantity_change) OVER (ORDER BY entry_date NULLS FIRST, entry_type DESC, entry_id " +
+           "                                  ROWS UNBOUNDED PRECEDING) AS running_balance, " +
+           "       resolution_type, resolution_notes, resolved_by " +
+           "FROM ledger " +
+           "ORDER BY entry_date NULLS FIRST, entry_type DESC, entry_id",
+           nativeQuery = true)
+    List<Object[]> findLedgerRows(@Param("consumableId") UUID consumableId);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,4 +30,11 @@ public interface ConsumableResolutionRepository extends JpaRepository<Consumable
 
     // Find resolutions by transaction ID
     List<ConsumableResolution> findByTransactionId(String transactionId);
+
+    // Resolutions for a set of transactions, with the consumable and its item type loaded
+    @Query("SELECT cr FROM ConsumableResolution cr " +
+           "JOIN FETCH cr.consumable c " +
+           "LEFT JOIN FETCH c.itemType " +
+           "WHERE cr.transactionId IN :transactionIds")
+    List<ConsumableResolution> findByTransactionIdIn(@Param("transactionIds") Collection<String> transactionIds);
 } 
\ No newline at end of file
@@ -2,9 +2,13 @@ package com.example.backend.repositories.equipment;
 
 import com.example.backend.models.equipment.Document;
 import com.example.backend.models.equipment.Document.EntityType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,6 +39,20 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
     
     List<Document> findBySarkyMonthAndSarkyYearOrderByUploadDateDesc(Integer sarkyMonth, Integer sarkyYear);
     
+    boolean existsByFileUrl(String fileUrl);
+
     List<Document> findByEntityTypeAndSarkyMonthAndSarkyYearOrderByUploadDateDesc(
         EntityType entityType, Integer sarkyMonth, Integer sarkyYear);
-}
\ No newline at end of file
+
+    // Timeline page: dated documents of an entity, newest first, before the keyset position (uploadDate, id):
+    // [id, uploadDate, name, type, fileUrl]
+    @Query("SELECT d.id, d.uploadDate, d.name, d.type, d.fileUrl FROM Document d " +
+            "WHERE d.entityType = :entityType AND d.entityId = :entityId AND d.uploadDate IS NOT NULL " +
+            "AND (:beforeDate IS NULL OR d.uploadDate < :beforeDate OR (d.uploadDate = :beforeDate AND d.id < :beforeId)) " +
+            "ORDER BY d.uploadDate DESC, d.id DESC")
+    List<Object[]> findTimelineRows(@Param("entityType") EntityType entityType,
+                                    @Param("entityId") UUID entityId,
+                                    @Param("beforeDate") LocalDate beforeDate,
+                                    @Param("beforeId") UUID beforeId,
+                                    Pageable pageable);
+}
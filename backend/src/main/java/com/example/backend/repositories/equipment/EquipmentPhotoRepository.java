@@ -0,0 +1,42 @@
+package com.example.backend.repositories.equipment;
+
+import com.example.backend.models.equipment.EquipmentPhoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface EquipmentPhotoRepository extends JpaRepository<EquipmentPhoto, UUID> {
+
+    // Set the equipment's main photo, replacing whatever is cached
+    @Modifying
+    @Query(value = "INSERT INTO equipment_photos (equipment_id, object_key, url, updated_at) " +
+           "VALUES (:equipmentId, :objectKey, :url, :updatedAt) " +
+           "ON CONFLICT (equipment_id) DO UPDATE SET " +
+           "object_key = EXCLUDED.object_key, url = EXCLUDED.url, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    void upsertPhoto(@Param("equipmentId") UUID equipmentId,
+                     @Param("objectKey") String objectKey,
+                     @Param("url") String url,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Remember the result of a storage lookup. Only replaces a "no photo" row, so a photo
+    // registered by an upload in the meantime is never overwritten by an older lookup.
+    // EquipmentPhotoService writes a whole page of lookups in one transaction of its own.
+    @Modifying
+    @Query(value = "INSERT INTO equipment_photos (equipment_id, object_key, url, updated_at) " +
+           "VALUES (:equipmentId, :objectKey, :url, :updatedAt) " +
+           "ON CONFLICT (equipment_id) DO UPDATE SET " +
+           "object_key = EXCLUDED.object_key, url = EXCLUDED.url, updated_at = EXCLUDED.updated_at " +
+           "WHERE equipment_photos.url IS NULL",
+           nativeQuery = true)
+    void cacheLookup(@Param("equipmentId") UUID equipmentId,
+                     @Param("objectKey") String objectKey,
+                     @Param("url") String url,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
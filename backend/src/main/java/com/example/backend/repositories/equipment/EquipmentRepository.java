@@ -1,10 +1,15 @@
 package com.example.backend.repositories.equipment;
 
 import com.example.backend.models.equipment.Equipment;
+import com.example.backend.models.equipment.EquipmentStatus;
 import com.example.backend.models.equipment.EquipmentType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +20,36 @@ public interface EquipmentRepository extends JpaRepository<Equipment, UUID> {
 
     List<Equipment> findBySiteIsNull();
 
+    @Query("SELECT e.status, COUNT(e) FROM Equipment e GROUP BY e.status")
+    List<Object[]> countByStatusGrouped();
+
+    // Names for a set of equipment: [id, name]
+    @Query("SELECT e.id, e.name FROM Equipment e WHERE e.id IN :ids")
+    List<Object[]> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Filtered catalog page in (name, id) order, starting after the given keyset position:
+    // [id, name, model, serialNumber, status, typeId, typeName, brandId, brandName, siteId, siteName,
+    //  mainDriverId, mainDriverFirstName, mainDriverLastName, subDriverId, subDriverFirstName, subDriverLastName]
+    @Query("SELECT e.id, e.name, e.model, e.serialNumber, e.status, t.id, t.name, b.id, b.name, s.id, s.name, " +
+           "d.id, d.firstName, d.lastName, sd.id, sd.firstName, sd.lastName " +
+           "FROM Equipment e JOIN e.type t JOIN e.brand b " +
+           "LEFT JOIN e.site s LEFT JOIN e.mainDriver d LEFT JOIN e.subDriver sd " +
+           "WHERE (:siteId IS NULL OR s.id = :siteId) " +
+           "AND (:typeId IS NULL OR t.id = :typeId) " +
+           "AND (:brandId IS NULL OR b.id = :brandId) " +
+           "AND (:status IS NULL OR e.status = :status) " +
+           "AND (:driverId IS NULL OR d.id = :driverId OR sd.id = :driverId) " +
+           "AND (:search IS NULL OR LOWER(e.name) LIKE :search OR LOWER(e.serialNumber) LIKE :search) " +
+           "AND (:afterName IS NULL OR e.name > :afterName OR (e.name = :afterName AND e.id > :afterId)) " +
+           "ORDER BY e.name, e.id")
+    List<Object[]> findCatalogPage(@Param("siteId") UUID siteId,
+                                   @Param("typeId") UUID typeId,
+                                   @Param("brandId") UUID brandId,
+                                   @Param("status") EquipmentStatus status,
+                                   @Param("driverId") UUID driverId,
+                                   @Param("search") String search,
+                                   @Param("afterName") String afterName,
+                                   @Param("afterId") UUID afterId,
+                                   Pageable pageable);
+
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.example.backend.repositories.equipment;
 
 import com.example.backend.models.equipment.InSiteMaintenance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,4 +27,16 @@ public interface InSiteMaintenanceRepository extends JpaRepository<InSiteMainten
     // Find top 10 maintenance records by equipment ID ordered by maintenance date desc
     List<InSiteMaintenance> findTop10ByEquipmentIdOrderByMaintenanceDateDesc(UUID equipmentId);
 
-}
\ No newline at end of file
+    // Equipment timeline page: dated maintenance records, newest first, before the keyset position (date, id):
+    // [id, maintenanceDate, status, maintenanceTypeName, technicianFirstName, technicianLastName, description]
+    @Query("SELECT m.id, m.maintenanceDate, m.status, mt.name, tech.firstName, tech.lastName, m.description " +
+            "FROM InSiteMaintenance m LEFT JOIN m.maintenanceType mt LEFT JOIN m.technician tech " +
+            "WHERE m.equipment.id = :equipmentId AND m.maintenanceDate IS NOT NULL " +
+            "AND (:beforeDate IS NULL OR m.maintenanceDate < :beforeDate " +
+            "OR (m.maintenanceDate = :beforeDate AND m.id < :beforeId)) " +
+            "ORDER BY m.maintenanceDate DESC, m.id DESC")
+    List<Object[]> findEquipmentTimelineRows(@Param("equipmentId") UUID equipmentId,
+                                             @Param("beforeDate") LocalDateTime beforeDate,
+                                             @Param("beforeId") UUID beforeId,
+                                             Pageable pageable);
+}
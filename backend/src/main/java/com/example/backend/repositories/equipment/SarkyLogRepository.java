@@ -1,7 +1,10 @@
 package com.example.backend.repositories.equipment;
 
 import com.example.backend.models.equipment.SarkyLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -30,4 +33,16 @@ public interface SarkyLogRepository extends JpaRepository<SarkyLog, UUID> {
 
     // Add this method to SarkyLogRepository
     List<SarkyLog> findByEquipmentIdOrderByDateAsc(UUID equipmentId);
-}
\ No newline at end of file
+
+    // Equipment timeline page: sarky logs, newest first, before the keyset position (date, id):
+    // [id, date, workTypeName, workedHours, driverFirstName, driverLastName]
+    @Query("SELECT s.id, s.date, wt.name, s.workedHours, d.firstName, d.lastName " +
+            "FROM SarkyLog s LEFT JOIN s.workType wt LEFT JOIN s.driver d " +
+            "WHERE s.equipment.id = :equipmentId " +
+            "AND (:beforeDate IS NULL OR s.date < :beforeDate OR (s.date = :beforeDate AND s.id < :beforeId)) " +
+            "ORDER BY s.date DESC, s.id DESC")
+    List<Object[]> findEquipmentTimelineRows(@Param("equipmentId") UUID equipmentId,
+                                             @Param("beforeDate") LocalDate beforeDate,
+                                             @Param("beforeId") UUID beforeId,
+                                             Pageable pageable);
+}
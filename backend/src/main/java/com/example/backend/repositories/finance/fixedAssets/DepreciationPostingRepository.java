@@ -0,0 +1,36 @@
+package com.example.backend.repositories.finance.fixedAssets;
+
+import com.example.backend.models.finance.fixedAssets.DepreciationPosting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public interface DepreciationPostingRepository extends JpaRepository<DepreciationPosting, UUID> {
+
+    // Assets that already have depreciation posted for the period (used to skip them on re-runs)
+    @Query("SELECT p.asset.id FROM DepreciationPosting p WHERE p.accountingPeriod.id = :periodId")
+    Set<UUID> findPostedAssetIdsByPeriodId(@Param("periodId") UUID periodId);
+
+    // Per-site totals for a period: siteId, siteName, asset count, total amount
+    @Query("SELECT s.id, s.name, COUNT(p), SUM(p.amount) FROM DepreciationPosting p " +
+           "LEFT JOIN p.site s WHERE p.accountingPeriod.id = :periodId " +
+           "GROUP BY s.id, s.name")
+    List<Object[]> getSiteTotalsByPeriodId(@Param("periodId") UUID periodId);
+
+    // Give depreciation lines posted before the accounts were configured their expense / accumulated accounts
+    @Modifying
+    @Query(value = "UPDATE journal_entry_lines l " +
+           "SET account_id = CASE WHEN l.is_debit THEN :expenseAccountId ELSE :accumulatedAccountId END " +
+           "FROM depreciation_postings p " +
+           "WHERE p.journal_entry_id = l.journal_entry_id AND l.account_id IS NULL",
+           nativeQuery = true)
+    int assignMissingLineAccounts(@Param("expenseAccountId") UUID expenseAccountId,
+                                  @Param("accumulatedAccountId") UUID accumulatedAccountId);
+}
@@ -1,12 +1,18 @@
 package com.example.backend.repositories.finance.generalLedger;
 
 import com.example.backend.models.finance.generalLedger.AuditLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
@@ -19,4 +25,35 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
             LocalDateTime startDate, LocalDateTime endDate);
 
     List<AuditLog> findByEntityTypeOrderByTimestampDesc(String entityType);
-}
\ No newline at end of file
+
+    // Server-side cursor over filtered audit logs for exports; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM AuditLog a LEFT JOIN FETCH a.user u WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:entityId IS NULL OR a.entityId = :entityId) AND " +
+           "(:userId IS NULL OR u.id = :userId) AND " +
+           "(:startDate IS NULL OR a.timestamp >= :startDate) AND " +
+           "(:endDate IS NULL OR a.timestamp <= :endDate) " +
+           "ORDER BY a.timestamp DESC")
+    Stream<AuditLog> streamForExport(@Param("entityType") String entityType,
+                                     @Param("entityId") UUID entityId,
+                                     @Param("userId") UUID userId,
+                                     @Param("startDate") LocalDateTime startDate,
+                                     @Param("endDate") LocalDateTime endDate);
+
+    // Same filters as streamForExport; checked before an XLSX export to stay within the sheet row limit
+    @Query("SELECT COUNT(a) FROM AuditLog a LEFT JOIN a.user u WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:entityId IS NULL OR a.entityId = :entityId) AND " +
+           "(:userId IS NULL OR u.id = :userId) AND " +
+           "(:startDate IS NULL OR a.timestamp >= :startDate) AND " +
+           "(:endDate IS NULL OR a.timestamp <= :endDate)")
+    long countForExport(@Param("entityType") String entityType,
+                        @Param("entityId") UUID entityId,
+                        @Param("userId") UUID userId,
+                        @Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate);
+}
@@ -2,10 +2,35 @@ package com.example.backend.repositories.finance.generalLedger;
 
 import com.example.backend.models.finance.generalLedger.JournalEntryLine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLine, UUID> {
+
+    // Approved line totals per account for entry dates within [fromDate, toDate]: accountId (null when unassigned), debits, credits
+    @Query("SELECT l.accountId, " +
+           "SUM(CASE WHEN l.isDebit = true THEN l.amount ELSE 0 END), " +
+           "SUM(CASE WHEN l.isDebit = true THEN 0 ELSE l.amount END) " +
+           "FROM JournalEntryLine l JOIN l.journalEntry e " +
+           "WHERE e.status = com.example.backend.models.finance.generalLedger.JournalEntryStatus.APPROVED " +
+           "AND e.entryDate >= :fromDate AND e.entryDate <= :toDate " +
+           "GROUP BY l.accountId")
+    List<Object[]> getApprovedTotalsByAccountBetween(@Param("fromDate") LocalDate fromDate,
+                                                     @Param("toDate") LocalDate toDate);
+
+    // Approved line totals of one account for entry dates within [fromDate, toDate]: debits, credits
+    @Query("SELECT COALESCE(SUM(CASE WHEN l.isDebit = true THEN l.amount ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN l.isDebit = true THEN 0 ELSE l.amount END), 0) " +
+           "FROM JournalEntryLine l JOIN l.journalEntry e " +
+           "WHERE e.status = com.example.backend.models.finance.generalLedger.JournalEntryStatus.APPROVED " +
+           "AND l.accountId = :accountId AND e.entryDate >= :fromDate AND e.entryDate <= :toDate")
+    List<Object[]> getApprovedTotalsBetween(@Param("accountId") UUID accountId,
+                                            @Param("fromDate") LocalDate fromDate,
+                                            @Param("toDate") LocalDate toDate);
 }
@@ -0,0 +1,63 @@
+package com.example.backend.repositories.finance.generalLedger;
+
+import com.example.backend.models.finance.generalLedger.LedgerBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LedgerBalanceRepository extends JpaRepository<LedgerBalance, UUID> {
+
+    // Atomically add (or subtract, with negative amounts) to an account's balance for a month
+    @Modifying
+    @Query(value = "INSERT INTO ledger_balances (id, account_id, period_key, debit_total, credit_total, updated_at) " +
+           "VALUES (:id, :accountId, :periodKey, :debit, :credit, now()) " +
+           "ON CONFLICT (account_id, period_key) DO UPDATE SET " +
+           "debit_total = ledger_balances.debit_total + EXCLUDED.debit_total, " +
+           "credit_total = ledger_balances.credit_total + EXCLUDED.credit_total, " +
+           "updated_at = now()",
+           nativeQuery = true)
+    void addToBalance(@Param("id") UUID id,
+                      @Param("accountId") UUID accountId,
+                      @Param("periodKey") int periodKey,
+                      @Param("debit") BigDecimal debit,
+                      @Param("credit") BigDecimal credit);
+
+    // Recompute every balance from approved journal entry lines (used for backfill/repair)
+    @Modifying
+    @Query(value = "INSERT INTO ledger_balances (id, account_id, period_key, debit_total, credit_total, updated_at) " +
+           "SELECT gen_random_uuid(), t.account_id, t.period_key, t.debit_total, t.credit_total, now() FROM (" +
+           "  SELECT COALESCE(l.account_id, CAST('00000000-0000-0000-0000-000000000000' AS uuid)) AS account_id, " +
+           "         CAST(EXTRACT(YEAR FROM e.entry_date) * 100 + EXTRACT(MONTH FROM e.entry_date) AS integer) AS period_key, " +
+           "         SUM(CASE WHEN l.is_debit THEN l.amount ELSE 0 END) AS debit_total, " +
+           "         SUM(CASE WHEN l.is_debit THEN 0 ELSE l.amount END) AS credit_total " +
+           "  FROM journal_entry_lines l JOIN journal_entries e ON l.journal_entry_id = e.id " +
+           "  WHERE e.status = 'APPROVED' " +
+           "  GROUP BY 1, 2" +
+           ") t",
+           nativeQuery = true)
+    int rebuildFromJournalEntries();
+
+    @Modifying
+    @Query(value = "DELETE FROM ledger_balances", nativeQuery = true)
+    int deleteAllBalances();
+
+    // Trial balance: accountId, total debits, total credits up to and including a month
+    @Query("SELECT b.accountId, SUM(b.debitTotal), SUM(b.creditTotal) FROM LedgerBalance b " +
+           "WHERE b.periodKey <= :periodKey GROUP BY b.accountId ORDER BY b.accountId")
+    List<Object[]> getTrialBalance(@Param("periodKey") int periodKey);
+
+    // Opening balance of an account before a month: total debits, total credits
+    @Query("SELECT COALESCE(SUM(b.debitTotal), 0), COALESCE(SUM(b.creditTotal), 0) FROM LedgerBalance b " +
+           "WHERE b.accountId = :accountId AND b.periodKey < :periodKey")
+    List<Object[]> getTotalsBefore(@Param("accountId") UUID accountId, @Param("periodKey") int periodKey);
+
+    List<LedgerBalance> findByAccountIdAndPeriodKeyBetweenOrderByPeriodKeyAsc(
+            UUID accountId, Integer fromPeriodKey, Integer toPeriodKey);
+}
@@ -2,9 +2,15 @@ package com.example.backend.repositories.hr;
 
 import com.example.backend.models.hr.Candidate;
 import com.example.backend.models.hr.Vacancy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +29,35 @@ public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
     // Find candidates by email
     Candidate findByEmail(String email);
 
-    // Find candidates by status (if you add a status field later)
-    // List<Candidate> findByStatus(String status);
-}
\ No newline at end of file
+    // Find candidates by status
+    List<Candidate> findByCandidateStatus(Candidate.CandidateStatus candidateStatus);
+
+    Page<Candidate> findByCandidateStatus(Candidate.CandidateStatus candidateStatus, Pageable pageable);
+
+    // Search candidates by optional status, vacancy and application date range
+    @Query("SELECT c FROM Candidate c " +
+           "WHERE (:status IS NULL OR c.candidateStatus = :status) " +
+           "AND (:vacancyId IS NULL OR c.vacancy.id = :vacancyId) " +
+           "AND (:fromDate IS NULL OR c.applicationDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR c.applicationDate <= :toDate)")
+    Page<Candidate> search(@Param("status") Candidate.CandidateStatus status,
+                           @Param("vacancyId") UUID vacancyId,
+                           @Param("fromDate") LocalDate fromDate,
+                           @Param("toDate") LocalDate toDate,
+                           Pageable pageable);
+
+    // Candidate count per status for a vacancy: [status, count]
+    @Query("SELECT c.candidateStatus, COUNT(c) FROM Candidate c " +
+           "WHERE c.vacancy.id = :vacancyId " +
+           "GROUP BY c.candidateStatus")
+    List<Object[]> countByStatusForVacancy(@Param("vacancyId") UUID vacancyId);
+
+    // Move all still-active candidates of a vacancy to the potential list
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Candidate c SET c.candidateStatus = com.example.backend.models.hr.Candidate.CandidateStatus.POTENTIAL " +
+           "WHERE c.vacancy.id = :vacancyId " +
+           "AND c.candidateStatus NOT IN (com.example.backend.models.hr.Candidate.CandidateStatus.HIRED, " +
+           "com.example.backend.models.hr.Candidate.CandidateStatus.REJECTED, " +
+           "com.example.backend.models.hr.Candidate.CandidateStatus.WITHDRAWN)")
+    int moveActiveCandidatesToPotential(@Param("vacancyId") UUID vacancyId);
+}
@@ -3,12 +3,15 @@ package com.example.backend.repositories.hr;
 import com.example.backend.models.hr.Employee;
 import com.example.backend.models.hr.JobPosition;
 import com.example.backend.models.site.Site;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +40,16 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
     // Find by job position
     List<Employee> findByJobPositionId(UUID jobPositionId);
 
+    long countByJobPositionId(UUID jobPositionId);
+
+    // Employees of a position with everything the summary/eligibility logic reads, in one query
+    @Query("SELECT DISTINCT e FROM Employee e " +
+           "JOIN FETCH e.jobPosition jp " +
+           "LEFT JOIN FETCH e.site " +
+           "LEFT JOIN FETCH e.promotionRequests " +
+           "WHERE jp.id = :jobPositionId")
+    List<Employee> findByJobPositionIdWithPromotionRequests(@Param("jobPositionId") UUID jobPositionId);
+
     // Find by site
     List<Employee> findBySiteId(UUID siteId);
 
@@ -141,4 +154,19 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
      */
     @Query("SELECT e FROM Employee e JOIN e.jobPosition jp WHERE jp.contractType = 'MONTHLY' AND e.status = 'ACTIVE'")
     List<Employee> findActiveMonthlyEmployees();
-}
\ No newline at end of file
+
+    // Employees of one warehouse: [id, firstName, lastName, email, photoUrl, jobPositionId, positionName]
+    @Query(value = "SELECT e.id, e.firstName, e.lastName, e.email, e.photoUrl, jp.id, jp.positionName " +
+                   "FROM Employee e LEFT JOIN e.jobPosition jp " +
+                   "WHERE e.warehouse.id = :warehouseId " +
+                   "ORDER BY e.firstName, e.lastName, e.id",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.warehouse.id = :warehouseId")
+    Page<Object[]> findWarehouseEmployeeRows(@Param("warehouseId") UUID warehouseId, Pageable pageable);
+
+    // Employees of a set of warehouses:
+    // [warehouseId, id, firstName, lastName, email, photoUrl, jobPositionId, positionName]
+    @Query("SELECT e.warehouse.id, e.id, e.firstName, e.lastName, e.email, e.photoUrl, jp.id, jp.positionName " +
+           "FROM Employee e LEFT JOIN e.jobPosition jp " +
+           "WHERE e.warehouse.id IN :warehouseIds")
+    List<Object[]> findWarehouseEmployeeRowsByWarehouseIdIn(@Param("warehouseIds") Collection<UUID> warehouseIds);
+}
@@ -25,6 +25,9 @@ public interface JobPositionRepository extends JpaRepository<JobPosition, UUID>
 
     Optional<JobPosition> findById(UUID jobPositionId);
 
+    // Exact name lookup, backed by idx_job_position_name
+    Optional<JobPosition> findFirstByPositionName(String positionName);
+
     List<JobPosition> findByDepartment_NameContainingIgnoreCase(String departmentName);
 
     List<JobPosition> findByDepartment(Department department);
@@ -0,0 +1,86 @@
+package com.example.backend.repositories.hr;
+
+import com.example.backend.models.hr.PromotionMonthlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PromotionMonthlyStatRepository extends JpaRepository<PromotionMonthlyStat, UUID> {
+
+    // Atomically add (or subtract, with negative values) requests to a month/department/status bucket
+    @Modifying
+    @Query(value = "INSERT INTO promotion_monthly_stats (id, period_key, department_id, status, request_count, salary_increase_total, updated_at) " +
+           "VALUES (:id, :periodKey, :departmentId, :status, :count, :salaryIncrease, now()) " +
+           "ON CONFLICT (period_key, department_id, status) DO UPDATE SET " +
+           "request_count = promotion_monthly_stats.request_count + EXCLUDED.request_count, " +
+           "salary_increase_total = promotion_monthly_stats.salary_increase_total + EXCLUDED.salary_increase_total, " +
+           "updated_at = now()",
+           nativeQuery = true)
+    void addToStat(@Param("id") UUID id,
+                   @Param("periodKey") int periodKey,
+                   @Param("departmentId") UUID departmentId,
+                   @Param("status") String status,
+                   @Param("count") long count,
+                   @Param("salaryIncrease") BigDecimal salaryIncrease);
+
+    // Fix the stats department of requests counted before it was recorded: the department of their current position
+    @Modifying
+    @Query(value = "UPDATE promotion_requests p " +
+           "SET stats_department_id = COALESCE(jp.department_id, CAST('00000000-0000-0000-0000-000000000000' AS uuid)) " +
+           "FROM job_position jp " +
+           "WHERE jp.id = p.current_job_position_id AND p.stats_department_id IS NULL",
+           nativeQuery = true)
+    int assignMissingStatsDepartments();
+
+    // Recompute every bucket from the promotion requests (used for backfill/repair)
+    @Modifying
+    @Query(value = "INSERT INTO promotion_monthly_stats (id, period_key, department_id, status, request_count, salary_increase_total, updated_at) " +
+           "SELECT gen_random_uuid(), t.period_key, t.department_id, t.status, t.request_count, t.salary_increase_total, now() FROM (" +
+           "  SELECT CAST(EXTRACT(YEAR FROM p.created_at) * 100 + EXTRACT(MONTH FROM p.created_at) AS integer) AS period_key, " +
+           "         COALESCE(p.stats_department_id, jp.department_id, CAST('00000000-0000-0000-0000-000000000000' AS uuid)) AS department_id, " +
+           "         p.status AS status, " +
+           "         COUNT(*) AS request_count, " +
+           "         COALESCE(SUM(p.proposed_salary - p.current_salary), 0) AS salary_increase_total " +
+           "  FROM promotion_requests p LEFT JOIN job_position jp ON jp.id = p.current_job_position_id " +
+           "  WHERE p.created_at IS NOT NULL " +
+           "  GROUP BY 1, 2, 3" +
+           ") t",
+           nativeQuery = true)
+    int rebuildFromPromotionRequests();
+
+    @Modifying
+    @Query(value = "DELETE FROM promotion_monthly_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    // Totals per status: status, request count, salary increase total
+    @Query("SELECT s.status, SUM(s.requestCount), SUM(s.salaryIncreaseTotal) FROM PromotionMonthlyStat s " +
+           "GROUP BY s.status")
+    List<Object[]> getStatusTotals();
+
+    // Monthly totals per status in a month range, optionally for one department
+    @Query("SELECT s.periodKey, s.status, SUM(s.requestCount), SUM(s.salaryIncreaseTotal) FROM PromotionMonthlyStat s " +
+           "WHERE s.periodKey BETWEEN :fromPeriodKey AND :toPeriodKey " +
+           "AND (:departmentId IS NULL OR s.departmentId = :departmentId) " +
+           "GROUP BY s.periodKey, s.status ORDER BY s.periodKey")
+    List<Object[]> getMonthlyTotals(@Param("fromPeriodKey") int fromPeriodKey,
+                                    @Param("toPeriodKey") int toPeriodKey,
+                                    @Param("departmentId") UUID departmentId);
+
+    // Department totals per status in a month range:
+    // department id, department name (null if unassigned or deleted), status, request count, salary increase total
+    @Query("SELECT s.departmentId, d.name, s.status, SUM(s.requestCount), SUM(s.salaryIncreaseTotal) " +
+           "FROM PromotionMonthlyStat s LEFT JOIN Department d ON d.id = s.departmentId " +
+           "WHERE s.periodKey BETWEEN :fromPeriodKey AND :toPeriodKey " +
+           "AND (:departmentId IS NULL OR s.departmentId = :departmentId) " +
+           "GROUP BY s.departmentId, d.name, s.status")
+    List<Object[]> getDepartmentTotals(@Param("fromPeriodKey") int fromPeriodKey,
+                                       @Param("toPeriodKey") int toPeriodKey,
+                                       @Param("departmentId") UUID departmentId);
+}
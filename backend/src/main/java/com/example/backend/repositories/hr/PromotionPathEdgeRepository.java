@@ -0,0 +1,71 @@
+package com.example.backend.repositories.hr;
+
+import com.example.backend.models.hr.PromotionPathEdge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PromotionPathEdgeRepository extends JpaRepository<PromotionPathEdge, UUID> {
+
+    // Atomically count one more implemented promotion between two positions
+    @Modifying
+    @Query(value = "INSERT INTO promotion_path_edges (id, from_position_id, to_position_id, promotion_count, last_promoted_at) " +
+           "VALUES (:id, :fromId, :toId, 1, :promotedAt) " +
+           "ON CONFLICT (from_position_id, to_position_id) DO UPDATE SET " +
+           "promotion_count = promotion_path_edges.promotion_count + 1, " +
+           "last_promoted_at = GREATEST(promotion_path_edges.last_promoted_at, EXCLUDED.last_promoted_at)",
+           nativeQuery = true)
+    void incrementEdge(@Param("id") UUID id,
+                       @Param("fromId") UUID fromId,
+                       @Param("toId") UUID toId,
+                       @Param("promotedAt") LocalDateTime promotedAt);
+
+    // Recompute every edge from implemented promotion requests (used for backfill/repair)
+    @Modifying
+    @Query(value = "INSERT INTO promotion_path_edges (id, from_position_id, to_position_id, promotion_count, last_promoted_at) " +
+           "SELECT gen_random_uuid(), p.current_job_position_id, p.promoted_to_job_position_id, COUNT(*), MAX(p.implemented_at) " +
+           "FROM promotion_requests p " +
+           "WHERE p.status = 'IMPLEMENTED' " +
+           "AND p.current_job_position_id <> p.promoted_to_job_position_id " +
+           "GROUP BY p.current_job_position_id, p.promoted_to_job_position_id",
+           nativeQuery = true)
+    int rebuildFromPromotionRequests();
+
+    @Modifying
+    @Query(value = "DELETE FROM promotion_path_edges", nativeQuery = true)
+    int deleteAllEdges();
+
+    // Outgoing edges with the destination position loaded, most travelled first
+    @Query("SELECT e FROM PromotionPathEdge e " +
+           "JOIN FETCH e.toPosition p LEFT JOIN FETCH p.department LEFT JOIN FETCH p.parentJobPosition " +
+           "WHERE e.fromPosition.id = :positionId " +
+           "ORDER BY e.promotionCount DESC, e.lastPromotedAt DESC")
+    List<PromotionPathEdge> findDestinations(@Param("positionId") UUID positionId);
+
+    // Incoming edges with the source position loaded, most travelled first
+    @Query("SELECT e FROM PromotionPathEdge e " +
+           "JOIN FETCH e.fromPosition p LEFT JOIN FETCH p.department LEFT JOIN FETCH p.parentJobPosition " +
+           "WHERE e.toPosition.id = :positionId " +
+           "ORDER BY e.promotionCount DESC, e.lastPromotedAt DESC")
+    List<PromotionPathEdge> findSources(@Param("positionId") UUID positionId);
+
+    // Destination names only, for career path suggestions
+    @Query("SELECT e.toPosition.positionName FROM PromotionPathEdge e " +
+           "WHERE e.fromPosition.id = :positionId " +
+           "ORDER BY e.promotionCount DESC, e.lastPromotedAt DESC")
+    List<String> findDestinationNames(@Param("positionId") UUID positionId, Pageable pageable);
+
+    // Destination names with their promotion counts, most travelled first
+    @Query("SELECT e.toPosition.positionName, e.promotionCount FROM PromotionPathEdge e " +
+           "WHERE e.fromPosition.id = :positionId " +
+           "ORDER BY e.promotionCount DESC, e.lastPromotedAt DESC")
+    List<Object[]> findDestinationCounts(@Param("positionId") UUID positionId);
+}
@@ -1,6 +1,7 @@
 package com.example.backend.repositories.hr;
 
 import com.example.backend.models.hr.PromotionRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -104,4 +105,51 @@ public interface PromotionRequestRepository extends JpaRepository<PromotionReque
 
     @Query("SELECT AVG(pr.proposedSalary - pr.currentSalary) FROM PromotionRequest pr WHERE pr.status = 'IMPLEMENTED'")
     java.math.BigDecimal getAverageSalaryIncrease();
-}
\ No newline at end of file
+
+    // Per-position promotion counts by status
+    @Query("SELECT pr.status, COUNT(pr) FROM PromotionRequest pr WHERE pr.currentJobPosition.id = :positionId GROUP BY pr.status")
+    List<Object[]> countByStatusFromPosition(@Param("positionId") UUID positionId);
+
+    @Query("SELECT pr.status, COUNT(pr) FROM PromotionRequest pr WHERE pr.promotedToJobPosition.id = :positionId GROUP BY pr.status")
+    List<Object[]> countByStatusToPosition(@Param("positionId") UUID positionId);
+
+    // Implemented promotions from a position: average salary increase, average years in position
+    @Query("SELECT AVG(CASE WHEN pr.approvedSalary IS NOT NULL AND pr.currentSalary IS NOT NULL " +
+           "THEN COALESCE(pr.proposedSalary - pr.currentSalary, 0) END), AVG(pr.yearsInCurrentPosition) " +
+           "FROM PromotionRequest pr WHERE pr.currentJobPosition.id = :positionId AND pr.status = 'IMPLEMENTED'")
+    List<Object[]> getImplementedAveragesFromPosition(@Param("positionId") UUID positionId);
+
+    @Query("SELECT pr FROM PromotionRequest pr " +
+           "JOIN FETCH pr.employee JOIN FETCH pr.currentJobPosition JOIN FETCH pr.promotedToJobPosition " +
+           "WHERE pr.currentJobPosition.id = :positionId ORDER BY pr.createdAt DESC")
+    List<PromotionRequest> findFromPositionWithDetails(@Param("positionId") UUID positionId);
+
+    @Query("SELECT pr FROM PromotionRequest pr " +
+           "JOIN FETCH pr.employee JOIN FETCH pr.currentJobPosition JOIN FETCH pr.promotedToJobPosition " +
+           "WHERE pr.promotedToJobPosition.id = :positionId ORDER BY pr.createdAt DESC")
+    List<PromotionRequest> findToPositionWithDetails(@Param("positionId") UUID positionId);
+
+    // Implemented promotions per destination position in a period, optionally for one source department
+    @Query("SELECT jp.positionName, COUNT(pr) FROM PromotionRequest pr " +
+           "JOIN pr.promotedToJobPosition jp JOIN pr.currentJobPosition cp LEFT JOIN cp.department d " +
+           "WHERE pr.status = 'IMPLEMENTED' AND pr.implementedAt >= :from AND pr.implementedAt < :to " +
+           "AND (:departmentId IS NULL OR d.id = :departmentId) " +
+           "GROUP BY jp.positionName ORDER BY COUNT(pr) DESC")
+    List<Object[]> countImplementedByDestinationPosition(@Param("from") java.time.LocalDateTime from,
+                                                         @Param("to") java.time.LocalDateTime to,
+                                                         @Param("departmentId") UUID departmentId);
+
+    // Employees with the most implemented promotions in a period:
+    // employee id, first name, last name, current position, department, count, salary increase total, first and last promotion
+    @Query("SELECT e.id, e.firstName, e.lastName, jp.positionName, d.name, COUNT(pr), " +
+           "SUM(COALESCE(pr.proposedSalary - pr.currentSalary, 0)), MIN(pr.implementedAt), MAX(pr.implementedAt) " +
+           "FROM PromotionRequest pr JOIN pr.employee e LEFT JOIN e.jobPosition jp LEFT JOIN jp.department d " +
+           "WHERE pr.status = 'IMPLEMENTED' AND pr.implementedAt >= :from AND pr.implementedAt < :to " +
+           "AND (:departmentId IS NULL OR d.id = :departmentId) " +
+           "GROUP BY e.id, e.firstName, e.lastName, jp.positionName, d.name " +
+           "ORDER BY COUNT(pr) DESC, MAX(pr.implementedAt) DESC")
+    List<Object[]> findTopPromotedEmployees(@Param("from") java.time.LocalDateTime from,
+                                            @Param("to") java.time.LocalDateTime to,
+                                            @Param("departmentId") UUID departmentId,
+                                            Pageable pageable);
+}
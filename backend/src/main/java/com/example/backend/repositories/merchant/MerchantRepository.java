@@ -2,11 +2,18 @@ package com.example.backend.repositories.merchant;
 
 import com.example.backend.models.merchant.Merchant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface MerchantRepository extends JpaRepository<Merchant, UUID> {
 
+    // Names for a set of merchants: [id, name]
+    @Query("SELECT m.id, m.name FROM Merchant m WHERE m.id IN :ids")
+    List<Object[]> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
 }
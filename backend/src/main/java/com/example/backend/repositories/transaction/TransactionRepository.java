@@ -5,10 +5,12 @@ import com.example.backend.models.PartyType;
 import com.example.backend.models.transaction.Transaction;
 import com.example.backend.models.transaction.TransactionPurpose;
 import com.example.backend.models.transaction.TransactionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,5 +60,19 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
      * Used to find all transactions where a specific party was the receiver
      */
     List<Transaction> findByReceiverIdAndReceiverType(UUID receiverId, PartyType receiverType);
-}
 
+    // Equipment timeline page: transactions sent or received by the equipment, newest first, before the
+    // keyset position (date, id): [id, date, status, purpose, batchNumber, senderType, receiverType, receiverId, description]
+    @Query("SELECT t.id, COALESCE(t.transactionDate, t.createdAt), t.status, t.purpose, t.batchNumber, " +
+            "t.senderType, t.receiverType, t.receiverId, t.description " +
+            "FROM Transaction t " +
+            "WHERE ((t.senderId = :equipmentId AND t.senderType = com.example.backend.models.PartyType.EQUIPMENT) " +
+            "OR (t.receiverId = :equipmentId AND t.receiverType = com.example.backend.models.PartyType.EQUIPMENT)) " +
+            "AND (:beforeDate IS NULL OR COALESCE(t.transactionDate, t.createdAt) < :beforeDate " +
+            "OR (COALESCE(t.transactionDate, t.createdAt) = :beforeDate AND t.id < :beforeId)) " +
+            "ORDER BY COALESCE(t.transactionDate, t.createdAt) DESC, t.id DESC")
+    List<Object[]> findEquipmentTimelineRows(@Param("equipmentId") UUID equipmentId,
+                                             @Param("beforeDate") LocalDateTime beforeDate,
+                                             @Param("beforeId") UUID beforeId,
+                                             Pageable pageable);
+}
@@ -23,5 +23,9 @@ public interface ItemCategoryRepository extends JpaRepository<ItemCategory, UUID
     @Query("SELECT c FROM ItemCategory c WHERE c.parentCategory IS NOT NULL OR NOT EXISTS (SELECT 1 FROM ItemCategory child WHERE child.parentCategory = c)")
     List<ItemCategory> findCategoriesForItemTypeAssignment();
 
+    // Whole hierarchy in one query, for the cached category tree
+    @Query("SELECT c FROM ItemCategory c LEFT JOIN FETCH c.parentCategory ORDER BY c.name")
+    List<ItemCategory> findAllWithParent();
+
 
 }
@@ -5,11 +5,15 @@ import com.example.backend.models.warehouse.Item;
 import com.example.backend.models.warehouse.ItemStatus;
 import com.example.backend.models.warehouse.ItemType;
 import com.example.backend.models.warehouse.Warehouse;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +31,19 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
             UUID warehouseId,
             ItemStatus status);
 
+    // Same lots as above, locked in id order (the order lockCompactableLots uses). For paths that
+    // write back an absolute quantity: Item has no version column, and a plain read does not wait
+    // for a compaction or another deduction that is changing these rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.itemType.id = :itemTypeId " +
+            "AND i.warehouse.id = :warehouseId " +
+            "AND i.itemStatus = :itemStatus " +
+            "ORDER BY i.id")
+    List<Item> findLotsForUpdate(@Param("itemTypeId") UUID itemTypeId,
+                                 @Param("warehouseId") UUID warehouseId,
+                                 @Param("itemStatus") ItemStatus itemStatus);
+
     List<Item> findAllByItemTypeIdAndWarehouseIdAndItemStatusAndQuantity(
             UUID itemTypeId,
             UUID warehouseId,
@@ -85,4 +102,63 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
     @Query("SELECT i FROM Item i WHERE i.transactionItem.transaction.id = :transactionId " +
             "AND i.itemStatus IN ('MISSING', 'OVERRECEIVED')")
     List<Item> findDiscrepancyItemsByTransaction(@Param("transactionId") UUID transactionId);
-}
\ No newline at end of file
+
+    // Manually received lots (not tied to a transaction) of the given types that new stock can be merged into.
+    // Locked, as receipts add to their quantity and Item has no version column
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.warehouse.id = :warehouseId " +
+            "AND i.itemType.id IN :itemTypeIds " +
+            "AND i.itemStatus = com.example.backend.models.warehouse.ItemStatus.IN_WAREHOUSE " +
+            "AND i.transactionItem IS NULL " +
+            "AND i.resolved = false " +
+            "ORDER BY i.createdAt")
+    List<Item> findMergeableLots(@Param("warehouseId") UUID warehouseId,
+                                 @Param("itemTypeIds") Collection<UUID> itemTypeIds);
+
+    // Lot compaction: IN_WAREHOUSE, unresolved lots with no resolution history are merged per
+    // (item type, transaction item) inside a warehouse, so batch traceability is preserved
+
+    // Warehouses holding at least one group of mergeable lots
+    @Query(value = "SELECT DISTINCT i.warehouse_id FROM item i " +
+            "WHERE i.item_status = 'IN_WAREHOUSE' AND i.resolved = false " +
+            "AND NOT EXISTS (SELECT 1 FROM item_resolution r WHERE r.item_id = i.id) " +
+            "GROUP BY i.warehouse_id, i.item_type_id, i.transaction_item_id " +
+            "HAVING COUNT(*) > 1",
+            nativeQuery = true)
+    List<UUID> findWarehousesWithFragmentedLots();
+
+    // Lock a warehouse's compactable lots in id order. FOR UPDATE does not block plain (MVCC) reads:
+    // only writers that lock lots first, through findLotsForUpdate or findMergeableLots, wait for the compaction
+    @Query(value = "SELECT i.id FROM item i " +
+            "WHERE i.warehouse_id = :warehouseId AND i.item_status = 'IN_WAREHOUSE' AND i.resolved = false " +
+            "AND NOT EXISTS (SELECT 1 FROM item_resolution r WHERE r.item_id = i.id) " +
+            "ORDER BY i.id FOR UPDATE",
+            nativeQuery = true)
+    List<UUID> lockCompactableLots(@Param("warehouseId") UUID warehouseId);
+
+    // Fold each group into its oldest lot (which keeps its createdAt for FIFO) and delete the rest.
+    // The surviving lot keeps its createdBy, or takes the oldest known one of its group when it has none;
+    // returns the number of lots removed
+    @Modifying
+    @Query(value = "WITH lots AS (" +
+            "  SELECT i.id, " +
+            "         FIRST_VALUE(i.id) OVER (PARTITION BY i.item_type_id, i.transaction_item_id " +
+            "                                 ORDER BY i.created_at NULLS LAST, i.id) AS keep_id, " +
+            "         SUM(i.quantity) OVER (PARTITION BY i.item_type_id, i.transaction_item_id) AS total_quantity, " +
+            "         FIRST_VALUE(i.created_by) OVER (PARTITION BY i.item_type_id, i.transaction_item_id " +
+            "                                 ORDER BY i.created_by IS NULL, i.created_at NULLS LAST, i.id) AS group_created_by, " +
+            "         COUNT(*) OVER (PARTITION BY i.item_type_id, i.transaction_item_id) AS lot_count " +
+            "  FROM item i " +
+            "  WHERE i.warehouse_id = :warehouseId AND i.item_status = 'IN_WAREHOUSE' AND i.resolved = false " +
+            "  AND NOT EXISTS (SELECT 1 FROM item_resolution r WHERE r.item_id = i.id)" +
+            "), merged AS (" +
+            "  UPDATE item SET quantity = lots.total_quantity, " +
+            "                  created_by = COALESCE(item.created_by, lots.group_created_by) FROM lots " +
+            "  WHERE item.id = lots.id AND lots.id = lots.keep_id AND lots.lot_count > 1 " +
+            "  RETURNING item.id" +
+            ") " +
+            "DELETE FROM item WHERE id IN (SELECT id FROM lots WHERE id <> keep_id)",
+            nativeQuery = true)
+    int compactLots(@Param("warehouseId") UUID warehouseId);
+}
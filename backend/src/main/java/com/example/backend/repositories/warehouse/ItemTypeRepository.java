@@ -3,8 +3,15 @@ package com.example.backend.repositories.warehouse;
 
 import com.example.backend.models.warehouse.ItemType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ItemTypeRepository extends JpaRepository<ItemType, UUID> {
+
+    boolean existsByItemCategoryId(UUID itemCategoryId);
+
+    @Query("SELECT t FROM ItemType t JOIN FETCH t.itemCategory ORDER BY t.name")
+    List<ItemType> findAllWithCategory();
 }
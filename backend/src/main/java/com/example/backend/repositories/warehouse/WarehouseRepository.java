@@ -2,8 +2,11 @@ package com.example.backend.repositories.warehouse;
 
 import com.example.backend.models.warehouse.Warehouse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +15,17 @@ public interface WarehouseRepository extends JpaRepository<Warehouse, UUID> {
 
     List<Warehouse> findBySiteId(UUID siteId);
 
+    // Names for a set of warehouses: [id, name]
+    @Query("SELECT w.id, w.name FROM Warehouse w WHERE w.id IN :ids")
+    List<Object[]> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Warehouse grid rows: [id, name, photoUrl, siteId, siteName, employeeCount, managerName]
+    @Query("SELECT w.id, w.name, w.photoUrl, s.id, s.name, " +
+           "(SELECT COUNT(e) FROM Employee e WHERE e.warehouse = w), " +
+           "(SELECT MIN(CONCAT(m.firstName, ' ', m.lastName)) FROM Employee m JOIN m.jobPosition jp " +
+           " WHERE m.warehouse = w AND LOWER(jp.positionName) = 'warehouse manager') " +
+           "FROM Warehouse w LEFT JOIN w.site s " +
+           "ORDER BY w.name")
+    List<Object[]> findSummaries();
+
 }
@@ -1,7 +1,9 @@
 package com.example.backend.services;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -10,7 +12,7 @@ import jakarta.persistence.*;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Base64;
+import java.sql.Timestamp;
 import java.util.UUID;
 
 @Service
@@ -20,6 +22,9 @@ public class DatabaseFileStorageService {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
 
@@ -28,15 +33,21 @@ public class DatabaseFileStorageService {
         String fileId = UUID.randomUUID().toString();
         String fullFileName = fileId + "_" + fileName;
         
-        FileEntity fileEntity = new FileEntity();
-        fileEntity.setId(fileId);
-        fileEntity.setBucketName(bucketName);
-        fileEntity.setFileName(fullFileName);
-        fileEntity.setContentType(file.getContentType());
-        fileEntity.setSize(file.getSize());
-        fileEntity.setData(file.getBytes());
-        
-        entityManager.persist(fileEntity);
+        // Stream the bytes into the BYTEA column instead of loading the whole file with getBytes()
+        try (InputStream inputStream = file.getInputStream()) {
+            jdbcTemplate.update(
+                    "INSERT INTO stored_files (id, bucket_name, file_name, content_type, size, data, uploaded_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    ps -> {
+                        ps.setString(1, fileId);
+                        ps.setString(2, bucketName);
+                        ps.setString(3, fullFileName);
+                        ps.setString(4, file.getContentType() != null ? file.getContentType() : "application/octet-stream");
+                        ps.setLong(5, file.getSize());
+                        ps.setBinaryStream(6, inputStream, file.getSize());
+                        ps.setTimestamp(7, new Timestamp(System.currentTimeMillis()));
+                    });
+        }
         
         // Return public URL
         return baseUrl + "/api/v1/files/" + fileId;
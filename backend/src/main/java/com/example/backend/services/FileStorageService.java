@@ -1,9 +1,11 @@
 package com.example.backend.services;
 
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,6 +21,8 @@ public interface FileStorageService {
     void deleteFile(String fileName);
     void deleteFile(String bucketName, String fileName);
     List<S3Object> listFiles(String bucketName) throws Exception;
+    // First key (in key order) starting with the prefix, or null if there is none; lists at most one object
+    String findFirstKey(String bucketName, String prefix) throws Exception;
 
     // Bucket operations
     void createBucketIfNotExists(String bucketName);
@@ -40,4 +44,41 @@ public interface FileStorageService {
     // Presigned URL methods
     String getPresignedDownloadUrl(String fileName, int expirationMinutes) throws Exception;
     String getPresignedDownloadUrl(String bucketName, String fileName, int expirationMinutes) throws Exception;
+
+    /**
+     * Object key of a URL returned by getFileUrl(bucketName, key), or null if the URL does not
+     * point into that bucket. Handles path-style URLs (.../bucket/key) and virtual-hosted S3 URLs.
+     */
+    default String getObjectKey(String bucketName, String fileUrl) {
+        if (fileUrl == null || bucketName == null) {
+            return null;
+        }
+        // Not parsed with java.net.URI: S3/MinIO URLs carry keys unencoded, spaces included
+        int hostStart = fileUrl.indexOf("://");
+        hostStart = hostStart >= 0 ? hostStart + 3 : 0;
+        int pathStart = fileUrl.indexOf('/', hostStart);
+        if (pathStart < 0) {
+            return null;
+        }
+        String host = fileUrl.substring(hostStart, pathStart);
+        String path = fileUrl.substring(pathStart);
+
+        String key = null;
+        String bucketSegment = "/" + bucketName + "/";
+        int index = path.indexOf(bucketSegment);
+        if (index >= 0) {
+            key = path.substring(index + bucketSegment.length());
+        } else if (host.startsWith(bucketName + ".")) {
+            key = path.substring(1);
+        }
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        try {
+            // Local storage URLs are percent-encoded
+            return UriUtils.decode(key, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return key;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.example.backend.services;
+
+import com.example.backend.dtos.MaintenanceDashboardDto;
+import com.example.backend.dtos.MaintenanceRecordDto;
+import com.example.backend.events.MaintenanceChangedEvent;
+import com.example.backend.models.MaintenanceRecord;
+import com.example.backend.models.equipment.EquipmentStatus;
+import com.example.backend.repositories.MaintenanceRecordRepository;
+import com.example.backend.repositories.MaintenanceStepRepository;
+import com.example.backend.repositories.equipment.EquipmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the maintenance dashboard from grouped count/sum queries instead of loading
+ * whole tables. The result is cached for a short time since the dashboard is polled
+ * far more often than maintenance data changes; every maintenance change evicts it
+ * once its transaction commits.
+ */
+@Service
+@Slf4j
+public class MaintenanceDashboardService {
+
+    private static final int RECENT_RECORDS_LIMIT = 5;
+
+    private final MaintenanceRecordRepository maintenanceRecordRepository;
+    private final MaintenanceStepRepository maintenanceStepRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final MaintenanceService maintenanceService;
+    private final long cacheTtlMillis;
+
+    private volatile CachedDashboard cachedDashboard;
+
+    public MaintenanceDashboardService(MaintenanceRecordRepository maintenanceRecordRepository,
+                                       MaintenanceStepRepository maintenanceStepRepository,
+                                       EquipmentRepository equipmentRepository,
+                                       MaintenanceService maintenanceService,
+                                       @Value("${maintenance.dashboard.cache-ttl-seconds:30}") long cacheTtlSeconds) {
+        this.maintenanceRecordRepository = maintenanceRecordRepository;
+        this.maintenanceStepRepository = maintenanceStepRepository;
+        this.equipmentRepository = equipmentRepository;
+        this.maintenanceService = maintenanceService;
+        this.cacheTtlMillis = cacheTtlSeconds * 1000;
+    }
+
+    /**
+     * Dashboard data, served from cache while it is younger than the configured TTL
+     */
+    public MaintenanceDashboardDto getDashboardData() {
+        CachedDashboard cached = cachedDashboard;
+        if (cached != null && System.currentTimeMillis() < cached.expiresAt()) {
+            return cached.dashboard();
+        }
+
+        MaintenanceDashboardDto dashboard = loadDashboardData();
+        cachedDashboard = new CachedDashboard(dashboard, System.currentTimeMillis() + cacheTtlMillis);
+        return dashboard;
+    }
+
+    /**
+     * Drop the cached dashboard so the next request reloads it
+     */
+    public void evictCache() {
+        cachedDashboard = null;
+    }
+
+    /**
+     * Maintenance records or steps changed; runs after commit so the reload sees the change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMaintenanceChanged(MaintenanceChangedEvent event) {
+        evictCache();
+    }
+
+    // Each query runs on its own; the recent records are fully fetched before mapping
+    private MaintenanceDashboardDto loadDashboardData() {
+        // Record counts and costs per status
+        long totalRecords = 0;
+        long activeRecords = 0;
+        long completedRecords = 0;
+        BigDecimal totalCost = BigDecimal.ZERO;
+
+        for (Object[] row : maintenanceRecordRepository.getCountAndCostByStatus()) {
+            MaintenanceRecord.MaintenanceStatus status = (MaintenanceRecord.MaintenanceStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            totalRecords += count;
+            totalCost = totalCost.add((BigDecimal) row[2]);
+
+            if (status == MaintenanceRecord.MaintenanceStatus.ACTIVE) {
+                activeRecords = count;
+            } else if (status == MaintenanceRecord.MaintenanceStatus.COMPLETED) {
+                completedRecords = count;
+            }
+        }
+
+        long overdueRecords = maintenanceRecordRepository.countOverdueRecords(LocalDateTime.now());
+
+        // Recent records: top-N ids first, then the records with their steps in one query
+        List<UUID> recentIds = maintenanceRecordRepository.findRecentRecordIds(PageRequest.of(0, RECENT_RECORDS_LIMIT));
+        List<MaintenanceRecord> recent = recentIds.isEmpty()
+                ? List.of()
+                : maintenanceRecordRepository.findByIdInWithSteps(recentIds);
+        List<MaintenanceRecordDto> recentRecords = maintenanceService.convertRecordsWithLoadedSteps(
+                recent.stream()
+                        .sorted(Comparator.comparing(MaintenanceRecord::getCreationDate,
+                                Comparator.nullsLast(Comparator.reverseOrder())))
+                        .toList());
+
+        // Performance and cost metrics
+        double completionRate = totalRecords > 0 ? (double) completedRecords / totalRecords * 100 : 0;
+        double averageCost = totalRecords > 0 ? totalCost.doubleValue() / totalRecords : 0;
+
+        // Step metrics
+        Object[] stepCounts = maintenanceStepRepository.getStepCounts().get(0);
+        long totalSteps = ((Number) stepCounts[0]).longValue();
+        long completedSteps = ((Number) stepCounts[1]).longValue();
+
+        // Equipment metrics
+        long equipmentInMaintenance = 0;
+        long equipmentAvailable = 0;
+        for (Object[] row : equipmentRepository.countByStatusGrouped()) {
+            if (row[0] == EquipmentStatus.IN_MAINTENANCE) {
+                equipmentInMaintenance = ((Number) row[1]).longValue();
+            } else if (row[0] == EquipmentStatus.AVAILABLE) {
+                equipmentAvailable = ((Number) row[1]).longValue();
+            }
+        }
+
+        return MaintenanceDashboardDto.builder()
+                .totalRecords(totalRecords)
+                .activeRecords(activeRecords)
+                .overdueRecords(overdueRecords)
+                .completedRecords(completedRecords)
+                .recentRecords(recentRecords)
+                .completionRate(completionRate)
+                .totalCost(totalCost.doubleValue())
+                .averageCost(averageCost)
+                .totalSteps(totalSteps)
+                .completedSteps(completedSteps)
+                .activeSteps(totalSteps - completedSteps)
+                .equipmentInMaintenance(equipmentInMaintenance)
+                .equipmentAvailable(equipmentAvailable)
+                .build();
+    }
+
+    private record CachedDashboard(MaintenanceDashboardDto dashboard, long expiresAt) {
+    }
+}
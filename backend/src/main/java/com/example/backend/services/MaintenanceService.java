@@ -3,12 +3,14 @@ package com.example.backend.services;
 import com.example.backend.dtos.*;
 import com.example.backend.models.*;
 import com.example.backend.repositories.*;
+import com.example.backend.events.MaintenanceChangedEvent;
 import com.example.backend.exceptions.MaintenanceException;
 import com.example.backend.models.equipment.Equipment;
 import com.example.backend.models.equipment.EquipmentStatus;
 import com.example.backend.repositories.equipment.EquipmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
@@ -17,8 +19,10 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +36,7 @@ public class MaintenanceService {
     private final ContactLogRepository contactLogRepository;
     private final EquipmentRepository equipmentRepository;
     private final ContactService contactService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // Maintenance Record Operations
     
@@ -81,6 +86,7 @@ public class MaintenanceService {
         }
         
         log.info("Created maintenance record: {} for equipment: {}", savedRecord.getId(), dto.getEquipmentId());
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(savedRecord.getId()));
         return convertToDto(savedRecord);
     }
     
@@ -173,6 +179,7 @@ public class MaintenanceService {
         }
         
         MaintenanceRecord savedRecord = maintenanceRecordRepository.save(record);
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(savedRecord.getId()));
         return convertToDto(savedRecord);
     }
     
@@ -199,6 +206,8 @@ public class MaintenanceService {
             equipmentRepository.save(equipment);
         }
         // If there are still active records, keep equipment status as IN_MAINTENANCE
+
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(id));
     }
     
     // Maintenance Step Operations
@@ -250,6 +259,7 @@ public class MaintenanceService {
         // Update main record's current responsible contact if this is the current step
         record.setCurrentResponsibleContact(responsibleContact);
         maintenanceRecordRepository.save(record);
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(maintenanceRecordId));
         
         return convertToDto(savedStep);
     }
@@ -288,6 +298,7 @@ public class MaintenanceService {
         
         // Recalculate total cost of parent record
         updateRecordTotalCost(step.getMaintenanceRecord().getId());
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(step.getMaintenanceRecord().getId()));
         
         return convertToDto(savedStep);
     }
@@ -302,6 +313,7 @@ public class MaintenanceService {
 
         // Recalculate total cost of parent record
         updateRecordTotalCost(recordId);
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(recordId));
     }
     
     public MaintenanceStepDto markStepAsFinal(UUID stepId) {
@@ -320,6 +332,7 @@ public class MaintenanceService {
         
         stepToMark.setFinalStep(true);
         MaintenanceStep savedStep = maintenanceStepRepository.save(stepToMark);
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(record.getId()));
         
         return convertToDto(savedStep);
     }
@@ -344,6 +357,7 @@ public class MaintenanceService {
             equipmentRepository.save(equipment);
             maintenanceRecordRepository.save(record);
         }
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(step.getMaintenanceRecord().getId()));
     }
     
     public void handoffToNextStep(UUID stepId, MaintenanceStepDto nextStepDto) {
@@ -377,6 +391,7 @@ public class MaintenanceService {
             record.setCurrentResponsibleContact(contact);
             maintenanceRecordRepository.save(record);
         }
+        eventPublisher.publishEvent(new MaintenanceChangedEvent(record.getId()));
         
         return convertToDto(savedStep);
     }
@@ -417,73 +432,40 @@ public class MaintenanceService {
                 .collect(Collectors.toList());
     }
     
-    // Dashboard and Analytics
+    // Dashboard support
     
-    public MaintenanceDashboardDto getDashboardData() {
-        long totalRecords = maintenanceRecordRepository.count();
-        long activeRecords = maintenanceRecordRepository.countByStatus(MaintenanceRecord.MaintenanceStatus.ACTIVE);
-        long overdueRecords = maintenanceRecordRepository.findOverdueRecords(LocalDateTime.now()).size();
-        long completedRecords = maintenanceRecordRepository.countByStatus(MaintenanceRecord.MaintenanceStatus.COMPLETED);
-        
-        // Get recent records for dashboard display
-        List<MaintenanceRecordDto> recentRecords = maintenanceRecordRepository.findAll().stream()
-                .limit(5)
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    /**
+     * Convert records whose steps were already fetched (see MaintenanceDashboardService).
+     * Equipment for all records is loaded with a single query.
+     */
+    @Transactional(readOnly = true)
+    public List<MaintenanceRecordDto> convertRecordsWithLoadedSteps(List<MaintenanceRecord> records) {
+        Map<UUID, Equipment> equipmentById = equipmentRepository.findAllById(
+                        records.stream().map(MaintenanceRecord::getEquipmentId).distinct().collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
         
-        // Calculate performance metrics
-        double completionRate = totalRecords > 0 ? (double) completedRecords / totalRecords * 100 : 0;
-        
-        // Calculate cost metrics
-        double totalCost = maintenanceRecordRepository.findAll().stream()
-                .mapToDouble(record -> record.getTotalCost() != null ? record.getTotalCost().doubleValue() : 0.0)
-                .sum();
-        double averageCost = totalRecords > 0 ? totalCost / totalRecords : 0;
-        
-        // Calculate step metrics
-        long totalSteps = maintenanceStepRepository.count();
-        long completedSteps = maintenanceStepRepository.findAll().stream()
-                .filter(MaintenanceStep::isCompleted)
-                .count();
-        long activeSteps = totalSteps - completedSteps;
-        
-        // Calculate equipment metrics - use findAll and filter instead of non-existent countByStatus
-        List<Equipment> allEquipment = equipmentRepository.findAll();
-        long equipmentInMaintenance = allEquipment.stream()
-                .filter(eq -> eq.getStatus() == EquipmentStatus.IN_MAINTENANCE)
-                .count();
-        long equipmentAvailable = allEquipment.stream()
-                .filter(eq -> eq.getStatus() == EquipmentStatus.AVAILABLE)
-                .count();
-        
-        return MaintenanceDashboardDto.builder()
-                .totalRecords(totalRecords)
-                .activeRecords(activeRecords)
-                .overdueRecords(overdueRecords)
-                .completedRecords(completedRecords)
-                .recentRecords(recentRecords)
-                .completionRate(completionRate)
-                .totalCost(totalCost)
-                .averageCost(averageCost)
-                .totalSteps(totalSteps)
-                .completedSteps(completedSteps)
-                .activeSteps(activeSteps)
-                .equipmentInMaintenance(equipmentInMaintenance)
-                .equipmentAvailable(equipmentAvailable)
-                .build();
+        return records.stream()
+                .map(record -> convertToDto(record, record.getSteps(), equipmentById.get(record.getEquipmentId())))
+                .collect(Collectors.toList());
     }
     
     // Private conversion methods
     
     private MaintenanceRecordDto convertToDto(MaintenanceRecord record) {
         List<MaintenanceStep> steps = maintenanceStepRepository.findByMaintenanceRecordIdOrderByStartDateAsc(record.getId());
-        Optional<MaintenanceStep> currentStep = steps.stream()
-                .filter(step -> step.getActualEndDate() == null)
-                .findFirst();
         
         // Get equipment information
         Equipment equipment = equipmentRepository.findById(record.getEquipmentId()).orElse(null);
         
+        return convertToDto(record, steps, equipment);
+    }
+    
+    private MaintenanceRecordDto convertToDto(MaintenanceRecord record, List<MaintenanceStep> steps, Equipment equipment) {
+        Optional<MaintenanceStep> currentStep = steps.stream()
+                .filter(step -> step.getActualEndDate() == null)
+                .findFirst();
+        
         // Recalculate cost to ensure it is up-to-date
         BigDecimal totalCost = steps.stream()
                 .map(step -> step.getStepCost() != null ? step.getStepCost() : BigDecimal.ZERO)
@@ -14,12 +14,14 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class MinioService implements FileStorageService {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Set<String> knownBuckets = ConcurrentHashMap.newKeySet();
 
     @Value("${aws.s3.bucket-name:rockops}")
     private String bucketName;
@@ -58,17 +60,24 @@ public class MinioService implements FileStorageService {
             return;
         }
 
+        // Buckets seen before are not probed again
+        if (knownBuckets.contains(bucketName)) {
+            return;
+        }
+
         try {
             HeadBucketRequest headBucketRequest = HeadBucketRequest.builder()
                     .bucket(bucketName)
                     .build();
             s3Client.headBucket(headBucketRequest);
+            knownBuckets.add(bucketName);
         } catch (NoSuchBucketException e) {
             CreateBucketRequest createBucketRequest = CreateBucketRequest.builder()
                     .bucket(bucketName)
                     .build();
             s3Client.createBucket(createBucketRequest);
             System.out.println("✅ S3 bucket created: " + bucketName);
+            knownBuckets.add(bucketName);
         } catch (Exception e) {
             System.err.println("Error checking/creating S3 bucket: " + e.getMessage());
         }
@@ -384,6 +393,22 @@ public class MinioService implements FileStorageService {
         return response.contents();
     }
 
+    @Override
+    public String findFirstKey(String bucketName, String prefix) throws Exception {
+        if (!s3Enabled || s3Client == null) {
+            return null;
+        }
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .maxKeys(1)
+                .build();
+
+        List<S3Object> contents = s3Client.listObjectsV2(listRequest).contents();
+        return contents.isEmpty() ? null : contents.get(0).key();
+    }
+
     @Override
     public void deleteFile(String fileName) {
         if (!s3Enabled || s3Client == null) {
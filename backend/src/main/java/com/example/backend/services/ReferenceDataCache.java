@@ -0,0 +1,218 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.ReferenceDataCacheStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache for low-churn master data (item types, equipment types, brands, work
+ * and maintenance types, departments). Each named cache has its own TTL and entry bound,
+ * read from reference-data.cache.&lt;name&gt;.ttl-seconds / .max-entries with global defaults.
+ *
+ * Owning services invalidate their caches on every write; inside a transaction the cache
+ * is cleared again after commit, so a concurrent reader cannot re-cache pre-commit data.
+ * Every loaded value gets an ETag so controllers can answer conditional GETs with 304.
+ * Cached values are shared between requests, so loaders return unmodifiable lists.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+    public static final String ITEM_TYPES = "itemTypes";
+    public static final String EQUIPMENT_TYPES = "equipmentTypes";
+    public static final String EQUIPMENT_BRANDS = "equipmentBrands";
+    public static final String WORK_TYPES = "workTypes";
+    public static final String MAINTENANCE_TYPES = "maintenanceTypes";
+    public static final String DEPARTMENTS = "departments";
+
+    private final Environment environment;
+    private final long defaultTtlSeconds;
+    private final int defaultMaxEntries;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    public ReferenceDataCache(Environment environment,
+                              @Value("${reference-data.cache.default-ttl-seconds:600}") long defaultTtlSeconds,
+                              @Value("${reference-data.cache.default-max-entries:16}") int defaultMaxEntries) {
+        this.environment = environment;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.defaultMaxEntries = defaultMaxEntries;
+    }
+
+    /**
+     * Cached value for the key, loading and caching it on a miss or after expiry
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CachedValue<T> get(String cacheName, String key, Supplier<T> loader) {
+        Region region = regions.computeIfAbsent(cacheName, this::createRegion);
+        long now = System.currentTimeMillis();
+
+        CachedValue<?> cached = region.lookup(key, now);
+        if (cached != null) {
+            region.hits.incrementAndGet();
+            return (CachedValue<T>) cached;
+        }
+        region.misses.incrementAndGet();
+
+        // A write while loading bumps the generation; the result is then returned but not cached
+        long generation = region.generation.get();
+        T value = loader.get();
+        CachedValue<T> loaded = new CachedValue<>(value,
+                cacheName + "-" + Long.toHexString(now) + "-" + Long.toHexString(loadSequence.incrementAndGet()));
+        if (region.generation.get() == generation) {
+            region.store(key, loaded, now + region.ttlMillis);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop every entry of the given caches, now and again when the current transaction commits
+     */
+    public void invalidate(String... cacheNames) {
+        clear(cacheNames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(cacheNames);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        invalidate(regions.keySet().toArray(new String[0]));
+    }
+
+    public List<ReferenceDataCacheStatsDTO> getStats() {
+        List<ReferenceDataCacheStatsDTO> stats = new ArrayList<>();
+        for (Region region : regions.values()) {
+            ReferenceDataCacheStatsDTO dto = new ReferenceDataCacheStatsDTO();
+            long hits = region.hits.get();
+            long misses = region.misses.get();
+            dto.setCacheName(region.name);
+            dto.setEntries(region.size());
+            dto.setMaxEntries(region.maxEntries);
+            dto.setTtlSeconds(region.ttlMillis / 1000);
+            dto.setHits(hits);
+            dto.setMisses(misses);
+            dto.setHitRate(hits + misses > 0 ? (double) hits / (hits + misses) * 100 : 0.0);
+            dto.setEvictions(region.evictions.get());
+            dto.setInvalidations(region.invalidations.get());
+            stats.add(dto);
+        }
+        stats.sort(Comparator.comparing(ReferenceDataCacheStatsDTO::getCacheName));
+        return stats;
+    }
+
+    private void clear(String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            Region region = regions.get(cacheName);
+            if (region != null) {
+                region.clear();
+            }
+        }
+    }
+
+    private Region createRegion(String cacheName) {
+        String prefix = "reference-data.cache." + cacheName;
+        long ttlSeconds = environment.getProperty(prefix + ".ttl-seconds", Long.class, defaultTtlSeconds);
+        int maxEntries = environment.getProperty(prefix + ".max-entries", Integer.class, defaultMaxEntries);
+        log.debug("Created reference data cache '{}' (ttl {}s, max {} entries)", cacheName, ttlSeconds, maxEntries);
+        return new Region(cacheName, ttlSeconds * 1000, Math.max(1, maxEntries));
+    }
+
+    /**
+     * A loaded value and the ETag identifying this particular load
+     */
+    public record CachedValue<T>(T value, String etag) {
+
+        /**
+         * 304 when the request's If-None-Match matches this value's ETag, otherwise 200 with the value.
+         * Clients are asked to revalidate on every use.
+         */
+        public ResponseEntity<T> toResponse(WebRequest request) {
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(value);
+        }
+    }
+
+    private record Entry(CachedValue<?> value, long expiresAt) {
+    }
+
+    private static final class Region {
+        private final String name;
+        private final long ttlMillis;
+        private final int maxEntries;
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+        private final AtomicLong invalidations = new AtomicLong();
+        private final LinkedHashMap<String, Entry> entries;
+
+        private Region(String name, long ttlMillis, int maxEntries) {
+            this.name = name;
+            this.ttlMillis = ttlMillis;
+            this.maxEntries = maxEntries;
+            // Access-ordered so the least recently used key is dropped once the bound is reached
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() > Region.this.maxEntries) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized CachedValue<?> lookup(String key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now >= entry.expiresAt()) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                return null;
+            }
+            return entry.value();
+        }
+
+        private synchronized void store(String key, CachedValue<?> value, long expiresAt) {
+            entries.put(key, new Entry(value, expiresAt));
+        }
+
+        private synchronized void clear() {
+            generation.incrementAndGet();
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+}
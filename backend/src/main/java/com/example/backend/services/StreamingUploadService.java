@@ -0,0 +1,202 @@
+package com.example.backend.services;
+
+import com.example.backend.services.impl.LocalFileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams uploads to S3/MinIO without holding whole files in memory.
+ * Small files go up with a single PUT; files above the multipart threshold are sent
+ * part by part, so memory use is bounded by one part regardless of file size.
+ * Buckets that are known to exist are remembered, so they are only probed once.
+ * With storage.type=local the upload is streamed into LocalFileStorageService instead.
+ */
+@Service
+@Slf4j
+public class StreamingUploadService {
+
+    // S3 rejects multipart parts smaller than 5MB (except the last one)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final LocalFileStorageService localFileStorageService;
+    private final FileStorageService fileStorageService;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final Set<String> knownBuckets = ConcurrentHashMap.newKeySet();
+
+    public StreamingUploadService(ObjectProvider<S3Client> s3ClientProvider,
+                                  ObjectProvider<LocalFileStorageService> localFileStorageServiceProvider,
+                                  FileStorageService fileStorageService,
+                                  @Value("${aws.s3.enabled:true}") boolean s3Enabled,
+                                  @Value("${storage.upload.multipart-threshold:16MB}") DataSize multipartThreshold,
+                                  @Value("${storage.upload.part-size:8MB}") DataSize partSize) {
+        this.s3Client = s3Enabled ? s3ClientProvider.getIfAvailable() : null;
+        // Only defined when storage.type=local
+        this.localFileStorageService = localFileStorageServiceProvider.getIfAvailable();
+        this.fileStorageService = fileStorageService;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = (int) Math.max(partSize.toBytes(), MIN_PART_SIZE);
+    }
+
+    /**
+     * Upload a multipart request file and return its public URL
+     */
+    public String upload(String bucketName, String key, MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return upload(bucketName, key, inputStream, file.getSize(), file.getContentType());
+        }
+    }
+
+    /**
+     * Upload from a stream and return the object's public URL.
+     *
+     * @param contentLength size in bytes, or -1 when unknown (always uses multipart upload)
+     */
+    public String upload(String bucketName, String key, InputStream inputStream,
+                         long contentLength, String contentType) throws IOException {
+        if (localFileStorageService != null) {
+            localFileStorageService.putObject(bucketName, key, inputStream, contentType);
+            return fileStorageService.getFileUrl(bucketName, key);
+        }
+        if (s3Client == null) {
+            // Never hand out a URL for an object that was not stored
+            throw new IllegalStateException("File storage is not available: S3 is disabled");
+        }
+
+        ensureBucketExists(bucketName);
+
+        if (contentLength >= 0 && contentLength <= multipartThreshold) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength(contentLength)
+                            .build(),
+                    RequestBody.fromInputStream(inputStream, contentLength));
+        } else {
+            multipartUpload(bucketName, key, inputStream, contentType);
+        }
+
+        return fileStorageService.getFileUrl(bucketName, key);
+    }
+
+    /**
+     * Best-effort removal of an uploaded object, e.g. when saving its database row fails
+     */
+    public void deleteQuietly(String bucketName, String key) {
+        if (localFileStorageService != null) {
+            localFileStorageService.deleteFile(bucketName, key);
+            return;
+        }
+        if (s3Client == null) {
+            return;
+        }
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (Exception e) {
+            log.warn("Could not delete orphaned object {}/{}: {}", bucketName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * Create the bucket on first use. Later calls for the same bucket are answered from memory.
+     */
+    public void ensureBucketExists(String bucketName) {
+        if (s3Client == null || knownBuckets.contains(bucketName)) {
+            return;
+        }
+
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
+        } catch (NoSuchBucketException e) {
+            try {
+                s3Client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build());
+                log.info("Created bucket {}", bucketName);
+            } catch (BucketAlreadyOwnedByYouException alreadyCreated) {
+                // Created concurrently by another upload
+            }
+        }
+        knownBuckets.add(bucketName);
+    }
+
+    private void multipartUpload(String bucketName, String key, InputStream inputStream, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+        byte[] buffer = new byte[partSize];
+
+        try {
+            int partNumber = 1;
+            int bytesRead;
+            while ((bytesRead = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) bytesRead)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, bytesRead), bytesRead));
+
+                completedParts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+                partNumber++;
+            }
+
+            if (completedParts.isEmpty()) {
+                // Empty stream: a multipart upload needs at least one part, so store an empty object instead
+                abortQuietly(bucketName, key, uploadId);
+                s3Client.putObject(PutObjectRequest.builder().bucket(bucketName).key(key).contentType(contentType).build(),
+                        RequestBody.empty());
+                return;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            log.info("Uploaded {}/{} in {} parts", bucketName, key, completedParts.size());
+        } catch (IOException | RuntimeException e) {
+            // Do not leave billed, invisible parts behind
+            abortQuietly(bucketName, key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String bucketName, String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Could not abort multipart upload {} for {}/{}: {}", uploadId, bucketName, key, e.getMessage());
+        }
+    }
+}
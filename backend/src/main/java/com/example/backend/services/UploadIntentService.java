@@ -0,0 +1,252 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.equipment.DocumentDTO;
+import com.example.backend.dto.storage.UploadCompletionRequestDTO;
+import com.example.backend.dto.storage.UploadIntentRequestDTO;
+import com.example.backend.dto.storage.UploadIntentResponseDTO;
+import com.example.backend.dto.storage.UploadPurpose;
+import com.example.backend.exceptions.ResourceNotFoundException;
+import com.example.backend.models.equipment.Document.EntityType;
+import com.example.backend.repositories.equipment.EquipmentRepository;
+import com.example.backend.services.equipment.DocumentService;
+import com.example.backend.services.equipment.EquipmentPhotoService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Issues presigned PUT URLs so browsers upload files straight to S3/MinIO.
+ * The backend only signs the request and, for documents and equipment photos, records
+ * the upload once the client reports it as complete; file bytes never pass through the JVM.
+ *
+ * Intents are only issued for entities that exist, and only into buckets that already exist:
+ * documents go to the default bucket under a per-entity prefix, equipment photos to the
+ * equipment bucket created together with the equipment.
+ */
+@Service
+public class UploadIntentService {
+
+    // Directly uploaded documents live under uploads/<entity bucket name>/ in the default bucket
+    private static final String DOCUMENT_KEY_PREFIX = "uploads/";
+    private static final String EQUIPMENT_PHOTO_KEY_PREFIX = "Main_Image_";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final FileStorageService fileStorageService;
+    private final DocumentService documentService;
+    private final EquipmentPhotoService equipmentPhotoService;
+    private final EquipmentRepository equipmentRepository;
+    private final String defaultBucketName;
+    private final Duration urlExpiration;
+    private final long maxFileSize;
+
+    public UploadIntentService(ObjectProvider<S3Client> s3ClientProvider,
+                               ObjectProvider<S3Presigner> s3PresignerProvider,
+                               FileStorageService fileStorageService,
+                               DocumentService documentService,
+                               EquipmentPhotoService equipmentPhotoService,
+                               EquipmentRepository equipmentRepository,
+                               @Value("${aws.s3.enabled:true}") boolean s3Enabled,
+                               @Value("${aws.s3.bucket-name:rockops}") String defaultBucketName,
+                               @Value("${storage.upload.presigned-url-expiration-minutes:15}") long expirationMinutes,
+                               @Value("${storage.upload.max-direct-upload-size:2GB}") DataSize maxFileSize) {
+        this.s3Client = s3Enabled ? s3ClientProvider.getIfAvailable() : null;
+        this.s3Presigner = s3Enabled ? s3PresignerProvider.getIfAvailable() : null;
+        this.fileStorageService = fileStorageService;
+        this.documentService = documentService;
+        this.equipmentPhotoService = equipmentPhotoService;
+        this.equipmentRepository = equipmentRepository;
+        this.defaultBucketName = defaultBucketName;
+        this.urlExpiration = Duration.ofMinutes(expirationMinutes);
+        this.maxFileSize = maxFileSize.toBytes();
+    }
+
+    /**
+     * Create a presigned PUT URL for one file
+     */
+    public UploadIntentResponseDTO createIntent(UploadIntentRequestDTO request) {
+        requireObjectStorage();
+
+        if (request.getPurpose() == null) {
+            throw new IllegalArgumentException("Upload purpose is required");
+        }
+        if (request.getFileName() == null || request.getFileName().isBlank()) {
+            throw new IllegalArgumentException("File name is required");
+        }
+        if (request.getFileSize() == null || request.getFileSize() <= 0) {
+            throw new IllegalArgumentException("File size is required");
+        }
+        if (request.getFileSize() > maxFileSize) {
+            throw new IllegalArgumentException("File exceeds the maximum upload size of " + maxFileSize + " bytes");
+        }
+
+        String fileName = sanitizeFileName(request.getFileName());
+        String contentType = request.getContentType() != null && !request.getContentType().isBlank()
+                ? request.getContentType()
+                : "application/octet-stream";
+
+        String bucket;
+        String key;
+        switch (request.getPurpose()) {
+            case DOCUMENT -> {
+                requireEntity(request.getEntityType(), request.getEntityId());
+                bucket = defaultBucketName;
+                key = documentKeyPrefix(request.getEntityType(), request.getEntityId()) + UUID.randomUUID() + "/" + fileName;
+            }
+            case EQUIPMENT_PHOTO -> {
+                requireEquipment(request.getEntityId());
+                bucket = "equipment-" + request.getEntityId();
+                key = EQUIPMENT_PHOTO_KEY_PREFIX + UUID.randomUUID() + "_" + fileName;
+            }
+            case EMPLOYEE_PHOTO -> {
+                bucket = defaultBucketName;
+                key = UUID.randomUUID() + "_" + fileName;
+            }
+            case CANDIDATE_RESUME -> {
+                bucket = defaultBucketName;
+                key = "resumes/" + UUID.randomUUID() + "_" + fileName;
+            }
+            default -> throw new IllegalArgumentException("Unsupported upload purpose: " + request.getPurpose());
+        }
+
+        // Content type and length are part of the signature, so the client cannot upload something else
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(request.getFileSize())
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(urlExpiration)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        // Browsers set Host and Content-Length themselves
+        Map<String, String> headers = new HashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !"content-length".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return UploadIntentResponseDTO.builder()
+                .method("PUT")
+                .uploadUrl(presigned.url().toString())
+                .headers(headers)
+                .bucket(bucket)
+                .key(key)
+                .fileUrl(fileStorageService.getFileUrl(bucket, key))
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * Register a document after the browser finished uploading it.
+     * The object must exist under the entity's direct-upload prefix and not be registered yet.
+     */
+    public DocumentDTO completeDocumentUpload(UploadCompletionRequestDTO request) {
+        requireObjectStorage();
+        requireEntity(request.getEntityType(), request.getEntityId());
+
+        String key = request.getKey();
+        if (key == null || !key.startsWith(documentKeyPrefix(request.getEntityType(), request.getEntityId()))
+                || key.contains("..")) {
+            throw new IllegalArgumentException("Invalid upload key");
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("Document name is required");
+        }
+
+        String bucket = defaultBucketName;
+
+        HeadObjectResponse object;
+        try {
+            object = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("Uploaded file not found: " + key);
+        }
+
+        return documentService.registerUploadedDocument(
+                request.getEntityType(),
+                request.getEntityId(),
+                request.getName().trim(),
+                request.getType(),
+                fileStorageService.getFileUrl(bucket, key),
+                object.contentLength(),
+                request.getSarkyMonth(),
+                request.getSarkyYear());
+    }
+
+    /**
+     * Record a directly uploaded equipment main photo in the photo URL cache
+     */
+    public String completeEquipmentPhotoUpload(UploadCompletionRequestDTO request) {
+        requireObjectStorage();
+        requireEquipment(request.getEntityId());
+
+        String key = request.getKey();
+        if (key == null || !key.startsWith(EQUIPMENT_PHOTO_KEY_PREFIX) || key.contains("/")) {
+            throw new IllegalArgumentException("Invalid upload key");
+        }
+
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket("equipment-" + request.getEntityId()).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("Uploaded file not found: " + key);
+        }
+
+        return equipmentPhotoService.registerUploadedMainPhoto(request.getEntityId(), key);
+    }
+
+    // Helper Methods
+
+    private void requireObjectStorage() {
+        if (s3Client == null || s3Presigner == null) {
+            throw new IllegalStateException("Direct uploads require S3/MinIO storage to be enabled");
+        }
+    }
+
+    private void requireEntity(EntityType entityType, UUID entityId) {
+        if (entityType == null || entityId == null) {
+            throw new IllegalArgumentException("Entity type and id are required");
+        }
+        documentService.verifyEntityExists(entityType, entityId);
+    }
+
+    private void requireEquipment(UUID equipmentId) {
+        if (equipmentId == null) {
+            throw new IllegalArgumentException("Equipment id is required");
+        }
+        if (!equipmentRepository.existsById(equipmentId)) {
+            throw new ResourceNotFoundException("Equipment not found with id: " + equipmentId);
+        }
+    }
+
+    // Same entity naming as the DocumentService bucket of the entity
+    private static String documentKeyPrefix(EntityType entityType, UUID entityId) {
+        return DOCUMENT_KEY_PREFIX + entityType.name().toLowerCase() + "-" + entityId + "/";
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        String baseName = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+        String sanitized = baseName.replaceAll("[^A-Za-z0-9._-]", "_");
+        return sanitized.isEmpty() ? "file" : sanitized;
+    }
+}
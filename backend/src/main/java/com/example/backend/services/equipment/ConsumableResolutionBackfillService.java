@@ -0,0 +1,186 @@
+package com.example.backend.services.equipment;
+
+import com.example.backend.models.equipment.ConsumableBackfillJob;
+import com.example.backend.models.equipment.ConsumableBackfillJob.JobStatus;
+import com.example.backend.repositories.equipment.ConsumableBackfillJobRepository;
+import com.example.backend.repositories.equipment.ConsumableRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Copies the resolution of every resolved consumable onto the matching transaction items
+ * (historical data resolved before transaction items carried resolution fields).
+ *
+ * Runs in the background in chunks of consumables; each chunk is one set-based update
+ * committed together with the job checkpoint, so progress is observable and a failed or
+ * interrupted run continues from the last committed chunk when triggered again.
+ *
+ * Only one run may be active across all instances: starts are serialized by a database
+ * advisory lock and refused while the latest job is RUNNING and still making progress.
+ * A RUNNING job without a checkpoint for equipment.consumable-backfill.stale-after-minutes
+ * is treated as abandoned (e.g. its instance stopped) and can be resumed.
+ */
+@Service
+@Slf4j
+public class ConsumableResolutionBackfillService {
+
+    // Advisory lock key for starting a backfill ("CBFL")
+    private static final long START_LOCK_KEY = 0x4342464CL;
+
+    private final ConsumableRepository consumableRepository;
+    private final ConsumableBackfillJobRepository backfillJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long staleAfterMinutes;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "consumable-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ConsumableResolutionBackfillService(ConsumableRepository consumableRepository,
+                                               ConsumableBackfillJobRepository backfillJobRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               @Value("${equipment.consumable-backfill.chunk-size:500}") int chunkSize,
+                                               @Value("${equipment.consumable-backfill.stale-after-minutes:15}") long staleAfterMinutes) {
+        this.consumableRepository = consumableRepository;
+        this.backfillJobRepository = backfillJobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.staleAfterMinutes = Math.max(1, staleAfterMinutes);
+    }
+
+    /**
+     * Start the backfill in the background. An unfinished previous run is resumed from its
+     * checkpoint unless restart is set.
+     *
+     * @return the job being run
+     */
+    public ConsumableBackfillJob start(String startedBy, boolean restart) {
+        ConsumableBackfillJob saved = transactionTemplate.execute(status -> {
+            if (!backfillJobRepository.tryStartLock(START_LOCK_KEY)) {
+                throw new IllegalStateException("A consumable backfill is being started on another instance");
+            }
+            Optional<ConsumableBackfillJob> latest = backfillJobRepository.findFirstByOrderByStartedAtDesc();
+            if (latest.isPresent() && isActive(latest.get())) {
+                throw new IllegalStateException("A consumable backfill is already running");
+            }
+
+            ConsumableBackfillJob job;
+            if (!restart && latest.isPresent() && latest.get().getStatus() != JobStatus.COMPLETED) {
+                job = latest.get();
+                log.info("Resuming consumable backfill {} after consumable {}", job.getId(), job.getLastConsumableId());
+            } else {
+                if (latest.isPresent() && latest.get().getStatus() == JobStatus.RUNNING) {
+                    // Abandoned run being replaced; its runner, if still alive, stops at its next chunk
+                    latest.get().setStatus(JobStatus.FAILED);
+                    latest.get().setErrorMessage("Replaced by a restarted backfill");
+                    latest.get().setUpdatedAt(LocalDateTime.now());
+                }
+                job = new ConsumableBackfillJob();
+                job.setTotalConsumables(consumableRepository.countByResolvedTrue());
+                job.setStartedBy(startedBy);
+                job.setStartedAt(LocalDateTime.now());
+            }
+            job.setStatus(JobStatus.RUNNING);
+            job.setErrorMessage(null);
+            job.setUpdatedAt(LocalDateTime.now());
+            return backfillJobRepository.save(job);
+        });
+
+        executor.execute(() -> run(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * The most recent backfill run, or null if none was ever started
+     */
+    public ConsumableBackfillJob getLatestJob() {
+        return backfillJobRepository.findFirstByOrderByStartedAtDesc().orElse(null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // RUNNING and checkpointed recently enough that its runner is presumably still alive
+    private boolean isActive(ConsumableBackfillJob job) {
+        return job.getStatus() == JobStatus.RUNNING
+                && job.getUpdatedAt() != null
+                && job.getUpdatedAt().isAfter(LocalDateTime.now().minusMinutes(staleAfterMinutes));
+    }
+
+    private void run(UUID jobId) {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processNextChunk(jobId)))) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Consumable backfill {} interrupted; it resumes from its checkpoint when started again", jobId);
+                    markFailed(jobId, new InterruptedException("Interrupted"));
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Consumable backfill {} failed: {}", jobId, e.getMessage(), e);
+            markFailed(jobId, e);
+        }
+    }
+
+    // Returns whether another chunk may follow
+    private boolean processNextChunk(UUID jobId) {
+        ConsumableBackfillJob job = backfillJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalStateException("Backfill job not found: " + jobId));
+        if (job.getStatus() != JobStatus.RUNNING) {
+            log.info("Consumable backfill {} is {}; stopping", jobId, job.getStatus());
+            return false;
+        }
+
+        List<UUID> consumableIds = consumableRepository.findResolvedIdsAfter(
+                job.getLastConsumableId(), PageRequest.of(0, chunkSize));
+        LocalDateTime now = LocalDateTime.now();
+        if (consumableIds.isEmpty()) {
+            job.setStatus(JobStatus.COMPLETED);
+            job.setFinishedAt(now);
+            job.setUpdatedAt(now);
+            log.info("Consumable backfill {} completed: {} consumables, {} transaction items updated",
+                    jobId, job.getProcessedConsumables(), job.getUpdatedItems());
+            return false;
+        }
+
+        int updated = consumableRepository.backfillResolutionsToTransactionItems(consumableIds);
+        job.setProcessedConsumables(job.getProcessedConsumables() + consumableIds.size());
+        job.setUpdatedItems(job.getUpdatedItems() + updated);
+        job.setLastConsumableId(consumableIds.get(consumableIds.size() - 1));
+        job.setUpdatedAt(now);
+        return true;
+    }
+
+    private void markFailed(UUID jobId, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> backfillJobRepository.findByIdForUpdate(jobId)
+                    .filter(job -> job.getStatus() == JobStatus.RUNNING)
+                    .ifPresent(job -> {
+                        job.setStatus(JobStatus.FAILED);
+                        job.setErrorMessage(cause.getMessage() != null && cause.getMessage().length() > 1000
+                                ? cause.getMessage().substring(0, 1000)
+                                : cause.getMessage());
+                        job.setUpdatedAt(LocalDateTime.now());
+                    }));
+        } catch (Exception e) {
+            log.error("Could not record failure of consumable backfill {}: {}", jobId, e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.backend.services.equipment;
 
 import com.example.backend.dto.equipment.ConsumableResolutionDTO;
 import com.example.backend.dto.equipment.ConsumableHistoryDTO;
+import com.example.backend.dto.equipment.ConsumableLedgerDTO;
+import com.example.backend.dto.equipment.ConsumableLedgerEntryDTO;
 import com.example.backend.dto.transaction.TransactionDTO;
 import com.example.backend.models.equipment.Consumable;
 import com.example.backend.models.equipment.ConsumableResolution;
@@ -24,6 +26,7 @@ import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -95,15 +98,14 @@ public class ConsumablesService {
      */
     @Transactional
     public List<TransactionDTO> getConsumableHistory(UUID consumableId) {
-        // First verify the consumable exists and get it with transactions
-        Consumable consumable = consumableRepository.findById(consumableId)
-                .orElseThrow(() -> new IllegalArgumentException("Consumable not found"));
-        
-        // Force load the transactions within the transaction context
-        // This ensures lazy loading works properly
-        List<Transaction> transactions = consumable.getTransactions();
-        if (transactions == null || transactions.isEmpty()) {
-            System.out.println("⚠️ No transactions found in new relationship, falling back to legacy method");
+        if (!consumableRepository.existsById(consumableId)) {
+            throw new IllegalArgumentException("Consumable not found");
+        }
+
+        // Linked transactions with their items, fetched in one query
+        List<Transaction> transactions = new ArrayList<>(consumableRepository.findLinkedTransactionsWithItems(consumableId));
+        if (transactions.isEmpty()) {
+            // Consumables created before transactions were linked: fall back to the legacy lookup
             List<Transaction> legacyTransactions = consumableRepository.findTransactionHistoryForConsumable(consumableId);
             return transactionMapperService.toDTOs(legacyTransactions);
         }
@@ -136,6 +138,56 @@ public class ConsumablesService {
         return new ConsumableHistoryDTO(transactions, resolutions);
     }
 
+    /**
+     * Dated quantity movements and resolutions of a consumable, oldest first, with the
+     * running balance computed by the ledger query
+     *
+     * Endpoint: GET /api/v1/equipment/consumables/{consumableId}/ledger
+     */
+    public ConsumableLedgerDTO getConsumableLedger(UUID consumableId) {
+        Consumable consumable = consumableRepository.findById(consumableId)
+                .orElseThrow(() -> new IllegalArgumentException("Consumable not found"));
+
+        List<ConsumableLedgerEntryDTO> entries = new ArrayList<>();
+        for (Object[] row : consumableRepository.findLedgerRows(consumableId)) {
+            entries.add(ConsumableLedgerEntryDTO.builder()
+                    .entryType(ConsumableLedgerEntryDTO.EntryType.valueOf((String) row[0]))
+                    .entryId((UUID) row[1])
+                    .date(toLocalDateTime(row[2]))
+                    .transactionId((UUID) row[3])
+                    .batchNumber(row[4] != null ? ((Number) row[4]).intValue() : null)
+                    .transactionStatus(row[5] != null ? TransactionStatus.valueOf((String) row[5]) : null)
+                    .senderType(row[6] != null ? PartyType.valueOf((String) row[6]) : null)
+                    .senderName((String) row[7])
+                    .receiverType(row[8] != null ? PartyType.valueOf((String) row[8]) : null)
+                    .receiverName((String) row[9])
+                    .quantityChange(((Number) row[10]).intValue())
+                    .runningBalance(((Number) row[11]).longValue())
+                    .resolutionType(row[12] != null ? ResolutionType.valueOf((String) row[12]) : null)
+                    .resolutionNotes((String) row[13])
+                    .resolvedBy((String) row[14])
+                    .build());
+        }
+
+        return ConsumableLedgerDTO.builder()
+                .consumableId(consumable.getId())
+                .equipmentId(consumable.getEquipment() != null ? consumable.getEquipment().getId() : null)
+                .itemTypeId(consumable.getItemType() != null ? consumable.getItemType().getId() : null)
+                .itemTypeName(consumable.getItemType() != null ? consumable.getItemType().getName() : null)
+                .status(consumable.getStatus())
+                .currentQuantity(consumable.getQuantity())
+                .entries(entries)
+                .build();
+    }
+
+    // Native queries return timestamps as java.sql.Timestamp or LocalDateTime depending on the driver mapping
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
     /**
      * Resolve a consumable discrepancy (similar to ItemService.resolveDiscrepancy)
      */
@@ -490,68 +542,6 @@ public class ConsumablesService {
         return consumableRepository.findByEquipmentIdAndResolvedTrue(equipmentId);
     }
     
-    /**
-     * EMERGENCY METHOD: Manually trigger backfill for all resolved consumables
-     * Call this method once to fix all historical data
-     */
-    @Transactional
-    public void manualBackfillAllResolvedTransactionItems() {
-        System.out.println("🚨 [MANUAL-BACKFILL] Starting manual backfill for ALL resolved consumables...");
-        
-        // Update NULL values in database first
-        System.out.println("🔧 [MANUAL-BACKFILL] Setting default values for NULL resolution fields...");
-        
-        // This will be done via raw query to set defaults for existing records
-        // For now, let's find all resolved consumables and update their transaction items
-        
-        List<Consumable> allResolvedConsumables = consumableRepository.findByResolvedTrue();
-        System.out.println("🔧 [MANUAL-BACKFILL] Found " + allResolvedConsumables.size() + " resolved consumables");
-        
-        int updatedItems = 0;
-        
-        for (Consumable resolvedConsumable : allResolvedConsumables) {
-            System.out.println("🔧 [MANUAL-BACKFILL] Processing resolved consumable: " + resolvedConsumable.getId() + " (" + resolvedConsumable.getItemType().getName() + ")");
-            
-            // Get the resolution for this consumable
-            List<ConsumableResolution> resolutions = getConsumableResolutionHistory(resolvedConsumable.getId());
-            if (!resolutions.isEmpty()) {
-                ConsumableResolution resolution = resolutions.get(0);
-                
-                // Find related transactions
-                List<Transaction> relatedTransactions = transactionRepository.findByReceiverIdAndReceiverType(
-                    resolvedConsumable.getEquipment().getId(), 
-                    PartyType.EQUIPMENT
-                );
-                
-                for (Transaction transaction : relatedTransactions) {
-                    for (TransactionItem item : transaction.getItems()) {
-                        if (item.getItemType().getId().equals(resolvedConsumable.getItemType().getId()) && 
-                            (item.getStatus() == TransactionStatus.REJECTED || item.getStatus() == TransactionStatus.PARTIALLY_ACCEPTED)) {
-                            
-                            System.out.println("🔧 [MANUAL-BACKFILL] Updating transaction item " + item.getId() + " - Before: isResolved=" + item.getIsResolved());
-                            
-                            item.setIsResolved(true); // Force set to true
-                            item.setResolutionType(resolution.getResolutionType());
-                            item.setResolutionNotes(resolution.getNotes());
-                            item.setResolvedBy(resolution.getResolvedBy());
-                            item.setFullyResolved(true); // Force set to true
-                            
-                            if (resolution.getCorrectedQuantity() != null) {
-                                item.setCorrectedQuantity(resolution.getCorrectedQuantity());
-                            }
-                            
-                            transactionRepository.save(transaction);
-                            updatedItems++;
-                            System.out.println("✅ [MANUAL-BACKFILL] Updated transaction item " + item.getId() + " - After: isResolved=" + item.getIsResolved());
-                        }
-                    }
-                }
-            }
-        }
-        
-        System.out.println("✅ [MANUAL-BACKFILL] Completed manual backfill. Updated " + updatedItems + " transaction items.");
-    }
-
     // Get resolution history for a specific consumable
     public List<ConsumableResolution> getConsumableResolutionHistory(UUID consumableId) {
         return consumableResolutionRepository.findByConsumableId(consumableId);
@@ -1,20 +1,24 @@
 package com.example.backend.services.equipment;
 
 import com.example.backend.dto.equipment.DocumentDTO;
+import com.example.backend.exceptions.ResourceAlreadyExistsException;
 import com.example.backend.exceptions.ResourceNotFoundException;
 import com.example.backend.models.equipment.Equipment;
 import com.example.backend.models.user.User;
 import com.example.backend.models.site.Site;
 import com.example.backend.models.warehouse.Warehouse;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
-import com.example.backend.services.MinioService;
+import com.example.backend.services.FileStorageService;
+import com.example.backend.services.StreamingUploadService;
 import com.example.backend.repositories.equipment.DocumentRepository;
 import com.example.backend.models.equipment.Document.EntityType;
 import com.example.backend.models.equipment.Document;
 import com.example.backend.repositories.equipment.EquipmentRepository;
 import com.example.backend.repositories.user.UserRepository;
 import com.example.backend.repositories.site.SiteRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -28,6 +32,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class DocumentService {
 
     @Autowired
@@ -46,7 +51,14 @@ public class DocumentService {
     private UserRepository userRepository;
 
     @Autowired
-    private MinioService minioService;
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
+    // Bucket of documents the client uploaded directly (see UploadIntentService)
+    @Value("${aws.s3.bucket-name:rockops}")
+    private String defaultBucketName;
 
     /**
      * Get all documents for a specific entity
@@ -72,22 +84,14 @@ public class DocumentService {
     }
 
     /**
-     * Create a new document
+     * Create a new document.
+     * Not transactional on purpose: the file is streamed to storage first without holding a
+     * database connection, then the document row is written once with its final URL.
      */
-    @Transactional
     public DocumentDTO createDocument(EntityType entityType, UUID entityId, String name, String type, MultipartFile file) throws Exception {
         // Verify that the entity exists and get its name
         String entityName = verifyEntityExists(entityType, entityId);
-
-        // Get the currently authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResourceNotFoundException("No authenticated user found");
-        }
-
-        // Find the User entity based on the username
-        User currentUser = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + authentication.getName()));
+        User currentUser = getCurrentUser();
 
         // Create new document
         Document document = new Document();
@@ -99,32 +103,40 @@ public class DocumentService {
         document.setFileSize(file.getSize());
         document.setUploadedBy(currentUser);
 
-        // Save document first to get the ID
-        Document savedDocument = documentRepository.save(document);
-
-        // Upload file to MinIO
-        try {
-            // Create bucket for the entity if it doesn't exist
-            String bucketName = entityType.name().toLowerCase() + "-" + entityId.toString();
-            minioService.createBucketIfNotExists(bucketName);
+        String bucketName = entityType.name().toLowerCase() + "-" + entityId.toString();
+        String fileName = name + UUID.randomUUID();
 
-            // Upload the file with the document prefix and the document ID
-            String fileName = name + savedDocument.getId().toString();
-            minioService.uploadFile(bucketName, file, fileName);
+        return convertToDTO(uploadAndSave(document, bucketName, fileName, file), entityName);
+    }
 
-            // Set the file URL in the document
-            String fileUrl = minioService.getFileUrl(bucketName, fileName);
-            savedDocument.setFileUrl(fileUrl);
+    /**
+     * Register a document whose file was uploaded directly to storage by the client
+     */
+    @Transactional
+    public DocumentDTO registerUploadedDocument(EntityType entityType, UUID entityId, String name, String type,
+                                                String fileUrl, long fileSize, Integer sarkyMonth, Integer sarkyYear) {
+        String entityName = verifyEntityExists(entityType, entityId);
+        if (documentRepository.existsByFileUrl(fileUrl)) {
+            throw new ResourceAlreadyExistsException("This upload is already registered as a document");
+        }
 
-            // Update the document
-            savedDocument = documentRepository.save(savedDocument);
-        } catch (Exception e) {
-            // Log error but continue
-            System.err.println("Error uploading file to MinIO: " + e.getMessage());
-            throw e;
+        Document document = new Document();
+        document.setEntityType(entityType);
+        document.setEntityId(entityId);
+        document.setName(name);
+        document.setType(type);
+        document.setUploadDate(LocalDate.now());
+        document.setFileSize(fileSize);
+        document.setFileUrl(fileUrl);
+        document.setUploadedBy(getCurrentUser());
+
+        if (sarkyMonth != null && sarkyYear != null) {
+            document.setIsSarkyDocument(true);
+            document.setSarkyMonth(sarkyMonth);
+            document.setSarkyYear(sarkyYear);
         }
 
-        return convertToDTO(savedDocument, entityName);
+        return convertToDTO(documentRepository.save(document), entityName);
     }
 
     /**
@@ -162,15 +174,23 @@ public class DocumentService {
         Document document = documentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + id));
 
-        // Delete the file from MinIO if exists
+        // Delete the stored file; its key is taken from the URL so only this document's object is removed
         if (document.getFileUrl() != null && !document.getFileUrl().isEmpty()) {
             try {
                 String bucketName = document.getEntityType().name().toLowerCase() + "-" + document.getEntityId().toString();
-                String fileName = "document-" + id;
-                minioService.deleteFile(bucketName, fileName);
+                String fileName = fileStorageService.getObjectKey(bucketName, document.getFileUrl());
+                if (fileName == null) {
+                    bucketName = defaultBucketName;
+                    fileName = fileStorageService.getObjectKey(bucketName, document.getFileUrl());
+                }
+                if (fileName != null) {
+                    fileStorageService.deleteFile(bucketName, fileName);
+                } else {
+                    log.warn("Could not determine the storage key of document {} from {}", id, document.getFileUrl());
+                }
             } catch (Exception e) {
                 // Log error but continue with deletion
-                System.err.println("Error deleting file from MinIO: " + e.getMessage());
+                log.error("Error deleting file of document {} from storage: {}", id, e.getMessage());
             }
         }
 
@@ -199,19 +219,10 @@ public class DocumentService {
     /**
      * Create a sarky document with automatic sarky assignment
      */
-    @Transactional
     public DocumentDTO createSarkyDocument(EntityType entityType, UUID entityId, String name, String type, MultipartFile file, Integer month, Integer year) throws Exception {
         // Verify that the entity exists and get its name
         String entityName = verifyEntityExists(entityType, entityId);
-
-        // Get the currently authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResourceNotFoundException("No authenticated user found");
-        }
-
-        User currentUser = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + authentication.getName()));
+        User currentUser = getCurrentUser();
 
         // Create new sarky document
         Document document = new Document();
@@ -228,28 +239,11 @@ public class DocumentService {
         document.setSarkyMonth(month);
         document.setSarkyYear(year);
 
-        // Save document first to get the ID
-        Document savedDocument = documentRepository.save(document);
+        // Sarky-specific file path: sarky/year/month/filename
+        String bucketName = entityType.name().toLowerCase() + "-" + entityId.toString();
+        String fileName = String.format("sarky/%d/%d/%s-%s", year, month, name, UUID.randomUUID());
 
-        // Upload file to MinIO with sarky subfolder structure
-        try {
-            String bucketName = entityType.name().toLowerCase() + "-" + entityId.toString();
-            minioService.createBucketIfNotExists(bucketName);
-
-            // Create sarky-specific file path: sarky/year/month/filename
-            String fileName = String.format("sarky/%d/%d/%s-%s", year, month, name, savedDocument.getId().toString());
-            minioService.uploadFile(bucketName, file, fileName);
-
-            String fileUrl = minioService.getFileUrl(bucketName, fileName);
-            savedDocument.setFileUrl(fileUrl);
-
-            savedDocument = documentRepository.save(savedDocument);
-        } catch (Exception e) {
-            System.err.println("Error uploading sarky file to MinIO: " + e.getMessage());
-            throw e;
-        }
-
-        return convertToDTO(savedDocument, entityName);
+        return convertToDTO(uploadAndSave(document, bucketName, fileName, file), entityName);
     }
 
     /**
@@ -366,7 +360,7 @@ public class DocumentService {
     /**
      * Verify that an entity exists and return its name
      */
-    private String verifyEntityExists(EntityType entityType, UUID entityId) {
+    public String verifyEntityExists(EntityType entityType, UUID entityId) {
         switch (entityType) {
             case EQUIPMENT:
                 Equipment equipment = equipmentRepository.findById(entityId)
@@ -400,9 +394,36 @@ public class DocumentService {
         }
     }
 
-    // Helper method to create MinioService methods if they don't exist already
-    private void extendMinioService() {
-        // This is just a placeholder - you'll need to add these methods to MinioService
-        // if they don't already exist
+    /**
+     * Get the currently authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new ResourceNotFoundException("No authenticated user found");
+        }
+
+        return userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + authentication.getName()));
+    }
+
+    /**
+     * Stream the file to storage, then save the document once with its final URL.
+     * If the row cannot be saved the uploaded object is removed again.
+     */
+    private Document uploadAndSave(Document document, String bucketName, String fileName, MultipartFile file) throws Exception {
+        try {
+            document.setFileUrl(streamingUploadService.upload(bucketName, fileName, file));
+        } catch (Exception e) {
+            log.error("Error uploading {}/{} to storage: {}", bucketName, fileName, e.getMessage());
+            throw e;
+        }
+
+        try {
+            return documentRepository.save(document);
+        } catch (RuntimeException e) {
+            streamingUploadService.deleteQuietly(bucketName, fileName);
+            throw e;
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.example.backend.services.equipment;
 
 import com.example.backend.models.equipment.EquipmentBrand;
 import com.example.backend.repositories.equipment.EquipmentBrandRepository;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -15,8 +17,16 @@ public class EquipmentBrandService {
     @Autowired
     private EquipmentBrandRepository equipmentBrandRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     public List<EquipmentBrand> getAllEquipmentBrands() {
-        return equipmentBrandRepository.findAll();
+        return getAllEquipmentBrandsCached().value();
+    }
+
+    public CachedValue<List<EquipmentBrand>> getAllEquipmentBrandsCached() {
+        return referenceDataCache.get(ReferenceDataCache.EQUIPMENT_BRANDS, "all",
+                () -> List.copyOf(equipmentBrandRepository.findAll()));
     }
 
     public Optional<EquipmentBrand> getEquipmentBrandById(UUID id) {
@@ -27,7 +37,9 @@ public class EquipmentBrandService {
         if (equipmentBrandRepository.existsByName(equipmentBrand.getName())) {
             throw new RuntimeException("Equipment brand with this name already exists");
         }
-        return equipmentBrandRepository.save(equipmentBrand);
+        EquipmentBrand savedBrand = equipmentBrandRepository.save(equipmentBrand);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_BRANDS);
+        return savedBrand;
     }
 
     public EquipmentBrand updateEquipmentBrand(UUID id, EquipmentBrand equipmentBrand) {
@@ -36,7 +48,9 @@ public class EquipmentBrandService {
             EquipmentBrand brand = existingBrand.get();
             brand.setName(equipmentBrand.getName());
             brand.setDescription(equipmentBrand.getDescription());
-            return equipmentBrandRepository.save(brand);
+            EquipmentBrand savedBrand = equipmentBrandRepository.save(brand);
+            referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_BRANDS);
+            return savedBrand;
         }
         throw new RuntimeException("Equipment brand not found");
     }
@@ -46,5 +60,6 @@ public class EquipmentBrandService {
             throw new RuntimeException("Equipment brand not found");
         }
         equipmentBrandRepository.deleteById(id);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_BRANDS);
     }
 } 
\ No newline at end of file
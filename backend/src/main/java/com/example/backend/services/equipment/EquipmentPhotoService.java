@@ -0,0 +1,217 @@
+package com.example.backend.services.equipment;
+
+import com.example.backend.exceptions.ResourceAlreadyExistsException;
+import com.example.backend.models.equipment.EquipmentPhoto;
+import com.example.backend.repositories.equipment.EquipmentPhotoRepository;
+import com.example.backend.services.FileStorageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Main photo URLs for equipment, cached in the equipment_photos table.
+ * The cache is written when a photo is uploaded and removed when the equipment is deleted.
+ * Equipment without a cache row (e.g. photos uploaded before the cache existed) is looked
+ * up in storage and the result is stored. A "no photo" result is only trusted for
+ * equipment.photo-cache.negative-ttl-minutes; a lookup that fails is not stored at all.
+ * Misses on a page are looked up in parallel on a small bounded pool (storage calls only,
+ * no database work) and written back in one transaction.
+ */
+@Service
+@Slf4j
+public class EquipmentPhotoService {
+
+    private static final String MAIN_IMAGE_PREFIX = "Main_Image";
+
+    private final EquipmentPhotoRepository equipmentPhotoRepository;
+    private final FileStorageService fileStorageService;
+    private final Duration negativeTtl;
+    private final Duration lookupTimeout;
+    private final TransactionTemplate cacheWriteTransaction;
+    private final ExecutorService lookupExecutor;
+
+    public EquipmentPhotoService(EquipmentPhotoRepository equipmentPhotoRepository,
+                                 FileStorageService fileStorageService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${equipment.photo-cache.negative-ttl-minutes:30}") long negativeTtlMinutes,
+                                 @Value("${equipment.photo-cache.lookup-parallelism:4}") int lookupParallelism,
+                                 @Value("${equipment.photo-cache.lookup-timeout-seconds:5}") long lookupTimeoutSeconds) {
+        this.equipmentPhotoRepository = equipmentPhotoRepository;
+        this.fileStorageService = fileStorageService;
+        this.negativeTtl = Duration.ofMinutes(Math.max(0, negativeTtlMinutes));
+        this.lookupTimeout = Duration.ofSeconds(Math.max(1, lookupTimeoutSeconds));
+
+        // Called from read paths, so the cache rows get a transaction of their own
+        this.cacheWriteTransaction = new TransactionTemplate(transactionManager);
+        this.cacheWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Bounded queue; when it is full the request thread does the lookup itself
+        int threads = Math.max(1, lookupParallelism);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.lookupExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * 25),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "equipment-photo-lookup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Main photo URL of one equipment, or null if it has none
+     */
+    public String getMainPhotoUrl(UUID equipmentId) {
+        return getMainPhotoUrls(List.of(equipmentId)).get(equipmentId);
+    }
+
+    /**
+     * Main photo URLs for a whole list/page of equipment with one database query.
+     * Equipment without a photo (or whose photo could not be looked up) is present
+     * in the map with a null value.
+     */
+    public Map<UUID, String> getMainPhotoUrls(Collection<UUID> equipmentIds) {
+        Map<UUID, String> urls = new HashMap<>();
+        LocalDateTime negativeCutoff = LocalDateTime.now().minus(negativeTtl);
+        for (EquipmentPhoto photo : equipmentPhotoRepository.findAllById(equipmentIds)) {
+            // An expired "no photo" row counts as a miss so a photo added outside this service shows up
+            if (photo.getUrl() != null || photo.getUpdatedAt().isAfter(negativeCutoff)) {
+                urls.put(photo.getEquipmentId(), photo.getUrl());
+            }
+        }
+
+        List<UUID> misses = equipmentIds.stream()
+                .distinct()
+                .filter(equipmentId -> !urls.containsKey(equipmentId))
+                .toList();
+        if (!misses.isEmpty()) {
+            for (StorageLookup lookup : lookUpInStorage(misses)) {
+                urls.put(lookup.equipmentId(), lookup.url());
+            }
+            // Failed lookups answer "no photo" for now and are retried on the next read
+            misses.forEach(equipmentId -> urls.putIfAbsent(equipmentId, null));
+        }
+        return urls;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    private record StorageLookup(UUID equipmentId, String objectKey, String url) {}
+
+    // Look the main photos up in storage and cache the answers; lookups that fail or time out are left out
+    private List<StorageLookup> lookUpInStorage(List<UUID> equipmentIds) {
+        List<CompletableFuture<StorageLookup>> pending = equipmentIds.stream()
+                .map(equipmentId -> CompletableFuture.supplyAsync(() -> lookUp(equipmentId), lookupExecutor)
+                        .orTimeout(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .exceptionally(e -> {
+                            log.warn("Could not look up main photo of equipment {}: {}", equipmentId,
+                                    e instanceof CompletionException && e.getCause() != null ? e.getCause().toString() : e.toString());
+                            return null;
+                        }))
+                .toList();
+
+        List<StorageLookup> lookups = pending.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (!lookups.isEmpty()) {
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                cacheWriteTransaction.executeWithoutResult(status -> lookups.forEach(lookup ->
+                        equipmentPhotoRepository.cacheLookup(lookup.equipmentId(), lookup.objectKey(), lookup.url(), now)));
+            } catch (Exception e) {
+                // The answers are still correct; the next read will simply look them up again
+                log.warn("Could not cache {} main photo lookups: {}", lookups.size(), e.getMessage());
+            }
+        }
+        return lookups;
+    }
+
+    private StorageLookup lookUp(UUID equipmentId) {
+        String objectKey = findMainPhotoKey(equipmentId);
+        String url = objectKey != null ? fileStorageService.getEquipmentFileUrl(equipmentId, objectKey) : null;
+        return new StorageLookup(equipmentId, objectKey, url);
+    }
+
+    // Key of the main photo, or null if the equipment has none; throws if storage cannot be read
+    private String findMainPhotoKey(UUID equipmentId) {
+        try {
+            return fileStorageService.findFirstKey("equipment-" + equipmentId, MAIN_IMAGE_PREFIX);
+        } catch (NoSuchBucketException e) {
+            return null;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Upload a new main photo and cache its URL
+     */
+    @Transactional
+    public String uploadMainPhoto(UUID equipmentId, MultipartFile photo) throws Exception {
+        String objectKey = fileStorageService.uploadEquipmentFile(equipmentId, photo, MAIN_IMAGE_PREFIX);
+        return registerMainPhoto(equipmentId, objectKey);
+    }
+
+    /**
+     * Cache the URL of a main photo that was uploaded to the equipment bucket
+     */
+    @Transactional
+    public String registerMainPhoto(UUID equipmentId, String objectKey) {
+        String url = fileStorageService.getEquipmentFileUrl(equipmentId, objectKey);
+
+        equipmentPhotoRepository.upsertPhoto(equipmentId, objectKey, url, LocalDateTime.now());
+
+        return url;
+    }
+
+    /**
+     * Cache the URL of a main photo the client uploaded directly; each upload can be registered once
+     */
+    @Transactional
+    public String registerUploadedMainPhoto(UUID equipmentId, String objectKey) {
+        equipmentPhotoRepository.findById(equipmentId)
+                .filter(photo -> objectKey.equals(photo.getObjectKey()))
+                .ifPresent(photo -> {
+                    throw new ResourceAlreadyExistsException("This upload is already registered as the equipment photo");
+                });
+        return registerMainPhoto(equipmentId, objectKey);
+    }
+
+    /**
+     * Forget the cached photo, e.g. when the equipment is deleted
+     */
+    @Transactional
+    public void evict(UUID equipmentId) {
+        equipmentPhotoRepository.deleteById(equipmentId);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.backend.services.equipment;
 
+import com.example.backend.dto.equipment.EquipmentCatalogItemDTO;
+import com.example.backend.dto.equipment.EquipmentCatalogPageDTO;
 import com.example.backend.dto.equipment.EquipmentCreateDTO;
 import com.example.backend.dto.equipment.EquipmentDTO;
 import com.example.backend.dto.equipment.EquipmentStatusUpdateDTO;
@@ -14,7 +16,7 @@ import com.example.backend.exceptions.ResourceNotFoundException;
 import com.example.backend.models.equipment.*;
 import com.example.backend.models.merchant.Merchant;
 import com.example.backend.repositories.merchant.MerchantRepository;
-import com.example.backend.services.MinioService;
+import com.example.backend.services.FileStorageService;
 import com.example.backend.repositories.equipment.EquipmentBrandRepository;
 import com.example.backend.repositories.equipment.EquipmentRepository;
 import com.example.backend.repositories.equipment.EquipmentTypeRepository;
@@ -25,11 +27,14 @@ import com.example.backend.repositories.hr.EmployeeRepository;
 import com.example.backend.repositories.site.SiteRepository;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -42,11 +47,14 @@ import java.util.Comparator;
 @Service
 public class EquipmentService {
 
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
+
     private final EquipmentRepository equipmentRepository;
     private final EquipmentTypeRepository equipmentTypeRepository;
     private final SiteRepository siteRepository;
     private final EmployeeRepository employeeRepository;
-    private final MinioService minioService;
+    private final FileStorageService fileStorageService;
+    private final EquipmentPhotoService equipmentPhotoService;
 
     @Autowired
     private MerchantRepository merchantRepository;
@@ -63,32 +71,88 @@ public class EquipmentService {
             EquipmentTypeRepository equipmentTypeRepository,
             SiteRepository siteRepository,
             EmployeeRepository employeeRepository,
-            MinioService minioService, EquipmentBrandRepository equipmentBrandRepository
+            FileStorageService fileStorageService, EquipmentBrandRepository equipmentBrandRepository,
+            EquipmentPhotoService equipmentPhotoService
     ) {
         this.equipmentRepository = equipmentRepository;
         this.equipmentTypeRepository = equipmentTypeRepository;
         this.siteRepository = siteRepository;
         this.employeeRepository = employeeRepository;
-        this.minioService = minioService;
+        this.fileStorageService = fileStorageService;
         this.equipmentBrandRepository = equipmentBrandRepository;
+        this.equipmentPhotoService = equipmentPhotoService;
     }
 
     // GET methods
 
     public List<EquipmentDTO> getAllEquipment() {
         List<Equipment> equipments = equipmentRepository.findAll();
-        return equipments.stream()
-                .map(equipment -> {
-                    EquipmentDTO dto = EquipmentDTO.fromEntity(equipment);
-                    try {
-                        String imageUrl = minioService.getEquipmentMainPhoto(equipment.getId());
-                        dto.setImageUrl(imageUrl);
-                    } catch (Exception e) {
-                        dto.setImageUrl(null);
-                    }
-                    return dto;
-                })
+        return toDTOsWithPhotos(equipments);
+    }
+
+    /**
+     * One page of the equipment catalog in (name, id) order. All filters are optional;
+     * search matches name or serial number. The cursor is the nextCursor of the previous page.
+     */
+    public EquipmentCatalogPageDTO getEquipmentCatalog(UUID siteId, UUID typeId, UUID brandId,
+                                                       EquipmentStatus status, UUID driverId,
+                                                       String search, String cursor, int size) {
+        if (size < 1 || size > MAX_CATALOG_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CATALOG_PAGE_SIZE);
+        }
+        String afterName = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCatalogCursor(cursor);
+            afterId = UUID.fromString(position[0]);
+            afterName = position[1];
+        }
+        String searchPattern = search != null && !search.isBlank()
+                ? "%" + search.trim().toLowerCase() + "%"
+                : null;
+
+        // Fetch one extra row to know whether another page follows
+        List<Object[]> rows = equipmentRepository.findCatalogPage(siteId, typeId, brandId, status, driverId,
+                searchPattern, afterName, afterId, PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        List<EquipmentCatalogItemDTO> items = rows.stream()
+                .map(row -> EquipmentCatalogItemDTO.builder()
+                        .id((UUID) row[0])
+                        .name((String) row[1])
+                        .model((String) row[2])
+                        .serialNumber((String) row[3])
+                        .status((EquipmentStatus) row[4])
+                        .typeId((UUID) row[5])
+                        .typeName((String) row[6])
+                        .brandId((UUID) row[7])
+                        .brandName((String) row[8])
+                        .siteId((UUID) row[9])
+                        .siteName((String) row[10])
+                        .mainDriverId((UUID) row[11])
+                        .mainDriverName(row[11] != null ? row[12] + " " + row[13] : null)
+                        .subDriverId((UUID) row[14])
+                        .subDriverName(row[14] != null ? row[15] + " " + row[16] : null)
+                        .build())
                 .collect(Collectors.toList());
+
+        Map<UUID, String> photoUrls = equipmentPhotoService.getMainPhotoUrls(
+                items.stream().map(EquipmentCatalogItemDTO::getId).collect(Collectors.toList()));
+        items.forEach(item -> item.setImageUrl(photoUrls.get(item.getId())));
+
+        String nextCursor = null;
+        if (hasMore) {
+            EquipmentCatalogItemDTO last = items.get(items.size() - 1);
+            nextCursor = encodeCatalogCursor(last.getId(), last.getName());
+        }
+        return EquipmentCatalogPageDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     public EquipmentDTO getEquipmentById(UUID id) {
@@ -97,12 +161,7 @@ public class EquipmentService {
 
         EquipmentDTO dto = EquipmentDTO.fromEntity(equipment);
 
-        try {
-            String imageUrl = minioService.getEquipmentMainPhoto(equipment.getId());
-            dto.setImageUrl(imageUrl);
-        } catch (Exception e) {
-            dto.setImageUrl(null);
-        }
+        dto.setImageUrl(equipmentPhotoService.getMainPhotoUrl(equipment.getId()));
 
         return dto;
     }
@@ -113,18 +172,7 @@ public class EquipmentService {
 
         List<Equipment> equipments = equipmentRepository.findByType(type);
 
-        return equipments.stream()
-                .map(equipment -> {
-                    EquipmentDTO dto = EquipmentDTO.fromEntity(equipment);
-                    try {
-                        String imageUrl = minioService.getEquipmentMainPhoto(equipment.getId());
-                        dto.setImageUrl(imageUrl);
-                    } catch (Exception e) {
-                        dto.setImageUrl(null);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOsWithPhotos(equipments);
     }
 
     // CREATE methods
@@ -246,22 +294,17 @@ public class EquipmentService {
         Equipment savedEquipment = equipmentRepository.save(equipment);
 
         // Create MinIO bucket for this equipment
-        minioService.createEquipmentBucket(savedEquipment.getId());
+        fileStorageService.createEquipmentBucket(savedEquipment.getId());
 
         // Upload photo if provided
         if (equipmentPhoto != null && !equipmentPhoto.isEmpty()) {
-            minioService.uploadEquipmentFile(savedEquipment.getId(), equipmentPhoto, "Main_Image");
+            equipmentPhotoService.uploadMainPhoto(savedEquipment.getId(), equipmentPhoto);
         }
 
         // Create and return DTO
         EquipmentDTO resultDTO = EquipmentDTO.fromEntity(savedEquipment);
 
-        try {
-            String imageUrl = minioService.getEquipmentMainPhoto(savedEquipment.getId());
-            resultDTO.setImageUrl(imageUrl);
-        } catch (Exception e) {
-            resultDTO.setImageUrl(null);
-        }
+        resultDTO.setImageUrl(equipmentPhotoService.getMainPhotoUrl(savedEquipment.getId()));
 
         return resultDTO;
     }
@@ -673,18 +716,13 @@ public class EquipmentService {
 
         // Upload photo if provided
         if (equipmentPhoto != null && !equipmentPhoto.isEmpty()) {
-            minioService.uploadEquipmentFile(id, equipmentPhoto, "Main_Image");
+            equipmentPhotoService.uploadMainPhoto(id, equipmentPhoto);
         }
 
         // Create and return DTO
         EquipmentDTO resultDTO = EquipmentDTO.fromEntity(updatedEquipment);
 
-        try {
-            String imageUrl = minioService.getEquipmentMainPhoto(updatedEquipment.getId());
-            resultDTO.setImageUrl(imageUrl);
-        } catch (Exception e) {
-            resultDTO.setImageUrl(null);
-        }
+        resultDTO.setImageUrl(equipmentPhotoService.getMainPhotoUrl(updatedEquipment.getId()));
 
         return resultDTO;
     }
@@ -795,12 +833,7 @@ public class EquipmentService {
         // Create and return DTO
         EquipmentDTO resultDTO = EquipmentDTO.fromEntity(updatedEquipment);
 
-        try {
-            String imageUrl = minioService.getEquipmentMainPhoto(updatedEquipment.getId());
-            resultDTO.setImageUrl(imageUrl);
-        } catch (Exception e) {
-            resultDTO.setImageUrl(null);
-        }
+        resultDTO.setImageUrl(equipmentPhotoService.getMainPhotoUrl(updatedEquipment.getId()));
 
         return resultDTO;
     }
@@ -829,6 +862,7 @@ public class EquipmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Equipment not found with id: " + id));
 
         equipmentRepository.delete(equipment);
+        equipmentPhotoService.evict(id);
     }
 
     /**
@@ -898,6 +932,37 @@ public class EquipmentService {
                 .collect(Collectors.toList());
     }
 
+    // Catalog cursor: URL-safe Base64 of the last row's id followed by its name
+    private static String encodeCatalogCursor(UUID id, String name) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCatalogCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String id = decoded.substring(0, 36);
+            UUID.fromString(id);
+            return new String[] {id, decoded.substring(36)};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid catalog cursor: " + cursor);
+        }
+    }
+
+    // Helper method to convert a list of equipment with their photo URLs resolved in one batch
+    private List<EquipmentDTO> toDTOsWithPhotos(List<Equipment> equipments) {
+        Map<UUID, String> photoUrls = equipmentPhotoService.getMainPhotoUrls(
+                equipments.stream().map(Equipment::getId).collect(Collectors.toList()));
+
+        return equipments.stream()
+                .map(equipment -> {
+                    EquipmentDTO dto = EquipmentDTO.fromEntity(equipment);
+                    dto.setImageUrl(photoUrls.get(equipment.getId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
     // Helper method to convert Employee to EmployeeSummaryDTO
     private EmployeeSummaryDTO convertToSummaryDTO(Employee employee) {
         return EmployeeSummaryDTO.builder()
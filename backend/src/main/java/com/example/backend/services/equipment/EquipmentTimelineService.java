@@ -0,0 +1,265 @@
+package com.example.backend.services.equipment;
+
+import com.example.backend.dto.equipment.EquipmentTimelineEntryDTO;
+import com.example.backend.dto.equipment.EquipmentTimelineEntryDTO.EntryType;
+import com.example.backend.dto.equipment.EquipmentTimelinePageDTO;
+import com.example.backend.exceptions.ResourceNotFoundException;
+import com.example.backend.models.PartyType;
+import com.example.backend.models.equipment.Document;
+import com.example.backend.repositories.equipment.DocumentRepository;
+import com.example.backend.repositories.equipment.EquipmentRepository;
+import com.example.backend.repositories.equipment.InSiteMaintenanceRepository;
+import com.example.backend.repositories.equipment.SarkyLogRepository;
+import com.example.backend.repositories.transaction.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Unified, newest-first timeline of an equipment: transactions, maintenance records,
+ * sarky logs and documents.
+ *
+ * Each source is read with its own keyset query (limited to one page), one after another in a
+ * single read-only transaction on the calling thread, and the sorted results are k-way merged
+ * by timestamp. Entries are ordered by timestamp descending,
+ * then by entry type, then by id as ordered by the database; the cursor holds that position
+ * for the last returned entry.
+ */
+@Service
+@Slf4j
+public class EquipmentTimelineService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Keyset bounds for "strictly before this timestamp" and "at or before this timestamp":
+    // no id sorts below the nil UUID, and every id sorts below the all-ones UUID in PostgreSQL
+    private static final UUID LOWEST_ID = new UUID(0L, 0L);
+    private static final UUID HIGHEST_ID = new UUID(-1L, -1L);
+
+    private final EquipmentRepository equipmentRepository;
+    private final TransactionRepository transactionRepository;
+    private final InSiteMaintenanceRepository inSiteMaintenanceRepository;
+    private final SarkyLogRepository sarkyLogRepository;
+    private final DocumentRepository documentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public EquipmentTimelineService(EquipmentRepository equipmentRepository,
+                                    TransactionRepository transactionRepository,
+                                    InSiteMaintenanceRepository inSiteMaintenanceRepository,
+                                    SarkyLogRepository sarkyLogRepository,
+                                    DocumentRepository documentRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.equipmentRepository = equipmentRepository;
+        this.transactionRepository = transactionRepository;
+        this.inSiteMaintenanceRepository = inSiteMaintenanceRepository;
+        this.sarkyLogRepository = sarkyLogRepository;
+        this.documentRepository = documentRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * One page of the equipment's timeline, starting after the given cursor (newest first when null)
+     */
+    public EquipmentTimelinePageDTO getTimeline(UUID equipmentId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!equipmentRepository.existsById(equipmentId)) {
+            throw new ResourceNotFoundException("Equipment not found with id: " + equipmentId);
+        }
+        Position after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+
+        // One extra row per source tells whether anything is left after this page
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<List<EquipmentTimelineEntryDTO>> results = readOnlyTransaction.execute(status -> List.of(
+                loadTransactions(equipmentId, after, limit),
+                loadMaintenance(equipmentId, after, limit),
+                loadSarkyLogs(equipmentId, after, limit),
+                loadDocuments(equipmentId, after, limit)));
+
+        List<EquipmentTimelineEntryDTO> merged = merge(results, size);
+        int available = results.stream().mapToInt(List::size).sum();
+        boolean hasMore = available > merged.size();
+
+        String nextCursor = null;
+        if (hasMore) {
+            EquipmentTimelineEntryDTO last = merged.get(merged.size() - 1);
+            nextCursor = encodeCursor(new Position(last.getTimestamp(), last.getType(), last.getId()));
+        }
+        return EquipmentTimelinePageDTO.builder()
+                .entries(merged)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Sources
+
+    private List<EquipmentTimelineEntryDTO> loadTransactions(UUID equipmentId, Position after, Pageable limit) {
+        List<EquipmentTimelineEntryDTO> entries = new ArrayList<>();
+        for (Object[] row : transactionRepository.findEquipmentTimelineRows(equipmentId,
+                after != null ? after.timestamp() : null, idBound(after, EntryType.TRANSACTION), limit)) {
+            boolean incoming = row[6] == PartyType.EQUIPMENT && equipmentId.equals(row[7]);
+            Integer batchNumber = (Integer) row[4];
+            entries.add(EquipmentTimelineEntryDTO.builder()
+                    .type(EntryType.TRANSACTION)
+                    .id((UUID) row[0])
+                    .timestamp((LocalDateTime) row[1])
+                    .title(batchNumber != null ? "Transaction #" + batchNumber : "Transaction")
+                    .status(row[2] != null ? row[2].toString() : null)
+                    .description(row[8] != null ? (String) row[8] : (row[3] != null ? row[3].toString() : null))
+                    .direction(incoming ? "INCOMING" : "OUTGOING")
+                    .batchNumber(batchNumber)
+                    .build());
+        }
+        return entries;
+    }
+
+    private List<EquipmentTimelineEntryDTO> loadMaintenance(UUID equipmentId, Position after, Pageable limit) {
+        List<EquipmentTimelineEntryDTO> entries = new ArrayList<>();
+        for (Object[] row : inSiteMaintenanceRepository.findEquipmentTimelineRows(equipmentId,
+                after != null ? after.timestamp() : null, idBound(after, EntryType.MAINTENANCE), limit)) {
+            entries.add(EquipmentTimelineEntryDTO.builder()
+                    .type(EntryType.MAINTENANCE)
+                    .id((UUID) row[0])
+                    .timestamp((LocalDateTime) row[1])
+                    .title(row[3] != null ? (String) row[3] : "Maintenance")
+                    .status((String) row[2])
+                    .personName(fullName(row[4], row[5]))
+                    .description((String) row[6])
+                    .build());
+        }
+        return entries;
+    }
+
+    private List<EquipmentTimelineEntryDTO> loadSarkyLogs(UUID equipmentId, Position after, Pageable limit) {
+        List<EquipmentTimelineEntryDTO> entries = new ArrayList<>();
+        for (Object[] row : sarkyLogRepository.findEquipmentTimelineRows(equipmentId,
+                after != null ? after.timestamp().toLocalDate() : null, dateIdBound(after, EntryType.SARKY_LOG), limit)) {
+            entries.add(EquipmentTimelineEntryDTO.builder()
+                    .type(EntryType.SARKY_LOG)
+                    .id((UUID) row[0])
+                    .timestamp(((LocalDate) row[1]).atStartOfDay())
+                    .title(row[2] != null ? (String) row[2] : "Sarky log")
+                    .workedHours((Double) row[3])
+                    .personName(fullName(row[4], row[5]))
+                    .build());
+        }
+        return entries;
+    }
+
+    private List<EquipmentTimelineEntryDTO> loadDocuments(UUID equipmentId, Position after, Pageable limit) {
+        List<EquipmentTimelineEntryDTO> entries = new ArrayList<>();
+        for (Object[] row : documentRepository.findTimelineRows(Document.EntityType.EQUIPMENT, equipmentId,
+                after != null ? after.timestamp().toLocalDate() : null, dateIdBound(after, EntryType.DOCUMENT), limit)) {
+            entries.add(EquipmentTimelineEntryDTO.builder()
+                    .type(EntryType.DOCUMENT)
+                    .id((UUID) row[0])
+                    .timestamp(((LocalDate) row[1]).atStartOfDay())
+                    .title((String) row[2])
+                    .description((String) row[3])
+                    .fileUrl((String) row[4])
+                    .build());
+        }
+        return entries;
+    }
+
+    // Merging and keyset positions
+
+    /**
+     * K-way merge of the per-source lists (each already newest first), keeping at most limit entries.
+     * Only one head per source is queued, so each source keeps the order its query returned.
+     */
+    static List<EquipmentTimelineEntryDTO> merge(List<List<EquipmentTimelineEntryDTO>> sources, int limit) {
+        record Head(List<EquipmentTimelineEntryDTO> source, int index) {
+            EquipmentTimelineEntryDTO entry() {
+                return source.get(index);
+            }
+        }
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator
+                .comparing((Head head) -> head.entry().getTimestamp(), Comparator.reverseOrder())
+                .thenComparing(head -> head.entry().getType()));
+        for (List<EquipmentTimelineEntryDTO> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new Head(source, 0));
+            }
+        }
+
+        List<EquipmentTimelineEntryDTO> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.entry());
+            if (head.index() + 1 < head.source().size()) {
+                heads.add(new Head(head.source(), head.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    // Id bound for a source of the given type at the cursor timestamp: types ordered before the
+    // cursor's type were fully returned at that timestamp, types ordered after it were not returned yet
+    private static UUID idBound(Position after, EntryType type) {
+        if (after == null) {
+            return null;
+        }
+        int order = type.compareTo(after.type());
+        if (order < 0) {
+            return LOWEST_ID;
+        }
+        return order == 0 ? after.id() : HIGHEST_ID;
+    }
+
+    // Date-only sources sit at midnight: unless the cursor is exactly at midnight,
+    // every entry on the cursor's date is older than the cursor
+    private static UUID dateIdBound(Position after, EntryType type) {
+        if (after != null && !after.timestamp().toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            return HIGHEST_ID;
+        }
+        return idBound(after, type);
+    }
+
+    // Cursor: URL-safe Base64 of "timestamp|type|id"
+    static String encodeCursor(Position position) {
+        String raw = position.timestamp() + "|" + position.type().name() + "|" + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Position decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid timeline cursor: " + cursor);
+            }
+            return new Position(LocalDateTime.parse(parts[0]), EntryType.valueOf(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid timeline cursor: " + cursor);
+        }
+    }
+
+    private static String fullName(Object firstName, Object lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+    }
+
+    record Position(LocalDateTime timestamp, EntryType type, UUID id) {
+    }
+}
@@ -11,6 +11,8 @@ import com.example.backend.repositories.equipment.EquipmentTypeRepository;
 import com.example.backend.repositories.equipment.WorkTypeRepository;
 import com.example.backend.repositories.hr.DepartmentRepository;
 import com.example.backend.repositories.hr.JobPositionRepository;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -29,22 +31,30 @@ public class EquipmentTypeService {
     private final WorkTypeRepository workTypeRepository;
     private final DepartmentRepository departmentRepository;
     private final JobPositionRepository jobPositionRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
     public EquipmentTypeService(EquipmentTypeRepository equipmentTypeRepository,
                                 WorkTypeRepository workTypeRepository,
                                 DepartmentRepository departmentRepository,
-                                JobPositionRepository jobPositionRepository) {
+                                JobPositionRepository jobPositionRepository,
+                                ReferenceDataCache referenceDataCache) {
         this.equipmentTypeRepository = equipmentTypeRepository;
         this.workTypeRepository = workTypeRepository;
         this.departmentRepository = departmentRepository;
         this.jobPositionRepository = jobPositionRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     public List<EquipmentTypeDTO> getAllEquipmentTypes() {
-        return equipmentTypeRepository.findAll().stream()
-                .map(EquipmentTypeDTO::fromEntity)
-                .collect(Collectors.toList());
+        return getAllEquipmentTypesCached().value();
+    }
+
+    public CachedValue<List<EquipmentTypeDTO>> getAllEquipmentTypesCached() {
+        return referenceDataCache.get(ReferenceDataCache.EQUIPMENT_TYPES, "all", () ->
+                equipmentTypeRepository.findAll().stream()
+                        .map(EquipmentTypeDTO::fromEntity)
+                        .toList());
     }
 
     public EquipmentTypeDTO getEquipmentTypeById(UUID id) {
@@ -70,6 +80,7 @@ public class EquipmentTypeService {
         entity.setDriverPositionName(dto.getName() + " Driver");
         entity.setDrivable(dto.isDrivable());
         EquipmentType savedEntity = equipmentTypeRepository.save(entity);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_TYPES);
 
         log.info("Created equipment type: {}", savedEntity.getName());
 
@@ -105,6 +116,7 @@ public class EquipmentTypeService {
 
         // Save and return
         EquipmentType updatedEntity = equipmentTypeRepository.save(existingType);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_TYPES);
 
         // Handle job position changes
         if (dto.isDrivable()) {
@@ -136,6 +148,7 @@ public class EquipmentTypeService {
         }
 
         equipmentTypeRepository.delete(equipmentType);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_TYPES);
     }
 
     public boolean existsByName(String name) {
@@ -160,6 +173,7 @@ public class EquipmentTypeService {
         }
 
         EquipmentType savedEntity = equipmentTypeRepository.save(equipmentType);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_TYPES);
         return EquipmentTypeDTO.fromEntity(savedEntity);
     }
 
@@ -176,6 +190,7 @@ public class EquipmentTypeService {
         }
 
         EquipmentType savedEntity = equipmentTypeRepository.save(equipmentType);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_TYPES);
         return EquipmentTypeDTO.fromEntity(savedEntity);
     }
 
@@ -198,6 +213,7 @@ public class EquipmentTypeService {
         }
 
         EquipmentType savedEntity = equipmentTypeRepository.save(equipmentType);
+        referenceDataCache.invalidate(ReferenceDataCache.EQUIPMENT_TYPES);
         return EquipmentTypeDTO.fromEntity(savedEntity);
     }
 
@@ -232,10 +248,7 @@ public class EquipmentTypeService {
                 requiredPositionName, equipmentType.getName());
 
         // Check if the position already exists
-        Optional<JobPosition> existingPosition = jobPositionRepository.findAll()
-                .stream()
-                .filter(jp -> requiredPositionName.equals(jp.getPositionName()))
-                .findFirst();
+        Optional<JobPosition> existingPosition = jobPositionRepository.findFirstByPositionName(requiredPositionName);
 
         if (existingPosition.isPresent()) {
             log.info("Job position already exists: {}", requiredPositionName);
@@ -272,6 +285,7 @@ public class EquipmentTypeService {
         // Leave HOURLY and DAILY fields as null (default)
 
         JobPosition savedPosition = jobPositionRepository.save(driverPosition);
+        referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
 
         log.info("✅ Successfully created job position: {} with ID: {} for equipment type: {}",
                 requiredPositionName, savedPosition.getId(), equipmentType.getName());
@@ -303,6 +317,7 @@ public class EquipmentTypeService {
                 position.setExperienceLevel(determineExperienceLevel(updatedEquipmentType));
 
                 jobPositionRepository.save(position);
+                referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
 
                 log.info("Updated job position from '{}' to '{}' for equipment type change",
                         oldPositionName, newPositionName);
@@ -320,10 +335,7 @@ public class EquipmentTypeService {
      * Check if a job position with the given name already exists
      */
     private Optional<JobPosition> findExistingPosition(String positionName) {
-        return jobPositionRepository.findAll()
-                .stream()
-                .filter(jp -> positionName.equals(jp.getPositionName()))
-                .findFirst();
+        return jobPositionRepository.findFirstByPositionName(positionName);
     }
 
     /**
@@ -5,13 +5,14 @@ import com.example.backend.exceptions.ResourceAlreadyExistsException;
 import com.example.backend.exceptions.ResourceNotFoundException;
 import com.example.backend.models.equipment.MaintenanceType;
 import com.example.backend.repositories.equipment.MaintenanceTypeRepository;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class MaintenanceTypeService {
@@ -19,22 +20,35 @@ public class MaintenanceTypeService {
     @Autowired
     private MaintenanceTypeRepository maintenanceTypeRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     /**
      * Get all active maintenance types
      */
     public List<MaintenanceTypeDTO> getAllMaintenanceTypes() {
-        return maintenanceTypeRepository.findByActiveTrue().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return getAllMaintenanceTypesCached().value();
+    }
+
+    public CachedValue<List<MaintenanceTypeDTO>> getAllMaintenanceTypesCached() {
+        return referenceDataCache.get(ReferenceDataCache.MAINTENANCE_TYPES, "active", () ->
+                maintenanceTypeRepository.findByActiveTrue().stream()
+                        .map(this::convertToDTO)
+                        .toList());
     }
 
     /**
      * Get all maintenance types (both active and inactive) for management interface
      */
     public List<MaintenanceTypeDTO> getAllMaintenanceTypesForManagement() {
-        return maintenanceTypeRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return getAllMaintenanceTypesForManagementCached().value();
+    }
+
+    public CachedValue<List<MaintenanceTypeDTO>> getAllMaintenanceTypesForManagementCached() {
+        return referenceDataCache.get(ReferenceDataCache.MAINTENANCE_TYPES, "management", () ->
+                maintenanceTypeRepository.findAll().stream()
+                        .map(this::convertToDTO)
+                        .toList());
     }
 
     /**
@@ -70,6 +84,7 @@ public class MaintenanceTypeService {
         maintenanceType.setActive(true);
 
         MaintenanceType savedMaintenanceType = maintenanceTypeRepository.save(maintenanceType);
+        referenceDataCache.invalidate(ReferenceDataCache.MAINTENANCE_TYPES);
         return convertToDTO(savedMaintenanceType);
     }
 
@@ -92,6 +107,7 @@ public class MaintenanceTypeService {
         maintenanceType.setActive(maintenanceTypeDTO.isActive());
 
         MaintenanceType updatedMaintenanceType = maintenanceTypeRepository.save(maintenanceType);
+        referenceDataCache.invalidate(ReferenceDataCache.MAINTENANCE_TYPES);
         return convertToDTO(updatedMaintenanceType);
     }
 
@@ -105,6 +121,7 @@ public class MaintenanceTypeService {
 
         maintenanceType.setActive(false);
         maintenanceTypeRepository.save(maintenanceType);
+        referenceDataCache.invalidate(ReferenceDataCache.MAINTENANCE_TYPES);
     }
 
     // Get all active maintenance types
@@ -125,7 +142,9 @@ public class MaintenanceTypeService {
         maintenanceType.setDescription(description);
         maintenanceType.setActive(true);
 
-        return maintenanceTypeRepository.save(maintenanceType);
+        MaintenanceType savedMaintenanceType = maintenanceTypeRepository.save(maintenanceType);
+        referenceDataCache.invalidate(ReferenceDataCache.MAINTENANCE_TYPES);
+        return savedMaintenanceType;
     }
 
     // Update maintenance type
@@ -145,7 +164,9 @@ public class MaintenanceTypeService {
         if (description != null) maintenanceType.setDescription(description);
         if (active != null) maintenanceType.setActive(active);
 
-        return maintenanceTypeRepository.save(maintenanceType);
+        MaintenanceType updatedMaintenanceType = maintenanceTypeRepository.save(maintenanceType);
+        referenceDataCache.invalidate(ReferenceDataCache.MAINTENANCE_TYPES);
+        return updatedMaintenanceType;
     }
 
     // Search maintenance types by name
@@ -5,7 +5,7 @@ import com.example.backend.exceptions.ResourceNotFoundException;
 import com.example.backend.models.user.User;
 import com.example.backend.models.equipment.*;
 import com.example.backend.repositories.user.UserRepository;
-import com.example.backend.services.MinioService;
+import com.example.backend.services.FileStorageService;
 import com.example.backend.repositories.equipment.EquipmentRepository;
 import com.example.backend.repositories.equipment.SarkyLogRangeRepository;
 import com.example.backend.repositories.equipment.SarkyLogRepository;
@@ -81,7 +81,7 @@ public class SarkyLogService {
     private EmployeeRepository employeeRepository;
 
     @Autowired
-    private MinioService minioService;
+    private FileStorageService fileStorageService;
 
     @Autowired
     private UserRepository userRepository;
@@ -212,11 +212,11 @@ public class SarkyLogService {
         if (file != null && !file.isEmpty()) {
             try {
                 // Create equipment-specific bucket if it doesn't exist
-                minioService.createEquipmentBucket(equipment.getId());
+                fileStorageService.createEquipmentBucket(equipment.getId());
                 
                 // Upload file with a structured naming convention
                 String fileName = "sarky_" + sarkyLogDTO.getDate() + "_" + System.currentTimeMillis() + "_" + file.getOriginalFilename();
-                String uploadedFileName = minioService.uploadEquipmentFile(equipment.getId(), file, fileName);
+                String uploadedFileName = fileStorageService.uploadEquipmentFile(equipment.getId(), file, fileName);
                 sarkyLog.setDocumentPath(uploadedFileName);
             } catch (Exception e) {
                 throw new Exception("Failed to upload document: " + e.getMessage(), e);
@@ -314,14 +314,14 @@ public class SarkyLogService {
         if (file != null && !file.isEmpty()) {
             try {
                 // Make sure the equipment bucket exists
-                minioService.createEquipmentBucket(equipment.getId());
+                fileStorageService.createEquipmentBucket(equipment.getId());
 
                 // Upload the file with the sarky-range- prefix and the range ID
                 String fileName = "sarky-range-" + savedSarkyLogRange.getId().toString();
-                minioService.uploadEquipmentFile(equipment.getId(), file, fileName);
+                String uploadedFileName = fileStorageService.uploadEquipmentFile(equipment.getId(), file, fileName);
 
                 // Set the file URL in the sarky log range
-                String fileUrl = minioService.getEquipmentFileUrl(equipment.getId(), fileName);
+                String fileUrl = fileStorageService.getEquipmentFileUrl(equipment.getId(), uploadedFileName);
                 savedSarkyLogRange.setFileUrl(fileUrl);
             } catch (Exception e) {
                 // Log error but continue
@@ -421,14 +421,12 @@ public class SarkyLogService {
                 Equipment equipment = sarkyLog.getEquipment();
 
                 // Make sure the equipment bucket exists
-                minioService.createEquipmentBucket(equipment.getId());
+                fileStorageService.createEquipmentBucket(equipment.getId());
 
                 // Delete old file if it exists
                 if (sarkyLog.getFileUrl() != null && !sarkyLog.getFileUrl().isEmpty()) {
                     try {
-                        // Extract the filename from the URL (assumes filename is last part of URL)
-                        String oldFileName = "sarky-" + id;
-                        minioService.deleteEquipmentFile(equipment.getId(), oldFileName);
+                        deleteStoredFile(equipment.getId(), sarkyLog.getFileUrl());
                     } catch (Exception e) {
                         // Log error but continue
                         System.err.println("Error deleting old file from MinIO: " + e.getMessage());
@@ -437,10 +435,10 @@ public class SarkyLogService {
 
                 // Upload the new file
                 String fileName = "sarky-" + id;
-                minioService.uploadEquipmentFile(equipment.getId(), file, fileName);
+                String uploadedFileName = fileStorageService.uploadEquipmentFile(equipment.getId(), file, fileName);
 
                 // Set the new file URL
-                String fileUrl = minioService.getEquipmentFileUrl(equipment.getId(), fileName);
+                String fileUrl = fileStorageService.getEquipmentFileUrl(equipment.getId(), uploadedFileName);
                 sarkyLog.setFileUrl(fileUrl);
             } catch (Exception e) {
                 // Log error but continue
@@ -534,13 +532,12 @@ public class SarkyLogService {
                 Equipment equipment = sarkyLogRange.getEquipment();
 
                 // Make sure the equipment bucket exists
-                minioService.createEquipmentBucket(equipment.getId());
+                fileStorageService.createEquipmentBucket(equipment.getId());
 
                 // Delete old file if it exists
                 if (sarkyLogRange.getFileUrl() != null && !sarkyLogRange.getFileUrl().isEmpty()) {
                     try {
-                        String oldFileName = "sarky-range-" + id;
-                        minioService.deleteEquipmentFile(equipment.getId(), oldFileName);
+                        deleteStoredFile(equipment.getId(), sarkyLogRange.getFileUrl());
                     } catch (Exception e) {
                         System.err.println("Error deleting old file from MinIO: " + e.getMessage());
                     }
@@ -548,10 +545,10 @@ public class SarkyLogService {
 
                 // Upload the new file
                 String fileName = "sarky-range-" + id;
-                minioService.uploadEquipmentFile(equipment.getId(), file, fileName);
+                String uploadedFileName = fileStorageService.uploadEquipmentFile(equipment.getId(), file, fileName);
 
                 // Set the new file URL
-                String fileUrl = minioService.getEquipmentFileUrl(equipment.getId(), fileName);
+                String fileUrl = fileStorageService.getEquipmentFileUrl(equipment.getId(), uploadedFileName);
                 sarkyLogRange.setFileUrl(fileUrl);
             } catch (Exception e) {
                 System.err.println("Error uploading file to MinIO: " + e.getMessage());
@@ -573,8 +570,7 @@ public class SarkyLogService {
         // Delete the file from MinIO if exists
         if (sarkyLog.getFileUrl() != null && !sarkyLog.getFileUrl().isEmpty()) {
             try {
-                String fileName = "sarky-" + id;
-                minioService.deleteEquipmentFile(sarkyLog.getEquipment().getId(), fileName);
+                deleteStoredFile(sarkyLog.getEquipment().getId(), sarkyLog.getFileUrl());
             } catch (Exception e) {
                 // Log error but continue with deletion
                 System.err.println("Error deleting file from MinIO: " + e.getMessage());
@@ -595,8 +591,7 @@ public class SarkyLogService {
         // Delete the file from MinIO if exists
         if (sarkyLogRange.getFileUrl() != null && !sarkyLogRange.getFileUrl().isEmpty()) {
             try {
-                String fileName = "sarky-range-" + id;
-                minioService.deleteEquipmentFile(sarkyLogRange.getEquipment().getId(), fileName);
+                deleteStoredFile(sarkyLogRange.getEquipment().getId(), sarkyLogRange.getFileUrl());
             } catch (Exception e) {
                 // Log error but continue with deletion
                 System.err.println("Error deleting file from MinIO: " + e.getMessage());
@@ -866,4 +861,13 @@ public class SarkyLogService {
         return info;
     }
 
-}
\ No newline at end of file
+    /**
+     * Delete a sarky file from the equipment bucket; the exact key is taken from its stored URL
+     */
+    private void deleteStoredFile(UUID equipmentId, String fileUrl) throws Exception {
+        String key = fileStorageService.getObjectKey("equipment-" + equipmentId, fileUrl);
+        if (key != null) {
+            fileStorageService.deleteEquipmentFile(equipmentId, key);
+        }
+    }
+}
@@ -5,13 +5,14 @@ import com.example.backend.exceptions.ResourceAlreadyExistsException;
 import com.example.backend.exceptions.ResourceNotFoundException;
 import com.example.backend.models.equipment.WorkType;
 import com.example.backend.repositories.equipment.WorkTypeRepository;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class WorkTypeService {
@@ -19,22 +20,35 @@ public class WorkTypeService {
     @Autowired
     private WorkTypeRepository workTypeRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     /**
      * Get all active work types
      */
     public List<WorkTypeDTO> getAllWorkTypes() {
-        return workTypeRepository.findByActiveTrue().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return getAllWorkTypesCached().value();
+    }
+
+    public CachedValue<List<WorkTypeDTO>> getAllWorkTypesCached() {
+        return referenceDataCache.get(ReferenceDataCache.WORK_TYPES, "active", () ->
+                workTypeRepository.findByActiveTrue().stream()
+                        .map(this::convertToDTO)
+                        .toList());
     }
 
     /**
      * Get all work types (both active and inactive) for management interface
      */
     public List<WorkTypeDTO> getAllWorkTypesForManagement() {
-        return workTypeRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return getAllWorkTypesForManagementCached().value();
+    }
+
+    public CachedValue<List<WorkTypeDTO>> getAllWorkTypesForManagementCached() {
+        return referenceDataCache.get(ReferenceDataCache.WORK_TYPES, "management", () ->
+                workTypeRepository.findAll().stream()
+                        .map(this::convertToDTO)
+                        .toList());
     }
 
     /**
@@ -62,6 +76,7 @@ public class WorkTypeService {
         workType.setActive(true);
 
         WorkType savedWorkType = workTypeRepository.save(workType);
+        referenceDataCache.invalidate(ReferenceDataCache.WORK_TYPES);
         return convertToDTO(savedWorkType);
     }
 
@@ -84,6 +99,8 @@ public class WorkTypeService {
         workType.setActive(workTypeDTO.isActive());
 
         WorkType updatedWorkType = workTypeRepository.save(workType);
+        // Equipment types embed their supported work types
+        referenceDataCache.invalidate(ReferenceDataCache.WORK_TYPES, ReferenceDataCache.EQUIPMENT_TYPES);
         return convertToDTO(updatedWorkType);
     }
 
@@ -97,6 +114,7 @@ public class WorkTypeService {
 
         workType.setActive(false);
         workTypeRepository.save(workType);
+        referenceDataCache.invalidate(ReferenceDataCache.WORK_TYPES, ReferenceDataCache.EQUIPMENT_TYPES);
     }
 
     /**
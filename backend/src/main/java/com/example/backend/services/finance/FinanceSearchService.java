@@ -0,0 +1,169 @@
+package com.example.backend.services.finance;
+
+import com.example.backend.config.FinanceSearchIndexInitializer;
+import com.example.backend.dto.finance.FinanceSearchResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked search across invoices, payments and journal entries.
+ * Matches on the generated search_vector columns (GIN) and on partial reference
+ * numbers/names through the trigram indexes created by FinanceSearchIndexInitializer.
+ * When the initializer could not create the search_vector columns, only the LIKE
+ * matching is used.
+ */
+@Service
+@RequiredArgsConstructor
+public class FinanceSearchService {
+
+    public enum SearchType {
+        INVOICE, PAYMENT, JOURNAL_ENTRY
+    }
+
+    // Exact and prefix reference matches rank above plain text matches
+    private static final String INVOICE_SELECT =
+            "SELECT 'INVOICE' AS type, i.id AS id, i.invoice_number AS reference, i.vendor_name AS title, " +
+            "i.description AS description, i.invoice_date AS entry_date, i.total_amount AS amount, i.status AS status, " +
+            "%s + CASE WHEN lower(i.invoice_number) = :exact THEN 1.0 WHEN lower(i.invoice_number) LIKE :prefix THEN 0.5 ELSE 0 END AS rank " +
+            "FROM invoices i " +
+            "WHERE %s lower(i.invoice_number) LIKE :pattern OR lower(i.vendor_name) LIKE :pattern";
+
+    private static final String PAYMENT_SELECT =
+            "SELECT 'PAYMENT' AS type, p.id AS id, p.reference_number AS reference, i.vendor_name AS title, " +
+            "p.notes AS description, p.payment_date AS entry_date, p.amount AS amount, p.status AS status, " +
+            "%s + CASE WHEN lower(p.reference_number) = :exact THEN 1.0 WHEN lower(p.reference_number) LIKE :prefix THEN 0.5 ELSE 0 END AS rank " +
+            "FROM payments p JOIN invoices i ON i.id = p.invoice_id " +
+            "WHERE %s lower(p.reference_number) LIKE :pattern";
+
+    private static final String JOURNAL_ENTRY_SELECT =
+            "SELECT 'JOURNAL_ENTRY' AS type, j.id AS id, j.reference_number AS reference, j.description AS title, " +
+            "j.description AS description, j.entry_date AS entry_date, CAST(NULL AS numeric) AS amount, j.status AS status, " +
+            "%s + CASE WHEN lower(j.reference_number) = :exact THEN 1.0 WHEN lower(j.reference_number) LIKE :prefix THEN 0.5 ELSE 0 END AS rank " +
+            "FROM journal_entries j " +
+            "WHERE %s lower(j.reference_number) LIKE :pattern";
+
+    private static final RowMapper<FinanceSearchResultDTO> ROW_MAPPER = (rs, rowNum) -> {
+        Date date = rs.getDate("entry_date");
+        return FinanceSearchResultDTO.builder()
+                .type(rs.getString("type"))
+                .id(rs.getObject("id", UUID.class))
+                .reference(rs.getString("reference"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .date(date != null ? date.toLocalDate() : null)
+                .amount(rs.getBigDecimal("amount"))
+                .status(rs.getString("status"))
+                .rank(rs.getDouble("rank"))
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final FinanceSearchIndexInitializer searchIndexInitializer;
+
+    /**
+     * Search the selected document types. Results are ordered by relevance, then newest first.
+     */
+    @Transactional(readOnly = true)
+    public Page<FinanceSearchResultDTO> search(String query, Collection<SearchType> types, Pageable pageable) {
+        if (query == null || query.trim().length() < 2) {
+            throw new RuntimeException("Search query must be at least 2 characters");
+        }
+
+        Set<SearchType> selectedTypes = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchType.class)
+                : EnumSet.copyOf(types);
+
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        String tsQuery = toPrefixTsQuery(normalized);
+        String escaped = escapeLike(normalized);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("exact", normalized)
+                .addValue("prefix", escaped + "%")
+                .addValue("pattern", "%" + escaped + "%")
+                .addValue("tsQuery", tsQuery)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        boolean fullText = !tsQuery.isEmpty() && searchIndexInitializer.isFullTextAvailable();
+        String union = buildUnion(selectedTypes, fullText);
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + union + ") r", params, Long.class);
+        if (total == null || total == 0) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<FinanceSearchResultDTO> results = jdbcTemplate.query(
+                "SELECT * FROM (" + union + ") r ORDER BY r.rank DESC, r.entry_date DESC NULLS LAST, r.id " +
+                "LIMIT :limit OFFSET :offset",
+                params, ROW_MAPPER);
+
+        return new PageImpl<>(results, pageable, total);
+    }
+
+    // Helper Methods
+
+    private String buildUnion(Set<SearchType> types, boolean hasTextQuery) {
+        List<String> selects = new ArrayList<>();
+
+        if (types.contains(SearchType.INVOICE)) {
+            selects.add(String.format(INVOICE_SELECT,
+                    rankExpression("i", hasTextQuery),
+                    hasTextQuery ? "i.search_vector @@ to_tsquery('simple', :tsQuery) OR" : ""));
+        }
+        if (types.contains(SearchType.PAYMENT)) {
+            // Payments are also found through the vendor/number of the invoice they settle
+            selects.add(String.format(PAYMENT_SELECT,
+                    hasTextQuery
+                            ? "ts_rank(p.search_vector, to_tsquery('simple', :tsQuery)) + 0.5 * ts_rank(i.search_vector, to_tsquery('simple', :tsQuery))"
+                            : "0",
+                    hasTextQuery
+                            ? "p.search_vector @@ to_tsquery('simple', :tsQuery) OR i.search_vector @@ to_tsquery('simple', :tsQuery) OR"
+                            : ""));
+        }
+        if (types.contains(SearchType.JOURNAL_ENTRY)) {
+            selects.add(String.format(JOURNAL_ENTRY_SELECT,
+                    rankExpression("j", hasTextQuery),
+                    hasTextQuery ? "j.search_vector @@ to_tsquery('simple', :tsQuery) OR" : ""));
+        }
+
+        return String.join(" UNION ALL ", selects);
+    }
+
+    private static String rankExpression(String alias, boolean hasTextQuery) {
+        return hasTextQuery ? "ts_rank(" + alias + ".search_vector, to_tsquery('simple', :tsQuery))" : "0";
+    }
+
+    /**
+     * Turn free text into a prefix tsquery ("acme inv" -> "acme:* & inv:*").
+     * Only letters and digits are kept, so user input can never break the tsquery syntax.
+     */
+    private static String toPrefixTsQuery(String text) {
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
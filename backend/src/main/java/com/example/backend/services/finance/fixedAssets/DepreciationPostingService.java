@@ -0,0 +1,293 @@
+package com.example.backend.services.finance.fixedAssets;
+
+import com.example.backend.dto.finance.fixedAssets.DepreciationPostingResultDTO;
+import com.example.backend.dto.finance.fixedAssets.SiteDepreciationTotalDTO;
+import com.example.backend.models.finance.fixedAssets.AssetStatus;
+import com.example.backend.models.finance.fixedAssets.DepreciationPosting;
+import com.example.backend.models.finance.fixedAssets.FixedAssets;
+import com.example.backend.models.finance.generalLedger.AccountingPeriod;
+import com.example.backend.models.finance.generalLedger.AuditAction;
+import com.example.backend.models.finance.generalLedger.JournalEntry;
+import com.example.backend.models.finance.generalLedger.JournalEntryLine;
+import com.example.backend.models.finance.generalLedger.JournalEntryStatus;
+import com.example.backend.models.finance.generalLedger.PeriodStatus;
+import com.example.backend.models.user.User;
+import com.example.backend.repositories.finance.fixedAssets.DepreciationPostingRepository;
+import com.example.backend.repositories.finance.fixedAssets.FixedAssetsRepository;
+import com.example.backend.repositories.finance.generalLedger.AccountingPeriodRepository;
+import com.example.backend.repositories.finance.generalLedger.JournalEntryRepository;
+import com.example.backend.repositories.user.UserRepository;
+import com.example.backend.services.finance.generalLedger.AuditService;
+import com.example.backend.services.finance.generalLedger.LedgerBalanceService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Period-end depreciation posting.
+ * Computes depreciation for every active asset in an accounting period and posts one
+ * journal entry per asset. Re-running the job for the same period only posts assets
+ * that have not been posted yet.
+ */
+@Service
+@Slf4j
+public class DepreciationPostingService {
+
+    // Number of journal entries written per flush; matches hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 50;
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DepreciationPostingRepository depreciationPostingRepository;
+    private final FixedAssetsRepository fixedAssetsRepository;
+    private final AccountingPeriodRepository accountingPeriodRepository;
+    private final JournalEntryRepository journalEntryRepository;
+    private final UserRepository userRepository;
+    private final FixedAssetsService fixedAssetsService;
+    private final AuditService auditService;
+    private final LedgerBalanceService ledgerBalanceService;
+    private final UUID expenseAccountId;
+    private final UUID accumulatedAccountId;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public DepreciationPostingService(DepreciationPostingRepository depreciationPostingRepository,
+                                      FixedAssetsRepository fixedAssetsRepository,
+                                      AccountingPeriodRepository accountingPeriodRepository,
+                                      JournalEntryRepository journalEntryRepository,
+                                      UserRepository userRepository,
+                                      FixedAssetsService fixedAssetsService,
+                                      AuditService auditService,
+                                      LedgerBalanceService ledgerBalanceService,
+                                      @Value("${finance.depreciation.expense-account-id:}") String expenseAccountId,
+                                      @Value("${finance.depreciation.accumulated-account-id:}") String accumulatedAccountId) {
+        this.depreciationPostingRepository = depreciationPostingRepository;
+        this.fixedAssetsRepository = fixedAssetsRepository;
+        this.accountingPeriodRepository = accountingPeriodRepository;
+        this.journalEntryRepository = journalEntryRepository;
+        this.userRepository = userRepository;
+        this.fixedAssetsService = fixedAssetsService;
+        this.auditService = auditService;
+        this.ledgerBalanceService = ledgerBalanceService;
+        this.expenseAccountId = parseAccountId("finance.depreciation.expense-account-id", expenseAccountId);
+        this.accumulatedAccountId = parseAccountId("finance.depreciation.accumulated-account-id", accumulatedAccountId);
+        if (this.expenseAccountId == null || this.accumulatedAccountId == null) {
+            log.warn("Depreciation accounts are not configured; depreciation posting is disabled until "
+                    + "FINANCE_DEPRECIATION_EXPENSE_ACCOUNT_ID and FINANCE_DEPRECIATION_ACCUMULATED_ACCOUNT_ID are set");
+        }
+    }
+
+    /**
+     * Post depreciation for all active assets in the given period.
+     * Assets already posted for the period are skipped, so the job can safely be re-run.
+     */
+    @Transactional
+    public DepreciationPostingResultDTO postDepreciationForPeriod(UUID periodId, UUID userId) {
+        requireAccounts();
+        AccountingPeriod period = accountingPeriodRepository.findById(periodId)
+                .orElseThrow(() -> new RuntimeException("Accounting period not found with id: " + periodId));
+
+        if (period.getStatus() == PeriodStatus.CLOSED) {
+            throw new RuntimeException("Cannot post depreciation in a closed accounting period");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        // 1. Active assets that started depreciating before the end of the period
+        List<FixedAssets> activeAssets = fixedAssetsRepository
+                .findByStatusAndDepreciationStartDateLessThanEqual(AssetStatus.ACTIVE, period.getEndDate());
+
+        // 2. Skip assets that were already posted for this period
+        Set<UUID> alreadyPosted = depreciationPostingRepository.findPostedAssetIdsByPeriodId(periodId);
+        List<FixedAssets> assetsToPost = activeAssets.stream()
+                .filter(asset -> !alreadyPosted.contains(asset.getId()))
+                .collect(Collectors.toList());
+
+        // 3. Compute depreciation in parallel - the calculation is pure and works on loaded entities only
+        Map<UUID, BigDecimal> amounts = assetsToPost.parallelStream()
+                .collect(Collectors.toConcurrentMap(
+                        FixedAssets::getId,
+                        asset -> fixedAssetsService.calculateDepreciationForPeriod(
+                                asset, period.getStartDate(), period.getEndDate())));
+
+        // 4. Build one journal entry per asset and write them in batches
+        List<JournalEntry> entryBatch = new ArrayList<>(BATCH_SIZE);
+        List<DepreciationPosting> postingBatch = new ArrayList<>(BATCH_SIZE);
+        int posted = 0;
+        int noDepreciation = 0;
+
+        for (FixedAssets asset : assetsToPost) {
+            BigDecimal amount = amounts.get(asset.getId());
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                noDepreciation++;
+                continue;
+            }
+
+            JournalEntry journalEntry = buildJournalEntry(asset, period, amount, user);
+            entryBatch.add(journalEntry);
+            postingBatch.add(DepreciationPosting.builder()
+                    .asset(asset)
+                    .accountingPeriod(period)
+                    .journalEntry(journalEntry)
+                    .site(asset.getSite())
+                    .amount(amount)
+                    .build());
+            posted++;
+
+            if (entryBatch.size() >= BATCH_SIZE) {
+                flushBatch(entryBatch, postingBatch);
+            }
+        }
+        flushBatch(entryBatch, postingBatch);
+
+        log.info("Posted depreciation for {} assets in period {} ({} already posted, {} with no depreciation)",
+                posted, period.getName(), alreadyPosted.size(), noDepreciation);
+
+        DepreciationPostingResultDTO result = buildResult(period);
+        result.setAssetsPosted(posted);
+        result.setAssetsAlreadyPosted(alreadyPosted.size());
+        result.setAssetsWithNoDepreciation(noDepreciation);
+
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("action", "post_depreciation");
+        changes.put("assetsPosted", posted);
+        changes.put("assetsAlreadyPosted", alreadyPosted.size());
+        changes.put("totalDepreciation", result.getTotalDepreciation());
+
+        auditService.logEvent("AccountingPeriod", period.getId(), AuditAction.UPDATE, changes, user);
+
+        return result;
+    }
+
+    /**
+     * Get depreciation totals per site for everything posted in a period
+     */
+    @Transactional(readOnly = true)
+    public DepreciationPostingResultDTO getDepreciationSummary(UUID periodId) {
+        AccountingPeriod period = accountingPeriodRepository.findById(periodId)
+                .orElseThrow(() -> new RuntimeException("Accounting period not found with id: " + periodId));
+        return buildResult(period);
+    }
+
+    /**
+     * Give depreciation lines posted without an account the configured depreciation accounts.
+     * Run before rebuilding ledger balances so those lines stop landing in the unassigned bucket.
+     *
+     * @return number of lines updated
+     */
+    @Transactional
+    public int assignMissingLineAccounts() {
+        requireAccounts();
+        return depreciationPostingRepository.assignMissingLineAccounts(expenseAccountId, accumulatedAccountId);
+    }
+
+    // Helper Methods
+
+    private void requireAccounts() {
+        if (expenseAccountId == null || accumulatedAccountId == null) {
+            throw new IllegalStateException("Depreciation accounts are not configured. Set "
+                    + "FINANCE_DEPRECIATION_EXPENSE_ACCOUNT_ID and FINANCE_DEPRECIATION_ACCUMULATED_ACCOUNT_ID "
+                    + "to the expense and accumulated depreciation account ids");
+        }
+        if (expenseAccountId.equals(accumulatedAccountId)) {
+            throw new IllegalStateException("Depreciation expense and accumulated depreciation accounts must differ");
+        }
+    }
+
+    // Blank means not configured; a malformed id is logged and treated the same way
+    private static UUID parseAccountId(String property, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            log.error("{} is not a valid account id: {}", property, value);
+            return null;
+        }
+    }
+
+    private JournalEntry buildJournalEntry(FixedAssets asset, AccountingPeriod period, BigDecimal amount, User user) {
+        JournalEntry journalEntry = new JournalEntry();
+        journalEntry.setEntryDate(period.getEndDate());
+        journalEntry.setReferenceNumber("DEP-" + period.getStartDate().format(PERIOD_FORMAT) + "-"
+                + asset.getId().toString().substring(0, 8).toUpperCase());
+        journalEntry.setDescription("Depreciation for " + asset.getName() + " - " + period.getName());
+        journalEntry.setCreatedBy(user);
+
+        // System-generated entries are posted directly; the user running the job is the reviewer
+        journalEntry.setStatus(JournalEntryStatus.APPROVED);
+        journalEntry.setReviewedBy(user);
+        journalEntry.setReviewedAt(LocalDateTime.now());
+        journalEntry.setApprovalComments("Posted by period-end depreciation job");
+
+        JournalEntryLine expenseLine = new JournalEntryLine();
+        expenseLine.setAmount(amount);
+        expenseLine.setDebit(true);
+        expenseLine.setDescription("Depreciation expense");
+        expenseLine.setAccountId(expenseAccountId);
+        journalEntry.addLine(expenseLine);
+
+        JournalEntryLine accumulatedLine = new JournalEntryLine();
+        accumulatedLine.setAmount(amount);
+        accumulatedLine.setDebit(false);
+        accumulatedLine.setDescription("Accumulated depreciation");
+        accumulatedLine.setAccountId(accumulatedAccountId);
+        journalEntry.addLine(accumulatedLine);
+
+        return journalEntry;
+    }
+
+    private void flushBatch(List<JournalEntry> entryBatch, List<DepreciationPosting> postingBatch) {
+        if (entryBatch.isEmpty()) {
+            return;
+        }
+        journalEntryRepository.saveAll(entryBatch);
+        depreciationPostingRepository.saveAll(postingBatch);
+        ledgerBalanceService.applyEntries(entryBatch);
+        entityManager.flush();
+        entryBatch.clear();
+        postingBatch.clear();
+    }
+
+    private DepreciationPostingResultDTO buildResult(AccountingPeriod period) {
+        List<SiteDepreciationTotalDTO> siteTotals = depreciationPostingRepository
+                .getSiteTotalsByPeriodId(period.getId())
+                .stream()
+                .map(row -> SiteDepreciationTotalDTO.builder()
+                        .siteId((UUID) row[0])
+                        .siteName(row[1] != null ? (String) row[1] : "Unassigned")
+                        .assetCount(((Number) row[2]).intValue())
+                        .totalDepreciation((BigDecimal) row[3])
+                        .build())
+                .collect(Collectors.toList());
+
+        BigDecimal total = siteTotals.stream()
+                .map(SiteDepreciationTotalDTO::getTotalDepreciation)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return DepreciationPostingResultDTO.builder()
+                .periodId(period.getId())
+                .periodName(period.getName())
+                .totalDepreciation(total)
+                .siteTotals(siteTotals)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import com.example.backend.repositories.site.SiteRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -209,6 +210,20 @@ public class FixedAssetsService {
         return bookValue.max(salvageValue);
     }
 
+    /**
+     * Calculate depreciation charged between two dates (inclusive) for an already loaded asset.
+     * Used by period-end posting; it does not touch any repository, so it is safe to call from
+     * parallel workers without opening a transaction per call.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BigDecimal calculateDepreciationForPeriod(FixedAssets asset, LocalDate startDate, LocalDate endDate) {
+        BigDecimal accumulatedAtEnd = calculateAccumulatedDepreciation(asset, endDate);
+        BigDecimal accumulatedBeforeStart = calculateAccumulatedDepreciation(asset, startDate.minusDays(1));
+        return accumulatedAtEnd.subtract(accumulatedBeforeStart)
+                .max(BigDecimal.ZERO)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
     /**
      * Helper method for declining balance accumulated depreciation calculation
      */
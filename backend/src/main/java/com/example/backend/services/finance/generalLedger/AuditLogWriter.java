@@ -0,0 +1,265 @@
+package com.example.backend.services.finance.generalLedger;
+
+import com.example.backend.dto.finance.generalLedger.AuditWriterStatsDTO;
+import com.example.backend.models.finance.generalLedger.AuditAction;
+import com.example.backend.models.finance.generalLedger.AuditOutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transactional outbox for audit logs. Events are inserted into audit_outbox inside the
+ * caller's transaction, so they commit or roll back together with the audited change.
+ * The insert runs under a savepoint: if it fails, only the insert is rolled back and the
+ * caller's transaction stays usable.
+ * A scheduled relay copies pending events to audit_logs in JDBC batches and marks them
+ * sent in the same transaction as the copy.
+ *
+ * When a batch fails the relay retries its events one at a time, so one bad event does
+ * not hold back the others; an event that keeps failing stays in the outbox with its
+ * last error after audit.writer.max-attempts tries.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    // Column limits of audit_logs; longer values are cut so they cannot fail the relay
+    static final int MAX_CHANGES_LENGTH = 4000;
+    static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String TRUNCATED_SUFFIX = "...[truncated]";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO audit_outbox (id, entity_type, entity_id, action, changes, user_id, timestamp, ip_address, user_agent, " +
+            "created_at, attempts) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    // Oldest pending events; rows locked by a relay on another instance are skipped
+    private static final String SELECT_PENDING_SQL =
+            "SELECT id, entity_type, entity_id, action, changes, user_id, timestamp, ip_address, user_agent " +
+            "FROM audit_outbox WHERE sent_at IS NULL AND attempts < ? ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LOCK_PENDING_SQL =
+            "SELECT id FROM audit_outbox WHERE id = ? AND sent_at IS NULL FOR UPDATE SKIP LOCKED";
+
+    private static final String INSERT_LOG_SQL =
+            "INSERT INTO audit_logs (id, entity_type, entity_id, action, changes, user_id, timestamp, ip_address, user_agent) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String MARK_SENT_SQL = "UPDATE audit_outbox SET sent_at = ? WHERE id = ?";
+
+    private static final String RECORD_FAILURE_SQL =
+            "UPDATE audit_outbox SET attempts = attempts + 1, last_error = ? WHERE id = ? RETURNING attempts";
+
+    private static final String COUNT_UNSENT_SQL =
+            "SELECT COUNT(*) FILTER (WHERE attempts < ?), COUNT(*) FILTER (WHERE attempts >= ?) " +
+            "FROM audit_outbox WHERE sent_at IS NULL";
+
+    private static final String PURGE_SENT_SQL = "DELETE FROM audit_outbox WHERE sent_at < ?";
+
+    private static final RowMapper<AuditOutboxEvent> EVENT_MAPPER = (rs, rowNum) -> {
+        AuditOutboxEvent event = new AuditOutboxEvent();
+        event.setId(rs.getObject("id", UUID.class));
+        event.setEntityType(rs.getString("entity_type"));
+        event.setEntityId(rs.getObject("entity_id", UUID.class));
+        String action = rs.getString("action");
+        event.setAction(action != null ? AuditAction.valueOf(action) : null);
+        event.setChanges(rs.getString("changes"));
+        event.setUserId(rs.getObject("user_id", UUID.class));
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        event.setTimestamp(timestamp != null ? timestamp.toLocalDateTime() : null);
+        event.setIpAddress(rs.getString("ip_address"));
+        event.setUserAgent(rs.getString("user_agent"));
+        return event;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate savepointTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${audit.writer.batch-size:200}") int batchSize,
+                          @Value("${audit.writer.max-attempts:5}") int maxAttempts,
+                          @Value("${audit.outbox.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // NESTED: a savepoint inside the caller's transaction, or a transaction of its own when there is none
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    /**
+     * Write an audit event to the outbox. Runs in the caller's transaction when there is one,
+     * under a savepoint, so a failed insert can be caught without aborting that transaction.
+     */
+    public void submit(AuditOutboxEvent event) {
+        savepointTemplate.executeWithoutResult(status -> insertOutboxEvent(event));
+    }
+
+    private void insertOutboxEvent(AuditOutboxEvent event) {
+        jdbcTemplate.update(INSERT_OUTBOX_SQL, ps -> {
+            ps.setObject(1, event.getId());
+            ps.setString(2, truncate(event.getEntityType(), MAX_TEXT_LENGTH));
+            ps.setObject(3, event.getEntityId());
+            ps.setString(4, event.getAction() != null ? event.getAction().name() : null);
+            ps.setString(5, truncate(event.getChanges(), MAX_CHANGES_LENGTH));
+            setUuid(ps, 6, event.getUserId());
+            ps.setTimestamp(7, Timestamp.valueOf(event.getTimestamp()));
+            ps.setString(8, truncate(event.getIpAddress(), MAX_TEXT_LENGTH));
+            ps.setString(9, truncate(event.getUserAgent(), MAX_TEXT_LENGTH));
+            ps.setTimestamp(10, Timestamp.valueOf(LocalDateTime.now()));
+        });
+    }
+
+    /**
+     * Relay pending outbox events to audit_logs. Runs on the scheduler thread.
+     */
+    @Scheduled(fixedDelayString = "${audit.writer.flush-interval-ms:500}")
+    public void flush() {
+        // Keep going while full batches come back; failing events stop being picked up at the attempt limit
+        while (relayBatch() == batchSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Delete relayed events older than the retention period
+     */
+    @Scheduled(cron = "${audit.outbox.purge-cron:0 15 3 * * *}")
+    public void purgeSentEvents() {
+        int purged = jdbcTemplate.update(PURGE_SENT_SQL, Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+        if (purged > 0) {
+            log.info("Purged {} relayed audit outbox events older than {} days", purged, retentionDays);
+        }
+    }
+
+    public AuditWriterStatsDTO getStats() {
+        AuditWriterStatsDTO stats = new AuditWriterStatsDTO();
+        jdbcTemplate.query(COUNT_UNSENT_SQL, rs -> {
+            stats.setPendingEvents(rs.getLong(1));
+            stats.setFailedEvents(rs.getLong(2));
+        }, maxAttempts, maxAttempts);
+        stats.setWrittenEvents(writtenEvents.get());
+        stats.setFailedAttempts(failedAttempts.get());
+        return stats;
+    }
+
+    // Returns the number of events taken from the outbox
+    private int relayBatch() {
+        List<AuditOutboxEvent> batch = new ArrayList<>(batchSize);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batch.addAll(jdbcTemplate.query(SELECT_PENDING_SQL, EVENT_MAPPER, maxAttempts, batchSize));
+                if (!batch.isEmpty()) {
+                    writeLogs(batch);
+                }
+            });
+            writtenEvents.addAndGet(batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            if (batch.isEmpty()) {
+                log.error("Failed to read pending audit events: {}", e.getMessage());
+                return 0;
+            }
+            log.warn("Failed to relay batch of {} audit events, retrying one at a time: {}", batch.size(), e.getMessage());
+            for (AuditOutboxEvent event : batch) {
+                relayOne(event);
+            }
+            return batch.size();
+        }
+    }
+
+    private void relayOne(AuditOutboxEvent event) {
+        try {
+            Boolean written = transactionTemplate.execute(status -> {
+                // Another instance may have relayed it in the meantime
+                if (jdbcTemplate.queryForList(LOCK_PENDING_SQL, UUID.class, event.getId()).isEmpty()) {
+                    return false;
+                }
+                writeLogs(List.of(event));
+                return true;
+            });
+            if (Boolean.TRUE.equals(written)) {
+                writtenEvents.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failedAttempts.incrementAndGet();
+            recordFailure(event, e);
+        }
+    }
+
+    // Insert into audit_logs and mark the events sent; both commit or roll back together
+    private void writeLogs(List<AuditOutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.getId());
+            ps.setString(2, event.getEntityType());
+            ps.setObject(3, event.getEntityId());
+            ps.setString(4, event.getAction() != null ? event.getAction().name() : null);
+            ps.setString(5, event.getChanges());
+            setUuid(ps, 6, event.getUserId());
+            ps.setTimestamp(7, event.getTimestamp() != null ? Timestamp.valueOf(event.getTimestamp()) : null);
+            ps.setString(8, event.getIpAddress());
+            ps.setString(9, event.getUserAgent());
+        });
+        Timestamp sentAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, events, events.size(), (ps, event) -> {
+            ps.setTimestamp(1, sentAt);
+            ps.setObject(2, event.getId());
+        });
+    }
+
+    private void recordFailure(AuditOutboxEvent event, Exception cause) {
+        try {
+            Integer attempts = jdbcTemplate.queryForObject(RECORD_FAILURE_SQL, Integer.class,
+                    truncate(String.valueOf(cause.getMessage()), MAX_ERROR_LENGTH), event.getId());
+            if (attempts != null && attempts >= maxAttempts) {
+                log.error("Audit event {} ({} {}) could not be written after {} attempts: {}",
+                        event.getId(), event.getEntityType(), event.getEntityId(), attempts, cause.getMessage());
+            }
+        } catch (Exception e) {
+            log.error("Could not record relay failure of audit event {}: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private static void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value != null) {
+            ps.setObject(index, value);
+        } else {
+            ps.setNull(index, Types.OTHER);
+        }
+    }
+
+    static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength - TRUNCATED_SUFFIX.length()) + TRUNCATED_SUFFIX;
+    }
+}
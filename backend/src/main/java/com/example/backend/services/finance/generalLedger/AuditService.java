@@ -1,46 +1,68 @@
 package com.example.backend.services.finance.generalLedger;
 
 import com.example.backend.dto.finance.generalLedger.AuditLogResponseDTO;
+import com.example.backend.dto.finance.generalLedger.AuditWriterStatsDTO;
 import com.example.backend.models.finance.generalLedger.AuditAction;
 import com.example.backend.models.finance.generalLedger.AuditLog;
+import com.example.backend.models.finance.generalLedger.AuditOutboxEvent;
 import com.example.backend.models.user.User;
 import com.example.backend.repositories.finance.generalLedger.AuditLogRepository;
+import com.example.backend.utils.ExportUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
+    private final ExportUtil exportUtil;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Records an audit event in the audit outbox, inside the surrounding transaction (if any),
+     * so it is kept exactly when the audited change commits. AuditLogWriter relays it to audit_logs.
+     */
     public void logEvent(String entityType, UUID entityId, AuditAction action,
                          Map<String, Object> changes, User user) {
         try {
-            AuditLog auditLog = new AuditLog();
-            auditLog.setEntityType(entityType);
-            auditLog.setEntityId(entityId);
-            auditLog.setAction(action);
-            auditLog.setUser(user);
+            AuditOutboxEvent event = new AuditOutboxEvent();
+            event.setId(UUID.randomUUID());
+            event.setTimestamp(LocalDateTime.now());
+            event.setEntityType(entityType);
+            event.setEntityId(entityId);
+            event.setAction(action);
+            event.setUserId(user != null ? user.getId() : null);
 
             // Convert changes to JSON string
             if (changes != null) {
-                auditLog.setChanges(objectMapper.writeValueAsString(changes));
+                event.setChanges(objectMapper.writeValueAsString(changes));
             }
 
             // Get HTTP request details if available
@@ -49,20 +71,25 @@ public class AuditService {
                         (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
                 if (attributes != null) {
                     HttpServletRequest request = attributes.getRequest();
-                    auditLog.setIpAddress(request.getRemoteAddr());
-                    auditLog.setUserAgent(request.getHeader("User-Agent"));
+                    event.setIpAddress(request.getRemoteAddr());
+                    event.setUserAgent(request.getHeader("User-Agent"));
                 }
             } catch (Exception e) {
                 // Ignore if request context is not available
             }
 
-            auditLogRepository.save(auditLog);
+            auditLogWriter.submit(event);
         } catch (Exception e) {
-            // Log the error but don't fail the operation
-            System.err.println("Failed to log audit event: " + e.getMessage());
+            // Log the error but don't fail the operation; the outbox insert ran under a savepoint,
+            // so the caller's transaction is still usable
+            log.error("Failed to log audit event for {} {}: {}", entityType, entityId, e.getMessage());
         }
     }
 
+    public AuditWriterStatsDTO getWriterStats() {
+        return auditLogWriter.getStats();
+    }
+
     /**
      * Retrieves all audit logs without pagination
      */
@@ -121,6 +148,35 @@ public class AuditService {
                 .collect(Collectors.toList());
     }
 
+    public long countAuditLogsForExport(String entityType, UUID entityId, UUID userId,
+                                        LocalDateTime startDate, LocalDateTime endDate) {
+        return auditLogRepository.countForExport(entityType, entityId, userId, startDate, endDate);
+    }
+
+    /**
+     * Streams filtered audit logs straight to the output stream as XLSX or CSV.
+     * Rows are read through a database cursor and detached once written, so memory
+     * use stays constant regardless of the export size.
+     */
+    @Transactional(readOnly = true)
+    public void exportAuditLogs(String entityType, UUID entityId, UUID userId,
+                                LocalDateTime startDate, LocalDateTime endDate,
+                                boolean csv, OutputStream out) throws IOException {
+        try (Stream<AuditLog> logs = auditLogRepository.streamForExport(entityType, entityId, userId, startDate, endDate)) {
+            Stream<AuditLogResponseDTO> rows = logs.map(auditLog -> {
+                AuditLogResponseDTO dto = mapToDTO(auditLog);
+                entityManager.detach(auditLog);
+                return dto;
+            });
+
+            if (csv) {
+                exportUtil.writeAuditLogsToCSV(rows, out);
+            } else {
+                exportUtil.writeAuditLogsToExcel(rows, out);
+            }
+        }
+    }
+
     private AuditLogResponseDTO mapToDTO(AuditLog auditLog) {
         AuditLogResponseDTO dto = new AuditLogResponseDTO();
         dto.setId(auditLog.getId());
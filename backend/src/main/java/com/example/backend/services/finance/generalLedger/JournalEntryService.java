@@ -31,13 +31,15 @@ public class JournalEntryService {
     private final UserRepository userRepository;
     private final AccountingPeriodService accountingPeriodService;
     private final AuditService auditService;
+    private final LedgerBalanceService ledgerBalanceService;
 
     @Autowired
-    public JournalEntryService(JournalEntryRepository journalEntryRepository, UserRepository userRepository, AccountingPeriodService accountingPeriodService, AuditService auditService) {
+    public JournalEntryService(JournalEntryRepository journalEntryRepository, UserRepository userRepository, AccountingPeriodService accountingPeriodService, AuditService auditService, LedgerBalanceService ledgerBalanceService) {
         this.journalEntryRepository = journalEntryRepository;
         this.userRepository = userRepository;
         this.accountingPeriodService = accountingPeriodService;
         this.auditService = auditService;
+        this.ledgerBalanceService = ledgerBalanceService;
     }
 
     @Transactional
@@ -78,6 +80,7 @@ public class JournalEntryService {
             //        .orElseThrow(() -> new RuntimeException("Account not found with id: " + lineDTO.getAccountId()));
 
             // line.setAccount(account);
+            line.setAccountId(lineDTO.getAccountId());
             line.setAmount(lineDTO.getAmount());
             line.setDebit(lineDTO.isDebit());
             line.setDescription(lineDTO.getDescription());
@@ -206,6 +209,9 @@ public class JournalEntryService {
 
         JournalEntry savedJournalEntry = journalEntryRepository.save(journalEntry);
 
+        // Approved entries are reflected in the ledger balances used by trial balance reports
+        ledgerBalanceService.applyEntry(savedJournalEntry);
+
         Map<String, Object> changes = new HashMap<>();
         changes.put("action", "approve");
         changes.put("status", journalEntry.getStatus().toString());
@@ -328,6 +334,7 @@ public class JournalEntryService {
             //    .orElseThrow(() -> new RuntimeException("Account not found with id: " + lineDTO.getAccountId()));
 
             // line.setAccount(account);
+            line.setAccountId(lineDTO.getAccountId());
             line.setAmount(lineDTO.getAmount());
             line.setDebit(lineDTO.isDebit());
             line.setDescription(lineDTO.getDescription());
@@ -406,6 +413,7 @@ public class JournalEntryService {
     private JournalEntryLineResponseDTO mapToJournalEntryLineResponseDTO(JournalEntryLine line) {
         JournalEntryLineResponseDTO dto = new JournalEntryLineResponseDTO();
         dto.setId(line.getId());
+        dto.setAccountId(line.getAccountId());
 
         // if (line.getAccount() != null) {
         //     dto.setAccountName(line.getAccount().getName());
@@ -0,0 +1,241 @@
+package com.example.backend.services.finance.generalLedger;
+
+import com.example.backend.dto.finance.generalLedger.AccountStatementPeriodDTO;
+import com.example.backend.dto.finance.generalLedger.AccountStatementResponseDTO;
+import com.example.backend.dto.finance.generalLedger.TrialBalanceLineDTO;
+import com.example.backend.dto.finance.generalLedger.TrialBalanceResponseDTO;
+import com.example.backend.models.finance.generalLedger.JournalEntry;
+import com.example.backend.models.finance.generalLedger.JournalEntryLine;
+import com.example.backend.models.finance.generalLedger.LedgerBalance;
+import com.example.backend.repositories.finance.generalLedger.JournalEntryLineRepository;
+import com.example.backend.repositories.finance.generalLedger.LedgerBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maintains the per-account, per-month ledger balance table and serves
+ * trial balance and account statement reads from it, topped up from the
+ * journal lines for months only partly inside the requested dates.
+ * Only APPROVED journal entries are reflected in the balances.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerBalanceService {
+
+    private final LedgerBalanceRepository ledgerBalanceRepository;
+    private final JournalEntryLineRepository journalEntryLineRepository;
+
+    /**
+     * Add an approved journal entry's lines to the ledger balances
+     */
+    @Transactional
+    public void applyEntry(JournalEntry journalEntry) {
+        applyEntries(List.of(journalEntry));
+    }
+
+    /**
+     * Add several approved journal entries at once; lines are aggregated per
+     * account and month first so each balance row is written only once
+     */
+    @Transactional
+    public void applyEntries(Collection<JournalEntry> journalEntries) {
+        // key: accountId + periodKey, value: {debit, credit}
+        Map<BalanceKey, BigDecimal[]> deltas = new HashMap<>();
+
+        for (JournalEntry journalEntry : journalEntries) {
+            int periodKey = toPeriodKey(journalEntry.getEntryDate());
+            for (JournalEntryLine line : journalEntry.getEntryLines()) {
+                UUID accountId = line.getAccountId() != null ? line.getAccountId() : LedgerBalance.UNASSIGNED_ACCOUNT;
+                BigDecimal[] totals = deltas.computeIfAbsent(new BalanceKey(accountId, periodKey),
+                        key -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+                BigDecimal amount = line.getAmount();
+                if (line.isDebit()) {
+                    totals[0] = totals[0].add(amount);
+                } else {
+                    totals[1] = totals[1].add(amount);
+                }
+            }
+        }
+
+        deltas.forEach((key, totals) -> ledgerBalanceRepository.addToBalance(
+                UUID.randomUUID(), key.accountId(), key.periodKey(), totals[0], totals[1]));
+    }
+
+    /**
+     * Recompute all balances from approved journal entries (backfill/repair)
+     *
+     * @return number of balance rows written
+     */
+    @Transactional
+    public int rebuildBalances() {
+        ledgerBalanceRepository.deleteAllBalances();
+        return ledgerBalanceRepository.rebuildFromJournalEntries();
+    }
+
+    /**
+     * Trial balance up to and including asOfDate. Complete months come from the monthly
+     * balances; the days of asOfDate's month up to asOfDate come from the journal lines.
+     */
+    @Transactional(readOnly = true)
+    public TrialBalanceResponseDTO getTrialBalance(LocalDate asOfDate) {
+        Objects.requireNonNull(asOfDate, "Date is required");
+        YearMonth asOfMonth = YearMonth.from(asOfDate);
+
+        // key: accountId, value: {debit, credit}; keeps the repository's account order
+        Map<UUID, BigDecimal[]> totals = new LinkedHashMap<>();
+        if (asOfDate.equals(asOfMonth.atEndOfMonth())) {
+            addTotals(totals, ledgerBalanceRepository.getTrialBalance(toPeriodKey(asOfMonth)));
+        } else {
+            addTotals(totals, ledgerBalanceRepository.getTrialBalance(toPeriodKey(asOfMonth.minusMonths(1))));
+            addTotals(totals, journalEntryLineRepository.getApprovedTotalsByAccountBetween(asOfMonth.atDay(1), asOfDate));
+        }
+
+        List<TrialBalanceLineDTO> lines = new ArrayList<>();
+        BigDecimal totalDebits = BigDecimal.ZERO;
+        BigDecimal totalCredits = BigDecimal.ZERO;
+
+        for (Map.Entry<UUID, BigDecimal[]> entry : totals.entrySet()) {
+            BigDecimal debit = entry.getValue()[0];
+            BigDecimal credit = entry.getValue()[1];
+
+            TrialBalanceLineDTO line = new TrialBalanceLineDTO();
+            line.setAccountId(entry.getKey());
+            line.setDebitTotal(debit);
+            line.setCreditTotal(credit);
+            line.setBalance(debit.subtract(credit));
+            lines.add(line);
+
+            totalDebits = totalDebits.add(debit);
+            totalCredits = totalCredits.add(credit);
+        }
+
+        TrialBalanceResponseDTO dto = new TrialBalanceResponseDTO();
+        dto.setAsOfDate(asOfDate);
+        dto.setLines(lines);
+        dto.setTotalDebits(totalDebits);
+        dto.setTotalCredits(totalCredits);
+        dto.setBalanced(totalDebits.compareTo(totalCredits) == 0);
+        return dto;
+    }
+
+    /**
+     * Statement of an account between two dates (inclusive), one period per month.
+     * Months entirely inside the range come from the monthly balances; partial first and
+     * last months (and the opening balance's days before fromDate) come from the journal lines.
+     */
+    @Transactional(readOnly = true)
+    public AccountStatementResponseDTO getAccountStatement(UUID accountId, LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+
+        YearMonth fromMonth = YearMonth.from(fromDate);
+        YearMonth toMonth = YearMonth.from(toDate);
+
+        BigDecimal[] opening = toTotals(ledgerBalanceRepository.getTotalsBefore(accountId, toPeriodKey(fromMonth)).get(0));
+        if (!fromDate.equals(fromMonth.atDay(1))) {
+            BigDecimal[] daysBefore = toTotals(journalEntryLineRepository
+                    .getApprovedTotalsBetween(accountId, fromMonth.atDay(1), fromDate.minusDays(1)).get(0));
+            opening[0] = opening[0].add(daysBefore[0]);
+            opening[1] = opening[1].add(daysBefore[1]);
+        }
+        BigDecimal openingBalance = opening[0].subtract(opening[1]);
+
+        Map<Integer, LedgerBalance> monthlyBalances = new HashMap<>();
+        for (LedgerBalance balance : ledgerBalanceRepository
+                .findByAccountIdAndPeriodKeyBetweenOrderByPeriodKeyAsc(accountId, toPeriodKey(fromMonth), toPeriodKey(toMonth))) {
+            monthlyBalances.put(balance.getPeriodKey(), balance);
+        }
+
+        List<AccountStatementPeriodDTO> periods = new ArrayList<>();
+        BigDecimal runningBalance = openingBalance;
+
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            LocalDate periodStart = month.equals(fromMonth) ? fromDate : month.atDay(1);
+            LocalDate periodEnd = month.equals(toMonth) ? toDate : month.atEndOfMonth();
+
+            BigDecimal[] movement;
+            if (periodStart.equals(month.atDay(1)) && periodEnd.equals(month.atEndOfMonth())) {
+                LedgerBalance balance = monthlyBalances.get(toPeriodKey(month));
+                if (balance == null) {
+                    continue;
+                }
+                movement = new BigDecimal[]{balance.getDebitTotal(), balance.getCreditTotal()};
+            } else {
+                movement = toTotals(journalEntryLineRepository
+                        .getApprovedTotalsBetween(accountId, periodStart, periodEnd).get(0));
+                if (movement[0].signum() == 0 && movement[1].signum() == 0) {
+                    continue;
+                }
+            }
+
+            BigDecimal netMovement = movement[0].subtract(movement[1]);
+            runningBalance = runningBalance.add(netMovement);
+
+            AccountStatementPeriodDTO period = new AccountStatementPeriodDTO();
+            period.setYear(month.getYear());
+            period.setMonth(month.getMonthValue());
+            period.setFromDate(periodStart);
+            period.setToDate(periodEnd);
+            period.setDebitTotal(movement[0]);
+            period.setCreditTotal(movement[1]);
+            period.setNetMovement(netMovement);
+            period.setRunningBalance(runningBalance);
+            periods.add(period);
+        }
+
+        AccountStatementResponseDTO dto = new AccountStatementResponseDTO();
+        dto.setAccountId(accountId);
+        dto.setFromDate(fromDate);
+        dto.setToDate(toDate);
+        dto.setOpeningBalance(openingBalance);
+        dto.setClosingBalance(runningBalance);
+        dto.setPeriods(periods);
+        return dto;
+    }
+
+    // Helper Methods
+
+    // Adds repository rows of [accountId, debits, credits]; lines without an account count as unassigned
+    private static void addTotals(Map<UUID, BigDecimal[]> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            UUID accountId = row[0] != null ? (UUID) row[0] : LedgerBalance.UNASSIGNED_ACCOUNT;
+            BigDecimal[] accountTotals = totals.computeIfAbsent(accountId,
+                    key -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            accountTotals[0] = accountTotals[0].add(row[1] != null ? (BigDecimal) row[1] : BigDecimal.ZERO);
+            accountTotals[1] = accountTotals[1].add(row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO);
+        }
+    }
+
+    // [debits, credits] from an aggregate row, with missing sums as zero
+    private static BigDecimal[] toTotals(Object[] row) {
+        return new BigDecimal[]{
+                row[0] != null ? (BigDecimal) row[0] : BigDecimal.ZERO,
+                row[1] != null ? (BigDecimal) row[1] : BigDecimal.ZERO};
+    }
+
+    private static int toPeriodKey(LocalDate date) {
+        Objects.requireNonNull(date, "Date is required");
+        return toPeriodKey(YearMonth.from(date));
+    }
+
+    private static int toPeriodKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private record BalanceKey(UUID accountId, int periodKey) {
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.backend.services.hr;
 
-import com.example.backend.services.MinioService;
+import com.example.backend.services.FileStorageService;
 import com.example.backend.models.hr.Candidate;
 import com.example.backend.models.hr.Vacancy;
 import com.example.backend.models.notification.NotificationType;
@@ -10,6 +10,9 @@ import com.example.backend.repositories.VacancyRepository;
 import com.example.backend.services.notification.NotificationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,7 +36,7 @@ public class CandidateService {
     private EmployeeRepository employeeRepository;
 
     @Autowired
-    private MinioService minioService;
+    private FileStorageService fileStorageService;
 
     @Autowired
     private NotificationService notificationService;
@@ -43,6 +46,16 @@ public class CandidateService {
         return candidateRepository.findAll();
     }
 
+    // Search candidates by status, vacancy and application date, most recent applications first
+    public Page<Candidate> searchCandidates(Candidate.CandidateStatus status, UUID vacancyId,
+                                            LocalDate fromDate, LocalDate toDate, int page, int size) {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+        return candidateRepository.search(status, vacancyId, fromDate, toDate,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "applicationDate")));
+    }
+
     // Get candidate by ID
     public Candidate getCandidateById(UUID id) {
         return candidateRepository.findById(id)
@@ -85,8 +98,8 @@ public class CandidateService {
             if (resumeFile != null && !resumeFile.isEmpty()) {
                 try {
                     String fileName = "resumes/" + UUID.randomUUID() + "_" + resumeFile.getOriginalFilename();
-                    minioService.uploadFile(resumeFile, fileName);
-                    String fileUrl = minioService.getFileUrl(fileName);
+                    fileStorageService.uploadFile(resumeFile, fileName);
+                    String fileUrl = fileStorageService.getFileUrl(fileName);
                     candidate.setResumeUrl(fileUrl);
                 } catch (Exception e) {
                     throw new RuntimeException("Could not upload resume: " + e.getMessage());
@@ -216,8 +229,8 @@ public class CandidateService {
 
                     // Upload new resume
                     String fileName = "resumes/" + UUID.randomUUID() + "_" + resumeFile.getOriginalFilename();
-                    minioService.uploadFile(resumeFile, fileName);
-                    String fileUrl = minioService.getFileUrl(fileName);
+                    fileStorageService.uploadFile(resumeFile, fileName);
+                    String fileUrl = fileStorageService.getFileUrl(fileName);
                     candidate.setResumeUrl(fileUrl);
                 } catch (Exception e) {
                     throw new RuntimeException("Could not upload resume: " + e.getMessage());
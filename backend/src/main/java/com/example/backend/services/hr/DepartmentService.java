@@ -3,6 +3,8 @@ package com.example.backend.services.hr;
 import com.example.backend.models.hr.Department;
 import com.example.backend.models.notification.NotificationType;
 import com.example.backend.repositories.hr.DepartmentRepository;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import com.example.backend.services.notification.NotificationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,18 +27,32 @@ public class DepartmentService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     /**
      * Get all departments as Map objects
      */
     public List<Map<String, Object>> getAllDepartmentsAsMap() {
-        try {
-            logger.info("Fetching departments from repository...");
-            List<Department> departments = departmentRepository.findAll();
-            logger.info("Found {} departments", departments.size());
+        return getAllDepartmentsAsMapCached().value();
+    }
 
-            return departments.stream()
-                    .map(this::convertDepartmentToMap)
-                    .collect(Collectors.toList());
+    /**
+     * Get all departments as Map objects, from the reference data cache
+     */
+    public CachedValue<List<Map<String, Object>>> getAllDepartmentsAsMapCached() {
+        try {
+            return referenceDataCache.get(ReferenceDataCache.DEPARTMENTS, "all", () -> {
+                logger.info("Fetching departments from repository...");
+                List<Department> departments = departmentRepository.findAll();
+                logger.info("Found {} departments", departments.size());
+
+                // Cached and shared between requests, so hand out read-only views
+                return departments.stream()
+                        .map(this::convertDepartmentToMap)
+                        .map(Collections::unmodifiableMap)
+                        .toList();
+            });
         } catch (Exception e) {
             logger.error("Error in getAllDepartmentsAsMap: ", e);
 
@@ -110,6 +126,7 @@ public class DepartmentService {
                     .build();
 
             Department savedDepartment = departmentRepository.save(department);
+            referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
             logger.info("Successfully created department with id: {}", savedDepartment.getId());
 
             // Send notification about new department creation
@@ -199,6 +216,7 @@ public class DepartmentService {
             }
 
             Department updatedDepartment = departmentRepository.save(existingDepartment);
+            referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
             logger.info("Successfully updated department: {}", updatedDepartment.getName());
 
             // Send notification about department update
@@ -294,6 +312,7 @@ public class DepartmentService {
             }
 
             departmentRepository.delete(department);
+            referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
             logger.info("Successfully deleted department: {}", departmentName);
 
             // Send notification about department deletion
@@ -442,6 +461,7 @@ public class DepartmentService {
             }
 
             Department saved = departmentRepository.save(department);
+            referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
             logger.info("Successfully created department with id: {}", saved.getId());
 
             // Send notification about new department creation
@@ -504,6 +524,7 @@ public class DepartmentService {
             );
 
             Department updated = departmentRepository.save(existingDepartment);
+            referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
             logger.info("Successfully updated department: {}", updated.getName());
 
             // Send notification about department update
@@ -3,9 +3,10 @@ package com.example.backend.services.hr;
 import com.example.backend.dto.hr.employee.EmployeeDistributionDTO;
 import com.example.backend.dto.hr.employee.EmployeeRequestDTO;
 import com.example.backend.dto.hr.SalaryStatisticsDTO;
+import com.example.backend.events.JobPositionChangedEvent;
 import com.example.backend.models.notification.NotificationType;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
-import com.example.backend.services.MinioService;
+import com.example.backend.services.FileStorageService;
 import com.example.backend.models.hr.Employee;
 import com.example.backend.models.hr.JobPosition;
 import com.example.backend.models.site.Site;
@@ -15,6 +16,7 @@ import com.example.backend.repositories.site.SiteRepository;
 import com.example.backend.services.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,8 +38,9 @@ public class HREmployeeService {
     private final SiteRepository siteRepository;
     private final JobPositionRepository jobPositionRepository;
     private final WarehouseRepository warehouseRepository;
-    private final MinioService minioService;
+    private final FileStorageService fileStorageService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
 
     /**
@@ -184,6 +187,7 @@ public class HREmployeeService {
             // Save the employee entity
             Employee savedEmployee = employeeRepository.save(employee);
             log.info("Successfully saved employee with ID: {}", savedEmployee.getId());
+            eventPublisher.publishEvent(new JobPositionChangedEvent(savedEmployee.getJobPosition()));
 
             // Send notifications about new employee
             String employeeName = savedEmployee.getFirstName() + " " + savedEmployee.getLastName();
@@ -328,6 +332,7 @@ public class HREmployeeService {
 
             // Save updated employee
             Employee updatedEmployee = employeeRepository.save(existingEmployee);
+            eventPublisher.publishEvent(new JobPositionChangedEvent(oldJobPosition, updatedEmployee.getJobPosition()));
 
             // Send notifications for significant changes
             sendEmployeeUpdateNotifications(updatedEmployee, oldEmployeeName, oldStatus, oldJobPosition, oldSite);
@@ -492,15 +497,15 @@ public class HREmployeeService {
             // Delete images from MinIO
             try {
                 if (employee.getPhotoUrl() != null) {
-                    minioService.deleteFile(employee.getPhotoUrl());
+                    fileStorageService.deleteFile(employee.getPhotoUrl());
                 }
 
                 if (employee.getIdFrontImage() != null) {
-                    minioService.deleteFile(employee.getIdFrontImage());
+                    fileStorageService.deleteFile(employee.getIdFrontImage());
                 }
 
                 if (employee.getIdBackImage() != null) {
-                    minioService.deleteFile(employee.getIdBackImage());
+                    fileStorageService.deleteFile(employee.getIdBackImage());
                 }
             } catch (Exception e) {
                 log.error("Error deleting employee images", e);
@@ -509,6 +514,7 @@ public class HREmployeeService {
 
             employeeRepository.delete(employee);
             log.info("Successfully deleted employee with ID: {}", id);
+            eventPublisher.publishEvent(new JobPositionChangedEvent(employee.getJobPosition()));
 
             // Send notifications about employee deletion
             notificationService.sendNotificationToHRUsers(
@@ -5,6 +5,7 @@ import com.example.backend.models.hr.Department;
 import com.example.backend.models.hr.JobPosition;
 import com.example.backend.repositories.hr.DepartmentRepository;
 import com.example.backend.repositories.hr.JobPositionRepository;
+import com.example.backend.services.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ public class JobPositionAutomationService {
 
     private final JobPositionRepository jobPositionRepository;
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Automatically create a job position for a newly created equipment type
@@ -67,6 +69,7 @@ public class JobPositionAutomationService {
             .build();
 
         JobPosition savedPosition = jobPositionRepository.save(driverPosition);
+        referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
         
         log.info("Successfully created job position: {} with ID: {}", 
             requiredPositionName, savedPosition.getId());
@@ -75,13 +78,10 @@ public class JobPositionAutomationService {
     }
 
     /**
-     * Check if a job position with the given name already exists
+     * Check if a job position with the given name already exists (one indexed lookup by name)
      */
     private Optional<JobPosition> findExistingPosition(String positionName) {
-        return jobPositionRepository.findAll()
-            .stream()
-            .filter(jp -> positionName.equals(jp.getPositionName()))
-            .findFirst();
+        return jobPositionRepository.findFirstByPositionName(positionName);
     }
 
     /**
@@ -165,6 +165,7 @@ public class JobPositionAutomationService {
                 position.setExperienceLevel(determineExperienceLevel(updatedEquipmentType));
                 
                 jobPositionRepository.save(position);
+                referenceDataCache.invalidate(ReferenceDataCache.DEPARTMENTS);
                 
                 log.info("Updated job position from '{}' to '{}' for equipment type change", 
                     oldPositionName, newPositionName);
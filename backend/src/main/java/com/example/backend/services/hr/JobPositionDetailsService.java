@@ -0,0 +1,533 @@
+package com.example.backend.services.hr;
+
+import com.example.backend.dto.hr.JobPositionDetailsDTO;
+import com.example.backend.dto.hr.JobPositionDetailsSection;
+import com.example.backend.dto.hr.PositionAnalyticsDTO;
+import com.example.backend.dto.hr.employee.EmployeeSummaryDTO;
+import com.example.backend.dto.hr.promotions.PositionPromotionsDTO;
+import com.example.backend.dto.hr.promotions.PromotionSummaryDTO;
+import com.example.backend.models.hr.Department;
+import com.example.backend.models.hr.JobPosition;
+import com.example.backend.models.hr.PromotionRequest.PromotionStatus;
+import com.example.backend.repositories.VacancyRepository;
+import com.example.backend.repositories.hr.EmployeeRepository;
+import com.example.backend.repositories.hr.JobPositionRepository;
+import com.example.backend.repositories.hr.PromotionRequestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the job position details page from targeted queries. Only the requested
+ * sections are loaded, one after another on the calling thread, each in its own
+ * read-only transaction (so a request never holds more than one connection), and the
+ * result is cached for a short time per section set.
+ *
+ * The cache is bounded (least recently used entries are dropped) and hands out copies.
+ * Entries of a position are evicted when it is edited and, through JobPositionChangedEvent,
+ * when its employees, promotions or vacancies change. A section whose queries do not finish within
+ * hr.job-position.details.section-timeout-seconds is returned empty and the result is not cached.
+ */
+@Service
+@Slf4j
+public class JobPositionDetailsService {
+
+    private static final Set<PromotionStatus> PENDING_STATUSES = EnumSet.of(PromotionStatus.PENDING, PromotionStatus.UNDER_REVIEW);
+    private static final int CAREER_PATH_SUGGESTIONS_LIMIT = 5;
+
+    private final JobPositionRepository jobPositionRepository;
+    private final EmployeeRepository employeeRepository;
+    private final PromotionRequestRepository promotionRequestRepository;
+    private final VacancyRepository vacancyRepository;
+    private final JobPositionService jobPositionService;
+    private final PromotionPathService promotionPathService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long cacheTtlMillis;
+    private final int cacheMaxEntries;
+
+    // Access-ordered so the least recently used section set is dropped once the cache is full
+    private final Map<CacheKey, CachedDetails> cache;
+    // Bumped on every eviction; a result loaded across an eviction is returned but not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobPositionDetailsService(JobPositionRepository jobPositionRepository,
+                                     EmployeeRepository employeeRepository,
+                                     PromotionRequestRepository promotionRequestRepository,
+                                     VacancyRepository vacancyRepository,
+                                     JobPositionService jobPositionService,
+                                     PromotionPathService promotionPathService,
+                                     ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${hr.job-position.details.cache-ttl-seconds:15}") long cacheTtlSeconds,
+                                     @Value("${hr.job-position.details.cache-max-entries:200}") int cacheMaxEntries,
+                                     @Value("${hr.job-position.details.section-timeout-seconds:10}") long sectionTimeoutSeconds) {
+        this.jobPositionRepository = jobPositionRepository;
+        this.employeeRepository = employeeRepository;
+        this.promotionRequestRepository = promotionRequestRepository;
+        this.vacancyRepository = vacancyRepository;
+        this.jobPositionService = jobPositionService;
+        this.promotionPathService = promotionPathService;
+        this.objectMapper = objectMapper;
+        this.cacheTtlMillis = cacheTtlSeconds * 1000;
+        this.cacheMaxEntries = Math.max(1, cacheMaxEntries);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedDetails> eldest) {
+                return size() > JobPositionDetailsService.this.cacheMaxEntries;
+            }
+        };
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Statements of a section that runs past the timeout are cancelled by the database
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, sectionTimeoutSeconds));
+    }
+
+    /**
+     * Details of a job position with the given sections; all sections when none are given.
+     * The overview fields are always included.
+     */
+    public JobPositionDetailsDTO getDetails(UUID id, Collection<JobPositionDetailsSection> sections) {
+        Set<JobPositionDetailsSection> requested = sections == null || sections.isEmpty()
+                ? EnumSet.allOf(JobPositionDetailsSection.class)
+                : EnumSet.copyOf(sections);
+
+        CacheKey key = new CacheKey(id, requested);
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedDetails cached = cache.get(key);
+            if (cached != null && now < cached.expiresAt()) {
+                return copy(cached.details());
+            }
+        }
+
+        long loadGeneration = generation.get();
+        List<String> timedOutSections = new ArrayList<>();
+        JobPositionDetailsDTO details = loadDetails(id, requested, timedOutSections);
+        if (!timedOutSections.isEmpty()) {
+            log.warn("Job position {} details returned without {}: loading timed out", id, timedOutSections);
+            return details;
+        }
+
+        synchronized (cache) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (generation.get() == loadGeneration) {
+                cache.put(key, new CachedDetails(details, now + cacheTtlMillis));
+            }
+        }
+        return copy(details);
+    }
+
+    /**
+     * Drop every cached section set of a job position so the next request reloads it
+     */
+    public void evict(UUID id) {
+        generation.incrementAndGet();
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.jobPositionId().equals(id));
+        }
+    }
+
+    private JobPositionDetailsDTO loadDetails(UUID id, Set<JobPositionDetailsSection> sections, List<String> timedOutSections) {
+        JobPosition jobPosition = jobPositionRepository.findByIdWithDepartment(id)
+                .orElseThrow(() -> new RuntimeException("Job position not found with id: " + id));
+
+        boolean analytics = sections.contains(JobPositionDetailsSection.ANALYTICS);
+        boolean promotions = sections.contains(JobPositionDetailsSection.PROMOTIONS);
+
+        // Only the queries the requested sections need; the others stay null
+        List<EmployeeSummaryDTO> employees = analytics || sections.contains(JobPositionDetailsSection.EMPLOYEES)
+                ? loadSection("employees", () -> loadEmployeeSummaries(id), List.of(), timedOutSections) : null;
+        PromotionCounts counts = analytics || promotions
+                ? loadSection("promotion counts", () -> loadPromotionCounts(id), PromotionCounts.EMPTY, timedOutSections) : null;
+        PromotionLists lists = promotions
+                ? loadSection("promotion lists", () -> loadPromotionLists(id), PromotionLists.EMPTY, timedOutSections) : null;
+        Map<String, Long> vacancyCounts = analytics || sections.contains(JobPositionDetailsSection.VACANCIES)
+                ? loadSection("vacancies", () -> loadVacancyCounts(id), Map.of(), timedOutSections) : null;
+
+        JobPositionDetailsDTO.JobPositionDetailsDTOBuilder builder = JobPositionDetailsDTO.builder();
+        buildOverview(builder, jobPosition);
+
+        if (sections.contains(JobPositionDetailsSection.EMPLOYEES)) {
+            int activeCount = (int) employees.stream().filter(e -> "ACTIVE".equals(e.getStatus())).count();
+            builder.employees(employees)
+                    .totalEmployeeCount(employees.size())
+                    .activeEmployeeCount(activeCount)
+                    .inactiveEmployeeCount(employees.size() - activeCount)
+                    .eligibleForPromotionEmployees(employees.stream()
+                            .filter(e -> Boolean.TRUE.equals(e.getEligibleForPromotion()))
+                            .collect(Collectors.toList()));
+        }
+
+        if (analytics) {
+            builder.analytics(buildAnalytics(jobPosition, employees, counts, vacancyCounts));
+        }
+
+        if (promotions) {
+            builder.promotions(buildPromotions(counts, lists));
+        }
+
+        if (counts != null) {
+            builder.totalPromotionsCount((int) (counts.totalFrom() + counts.totalTo()))
+                    .pendingPromotionsCount((int) (counts.pendingFrom() + counts.pendingTo()));
+        }
+
+        if (vacancyCounts != null) {
+            builder.vacancyCount((int) vacancyCounts.values().stream().mapToLong(Long::longValue).sum())
+                    .activeVacancyCount(vacancyCounts.getOrDefault("OPEN", 0L).intValue());
+        }
+
+        return builder.build();
+    }
+
+    // ===============================
+    // SECTION QUERIES (each in its own read-only transaction)
+    // ===============================
+
+    private List<EmployeeSummaryDTO> loadEmployeeSummaries(UUID id) {
+        // Promotion requests are fetched with the employees, so eligibility and
+        // months-in-position checks do not issue a query per employee
+        return employeeRepository.findByJobPositionIdWithPromotionRequests(id).stream()
+                .map(jobPositionService::convertToEmployeeSummary)
+                .collect(Collectors.toList());
+    }
+
+    private PromotionCounts loadPromotionCounts(UUID id) {
+        Map<PromotionStatus, Long> from = toStatusCounts(promotionRequestRepository.countByStatusFromPosition(id));
+        Map<PromotionStatus, Long> to = toStatusCounts(promotionRequestRepository.countByStatusToPosition(id));
+
+        Object[] averages = promotionRequestRepository.getImplementedAveragesFromPosition(id).get(0);
+        BigDecimal averageSalaryIncrease = averages[0] != null
+                ? new BigDecimal(averages[0].toString()).setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        double averageMonthsBeforePromotion = averages[1] != null ? ((Number) averages[1]).doubleValue() * 12 : 0.0;
+
+        return new PromotionCounts(from, to, averageSalaryIncrease, averageMonthsBeforePromotion,
+                employeeRepository.countByJobPositionId(id));
+    }
+
+    private PromotionLists loadPromotionLists(UUID id) {
+        List<PromotionSummaryDTO> from = promotionRequestRepository.findFromPositionWithDetails(id).stream()
+                .map(jobPositionService::convertToPromotionSummary)
+                .collect(Collectors.toList());
+        List<PromotionSummaryDTO> to = promotionRequestRepository.findToPositionWithDetails(id).stream()
+                .map(jobPositionService::convertToPromotionSummary)
+                .collect(Collectors.toList());
+        return new PromotionLists(from, to, promotionPathService.getDestinationCounts(id));
+    }
+
+    private Map<String, Long> loadVacancyCounts(UUID id) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : vacancyRepository.countByStatusForJobPosition(id)) {
+            counts.put(row[0] != null ? (String) row[0] : "UNKNOWN", ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    // ===============================
+    // SECTION BUILDERS
+    // ===============================
+
+    private void buildOverview(JobPositionDetailsDTO.JobPositionDetailsDTOBuilder builder, JobPosition jobPosition) {
+        // Detached copy without the department's job position list, since the result outlives the session
+        Department department = jobPosition.getDepartment() != null
+                ? Department.builder()
+                        .id(jobPosition.getDepartment().getId())
+                        .name(jobPosition.getDepartment().getName())
+                        .description(jobPosition.getDepartment().getDescription())
+                        .build()
+                : null;
+
+        builder.id(jobPosition.getId())
+                .positionName(jobPosition.getPositionName())
+                .department(department)
+                .departmentName(department != null ? department.getName() : null)
+                .head(jobPosition.getHead())
+                .baseSalary(jobPosition.getBaseSalary())
+                .probationPeriod(jobPosition.getProbationPeriod())
+                .contractType(jobPosition.getContractType())
+                .experienceLevel(jobPosition.getExperienceLevel())
+                .active(jobPosition.getActive());
+
+        // Contract-specific fields
+        builder.workingDaysPerWeek(jobPosition.getWorkingDaysPerWeek())
+                .hoursPerShift(jobPosition.getHoursPerShift())
+                .hourlyRate(jobPosition.getHourlyRate())
+                .overtimeMultiplier(jobPosition.getOvertimeMultiplier())
+                .trackBreaks(jobPosition.getTrackBreaks())
+                .breakDurationMinutes(jobPosition.getBreakDurationMinutes())
+                .dailyRate(jobPosition.getDailyRate())
+                .workingDaysPerMonth(jobPosition.getWorkingDaysPerMonth())
+                .includesWeekends(jobPosition.getIncludesWeekends())
+                .monthlyBaseSalary(jobPosition.getMonthlyBaseSalary())
+                .shifts(jobPosition.getShifts())
+                .workingHours(jobPosition.getWorkingHours())
+                .vacations(jobPosition.getVacations())
+                .startTime(jobPosition.getStartTime())
+                .endTime(jobPosition.getEndTime());
+
+        try {
+            builder.workingTimeRange(jobPosition.getWorkingTimeRange());
+        } catch (Exception e) {
+            log.warn("Could not get working time range for position {}: {}", jobPosition.getId(), e.getMessage());
+        }
+
+        try {
+            builder.calculatedMonthlySalary(jobPosition.calculateMonthlySalary())
+                    .calculatedDailySalary(jobPosition.calculateDailySalary())
+                    .isValidConfiguration(jobPosition.isValidConfiguration())
+                    .isHighLevelPosition(jobPosition.isHighLevelPosition());
+        } catch (Exception e) {
+            log.warn("Could not calculate derived fields for position {}: {}", jobPosition.getId(), e.getMessage());
+            builder.calculatedMonthlySalary(0.0)
+                    .calculatedDailySalary(0.0)
+                    .isValidConfiguration(false)
+                    .isHighLevelPosition(false);
+        }
+    }
+
+    private PositionAnalyticsDTO buildAnalytics(JobPosition jobPosition, List<EmployeeSummaryDTO> employees,
+                                                PromotionCounts counts, Map<String, Long> vacancyCounts) {
+        // Salary, status and contract figures in a single pass over the employees
+        BigDecimal totalPayroll = BigDecimal.ZERO;
+        BigDecimal minSalary = null;
+        BigDecimal maxSalary = null;
+        int salaryCount = 0;
+        int activeEmployees = 0;
+        int eligibleForPromotion = 0;
+        long totalMonthsInPosition = 0;
+        double totalPerformanceRating = 0;
+        int ratedEmployees = 0;
+        Map<String, Long> statusDistribution = new HashMap<>();
+        Map<String, Long> contractTypeDistribution = new HashMap<>();
+
+        for (EmployeeSummaryDTO employee : employees) {
+            BigDecimal salary = employee.getMonthlySalary();
+            if (salary != null && salary.compareTo(BigDecimal.ZERO) > 0) {
+                totalPayroll = totalPayroll.add(salary);
+                minSalary = minSalary == null || salary.compareTo(minSalary) < 0 ? salary : minSalary;
+                maxSalary = maxSalary == null || salary.compareTo(maxSalary) > 0 ? salary : maxSalary;
+                salaryCount++;
+            }
+
+            String status = employee.getStatus() != null ? employee.getStatus() : "UNKNOWN";
+            statusDistribution.merge(status, 1L, Long::sum);
+            if ("ACTIVE".equals(status)) {
+                activeEmployees++;
+            }
+            if (employee.getContractType() != null) {
+                contractTypeDistribution.merge(employee.getContractType(), 1L, Long::sum);
+            }
+            if (Boolean.TRUE.equals(employee.getEligibleForPromotion())) {
+                eligibleForPromotion++;
+            }
+            if (employee.getMonthsSinceLastPromotion() != null) {
+                totalMonthsInPosition += employee.getMonthsSinceLastPromotion();
+            }
+            if (employee.getPerformanceRating() != null) {
+                totalPerformanceRating += employee.getPerformanceRating();
+                ratedEmployees++;
+            }
+        }
+
+        int totalEmployees = employees.size();
+        int vacanciesCreated = (int) vacancyCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        List<String> validationIssues = new ArrayList<>();
+        List<String> recommendations = new ArrayList<>();
+        boolean validConfiguration = jobPosition.isValidConfiguration();
+        if (!validConfiguration) {
+            validationIssues.add("Position configuration is incomplete or invalid");
+            recommendations.add("Review and complete all required fields for this contract type");
+        }
+        if (!Boolean.TRUE.equals(jobPosition.getActive())) {
+            validationIssues.add("Position is currently inactive");
+            recommendations.add("Activate position to make it available for hiring");
+        }
+        if (totalEmployees == 0) {
+            validationIssues.add("No employees currently assigned to this position");
+            recommendations.add("Consider recruiting for this position or reviewing its necessity");
+        }
+        if (jobPosition.getBaseSalary() == null || jobPosition.getBaseSalary() <= 0) {
+            validationIssues.add("No salary information configured");
+            recommendations.add("Set up appropriate salary structure for this position");
+        }
+
+        String experienceLevel = jobPosition.getExperienceLevel() != null ? jobPosition.getExperienceLevel() : "Unknown";
+        String departmentName = jobPosition.getDepartment() != null ? jobPosition.getDepartment().getName() : "Unknown";
+
+        return PositionAnalyticsDTO.builder()
+                .averageEmployeeSalary(salaryCount > 0
+                        ? totalPayroll.divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .minEmployeeSalary(minSalary != null ? minSalary : BigDecimal.ZERO)
+                .maxEmployeeSalary(maxSalary != null ? maxSalary : BigDecimal.ZERO)
+                .totalPayroll(totalPayroll)
+                .positionBaseSalary(jobPosition.getBaseSalary() != null
+                        ? BigDecimal.valueOf(jobPosition.getBaseSalary()) : BigDecimal.ZERO)
+                .totalEmployees(totalEmployees)
+                .activeEmployees(activeEmployees)
+                .eligibleForPromotionCount(eligibleForPromotion)
+                .promotionEligibilityRate(totalEmployees > 0 ? (double) eligibleForPromotion / totalEmployees * 100 : 0.0)
+                .averageMonthsInPosition(totalEmployees > 0 ? (double) totalMonthsInPosition / totalEmployees : 0.0)
+                .employeeTurnoverRate(0.0)
+                .promotionRate(counts.promotionRate())
+                .averageTimeBeforePromotion(counts.averageMonthsBeforePromotion())
+                .averageSalaryIncrease(counts.averageSalaryIncrease())
+                .totalPromotionsFrom((int) counts.totalFrom())
+                .totalPromotionsTo((int) counts.totalTo())
+                .hasCareerProgression(counts.totalFrom() > 0)
+                .isPromotionDestination(counts.totalTo() > 0)
+                .statusDistribution(statusDistribution)
+                .contractTypeDistribution(contractTypeDistribution)
+                .experienceLevelDistribution(Map.of(experienceLevel, (long) totalEmployees))
+                .departmentDistribution(Map.of(departmentName, (long) totalEmployees))
+                .averagePerformanceRating(ratedEmployees > 0 ? totalPerformanceRating / ratedEmployees : 0.0)
+                .positionsFilledLastYear(0)
+                .vacanciesCreated(vacanciesCreated)
+                .vacanciesFilled(totalEmployees)
+                .vacancyFillRate(vacanciesCreated > 0 ? (double) totalEmployees / vacanciesCreated * 100 : 0.0)
+                .isValidConfiguration(validConfiguration)
+                .validationIssueCount(validationIssues.size())
+                .validationIssues(validationIssues)
+                .recommendations(recommendations)
+                .build();
+    }
+
+    private PositionPromotionsDTO buildPromotions(PromotionCounts counts, PromotionLists lists) {
+        LocalDateTime recentCutoff = LocalDateTime.now().minusMonths(6);
+        long implementedFrom = counts.from().getOrDefault(PromotionStatus.IMPLEMENTED, 0L);
+
+        return PositionPromotionsDTO.builder()
+                .totalPromotionsFrom(counts.totalFrom())
+                .totalPromotionsTo(counts.totalTo())
+                .pendingPromotionsFromCount(counts.pendingFrom())
+                .pendingPromotionsToCount(counts.pendingTo())
+                .implementedPromotionsFrom(implementedFrom)
+                .implementedPromotionsTo(counts.to().getOrDefault(PromotionStatus.IMPLEMENTED, 0L))
+                .rejectedPromotionsFrom(counts.from().getOrDefault(PromotionStatus.REJECTED, 0L))
+                .rejectedPromotionsTo(counts.to().getOrDefault(PromotionStatus.REJECTED, 0L))
+                .averageSalaryIncrease(counts.averageSalaryIncrease())
+                .averageTimeBeforePromotion(counts.averageMonthsBeforePromotion())
+                .promotionRate(counts.promotionRate())
+                .promotionSuccessRate(counts.totalFrom() > 0 ? (double) implementedFrom / counts.totalFrom() * 100.0 : 0.0)
+                .hasCareerProgression(implementedFrom > 0)
+                .isPromotionDestination(counts.to().getOrDefault(PromotionStatus.IMPLEMENTED, 0L) > 0)
+                .topPromotionDestinations(lists.destinationCounts())
+                .commonPromotionSources(new HashMap<>())
+                .promotionsFromList(lists.from())
+                .promotionsToList(lists.to())
+                .pendingPromotionsFromList(filterPending(lists.from()))
+                .pendingPromotionsToList(filterPending(lists.to()))
+                .recentPromotions(lists.from().stream()
+                        .filter(p -> p.getEffectiveDate() != null && p.getEffectiveDate().isAfter(recentCutoff))
+                        .collect(Collectors.toList()))
+                .careerPathSuggestions(lists.destinationCounts().keySet().stream()
+                        .limit(CAREER_PATH_SUGGESTIONS_LIMIT)
+                        .collect(Collectors.toList()))
+                .promotionDestinations(Collections.emptyList())
+                .promotionSources(Collections.emptyList())
+                .promotionsLastYear(0L)
+                .promotionsLastQuarter(0L)
+                .promotionsThisMonth(0L)
+                .build();
+    }
+
+    // Helper Methods
+
+    // Result of a section query; the fallback when it timed out, recorded so the result is not cached
+    private <T> T loadSection(String section, Supplier<T> loader, T fallback, List<String> timedOutSections) {
+        try {
+            return readOnlyTransaction.execute(status -> loader.get());
+        } catch (QueryTimeoutException | TransactionTimedOutException e) {
+            timedOutSections.add(section);
+            return fallback;
+        }
+    }
+
+    // Callers get their own copy, so changes to a returned DTO never reach the cache
+    private JobPositionDetailsDTO copy(JobPositionDetailsDTO details) {
+        return objectMapper.convertValue(details, JobPositionDetailsDTO.class);
+    }
+
+    private static Map<PromotionStatus, Long> toStatusCounts(List<Object[]> rows) {
+        Map<PromotionStatus, Long> counts = new EnumMap<>(PromotionStatus.class);
+        for (Object[] row : rows) {
+            counts.put((PromotionStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static List<PromotionSummaryDTO> filterPending(List<PromotionSummaryDTO> promotions) {
+        return promotions.stream()
+                .filter(p -> "PENDING".equals(p.getStatus()) || "UNDER_REVIEW".equals(p.getStatus()))
+                .collect(Collectors.toList());
+    }
+
+    private record PromotionCounts(Map<PromotionStatus, Long> from, Map<PromotionStatus, Long> to,
+                                   BigDecimal averageSalaryIncrease, double averageMonthsBeforePromotion,
+                                   long employeeCount) {
+
+        static final PromotionCounts EMPTY = new PromotionCounts(
+                new EnumMap<>(PromotionStatus.class), new EnumMap<>(PromotionStatus.class), BigDecimal.ZERO, 0.0, 0);
+
+        long totalFrom() {
+            return from.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        long totalTo() {
+            return to.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        long pendingFrom() {
+            return PENDING_STATUSES.stream().mapToLong(status -> from.getOrDefault(status, 0L)).sum();
+        }
+
+        long pendingTo() {
+            return PENDING_STATUSES.stream().mapToLong(status -> to.getOrDefault(status, 0L)).sum();
+        }
+
+        // Implemented promotions out of everyone who has held the position
+        double promotionRate() {
+            long implemented = from.getOrDefault(PromotionStatus.IMPLEMENTED, 0L);
+            long everInPosition = implemented + employeeCount;
+            return everInPosition > 0 ? (double) implemented / everInPosition * 100.0 : 0.0;
+        }
+    }
+
+    private record PromotionLists(List<PromotionSummaryDTO> from, List<PromotionSummaryDTO> to,
+                                  Map<String, Long> destinationCounts) {
+
+        static final PromotionLists EMPTY = new PromotionLists(List.of(), List.of(), Map.of());
+    }
+
+    private record CacheKey(UUID jobPositionId, Set<JobPositionDetailsSection> sections) {
+    }
+
+    private record CachedDetails(JobPositionDetailsDTO details, long expiresAt) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.backend.services.hr;
+
+import com.example.backend.dto.hr.promotions.MonthlyPromotionTrendDTO;
+import com.example.backend.dto.hr.promotions.PromotionAnalyticsDTO;
+import com.example.backend.dto.hr.promotions.TopPerformerDTO;
+import com.example.backend.models.hr.PromotionMonthlyStat;
+import com.example.backend.models.hr.PromotionRequest;
+import com.example.backend.models.hr.PromotionRequest.PromotionStatus;
+import com.example.backend.repositories.hr.PromotionMonthlyStatRepository;
+import com.example.backend.repositories.hr.PromotionRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the monthly promotion rollup (requests per creation month, department
+ * and status) and serves promotion statistics and analytics from grouped queries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PromotionAnalyticsService {
+
+    private static final int TOP_PERFORMERS_LIMIT = 10;
+
+    private final PromotionMonthlyStatRepository promotionMonthlyStatRepository;
+    private final PromotionRequestRepository promotionRequestRepository;
+
+    /**
+     * Count a newly created request under its current status
+     */
+    @Transactional
+    public void recordCreated(PromotionRequest request) {
+        applyToStats(request, request.getStatus(), 1);
+    }
+
+    /**
+     * Move a request from its previous status bucket to its current one
+     */
+    @Transactional
+    public void recordStatusChange(PromotionRequest request, PromotionStatus previousStatus) {
+        if (previousStatus == request.getStatus()) {
+            return;
+        }
+        applyToStats(request, previousStatus, -1);
+        applyToStats(request, request.getStatus(), 1);
+    }
+
+    /**
+     * Recompute the rollup from all promotion requests (backfill/repair)
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuildStats() {
+        int assigned = promotionMonthlyStatRepository.assignMissingStatsDepartments();
+        if (assigned > 0) {
+            log.info("Recorded the stats department of {} promotion requests", assigned);
+        }
+        promotionMonthlyStatRepository.deleteAllStats();
+        int rows = promotionMonthlyStatRepository.rebuildFromPromotionRequests();
+        log.info("Rebuilt promotion monthly stats with {} rows", rows);
+        return rows;
+    }
+
+    /**
+     * Request counts per status and overall rates, from one grouped query
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStatusStatistics() {
+        Map<PromotionStatus, Long> counts = new EnumMap<>(PromotionStatus.class);
+        BigDecimal implementedIncrease = BigDecimal.ZERO;
+
+        for (Object[] row : promotionMonthlyStatRepository.getStatusTotals()) {
+            PromotionStatus status = (PromotionStatus) row[0];
+            counts.put(status, ((Number) row[1]).longValue());
+            if (status == PromotionStatus.IMPLEMENTED && row[2] != null) {
+                implementedIncrease = (BigDecimal) row[2];
+            }
+        }
+
+        long totalRequests = counts.values().stream().mapToLong(Long::longValue).sum();
+        long approvedRequests = counts.getOrDefault(PromotionStatus.APPROVED, 0L);
+        long implementedRequests = counts.getOrDefault(PromotionStatus.IMPLEMENTED, 0L);
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalRequests", totalRequests);
+        statistics.put("pendingRequests", counts.getOrDefault(PromotionStatus.PENDING, 0L));
+        statistics.put("approvedRequests", approvedRequests);
+        statistics.put("implementedRequests", implementedRequests);
+        statistics.put("rejectedRequests", counts.getOrDefault(PromotionStatus.REJECTED, 0L));
+        statistics.put("cancelledRequests", counts.getOrDefault(PromotionStatus.CANCELLED, 0L));
+        statistics.put("approvalRate", totalRequests > 0 ? (double) implementedRequests / totalRequests * 100 : 0.0);
+        statistics.put("implementationRate", approvedRequests + implementedRequests > 0
+                ? (double) implementedRequests / (approvedRequests + implementedRequests) * 100 : 0.0);
+        statistics.put("averageSalaryIncrease", average(implementedIncrease, implementedRequests));
+        return statistics;
+    }
+
+    /**
+     * Monthly trends, per-department figures and top promoted employees for a calendar year,
+     * optionally limited to one department
+     */
+    @Transactional(readOnly = true)
+    public PromotionAnalyticsDTO getAnalytics(int year, UUID departmentId) {
+        int fromPeriodKey = year * 100 + 1;
+        int toPeriodKey = year * 100 + 12;
+        LocalDateTime from = LocalDateTime.of(year, 1, 1, 0, 0);
+        LocalDateTime to = from.plusYears(1);
+
+        PromotionAnalyticsDTO.PromotionAnalyticsDTOBuilder builder = PromotionAnalyticsDTO.builder()
+                .monthlyTrends(buildMonthlyTrends(year, fromPeriodKey, toPeriodKey, departmentId))
+                .promotionsByPosition(toCountMap(
+                        promotionRequestRepository.countImplementedByDestinationPosition(from, to, departmentId)))
+                .topPerformers(buildTopPerformers(from, to, departmentId));
+        addDepartmentFigures(builder, fromPeriodKey, toPeriodKey, departmentId);
+        return builder.build();
+    }
+
+    // Helper Methods
+
+    private void applyToStats(PromotionRequest request, PromotionStatus status, int sign) {
+        if (status == null) {
+            return;
+        }
+        LocalDateTime createdAt = request.getCreatedAt() != null ? request.getCreatedAt() : LocalDateTime.now();
+
+        promotionMonthlyStatRepository.addToStat(UUID.randomUUID(),
+                createdAt.getYear() * 100 + createdAt.getMonthValue(),
+                statsDepartmentId(request),
+                status.name(),
+                sign,
+                request.getSalaryIncrease().multiply(BigDecimal.valueOf(sign)));
+    }
+
+    // Department the request is counted under; recorded on the request the first time it is counted
+    // (the request is managed by the caller's transaction, so the value is saved with it)
+    private static UUID statsDepartmentId(PromotionRequest request) {
+        if (request.getStatsDepartmentId() == null) {
+            request.setStatsDepartmentId(
+                    request.getCurrentJobPosition() != null && request.getCurrentJobPosition().getDepartment() != null
+                            ? request.getCurrentJobPosition().getDepartment().getId()
+                            : PromotionMonthlyStat.UNASSIGNED_DEPARTMENT);
+        }
+        return request.getStatsDepartmentId();
+    }
+
+    private List<MonthlyPromotionTrendDTO> buildMonthlyTrends(int year, int fromPeriodKey, int toPeriodKey, UUID departmentId) {
+        // key: month, value: {total, approved, implemented} counts and the implemented salary increase
+        Map<Integer, long[]> counts = new LinkedHashMap<>();
+        Map<Integer, BigDecimal> implementedIncrease = new HashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            counts.put(month, new long[3]);
+        }
+
+        for (Object[] row : promotionMonthlyStatRepository.getMonthlyTotals(fromPeriodKey, toPeriodKey, departmentId)) {
+            int month = ((Number) row[0]).intValue() % 100;
+            PromotionStatus status = (PromotionStatus) row[1];
+            long count = ((Number) row[2]).longValue();
+
+            long[] monthCounts = counts.get(month);
+            monthCounts[0] += count;
+            if (status == PromotionStatus.APPROVED || status == PromotionStatus.IMPLEMENTED) {
+                monthCounts[1] += count;
+            }
+            if (status == PromotionStatus.IMPLEMENTED) {
+                monthCounts[2] += count;
+                implementedIncrease.put(month, (BigDecimal) row[3]);
+            }
+        }
+
+        List<MonthlyPromotionTrendDTO> trends = new ArrayList<>();
+        counts.forEach((month, monthCounts) -> trends.add(MonthlyPromotionTrendDTO.builder()
+                .year(year)
+                .month(month)
+                .monthName(Month.of(month).name())
+                .totalRequests(monthCounts[0])
+                .approvedPromotions(monthCounts[1])
+                .implementedPromotions(monthCounts[2])
+                .averageSalaryIncrease(average(implementedIncrease.get(month), monthCounts[2]))
+                .build()));
+        return trends;
+    }
+
+    private void addDepartmentFigures(PromotionAnalyticsDTO.PromotionAnalyticsDTOBuilder builder,
+                                      int fromPeriodKey, int toPeriodKey, UUID departmentId) {
+        // Keyed by department id: two departments may share a name
+        Map<UUID, String> departmentNames = new HashMap<>();
+        Map<UUID, Long> totalByDepartment = new HashMap<>();
+        Map<UUID, Long> approvedByDepartment = new HashMap<>();
+        Map<UUID, Long> implementedByDepartment = new HashMap<>();
+        Map<UUID, BigDecimal> implementedIncreaseByDepartment = new HashMap<>();
+
+        for (Object[] row : promotionMonthlyStatRepository.getDepartmentTotals(fromPeriodKey, toPeriodKey, departmentId)) {
+            UUID department = (UUID) row[0];
+            departmentNames.put(department, row[1] != null ? (String) row[1] : "Unassigned");
+            PromotionStatus status = (PromotionStatus) row[2];
+            long count = ((Number) row[3]).longValue();
+
+            totalByDepartment.merge(department, count, Long::sum);
+            if (status == PromotionStatus.APPROVED || status == PromotionStatus.IMPLEMENTED) {
+                approvedByDepartment.merge(department, count, Long::sum);
+            }
+            if (status == PromotionStatus.IMPLEMENTED) {
+                implementedByDepartment.merge(department, count, Long::sum);
+                implementedIncreaseByDepartment.put(department, (BigDecimal) row[4]);
+            }
+        }
+
+        Map<UUID, BigDecimal> averageIncrease = new HashMap<>();
+        implementedByDepartment.forEach((department, count) ->
+                averageIncrease.put(department, average(implementedIncreaseByDepartment.get(department), count)));
+
+        Map<UUID, Double> approvalRate = new HashMap<>();
+        totalByDepartment.forEach((department, total) -> approvalRate.put(department, total > 0
+                ? (double) approvedByDepartment.getOrDefault(department, 0L) / total * 100 : 0.0));
+
+        builder.promotionsByDepartment(implementedByDepartment)
+                .averageSalaryIncreaseByDepartment(averageIncrease)
+                .approvalRateByDepartment(approvalRate)
+                .departmentNames(departmentNames);
+    }
+
+    private List<TopPerformerDTO> buildTopPerformers(LocalDateTime from, LocalDateTime to, UUID departmentId) {
+        List<TopPerformerDTO> performers = new ArrayList<>();
+        for (Object[] row : promotionRequestRepository.findTopPromotedEmployees(
+                from, to, departmentId, PageRequest.of(0, TOP_PERFORMERS_LIMIT))) {
+            int promotions = ((Number) row[5]).intValue();
+            LocalDateTime firstPromotion = (LocalDateTime) row[7];
+            LocalDateTime lastPromotion = (LocalDateTime) row[8];
+            double averageMonthsBetween = promotions > 1
+                    ? (double) ChronoUnit.MONTHS.between(firstPromotion, lastPromotion) / (promotions - 1)
+                    : 0.0;
+
+            performers.add(TopPerformerDTO.builder()
+                    .employeeId((UUID) row[0])
+                    .employeeName(row[1] + " " + row[2])
+                    .currentPosition((String) row[3])
+                    .department((String) row[4])
+                    .totalPromotions(promotions)
+                    .averageTimeBetweenPromotions(averageMonthsBetween)
+                    .totalSalaryIncrease((BigDecimal) row[6])
+                    .lastPromotionDate(lastPromotion)
+                    .build());
+        }
+        return performers;
+    }
+
+    private static Map<String, Long> toCountMap(List<Object[]> rows) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static BigDecimal average(BigDecimal total, long count) {
+        if (total == null || count <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
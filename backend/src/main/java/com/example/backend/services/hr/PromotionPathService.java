@@ -0,0 +1,99 @@
+package com.example.backend.services.hr;
+
+import com.example.backend.models.hr.JobPosition;
+import com.example.backend.models.hr.PromotionPathEdge;
+import com.example.backend.models.hr.PromotionRequest;
+import com.example.backend.repositories.hr.PromotionPathEdgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the promotion path graph (position -> position edges weighted by the
+ * number of implemented promotions) and answers career path reads from it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PromotionPathService {
+
+    private final PromotionPathEdgeRepository promotionPathEdgeRepository;
+
+    /**
+     * Add an implemented promotion to the graph. Runs in the caller's transaction
+     * so the edge count only changes if the promotion itself is committed.
+     */
+    @Transactional
+    public void recordPromotion(PromotionRequest request) {
+        JobPosition from = request.getCurrentJobPosition();
+        JobPosition to = request.getPromotedToJobPosition();
+        if (from == null || to == null || from.getId().equals(to.getId())) {
+            return;
+        }
+
+        LocalDateTime promotedAt = request.getImplementedAt() != null ? request.getImplementedAt() : LocalDateTime.now();
+        promotionPathEdgeRepository.incrementEdge(UUID.randomUUID(), from.getId(), to.getId(), promotedAt);
+    }
+
+    /**
+     * Recompute the whole graph from implemented promotion requests (backfill/repair)
+     *
+     * @return number of edges written
+     */
+    @Transactional
+    public int rebuildGraph() {
+        promotionPathEdgeRepository.deleteAllEdges();
+        int edges = promotionPathEdgeRepository.rebuildFromPromotionRequests();
+        log.info("Rebuilt promotion path graph with {} edges", edges);
+        return edges;
+    }
+
+    /**
+     * Positions employees have been promoted to from the given position, most common first
+     */
+    @Transactional(readOnly = true)
+    public List<JobPosition> getDestinations(UUID positionId) {
+        return promotionPathEdgeRepository.findDestinations(positionId).stream()
+                .map(PromotionPathEdge::getToPosition)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Positions employees have been promoted from into the given position, most common first
+     */
+    @Transactional(readOnly = true)
+    public List<JobPosition> getSources(UUID positionId) {
+        return promotionPathEdgeRepository.findSources(positionId).stream()
+                .map(PromotionPathEdge::getFromPosition)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Names of the most common next positions from the given position
+     */
+    @Transactional(readOnly = true)
+    public List<String> getCareerPathSuggestions(UUID positionId, int limit) {
+        return promotionPathEdgeRepository.findDestinationNames(positionId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Destination position names with their promotion counts, most common first
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getDestinationCounts(UUID positionId) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : promotionPathEdgeRepository.findDestinationCounts(positionId)) {
+            counts.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+}
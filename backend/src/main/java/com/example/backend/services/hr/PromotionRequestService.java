@@ -1,11 +1,13 @@
 package com.example.backend.services.hr;
 
+import com.example.backend.events.JobPositionChangedEvent;
 import com.example.backend.models.hr.*;
 import com.example.backend.models.notification.NotificationType;
 import com.example.backend.repositories.hr.*;
 import com.example.backend.services.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,9 @@ public class PromotionRequestService {
     private final EmployeeRepository employeeRepository;
     private final JobPositionRepository jobPositionRepository;
     private final NotificationService notificationService;
+    private final PromotionPathService promotionPathService;
+    private final PromotionAnalyticsService promotionAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new promotion request
@@ -101,6 +106,8 @@ public class PromotionRequestService {
             }
 
             PromotionRequest savedRequest = promotionRequestRepository.save(promotionRequest);
+            promotionAnalyticsService.recordCreated(savedRequest);
+            publishPositionsChanged(savedRequest);
             
             // Send notifications
             sendPromotionRequestNotifications(savedRequest, "created");
@@ -174,6 +181,8 @@ public class PromotionRequestService {
             }
 
             PromotionRequest updatedRequest = promotionRequestRepository.save(request);
+            promotionAnalyticsService.recordStatusChange(updatedRequest, PromotionRequest.PromotionStatus.PENDING);
+            publishPositionsChanged(updatedRequest);
             
             // Send notifications
             sendPromotionRequestNotifications(updatedRequest, action);
@@ -216,7 +225,8 @@ public class PromotionRequestService {
             }
 
             Employee employee = request.getEmployee();
-            
+            eventPublisher.publishEvent(new JobPositionChangedEvent(employee.getJobPosition()));
+
             // Update employee's job position
             employee.setJobPosition(request.getPromotedToJobPosition());
             
@@ -232,6 +242,11 @@ public class PromotionRequestService {
             request.setImplementedAt(LocalDateTime.now());
 
             PromotionRequest implementedRequest = promotionRequestRepository.save(request);
+
+            // Keep the promotion path graph and monthly stats in step with implemented promotions
+            promotionPathService.recordPromotion(implementedRequest);
+            promotionAnalyticsService.recordStatusChange(implementedRequest, PromotionRequest.PromotionStatus.APPROVED);
+            publishPositionsChanged(implementedRequest);
             
             // Send notifications
             sendPromotionRequestNotifications(implementedRequest, "implemented");
@@ -311,10 +326,13 @@ public class PromotionRequestService {
                 throw new RuntimeException("Cannot cancel a completed promotion request");
             }
 
+            PromotionRequest.PromotionStatus previousStatus = request.getStatus();
             request.setStatus(PromotionRequest.PromotionStatus.CANCELLED);
             request.setRejectionReason(reason);
             
             PromotionRequest cancelledRequest = promotionRequestRepository.save(request);
+            promotionAnalyticsService.recordStatusChange(cancelledRequest, previousStatus);
+            publishPositionsChanged(cancelledRequest);
             
             sendPromotionRequestNotifications(cancelledRequest, "cancelled");
             
@@ -330,20 +348,14 @@ public class PromotionRequestService {
      * Get promotion statistics
      */
     public Map<String, Object> getPromotionStatistics() {
-        long totalRequests = promotionRequestRepository.count();
-        long pendingRequests = promotionRequestRepository.countByStatus(PromotionRequest.PromotionStatus.PENDING);
-        long approvedRequests = promotionRequestRepository.countByStatus(PromotionRequest.PromotionStatus.APPROVED);
-        long implementedRequests = promotionRequestRepository.countByStatus(PromotionRequest.PromotionStatus.IMPLEMENTED);
-        long rejectedRequests = promotionRequestRepository.countByStatus(PromotionRequest.PromotionStatus.REJECTED);
-
-        return Map.of(
-                "totalRequests", totalRequests,
-                "pendingRequests", pendingRequests,
-                "approvedRequests", approvedRequests,
-                "implementedRequests", implementedRequests,
-                "rejectedRequests", rejectedRequests,
-                "approvalRate", totalRequests > 0 ? (double) implementedRequests / totalRequests * 100 : 0.0
-        );
+        // Served from the monthly rollup with one grouped query
+        return promotionAnalyticsService.getStatusStatistics();
+    }
+
+    // Promotion figures of both positions are shown on their details pages
+    private void publishPositionsChanged(PromotionRequest request) {
+        eventPublisher.publishEvent(new JobPositionChangedEvent(
+                request.getCurrentJobPosition(), request.getPromotedToJobPosition()));
     }
 
     /**
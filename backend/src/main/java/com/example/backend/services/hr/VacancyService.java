@@ -1,6 +1,7 @@
 package com.example.backend.services.hr;
 
 import com.example.backend.dto.hr.CreateVacancyDTO;
+import com.example.backend.events.JobPositionChangedEvent;
 import com.example.backend.models.hr.Candidate;
 import com.example.backend.models.hr.JobPosition;
 import com.example.backend.models.hr.Vacancy;
@@ -11,15 +12,19 @@ import com.example.backend.repositories.hr.JobPositionRepository;
 import com.example.backend.services.notification.NotificationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class VacancyService {
@@ -36,6 +41,9 @@ public class VacancyService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<Vacancy> getAllVacancies() {
         return vacancyRepository.findAll();
     }
@@ -94,6 +102,7 @@ public class VacancyService {
                 .build();
 
         Vacancy saved = vacancyRepository.save(vacancy);
+        eventPublisher.publishEvent(new JobPositionChangedEvent(saved.getJobPosition()));
 
         // Optional notification logic
         try {
@@ -160,6 +169,7 @@ public class VacancyService {
             String oldStatus = vacancy.getStatus();
             String oldPriority = vacancy.getPriority();
             LocalDate oldClosingDate = vacancy.getClosingDate();
+            JobPosition oldJobPosition = vacancy.getJobPosition();
 
             vacancy.setTitle(vacancyDetails.getTitle());
             vacancy.setDescription(vacancyDetails.getDescription());
@@ -173,6 +183,7 @@ public class VacancyService {
             vacancy.setJobPosition(vacancyDetails.getJobPosition());
 
             Vacancy updatedVacancy = vacancyRepository.save(vacancy);
+            eventPublisher.publishEvent(new JobPositionChangedEvent(oldJobPosition, updatedVacancy.getJobPosition()));
 
             // Send notifications about significant changes
             sendVacancyUpdateNotifications(updatedVacancy, oldStatus, oldPriority, oldClosingDate);
@@ -289,6 +300,7 @@ public class VacancyService {
             }
 
             vacancyRepository.deleteById(id);
+            eventPublisher.publishEvent(new JobPositionChangedEvent(vacancy.getJobPosition()));
 
             // Send notification about vacancy deletion
             notificationService.sendNotificationToHRUsers(
@@ -353,6 +365,7 @@ public class VacancyService {
             // Update vacancy hired count
             vacancy.incrementHiredCount();
             vacancyRepository.save(vacancy);
+            eventPublisher.publishEvent(new JobPositionChangedEvent(vacancy.getJobPosition()));
 
             // Send hiring notifications
             notificationService.sendNotificationToHRUsers(
@@ -420,17 +433,7 @@ public class VacancyService {
     @Transactional
     public void moveCandidatesToPotentialList(UUID vacancyId) {
         try {
-            List<Candidate> activeCandidates = candidateRepository.findByVacancyId(vacancyId)
-                    .stream()
-                    .filter(Candidate::isActive)
-                    .collect(Collectors.toList());
-
-            int candidatesMoved = 0;
-            for (Candidate candidate : activeCandidates) {
-                candidate.setCandidateStatus(Candidate.CandidateStatus.POTENTIAL);
-                candidateRepository.save(candidate);
-                candidatesMoved++;
-            }
+            int candidatesMoved = candidateRepository.moveActiveCandidatesToPotential(vacancyId);
 
             if (candidatesMoved > 0) {
                 notificationService.sendNotificationToHRUsers(
@@ -458,26 +461,16 @@ public class VacancyService {
      */
     public Map<String, Object> getVacancyStatistics(UUID vacancyId) {
         Vacancy vacancy = getVacancyById(vacancyId);
-        List<Candidate> candidates = candidateRepository.findByVacancyId(vacancyId);
-
-        long appliedCount = candidates.stream()
-                .filter(c -> c.getCandidateStatus() == Candidate.CandidateStatus.APPLIED)
-                .count();
-        long underReviewCount = candidates.stream()
-                .filter(c -> c.getCandidateStatus() == Candidate.CandidateStatus.UNDER_REVIEW)
-                .count();
-        long interviewedCount = candidates.stream()
-                .filter(c -> c.getCandidateStatus() == Candidate.CandidateStatus.INTERVIEWED)
-                .count();
-        long hiredCount = candidates.stream()
-                .filter(c -> c.getCandidateStatus() == Candidate.CandidateStatus.HIRED)
-                .count();
-        long potentialCount = candidates.stream()
-                .filter(c -> c.getCandidateStatus() == Candidate.CandidateStatus.POTENTIAL)
-                .count();
+        Map<Candidate.CandidateStatus, Long> statusCounts = new EnumMap<>(Candidate.CandidateStatus.class);
+        for (Object[] row : candidateRepository.countByStatusForVacancy(vacancyId)) {
+            if (row[0] != null) {
+                statusCounts.put((Candidate.CandidateStatus) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        long totalCandidates = statusCounts.values().stream().mapToLong(Long::longValue).sum();
 
         // Check for vacancy status alerts
-        checkVacancyAlerts(vacancy, candidates.size());
+        checkVacancyAlerts(vacancy, totalCandidates);
 
         return Map.of(
                 "totalPositions", vacancy.getNumberOfPositions(),
@@ -487,12 +480,12 @@ public class VacancyService {
                 "isFull", vacancy.isFull(),
                 "closingDate", vacancy.getClosingDate(),
                 "candidateStats", Map.of(
-                        "applied", appliedCount,
-                        "underReview", underReviewCount,
-                        "interviewed", interviewedCount,
-                        "hired", hiredCount,
-                        "potential", potentialCount,
-                        "total", candidates.size()
+                        "applied", statusCounts.getOrDefault(Candidate.CandidateStatus.APPLIED, 0L),
+                        "underReview", statusCounts.getOrDefault(Candidate.CandidateStatus.UNDER_REVIEW, 0L),
+                        "interviewed", statusCounts.getOrDefault(Candidate.CandidateStatus.INTERVIEWED, 0L),
+                        "hired", statusCounts.getOrDefault(Candidate.CandidateStatus.HIRED, 0L),
+                        "potential", statusCounts.getOrDefault(Candidate.CandidateStatus.POTENTIAL, 0L),
+                        "total", totalCandidates
                 )
         );
     }
@@ -500,7 +493,7 @@ public class VacancyService {
     /**
      * Check for vacancy alerts and send notifications
      */
-    private void checkVacancyAlerts(Vacancy vacancy, int totalCandidates) {
+    private void checkVacancyAlerts(Vacancy vacancy, long totalCandidates) {
         LocalDate now = LocalDate.now();
 
         // Check if vacancy is closing soon
@@ -550,8 +543,14 @@ public class VacancyService {
      * Get potential candidates (from filled vacancies)
      */
     public List<Candidate> getPotentialCandidates() {
-        return candidateRepository.findAll().stream()
-                .filter(c -> c.getCandidateStatus() == Candidate.CandidateStatus.POTENTIAL)
-                .collect(Collectors.toList());
+        return candidateRepository.findByCandidateStatus(Candidate.CandidateStatus.POTENTIAL);
+    }
+
+    /**
+     * Get one page of potential candidates, most recent applications first
+     */
+    public Page<Candidate> getPotentialCandidates(int page, int size) {
+        return candidateRepository.findByCandidateStatus(Candidate.CandidateStatus.POTENTIAL,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "applicationDate")));
     }
 }
\ No newline at end of file
@@ -0,0 +1,437 @@
+package com.example.backend.services.impl;
+
+import com.example.backend.services.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * FileStorageService for on-prem sites without S3: objects are stored on a local or NFS volume.
+ *
+ * Layout under the root path:
+ *   objects/ab/cd/abcd...   file content, named by its SHA-256 (identical files are stored once)
+ *   refs/bucket/key         small text file: content hash and content type of bucket/key
+ *   tmp/                    uploads in progress
+ *
+ * Deleting a key only removes its ref; content no ref points to any more is removed by a
+ * scheduled sweep once it is older than storage.local.sweep-grace-minutes.
+ *
+ * Files are served by LocalFileController, which supports range requests and zero-copy transfer.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Slf4j
+public class LocalFileStorageService implements FileStorageService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final Path objectsRoot;
+    private final Path refsRoot;
+    private final Path tmpRoot;
+    private final String baseUrl;
+    private final String bucketName;
+    private final Duration sweepGrace;
+
+    public LocalFileStorageService(@Value("${storage.local.root-path:./data/storage}") String rootPath,
+                                   @Value("${app.base-url:http://localhost:8080}") String baseUrl,
+                                   @Value("${aws.s3.bucket-name:rockops}") String bucketName,
+                                   @Value("${storage.local.sweep-grace-minutes:60}") long sweepGraceMinutes) {
+        Path root = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.objectsRoot = root.resolve("objects");
+        this.refsRoot = root.resolve("refs");
+        this.tmpRoot = root.resolve("tmp");
+        this.baseUrl = baseUrl;
+        this.bucketName = bucketName;
+        this.sweepGrace = Duration.ofMinutes(Math.max(1, sweepGraceMinutes));
+    }
+
+    /**
+     * A stored object resolved to the file holding its content
+     */
+    public record StoredObject(Path path, String contentHash, String contentType, long size, long lastModified) {
+    }
+
+    /**
+     * Resolve bucket/key to its content file, for serving downloads
+     */
+    public Optional<StoredObject> getObject(String bucketName, String key) {
+        Path ref = refPath(bucketName, key);
+        if (!Files.isRegularFile(ref)) {
+            return Optional.empty();
+        }
+        try {
+            List<String> lines = Files.readAllLines(ref, StandardCharsets.UTF_8);
+            String hash = lines.get(0).trim();
+            String contentType = lines.size() > 1 && !lines.get(1).isBlank() ? lines.get(1).trim() : DEFAULT_CONTENT_TYPE;
+            Path content = objectPath(hash);
+            if (!Files.isRegularFile(content)) {
+                log.warn("Content {} for {}/{} is missing", hash, bucketName, key);
+                return Optional.empty();
+            }
+            return Optional.of(new StoredObject(content, hash, contentType, Files.size(content),
+                    Files.getLastModifiedTime(ref).toMillis()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading stored object " + bucketName + "/" + key, e);
+        }
+    }
+
+    /**
+     * Store content read from a stream under bucket/key, e.g. for uploads that are not multipart files
+     */
+    public void putObject(String bucketName, String key, InputStream inputStream, String contentType) throws IOException {
+        store(bucketName, key, inputStream, contentType);
+    }
+
+    /**
+     * Remove content files no ref points to, and abandoned temp files. Only files older than
+     * the grace period are considered, so content an upload is about to reference is kept.
+     */
+    @Scheduled(cron = "${storage.local.sweep-cron:0 45 3 * * *}")
+    public void sweepUnreferencedContent() {
+        FileTime cutoff = FileTime.from(Instant.now().minus(sweepGrace));
+        try {
+            // Candidates are collected before the refs are read: content stored after this point is newer than the cutoff
+            List<Path> candidates = findFilesOlderThan(objectsRoot, cutoff);
+            if (!candidates.isEmpty()) {
+                Set<String> referenced = referencedHashes();
+                int removed = 0;
+                for (Path content : candidates) {
+                    if (!referenced.contains(content.getFileName().toString())
+                            && Files.getLastModifiedTime(content).compareTo(cutoff) < 0) {
+                        Files.deleteIfExists(content);
+                        removed++;
+                    }
+                }
+                if (removed > 0) {
+                    log.info("Removed {} unreferenced content files from local storage", removed);
+                }
+            }
+            for (Path tmp : findFilesOlderThan(tmpRoot, cutoff)) {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Local storage sweep failed: {}", e.getMessage());
+        }
+    }
+
+    // Basic file operations
+
+    @Override
+    public String uploadFile(MultipartFile file) throws Exception {
+        String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
+        return uploadFile(bucketName, file, fileName);
+    }
+
+    @Override
+    public String uploadFile(String bucketName, MultipartFile file, String fileName) throws Exception {
+        try (InputStream inputStream = file.getInputStream()) {
+            store(bucketName, fileName, inputStream, file.getContentType());
+        } catch (IOException e) {
+            throw new Exception("Error storing file locally: " + e.getMessage());
+        }
+        return fileName;
+    }
+
+    @Override
+    public void uploadFile(MultipartFile file, String fileName) throws Exception {
+        uploadFile(bucketName, file, fileName);
+    }
+
+    @Override
+    public InputStream downloadFile(String fileName) throws Exception {
+        StoredObject object = getObject(bucketName, fileName)
+                .orElseThrow(() -> new Exception("File not found: " + fileName));
+        return Files.newInputStream(object.path());
+    }
+
+    @Override
+    public String getFileUrl(String fileName) {
+        return getFileUrl(bucketName, fileName);
+    }
+
+    @Override
+    public String getFileUrl(String bucketName, String fileName) {
+        return baseUrl + "/api/v1/files/" + UriUtils.encodePathSegment(bucketName, StandardCharsets.UTF_8)
+                + "/" + UriUtils.encodePath(fileName, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void deleteFile(String fileName) {
+        deleteFile(bucketName, fileName);
+    }
+
+    @Override
+    public void deleteFile(String bucketName, String fileName) {
+        // Exact key only. The content file may be shared by other keys; the sweep removes it once unreferenced.
+        try {
+            if (Files.deleteIfExists(refPath(bucketName, fileName))) {
+                log.info("Deleted local file {}/{}", bucketName, fileName);
+            }
+        } catch (IOException e) {
+            log.error("Error deleting local file {}/{}: {}", bucketName, fileName, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<S3Object> listFiles(String bucketName) throws Exception {
+        List<S3Object> files = new ArrayList<>();
+        for (String key : listKeys(bucketName)) {
+            getObject(bucketName, key).ifPresent(object -> files.add(S3Object.builder()
+                    .key(key)
+                    .size(object.size())
+                    .eTag(object.contentHash())
+                    .lastModified(java.time.Instant.ofEpochMilli(object.lastModified()))
+                    .build()));
+        }
+        return files;
+    }
+
+    @Override
+    public String findFirstKey(String bucketName, String prefix) throws Exception {
+        return listKeys(bucketName).stream()
+                .filter(key -> key.startsWith(prefix))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // Bucket operations
+
+    @Override
+    public void createBucketIfNotExists(String bucketName) {
+        try {
+            Files.createDirectories(bucketPath(bucketName));
+        } catch (IOException e) {
+            log.error("Error creating local bucket {}: {}", bucketName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void setBucketPublicReadPolicy(String bucketName) {
+        // Local files are served by LocalFileController; there is no bucket policy
+    }
+
+    @Override
+    public void initializeService() {
+        try {
+            Files.createDirectories(objectsRoot);
+            Files.createDirectories(refsRoot);
+            Files.createDirectories(tmpRoot);
+            createBucketIfNotExists(bucketName);
+            log.info("Local file storage initialized at {}", objectsRoot.getParent());
+        } catch (IOException e) {
+            log.error("Local file storage initialization failed: {}", e.getMessage());
+        }
+    }
+
+    // Equipment-specific methods
+
+    @Override
+    public void createEquipmentBucket(UUID equipmentId) {
+        createBucketIfNotExists("equipment-" + equipmentId);
+    }
+
+    @Override
+    public String uploadEquipmentFile(UUID equipmentId, MultipartFile file, String customFileName) throws Exception {
+        String fileName = customFileName.isEmpty() ?
+                UUID.randomUUID().toString() + "_" + file.getOriginalFilename() :
+                customFileName + "_" + file.getOriginalFilename();
+        return uploadFile("equipment-" + equipmentId, file, fileName);
+    }
+
+    @Override
+    public String getEquipmentMainPhoto(UUID equipmentId) {
+        String equipmentBucket = "equipment-" + equipmentId;
+        try {
+            return listKeys(equipmentBucket).stream()
+                    .filter(key -> key.startsWith("Main_Image"))
+                    .findFirst()
+                    .map(key -> getFileUrl(equipmentBucket, key))
+                    .orElse(null);
+        } catch (IOException e) {
+            log.error("Error getting equipment main photo: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void deleteEquipmentFile(UUID equipmentId, String fileName) throws Exception {
+        deleteFile("equipment-" + equipmentId, fileName);
+    }
+
+    @Override
+    public String getEquipmentFileUrl(UUID equipmentId, String documentPath) {
+        return getFileUrl("equipment-" + equipmentId, documentPath);
+    }
+
+    // Entity file methods
+
+    @Override
+    public void uploadEntityFile(String entityType, UUID entityId, MultipartFile file, String fileName) throws Exception {
+        uploadFile(entityType + "-" + entityId, file, fileName);
+    }
+
+    @Override
+    public String getEntityFileUrl(String entityType, UUID entityId, String fileName) {
+        return getFileUrl(entityType + "-" + entityId, fileName);
+    }
+
+    @Override
+    public void deleteEntityFile(String entityType, UUID entityId, String fileName) {
+        deleteFile(entityType + "-" + entityId, fileName);
+    }
+
+    // Presigned URL methods: local files are not signed, the plain file URL is returned
+
+    @Override
+    public String getPresignedDownloadUrl(String fileName, int expirationMinutes) {
+        return getFileUrl(fileName);
+    }
+
+    @Override
+    public String getPresignedDownloadUrl(String bucketName, String fileName, int expirationMinutes) {
+        return getFileUrl(bucketName, fileName);
+    }
+
+    // Helper Methods
+
+    /**
+     * Stream content to a temp file while hashing it, move it to its content-addressed
+     * location (unless identical content is already stored) and point the key at it
+     */
+    private void store(String bucketName, String key, InputStream inputStream, String contentType) throws IOException {
+        Path ref = refPath(bucketName, key);
+        Files.createDirectories(tmpRoot);
+        Path tmp = Files.createTempFile(tmpRoot, "upload-", ".tmp");
+
+        try {
+            MessageDigest digest = sha256();
+            try (DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
+                Files.copy(digestStream, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path content = objectPath(hash);
+            if (Files.exists(content)) {
+                Files.delete(tmp);
+                // Mark the shared content as in use so the sweep does not remove it before the ref is written
+                Files.setLastModifiedTime(content, FileTime.from(Instant.now()));
+            } else {
+                Files.createDirectories(content.getParent());
+                try {
+                    Files.move(tmp, content, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content stored concurrently
+                    Files.deleteIfExists(tmp);
+                }
+            }
+
+            writeRef(ref, hash, contentType);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void writeRef(Path ref, String hash, String contentType) throws IOException {
+        Files.createDirectories(ref.getParent());
+        Path tmpRef = Files.createTempFile(tmpRoot, "ref-", ".tmp");
+        Files.writeString(tmpRef, hash + "\n" + (contentType != null ? contentType : DEFAULT_CONTENT_TYPE) + "\n",
+                StandardCharsets.UTF_8);
+        Files.move(tmpRef, ref, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Set<String> referencedHashes() throws IOException {
+        Set<String> hashes = new HashSet<>();
+        if (!Files.isDirectory(refsRoot)) {
+            return hashes;
+        }
+        try (Stream<Path> refs = Files.find(refsRoot, Integer.MAX_VALUE, (path, attributes) -> attributes.isRegularFile())) {
+            for (Path ref : (Iterable<Path>) refs::iterator) {
+                try (BufferedReader reader = Files.newBufferedReader(ref, StandardCharsets.UTF_8)) {
+                    String hash = reader.readLine();
+                    if (hash != null) {
+                        hashes.add(hash.trim());
+                    }
+                } catch (NoSuchFileException e) {
+                    // Deleted or replaced while scanning
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private static List<Path> findFilesOlderThan(Path directory, FileTime cutoff) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.find(directory, Integer.MAX_VALUE,
+                (path, attributes) -> attributes.isRegularFile() && attributes.lastModifiedTime().compareTo(cutoff) < 0)) {
+            return paths.collect(Collectors.toList());
+        }
+    }
+
+    private List<String> listKeys(String bucketName) throws IOException {
+        Path bucket = bucketPath(bucketName);
+        if (!Files.isDirectory(bucket)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.find(bucket, Integer.MAX_VALUE, (path, attributes) -> attributes.isRegularFile())) {
+            return paths.map(path -> bucket.relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path bucketPath(String bucketName) {
+        return confine(refsRoot, refsRoot.resolve(bucketName));
+    }
+
+    private Path refPath(String bucketName, String key) {
+        Path bucket = bucketPath(bucketName);
+        return confine(bucket, bucket.resolve(key));
+    }
+
+    private Path objectPath(String hash) {
+        if (!hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid content hash");
+        }
+        return objectsRoot.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    // Reject bucket names and keys that would escape the storage directory (e.g. "../")
+    private static Path confine(Path parent, Path path) {
+        Path normalized = path.normalize();
+        if (!normalized.startsWith(parent) || normalized.equals(parent)) {
+            throw new IllegalArgumentException("Invalid storage path: " + path);
+        }
+        return normalized;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
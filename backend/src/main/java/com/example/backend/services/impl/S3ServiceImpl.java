@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
@@ -23,6 +24,7 @@ public class S3ServiceImpl implements FileStorageService {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Set<String> knownBuckets = ConcurrentHashMap.newKeySet();
 
     @Value("${aws.s3.bucket-name:rockops}")
     private String bucketName;
@@ -40,12 +42,18 @@ public class S3ServiceImpl implements FileStorageService {
 
     @Override
     public void createBucketIfNotExists(String bucketName) {
+        // Buckets seen before are not probed again
+        if (knownBuckets.contains(bucketName)) {
+            return;
+        }
+
         try {
             HeadBucketRequest headBucketRequest = HeadBucketRequest.builder()
                     .bucket(bucketName)
                     .build();
             s3Client.headBucket(headBucketRequest);
             System.out.println("✅ S3 bucket exists: " + bucketName);
+            knownBuckets.add(bucketName);
         } catch (NoSuchBucketException e) {
             // Bucket doesn't exist, create it
             CreateBucketRequest createBucketRequest = CreateBucketRequest.builder()
@@ -53,6 +61,7 @@ public class S3ServiceImpl implements FileStorageService {
                     .build();
             s3Client.createBucket(createBucketRequest);
             System.out.println("✅ S3 bucket created: " + bucketName);
+            knownBuckets.add(bucketName);
         } catch (Exception e) {
             System.err.println("Error checking/creating S3 bucket: " + e.getMessage());
         }
@@ -268,6 +277,18 @@ public class S3ServiceImpl implements FileStorageService {
         return response.contents();
     }
 
+    @Override
+    public String findFirstKey(String bucketName, String prefix) throws Exception {
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .maxKeys(1)
+                .build();
+
+        List<S3Object> contents = s3Client.listObjectsV2(listRequest).contents();
+        return contents.isEmpty() ? null : contents.get(0).key();
+    }
+
     @Override
     public void deleteFile(String fileName) {
         deleteFile(bucketName, fileName);
@@ -4,25 +4,42 @@ import com.example.backend.dto.transaction.TransactionDTO;
 import com.example.backend.dto.transaction.TransactionItemDTO;
 import com.example.backend.models.PartyType;
 import com.example.backend.models.equipment.ConsumableResolution;
-import com.example.backend.models.equipment.Equipment;
-import com.example.backend.models.merchant.Merchant;
 import com.example.backend.models.transaction.Transaction;
 import com.example.backend.models.transaction.TransactionItem;
-import com.example.backend.models.warehouse.Warehouse;
 import com.example.backend.repositories.equipment.EquipmentRepository;
 import com.example.backend.repositories.equipment.ConsumableResolutionRepository;
 import com.example.backend.repositories.merchant.MerchantRepository;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Maps transactions to DTOs. A list of transactions is mapped as one batch: sender and
+ * receiver names are resolved with one IN query per party type and consumable resolutions
+ * with one IN query for all transactions, then every DTO is built from those lookups.
+ * Party names rarely change and are additionally kept in a small bounded cache.
+ */
 @Service
 public class TransactionMapperService {
 
+    // Keeps IN lists well below the PostgreSQL bind parameter limit
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     @Autowired
     private WarehouseRepository warehouseRepository;
 
@@ -35,6 +52,21 @@ public class TransactionMapperService {
     @Autowired
     private ConsumableResolutionRepository consumableResolutionRepository;
 
+    @Value("${transaction.mapper.party-name-cache.max-entries:5000}")
+    private int partyNameCacheMaxEntries;
+
+    @Value("${transaction.mapper.party-name-cache.ttl-seconds:300}")
+    private long partyNameCacheTtlSeconds;
+
+    // Access-ordered so the least recently used names are dropped first once the cache is full
+    private final Map<PartyKey, CachedName> partyNameCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PartyKey, CachedName> eldest) {
+                    return size() > partyNameCacheMaxEntries;
+                }
+            });
+
     /**
      * Converts a Transaction entity to TransactionDTO with enhanced sender and receiver names
      */
@@ -42,6 +74,37 @@ public class TransactionMapperService {
         if (transaction == null) {
             return null;
         }
+        return toDTOs(List.of(transaction)).get(0);
+    }
+
+    /**
+     * Converts a list of Transaction entities to TransactionDTOs, resolving party names
+     * and item resolutions for the whole list at once
+     */
+    public List<TransactionDTO> toDTOs(List<Transaction> transactions) {
+        if (transactions == null) {
+            return null;
+        }
+        if (transactions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<PartyKey, String> partyNames = resolvePartyNames(transactions);
+        Map<String, List<ConsumableResolution>> resolutionsByTransaction = resolveResolutions(transactions);
+
+        return transactions.stream()
+                .map(transaction -> transaction == null ? null : toDTO(transaction, partyNames, resolutionsByTransaction))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds a single DTO from the pre-resolved lookups
+     */
+    private TransactionDTO toDTO(Transaction transaction,
+                                 Map<PartyKey, String> partyNames,
+                                 Map<String, List<ConsumableResolution>> resolutionsByTransaction) {
+        List<ConsumableResolution> resolutions = resolutionsByTransaction.getOrDefault(
+                transaction.getId().toString(), Collections.emptyList());
 
         return TransactionDTO.builder()
                 .id(transaction.getId())
@@ -51,10 +114,10 @@ public class TransactionMapperService {
                 .status(transaction.getStatus())
                 .senderType(transaction.getSenderType())
                 .senderId(transaction.getSenderId())
-                .senderName(getEntityName(transaction.getSenderType(), transaction.getSenderId()))
+                .senderName(getEntityName(transaction.getSenderType(), transaction.getSenderId(), partyNames))
                 .receiverType(transaction.getReceiverType())
                 .receiverId(transaction.getReceiverId())
-                .receiverName(getEntityName(transaction.getReceiverType(), transaction.getReceiverId()))
+                .receiverName(getEntityName(transaction.getReceiverType(), transaction.getReceiverId(), partyNames))
                 .rejectionReason(transaction.getRejectionReason())
                 .acceptanceComment(transaction.getAcceptanceComment())
                 .description(transaction.getDescription())
@@ -65,72 +128,46 @@ public class TransactionMapperService {
                 .sentFirst(transaction.getSentFirst())
                 .purpose(transaction.getPurpose())
                 .description(transaction.getDescription())
-                .items(toItemDTOs(transaction.getItems()))
+                .items(toItemDTOs(transaction.getItems(), resolutions))
                 .build();
     }
 
-    /**
-     * Converts a list of Transaction entities to TransactionDTOs
-     */
-
-    public List<TransactionDTO> toDTOs(List<Transaction> transactions) {
-        if (transactions == null) {
-            return null;
-        }
-        return transactions.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
-
     /**
      * Converts TransactionItem entities to TransactionItemDTOs
      */
-    private List<TransactionItemDTO> toItemDTOs(List<TransactionItem> items) {
+    private List<TransactionItemDTO> toItemDTOs(List<TransactionItem> items, List<ConsumableResolution> resolutions) {
         if (items == null) {
             return null;
         }
         return items.stream()
-                .map(this::toItemDTO)
+                .map(item -> toItemDTO(item, resolutions))
                 .collect(Collectors.toList());
     }
 
     /**
      * Converts a single TransactionItem entity to TransactionItemDTO
      */
-    private TransactionItemDTO toItemDTO(TransactionItem item) {
+    private TransactionItemDTO toItemDTO(TransactionItem item, List<ConsumableResolution> resolutions) {
         if (item == null) {
             return null;
         }
 
-        // Get resolution information for this transaction item
-        List<ConsumableResolution> resolutions = consumableResolutionRepository.findByTransactionId(item.getTransaction().getId().toString());
-        
         // Find the relevant resolution for this item type (if any)
         ConsumableResolution relevantResolution = null;
-        if (resolutions != null && !resolutions.isEmpty() && item.getItemType() != null) {
+        if (!resolutions.isEmpty() && item.getItemType() != null) {
             relevantResolution = resolutions.stream()
-                    .filter(resolution -> resolution.getConsumable() != null && 
+                    .filter(resolution -> resolution.getConsumable() != null &&
                             resolution.getConsumable().getItemType() != null &&
                             resolution.getConsumable().getItemType().getId().equals(item.getItemType().getId()))
                     .findFirst()
                     .orElse(null);
         }
 
-        System.out.println("🔄 [MAPPER] Mapping transaction item: " + item.getId() + " for item type: " + (item.getItemType() != null ? item.getItemType().getName() : "null"));
-        System.out.println("📊 [MAPPER] Item resolution data - isResolved: " + item.getIsResolved() + ", resolutionType: " + item.getResolutionType() + ", fullyResolved: " + item.getFullyResolved());
-        System.out.println("📊 [MAPPER] Relevant resolution: " + (relevantResolution != null ? relevantResolution.getResolutionType() : "null"));
-        
         // Handle null/undefined values properly - database might have NULL values
-        Boolean itemIsResolvedBoolean = item.getIsResolved(); // Get Boolean field directly
-        Boolean itemIsFullyResolvedBoolean = item.getFullyResolved(); // Get Boolean field directly
-        
-        boolean finalIsResolved = Boolean.TRUE.equals(itemIsResolvedBoolean) || relevantResolution != null;
-        boolean finalFullyResolved = Boolean.TRUE.equals(itemIsFullyResolvedBoolean) || (relevantResolution != null ? relevantResolution.isFullyResolved() : false);
-        
-        System.out.println("📊 [MAPPER] Raw item values - isResolved: " + itemIsResolvedBoolean + ", fullyResolved: " + itemIsFullyResolvedBoolean + ", final: isResolved=" + finalIsResolved + ", fullyResolved=" + finalFullyResolved);
-        
-        System.out.println("📊 [MAPPER] Final resolution status - isResolved: " + finalIsResolved + ", fullyResolved: " + finalFullyResolved);
-        
+        boolean finalIsResolved = Boolean.TRUE.equals(item.getIsResolved()) || relevantResolution != null;
+        boolean finalFullyResolved = Boolean.TRUE.equals(item.getFullyResolved())
+                || (relevantResolution != null && relevantResolution.isFullyResolved());
+
         return TransactionItemDTO.builder()
                 .id(item.getId())
                 .itemTypeId(item.getItemType() != null ? item.getItemType().getId() : null)
@@ -153,38 +190,123 @@ public class TransactionMapperService {
     }
 
     /**
-     * Gets the entity name based on type and ID
+     * Gets the entity name based on type and ID from the resolved names
      * Enhanced to support all party types: WAREHOUSE, EQUIPMENT, MERCHANT, PROCUREMENT
      */
-    private String getEntityName(PartyType type, UUID entityId) {
+    private String getEntityName(PartyType type, UUID entityId, Map<PartyKey, String> partyNames) {
         if (type == null || entityId == null) {
             return "Unknown";
         }
 
-        try {
-            switch (type) {
-                case WAREHOUSE:
-                    return warehouseRepository.findById(entityId)
-                            .map(Warehouse::getName)
-                            .orElse("Unknown Warehouse");
-                case EQUIPMENT:
-                    return equipmentRepository.findById(entityId)
-                            .map(Equipment::getName)
-                            .orElse("Unknown Equipment");
-                case MERCHANT:
-                    return merchantRepository.findById(entityId)
-                            .map(Merchant::getName)
-                            .orElse("Unknown Merchant");
-                case PROCUREMENT:
-                    // For procurement, we might want to return a generic name or handle differently
-                    return "Procurement Team";
-                default:
-                    return "Unknown Entity";
+        switch (type) {
+            case WAREHOUSE:
+                return partyNames.getOrDefault(new PartyKey(type, entityId), "Unknown Warehouse");
+            case EQUIPMENT:
+                return partyNames.getOrDefault(new PartyKey(type, entityId), "Unknown Equipment");
+            case MERCHANT:
+                return partyNames.getOrDefault(new PartyKey(type, entityId), "Unknown Merchant");
+            case PROCUREMENT:
+                // For procurement, we might want to return a generic name or handle differently
+                return "Procurement Team";
+            default:
+                return "Unknown Entity";
+        }
+    }
+
+    /**
+     * Resolve the names of every sender and receiver in the list: cached names first,
+     * then one IN query per party type for the rest
+     */
+    private Map<PartyKey, String> resolvePartyNames(List<Transaction> transactions) {
+        Map<PartyKey, String> names = new HashMap<>();
+        Map<PartyType, Set<UUID>> missing = new EnumMap<>(PartyType.class);
+        long now = System.currentTimeMillis();
+
+        for (Transaction transaction : transactions) {
+            if (transaction == null) {
+                continue;
+            }
+            collectPartyName(transaction.getSenderType(), transaction.getSenderId(), names, missing, now);
+            collectPartyName(transaction.getReceiverType(), transaction.getReceiverId(), names, missing, now);
+        }
+
+        missing.forEach((type, ids) -> {
+            Function<Collection<UUID>, List<Object[]>> query = nameQueryFor(type);
+            for (List<UUID> chunk : chunk(ids)) {
+                for (Object[] row : query.apply(chunk)) {
+                    if (row[1] == null) {
+                        continue;
+                    }
+                    PartyKey key = new PartyKey(type, (UUID) row[0]);
+                    String name = (String) row[1];
+                    names.put(key, name);
+                    partyNameCache.put(key, new CachedName(name, now + partyNameCacheTtlSeconds * 1000));
+                }
             }
-        } catch (Exception e) {
-            // Log the error but don't fail the transaction mapping
-            System.err.println("Error resolving entity name for type " + type + " and ID " + entityId + ": " + e.getMessage());
-            return "Unknown " + type.toString().toLowerCase();
+        });
+        return names;
+    }
+
+    private void collectPartyName(PartyType type, UUID id, Map<PartyKey, String> names,
+                                  Map<PartyType, Set<UUID>> missing, long now) {
+        if (type == null || id == null || nameQueryFor(type) == null) {
+            return;
         }
+        PartyKey key = new PartyKey(type, id);
+        if (names.containsKey(key)) {
+            return;
+        }
+        CachedName cached = partyNameCache.get(key);
+        if (cached != null && now < cached.expiresAt()) {
+            names.put(key, cached.name());
+        } else {
+            missing.computeIfAbsent(type, t -> new HashSet<>()).add(id);
+        }
+    }
+
+    private Function<Collection<UUID>, List<Object[]>> nameQueryFor(PartyType type) {
+        switch (type) {
+            case WAREHOUSE:
+                return warehouseRepository::findNamesByIdIn;
+            case EQUIPMENT:
+                return equipmentRepository::findNamesByIdIn;
+            case MERCHANT:
+                return merchantRepository::findNamesByIdIn;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Load the consumable resolutions of every transaction in the list, grouped by transaction id
+     */
+    private Map<String, List<ConsumableResolution>> resolveResolutions(List<Transaction> transactions) {
+        Set<String> transactionIds = transactions.stream()
+                .filter(transaction -> transaction != null && transaction.getId() != null)
+                .map(transaction -> transaction.getId().toString())
+                .collect(Collectors.toSet());
+
+        Map<String, List<ConsumableResolution>> resolutions = new HashMap<>();
+        for (List<String> chunk : chunk(transactionIds)) {
+            for (ConsumableResolution resolution : consumableResolutionRepository.findByTransactionIdIn(chunk)) {
+                resolutions.computeIfAbsent(resolution.getTransactionId(), id -> new ArrayList<>()).add(resolution);
+            }
+        }
+        return resolutions;
+    }
+
+    private static <T> List<List<T>> chunk(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    private record PartyKey(PartyType type, UUID id) {
+    }
+
+    private record CachedName(String name, long expiresAt) {
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,8 @@ import com.example.backend.repositories.warehouse.ItemTypeRepository;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,6 +48,8 @@ public class TransactionService {
     private EquipmentRepository equipmentRepository;
     @Autowired
     private ConsumableRepository consumableRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     // ========================================
     // BATCH MATCHING LOGIC - NEW ADDITION
@@ -806,7 +810,14 @@ public class TransactionService {
     // ========================================
 
     private void deductFromWarehouseInventory(UUID warehouseId, ItemType itemType, int quantityToDeduct) {
-        List<Item> availableItems = itemRepository.findAllByItemTypeIdAndWarehouseIdAndItemStatus(
+        // The lots are locked and their new quantities written back as absolute values, so the read and
+        // the writes share one transaction (the caller's when there is one)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                deductFromLockedLots(warehouseId, itemType, quantityToDeduct));
+    }
+
+    private void deductFromLockedLots(UUID warehouseId, ItemType itemType, int quantityToDeduct) {
+        List<Item> availableItems = itemRepository.findLotsForUpdate(
                 itemType.getId(), warehouseId, ItemStatus.IN_WAREHOUSE);
 
         if (availableItems.isEmpty()) {
@@ -3,8 +3,11 @@ package com.example.backend.services.warehouse;
 import com.example.backend.models.notification.NotificationType;
 import com.example.backend.models.warehouse.ItemCategory;
 import com.example.backend.repositories.warehouse.ItemCategoryRepository;
+import com.example.backend.repositories.warehouse.ItemTypeRepository;
+import com.example.backend.services.ReferenceDataCache;
 import com.example.backend.services.notification.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,7 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class ItemCategoryService {
@@ -20,6 +23,19 @@ public class ItemCategoryService {
     @Autowired
     private ItemCategoryRepository itemCategoryRepository;
 
+    @Autowired
+    private ItemTypeRepository itemTypeRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Value("${warehouse.item-category.tree.cache-ttl-seconds:300}")
+    private long treeCacheTtlSeconds;
+
+    // Category hierarchy loaded with one query; dropped on every category write
+    private volatile CachedTree cachedTree;
+    private final AtomicLong treeGeneration = new AtomicLong();
+
     // Make NotificationService optional to avoid startup errors
     @Autowired(required = false)
     private NotificationService notificationService;
@@ -55,6 +71,7 @@ public class ItemCategoryService {
 
         // Save the category
         ItemCategory savedCategory = itemCategoryRepository.save(itemCategory);
+        invalidateCategoryTree();
 
         // Send notification to warehouse users (AUTO USER DETECTION)
         try {
@@ -84,54 +101,66 @@ public class ItemCategoryService {
 
     // Get all categories
     public List<ItemCategory> getAllCategories() {
-        System.out.println("***************");
-        return itemCategoryRepository.findAll();
+        return getCategoryTree().getAllCategories();
     }
 
-    // Get only parent categories (categories that have at least one child)
+    // Get only parent categories (top-level categories without a parent)
     public List<ItemCategory> getParentCategories() {
-        try {
-            List<ItemCategory> allCategories = itemCategoryRepository.findAll();
-
-            // Return only categories that have no parent (i.e., top-level categories)
-            return allCategories.stream()
-                    .filter(category -> category.getParentCategory() == null)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            System.err.println("Error in getParentCategories: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
-        }
+        return new ArrayList<>(getCategoryTree().getRoots());
     }
 
-    // Get only child categories (categories that have a parent or don't have any parent or child)
+    // Get only child categories (categories that have a parent)
     public List<ItemCategory> getChildCategories() {
-        try {
-            List<ItemCategory> allCategories = itemCategoryRepository.findAll();
-
-            // Keep only categories that either have a parent or don't have children
-            return allCategories.stream()
-                    .filter(category ->
-                            (category.getParentCategory() != null)
-                    )
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Log the full exception
-            System.err.println("Error in getChildCategories: " + e.getMessage());
-            e.printStackTrace();
-            // Return empty list instead of failing
-            return new ArrayList<>();
-        }
+        return getCategoryTree().getChildCategories();
     }
 
     // Get true leaf categories (categories that have a parent but have no children of their own)
     public List<ItemCategory> getLeafCategories() {
-        List<ItemCategory> allCategories = itemCategoryRepository.findAll();
+        return getCategoryTree().getLeaves();
+    }
+
+    // Get a category and all of its descendants, depth first
+    public List<ItemCategory> getCategorySubtree(UUID id) {
+        ItemCategoryTree tree = getCategoryTree();
+        if (!tree.contains(id)) {
+            throw new RuntimeException("ItemCategory not found with ID: " + id);
+        }
+        return tree.getSubtree(id);
+    }
+
+    // Get the path from the top-level category down to the given category
+    public List<ItemCategory> getCategoryPath(UUID id) {
+        ItemCategoryTree tree = getCategoryTree();
+        if (!tree.contains(id)) {
+            throw new RuntimeException("ItemCategory not found with ID: " + id);
+        }
+        return tree.getAncestorPath(id);
+    }
 
-        // Keep only categories that have a parent and don't have children of their own
-        return allCategories.stream()
-                .filter(category -> category.getParentCategory() != null && category.getChildCategories().isEmpty())
-                .collect(Collectors.toList());
+    /**
+     * The cached category hierarchy, reloaded with one query when missing or expired
+     */
+    public ItemCategoryTree getCategoryTree() {
+        long now = System.currentTimeMillis();
+        CachedTree cached = cachedTree;
+        if (cached != null && now < cached.expiresAt()) {
+            return cached.tree();
+        }
+
+        // A write during the load bumps the generation; the stale result is then returned but not cached
+        long generation = treeGeneration.get();
+        ItemCategoryTree tree = new ItemCategoryTree(itemCategoryRepository.findAllWithParent());
+        if (treeGeneration.get() == generation) {
+            cachedTree = new CachedTree(tree, now + treeCacheTtlSeconds * 1000);
+        }
+        return tree;
+    }
+
+    public void invalidateCategoryTree() {
+        treeGeneration.incrementAndGet();
+        cachedTree = null;
+        // Cached item types embed their category
+        referenceDataCache.invalidate(ReferenceDataCache.ITEM_TYPES);
     }
 
     // Get a category by its ID
@@ -150,17 +179,18 @@ public class ItemCategoryService {
         String categoryName = itemCategory.getName();
 
         // Check for child categories
-        if (!itemCategory.getChildCategories().isEmpty()) {
+        if (!itemCategoryRepository.findByParentCategoryId(itemCategoryId).isEmpty()) {
             throw new RuntimeException("CHILD_CATEGORIES_EXIST");
         }
 
         // Check for item types
-        if (!itemCategory.getItemTypes().isEmpty()) {
+        if (itemTypeRepository.existsByItemCategoryId(itemCategoryId)) {
             throw new RuntimeException("ITEM_TYPES_EXIST");
         }
 
         // If no dependencies, proceed with deletion
         itemCategoryRepository.delete(itemCategory);
+        invalidateCategoryTree();
         System.out.println("Item category deleted successfully");
 
         // Send notification to warehouse users (AUTO USER DETECTION)
@@ -218,7 +248,7 @@ public class ItemCategoryService {
                 ItemCategory newParent = itemCategoryRepository.findById(parentCategoryId)
                         .orElseThrow(() -> new RuntimeException("Parent category not found with ID: " + parentCategoryId));
 
-                if (isChildOf(newParent, itemCategory)) {
+                if (getCategoryTree().isInSubtree(newParent.getId(), itemCategoryId)) {
                     throw new RuntimeException("Cannot set a child category as a parent (circular reference)");
                 }
 
@@ -231,6 +261,7 @@ public class ItemCategoryService {
 
         // Save the updated category
         ItemCategory updatedCategory = itemCategoryRepository.save(itemCategory);
+        invalidateCategoryTree();
 
         // Send notification to warehouse users (AUTO USER DETECTION)
         try {
@@ -268,27 +299,11 @@ public class ItemCategoryService {
         return updatedCategory;
     }
 
-    // Helper method to check if potentialChild is in the hierarchy of parent
-    private boolean isChildOf(ItemCategory potentialChild, ItemCategory parent) {
-        if (potentialChild == null) {
-            return false;
-        }
-
-        if (potentialChild.getId().equals(parent.getId())) {
-            return true;
-        }
-
-        for (ItemCategory child : parent.getChildCategories()) {
-            if (isChildOf(potentialChild, child)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     // Add this method to your service class
     public List<ItemCategory> getChildrenByParent(UUID parentId) {
-        return itemCategoryRepository.findByParentCategoryId(parentId);
+        return new ArrayList<>(getCategoryTree().getChildren(parentId));
+    }
+
+    private record CachedTree(ItemCategoryTree tree, long expiresAt) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.example.backend.services.warehouse;
+
+import com.example.backend.models.warehouse.ItemCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the item category hierarchy, built from one query.
+ * Categories are detached copies holding only their scalar fields and parent category,
+ * so the snapshot can be shared between requests.
+ */
+public class ItemCategoryTree {
+
+    private final Map<UUID, ItemCategory> categories = new LinkedHashMap<>();
+    private final Map<UUID, List<ItemCategory>> children = new HashMap<>();
+    private final List<ItemCategory> roots = new ArrayList<>();
+
+    ItemCategoryTree(List<ItemCategory> allCategories) {
+        for (ItemCategory category : allCategories) {
+            ItemCategory copy = new ItemCategory();
+            copy.setId(category.getId());
+            copy.setName(category.getName());
+            copy.setDescription(category.getDescription());
+            categories.put(copy.getId(), copy);
+        }
+        for (ItemCategory category : allCategories) {
+            ItemCategory copy = categories.get(category.getId());
+            ItemCategory parent = category.getParentCategory() != null
+                    ? categories.get(category.getParentCategory().getId())
+                    : null;
+            copy.setParentCategory(parent);
+            if (parent == null) {
+                roots.add(copy);
+            } else {
+                children.computeIfAbsent(parent.getId(), id -> new ArrayList<>()).add(copy);
+            }
+        }
+    }
+
+    public List<ItemCategory> getAllCategories() {
+        return new ArrayList<>(categories.values());
+    }
+
+    public ItemCategory getCategory(UUID id) {
+        return categories.get(id);
+    }
+
+    public boolean contains(UUID id) {
+        return categories.containsKey(id);
+    }
+
+    // Top-level categories (no parent)
+    public List<ItemCategory> getRoots() {
+        return Collections.unmodifiableList(roots);
+    }
+
+    // Direct children of a category
+    public List<ItemCategory> getChildren(UUID parentId) {
+        return Collections.unmodifiableList(children.getOrDefault(parentId, Collections.emptyList()));
+    }
+
+    public boolean hasChildren(UUID id) {
+        return children.containsKey(id);
+    }
+
+    // Categories that have a parent
+    public List<ItemCategory> getChildCategories() {
+        List<ItemCategory> result = new ArrayList<>();
+        for (ItemCategory category : categories.values()) {
+            if (category.getParentCategory() != null) {
+                result.add(category);
+            }
+        }
+        return result;
+    }
+
+    // Categories that have a parent but no children of their own
+    public List<ItemCategory> getLeaves() {
+        List<ItemCategory> result = new ArrayList<>();
+        for (ItemCategory category : categories.values()) {
+            if (category.getParentCategory() != null && !hasChildren(category.getId())) {
+                result.add(category);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The category followed by all of its descendants, depth first
+     */
+    public List<ItemCategory> getSubtree(UUID id) {
+        List<ItemCategory> result = new ArrayList<>();
+        ItemCategory category = categories.get(id);
+        if (category != null) {
+            collectSubtree(category, result);
+        }
+        return result;
+    }
+
+    /**
+     * The path from the top-level category down to (and including) the given category
+     */
+    public List<ItemCategory> getAncestorPath(UUID id) {
+        List<ItemCategory> path = new ArrayList<>();
+        ItemCategory current = categories.get(id);
+        // The size guard stops on a corrupted (cyclic) parent chain
+        while (current != null && path.size() <= categories.size()) {
+            path.add(current);
+            current = current.getParentCategory() != null ? categories.get(current.getParentCategory().getId()) : null;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Whether the category is the given ancestor or lies somewhere below it
+     */
+    public boolean isInSubtree(UUID categoryId, UUID ancestorId) {
+        for (ItemCategory category : getAncestorPath(categoryId)) {
+            if (category.getId().equals(ancestorId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * All categories in depth-first order, parents before their children
+     */
+    public List<ItemCategory> getDepthFirstOrder() {
+        List<ItemCategory> result = new ArrayList<>();
+        for (ItemCategory root : roots) {
+            collectSubtree(root, result);
+        }
+        return result;
+    }
+
+    private void collectSubtree(ItemCategory category, List<ItemCategory> result) {
+        result.add(category);
+        for (ItemCategory child : children.getOrDefault(category.getId(), Collections.emptyList())) {
+            collectSubtree(child, result);
+        }
+    }
+}
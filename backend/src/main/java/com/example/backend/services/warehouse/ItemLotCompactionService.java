@@ -0,0 +1,138 @@
+package com.example.backend.services.warehouse;
+
+import com.example.backend.dto.warehouse.ItemLotCompactionResultDTO;
+import com.example.backend.repositories.warehouse.ItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically merges fragmented warehouse lots. FIFO deductions and partial transfers
+ * leave many small IN_WAREHOUSE items of the same type behind; each warehouse is compacted
+ * in its own transaction, several warehouses in parallel, with one set-based statement.
+ * Compaction row-locks the lots it merges. Paths that read lots and write back an absolute
+ * quantity (FIFO deduction, discrepancy merges) lock them as well through
+ * ItemRepository.findLotsForUpdate, so they wait instead of overwriting a merged quantity.
+ */
+@Service
+@Slf4j
+public class ItemLotCompactionService {
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final boolean enabled;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ItemLotCompactionResultDTO lastResult;
+
+    public ItemLotCompactionService(ItemRepository itemRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${warehouse.lot-compaction.enabled:true}") boolean enabled,
+                                    @Value("${warehouse.lot-compaction.parallelism:4}") int parallelism) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "item-lot-compaction-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(cron = "${warehouse.lot-compaction.cron:0 30 2 * * *}")
+    public void scheduledCompaction() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            compactAll();
+        } catch (IllegalStateException e) {
+            log.info("Skipping scheduled lot compaction: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compact every warehouse that has mergeable lots
+     *
+     * @return summary of the run, including the number of item rows removed
+     */
+    public ItemLotCompactionResultDTO compactAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Lot compaction is already running");
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long start = System.currentTimeMillis();
+            List<UUID> warehouseIds = itemRepository.findWarehousesWithFragmentedLots();
+
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (UUID warehouseId : warehouseIds) {
+                futures.add(CompletableFuture.supplyAsync(() -> compactWarehouse(warehouseId), executor));
+            }
+
+            long rowsRemoved = 0;
+            int failed = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    rowsRemoved += futures.get(i).join();
+                } catch (Exception e) {
+                    // One warehouse failing (e.g. a lock conflict) does not stop the others; it is retried next run
+                    failed++;
+                    log.warn("Lot compaction failed for warehouse {}: {}", warehouseIds.get(i), e.getMessage());
+                }
+            }
+
+            ItemLotCompactionResultDTO result = ItemLotCompactionResultDTO.builder()
+                    .startedAt(startedAt)
+                    .durationMillis(System.currentTimeMillis() - start)
+                    .warehousesScanned(warehouseIds.size())
+                    .warehousesFailed(failed)
+                    .rowsRemoved(rowsRemoved)
+                    .build();
+            lastResult = result;
+            log.info("Lot compaction removed {} item rows across {} warehouses ({} failed) in {} ms",
+                    rowsRemoved, warehouseIds.size(), failed, result.getDurationMillis());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Summary of the most recent run, or null if none has run since startup
+     */
+    public ItemLotCompactionResultDTO getLastResult() {
+        return lastResult;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private int compactWarehouse(UUID warehouseId) {
+        Integer removed = transactionTemplate.execute(status -> {
+            // Writers that lock the same lots (findLotsForUpdate) wait until this transaction commits
+            itemRepository.lockCompactableLots(warehouseId);
+            return itemRepository.compactLots(warehouseId);
+        });
+        return removed != null ? removed : 0;
+    }
+}
@@ -1,22 +1,32 @@
 package com.example.backend.services.warehouse;
 
+import com.example.backend.dto.item.ItemReceiptRequestDTO;
+import com.example.backend.dto.item.ItemReceiptResultDTO;
 import com.example.backend.dto.item.ItemResolutionDTO;
 import com.example.backend.models.transaction.Transaction;
 import com.example.backend.models.transaction.TransactionItem;
 import com.example.backend.models.transaction.TransactionStatus;
+import com.example.backend.models.user.Role;
+import com.example.backend.models.user.User;
 import com.example.backend.models.warehouse.*;
 import com.example.backend.repositories.transaction.TransactionRepository;
+import com.example.backend.repositories.user.UserRepository;
 import com.example.backend.repositories.warehouse.ItemRepository;
 import com.example.backend.repositories.warehouse.ItemResolutionRepository;
 import com.example.backend.repositories.warehouse.ItemTypeRepository;
+import com.example.backend.repositories.warehouse.WarehouseEmployeeRepository;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +48,12 @@ public class ItemService {
     @Autowired
     private ItemResolutionRepository itemResolutionRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WarehouseEmployeeRepository warehouseEmployeeRepository;
+
     // Your existing methods...
 
     // Add this logging to your ItemService.getItemsByWarehouse method:
@@ -117,6 +133,98 @@ public class ItemService {
         }
     }
 
+    /**
+     * Receive a whole delivery into one warehouse. Item types and warehouse access are
+     * validated up front for all lines; lines of the same type are combined, merged into
+     * an existing manually received lot when requested, and the new lots are inserted in
+     * JDBC batches.
+     */
+    @Transactional
+    public ItemReceiptResultDTO receiveItems(ItemReceiptRequestDTO request, String username) {
+        if (request.getWarehouseId() == null) {
+            throw new IllegalArgumentException("warehouseId is required");
+        }
+        if (request.getLines() == null || request.getLines().isEmpty()) {
+            throw new IllegalArgumentException("At least one receipt line is required");
+        }
+
+        // Combine lines of the same item type, keeping the order they were sent in
+        Map<UUID, Integer> quantityByType = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < request.getLines().size(); i++) {
+            ItemReceiptRequestDTO.Line line = request.getLines().get(i);
+            if (line.getItemTypeId() == null) {
+                errors.add("Line " + (i + 1) + ": itemTypeId is required");
+            } else if (line.getQuantity() <= 0) {
+                errors.add("Line " + (i + 1) + ": quantity must be positive");
+            } else {
+                quantityByType.merge(line.getItemTypeId(), line.getQuantity(), Integer::sum);
+            }
+        }
+
+        Warehouse warehouse = warehouseRepository.findById(request.getWarehouseId())
+                .orElseThrow(() -> new IllegalArgumentException("Warehouse not found with id: " + request.getWarehouseId()));
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        // Warehouse employees may only receive into warehouses they are assigned to
+        if (user.getRole() == Role.WAREHOUSE_EMPLOYEE
+                && !warehouseEmployeeRepository.existsByUserIdAndWarehouseId(user.getId(), warehouse.getId())) {
+            throw new IllegalArgumentException("User " + user.getUsername() + " is not assigned to warehouse " + warehouse.getName());
+        }
+
+        Map<UUID, ItemType> itemTypes = new HashMap<>();
+        for (ItemType itemType : itemTypeRepository.findAllById(quantityByType.keySet())) {
+            itemTypes.put(itemType.getId(), itemType);
+        }
+        for (UUID itemTypeId : quantityByType.keySet()) {
+            if (!itemTypes.containsKey(itemTypeId)) {
+                errors.add("ItemType not found with id: " + itemTypeId);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", errors));
+        }
+
+        // Oldest mergeable lot per item type, locked until commit so concurrent receipts cannot lose an update
+        Map<UUID, Item> mergeTargets = new HashMap<>();
+        if (request.isMergeIntoExisting()) {
+            for (Item lot : itemRepository.findMergeableLots(warehouse.getId(), quantityByType.keySet())) {
+                mergeTargets.putIfAbsent(lot.getItemType().getId(), lot);
+            }
+        }
+
+        LocalDateTime receivedAt = request.getReceivedAt() != null ? request.getReceivedAt() : LocalDateTime.now();
+        List<Item> newLots = new ArrayList<>();
+        List<UUID> mergedItemIds = new ArrayList<>();
+        int totalQuantity = 0;
+
+        for (Map.Entry<UUID, Integer> entry : quantityByType.entrySet()) {
+            totalQuantity += entry.getValue();
+            Item target = mergeTargets.get(entry.getKey());
+            if (target != null) {
+                // Managed entity; flushed with the inserts at commit
+                target.setQuantity(target.getQuantity() + entry.getValue());
+                mergedItemIds.add(target.getId());
+                continue;
+            }
+            Item lot = new Item(itemTypes.get(entry.getKey()), warehouse, entry.getValue(), ItemStatus.IN_WAREHOUSE);
+            lot.setCreatedAt(receivedAt);
+            lot.setCreatedBy(user.getUsername());
+            newLots.add(lot);
+        }
+
+        List<UUID> createdItemIds = itemRepository.saveAll(newLots).stream()
+                .map(Item::getId)
+                .toList();
+
+        return ItemReceiptResultDTO.builder()
+                .warehouseId(warehouse.getId())
+                .createdItemIds(createdItemIds)
+                .mergedItemIds(mergedItemIds)
+                .totalQuantity(totalQuantity)
+                .build();
+    }
+
     // CLEAN RESOLUTION METHOD - Updated with transaction status logic
     @Transactional
     public ItemResolution resolveDiscrepancy(ItemResolutionDTO request) {
@@ -270,8 +378,8 @@ public class ItemService {
 
     // SINGLE helper method to handle converting items to regular inventory
     private void handleItemToRegularInventory(Item discrepancyItem) {
-        // Look for existing regular inventory item
-        List<Item> existingItems = itemRepository.findAllByItemTypeIdAndWarehouseIdAndItemStatus(
+        // Look for existing regular inventory item (locked, as its quantity is written back)
+        List<Item> existingItems = itemRepository.findLotsForUpdate(
                 discrepancyItem.getItemType().getId(),
                 discrepancyItem.getWarehouse().getId(),
                 ItemStatus.IN_WAREHOUSE
@@ -371,8 +479,7 @@ public class ItemService {
      */
     @Transactional
     public void mergeDuplicateItems(UUID warehouseId, UUID itemTypeId, ItemStatus status) {
-        List<Item> duplicateItems = itemRepository.findAllByItemTypeIdAndWarehouseIdAndItemStatus(
-                itemTypeId, warehouseId, status);
+        List<Item> duplicateItems = itemRepository.findLotsForUpdate(itemTypeId, warehouseId, status);
 
         if (duplicateItems.size() <= 1) {
             return; // No duplicates to merge
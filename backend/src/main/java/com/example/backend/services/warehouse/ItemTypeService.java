@@ -1,13 +1,18 @@
 package com.example.backend.services.warehouse;
 
 
+import com.example.backend.dto.warehouse.ItemTypeCategoryGroupDTO;
 import com.example.backend.models.warehouse.ItemCategory;
 import com.example.backend.models.warehouse.ItemType;
 import com.example.backend.repositories.warehouse.ItemCategoryRepository;
 import com.example.backend.repositories.warehouse.ItemTypeRepository;
+import com.example.backend.services.ReferenceDataCache;
+import com.example.backend.services.ReferenceDataCache.CachedValue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +26,12 @@ public class ItemTypeService {
     @Autowired
     private ItemCategoryRepository itemCategoryRepository;
 
+    @Autowired
+    private ItemCategoryService itemCategoryService;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     public ItemType addItemType(Map<String, Object> requestBody) {
         ItemType itemType = new ItemType();
 
@@ -50,7 +61,9 @@ public class ItemTypeService {
             itemType.setItemCategory(category);
         }
 
-        return itemTypeRepository.save(itemType);
+        ItemType savedItemType = itemTypeRepository.save(itemType);
+        referenceDataCache.invalidate(ReferenceDataCache.ITEM_TYPES);
+        return savedItemType;
     }
 
     public ItemType getItemTypeById(UUID id) {
@@ -59,7 +72,40 @@ public class ItemTypeService {
     }
 
     public List<ItemType> getAllItemTypes() {
-        return itemTypeRepository.findAll();
+        return getAllItemTypesCached().value();
+    }
+
+    public CachedValue<List<ItemType>> getAllItemTypesCached() {
+        return referenceDataCache.get(ReferenceDataCache.ITEM_TYPES, "all",
+                () -> List.copyOf(itemTypeRepository.findAllWithCategory()));
+    }
+
+    /**
+     * All item types grouped by category, following the cached category tree
+     * (parents before their children). Categories without item types are left out.
+     */
+    public List<ItemTypeCategoryGroupDTO> getItemTypesGroupedByCategory() {
+        Map<UUID, List<ItemType>> typesByCategory = new HashMap<>();
+        for (ItemType itemType : itemTypeRepository.findAllWithCategory()) {
+            typesByCategory.computeIfAbsent(itemType.getItemCategory().getId(), id -> new ArrayList<>()).add(itemType);
+        }
+
+        ItemCategoryTree tree = itemCategoryService.getCategoryTree();
+        List<ItemTypeCategoryGroupDTO> groups = new ArrayList<>();
+        for (ItemCategory category : tree.getDepthFirstOrder()) {
+            List<ItemType> itemTypes = typesByCategory.get(category.getId());
+            if (itemTypes == null) {
+                continue;
+            }
+            groups.add(ItemTypeCategoryGroupDTO.builder()
+                    .categoryId(category.getId())
+                    .categoryName(category.getName())
+                    .parentCategoryId(category.getParentCategory() != null ? category.getParentCategory().getId() : null)
+                    .categoryPath(tree.getAncestorPath(category.getId()).stream().map(ItemCategory::getName).toList())
+                    .itemTypes(itemTypes)
+                    .build());
+        }
+        return groups;
     }
 
     public ItemType updateItemType(UUID id, Map<String, Object> requestBody) {
@@ -94,7 +140,9 @@ public class ItemTypeService {
             existingItemType.setComment((comment == null || comment.trim().isEmpty()) ? "No comment" : comment);
         }
 
-        return itemTypeRepository.save(existingItemType);
+        ItemType updatedItemType = itemTypeRepository.save(existingItemType);
+        referenceDataCache.invalidate(ReferenceDataCache.ITEM_TYPES);
+        return updatedItemType;
     }
 
     public void deleteItemType(UUID id) {
@@ -124,5 +172,6 @@ public class ItemTypeService {
         // If no dependencies, proceed with deletion
         itemType.setItemCategory(null);
         itemTypeRepository.delete(itemType);
+        referenceDataCache.invalidate(ReferenceDataCache.ITEM_TYPES);
     }
 }
@@ -1,12 +1,16 @@
 package com.example.backend.services.warehouse;
 
 
+import com.example.backend.dto.warehouse.WarehouseEmployeeSummaryDTO;
+import com.example.backend.dto.warehouse.WarehouseSummaryDTO;
 import com.example.backend.models.hr.Employee;
 import com.example.backend.models.warehouse.Warehouse;
 import com.example.backend.repositories.hr.EmployeeRepository;
 import com.example.backend.repositories.site.SiteRepository;
 import com.example.backend.repositories.warehouse.WarehouseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -24,58 +28,93 @@ public class WarehouseService {
     private EmployeeRepository employeeRepository;
 
 
+    /**
+     * All warehouses with their site and employees (with job position), built from
+     * one warehouse query and one employee projection query
+     */
     public List<Map<String, Object>> getAllWarehouses() {
-        try {
-            List<Warehouse> warehouses = warehouseRepository.findAll();
-            List<Map<String, Object>> warehouseList = new ArrayList<>();
-
-            for (Warehouse warehouse : warehouses) {
-                Map<String, Object> warehouseData = new HashMap<>();
-                warehouseData.put("id", warehouse.getId());
-                warehouseData.put("name", warehouse.getName());
-                warehouseData.put("photoUrl", warehouse.getPhotoUrl());
-
-                // Add site details safely
-                if (warehouse.getSite() != null) {
-                    Map<String, Object> siteDetails = new HashMap<>();
-                    siteDetails.put("id", warehouse.getSite().getId());
-                    siteDetails.put("name", warehouse.getSite().getName());
-                    warehouseData.put("site", siteDetails);
-                } else {
-                    warehouseData.put("site", null);
+        List<Warehouse> warehouses = warehouseRepository.findAll();
+
+        Map<UUID, List<Map<String, Object>>> employeesByWarehouse = new HashMap<>();
+        if (!warehouses.isEmpty()) {
+            List<UUID> warehouseIds = warehouses.stream().map(Warehouse::getId).toList();
+            for (Object[] row : employeeRepository.findWarehouseEmployeeRowsByWarehouseIdIn(warehouseIds)) {
+                Map<String, Object> employeeData = new HashMap<>();
+                employeeData.put("id", row[1]);
+                employeeData.put("firstName", row[2]);
+                employeeData.put("lastName", row[3]);
+                employeeData.put("email", row[4]);
+                employeeData.put("photoUrl", row[5]);
+
+                if (row[6] != null) {
+                    Map<String, Object> jobPosition = new HashMap<>();
+                    jobPosition.put("id", row[6]);
+                    jobPosition.put("positionName", row[7]);
+                    employeeData.put("jobPosition", jobPosition);
                 }
 
-                // Add employees safely (avoid circular references)
-                List<Map<String, Object>> employeesList = new ArrayList<>();
-                if (warehouse.getEmployees() != null) {
-                    for (Employee employee : warehouse.getEmployees()) {
-                        Map<String, Object> employeeData = new HashMap<>();
-                        employeeData.put("id", employee.getId());
-                        employeeData.put("firstName", employee.getFirstName());
-                        employeeData.put("lastName", employee.getLastName());
-
-                        if (employee.getJobPosition() != null) {
-                            Map<String, Object> jobPosition = new HashMap<>();
-                            jobPosition.put("positionName", employee.getJobPosition().getPositionName());
-                            employeeData.put("jobPosition", jobPosition);
-                        }
-
-                        employeesList.add(employeeData);
-                    }
-                }
-                warehouseData.put("employees", employeesList);
+                employeesByWarehouse.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add(employeeData);
+            }
+        }
 
-                warehouseList.add(warehouseData);
+        List<Map<String, Object>> warehouseList = new ArrayList<>();
+        for (Warehouse warehouse : warehouses) {
+            Map<String, Object> warehouseData = new HashMap<>();
+            warehouseData.put("id", warehouse.getId());
+            warehouseData.put("name", warehouse.getName());
+            warehouseData.put("photoUrl", warehouse.getPhotoUrl());
+
+            if (warehouse.getSite() != null) {
+                Map<String, Object> siteDetails = new HashMap<>();
+                siteDetails.put("id", warehouse.getSite().getId());
+                siteDetails.put("name", warehouse.getSite().getName());
+                warehouseData.put("site", siteDetails);
+            } else {
+                warehouseData.put("site", null);
             }
 
-            System.out.println("Successfully processed " + warehouseList.size() + " warehouses");
-            return warehouseList;
+            warehouseData.put("employees", employeesByWarehouse.getOrDefault(warehouse.getId(), new ArrayList<>()));
+            warehouseList.add(warehouseData);
+        }
+        return warehouseList;
+    }
+
+    /**
+     * Warehouse grid rows with site, employee count and manager name, from a single query
+     */
+    public List<WarehouseSummaryDTO> getWarehouseSummaries() {
+        List<WarehouseSummaryDTO> summaries = new ArrayList<>();
+        for (Object[] row : warehouseRepository.findSummaries()) {
+            summaries.add(WarehouseSummaryDTO.builder()
+                    .id((UUID) row[0])
+                    .name((String) row[1])
+                    .photoUrl((String) row[2])
+                    .siteId((UUID) row[3])
+                    .siteName((String) row[4])
+                    .employeeCount(((Number) row[5]).longValue())
+                    .managerName((String) row[6])
+                    .build());
+        }
+        return summaries;
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error in getAllWarehouses: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Failed to fetch warehouses", e);
+    /**
+     * One page of a warehouse's employees, ordered by name
+     */
+    public Page<WarehouseEmployeeSummaryDTO> getWarehouseEmployees(UUID warehouseId, int page, int size) {
+        if (!warehouseRepository.existsById(warehouseId)) {
+            throw new RuntimeException("Warehouse not found");
         }
+        return employeeRepository.findWarehouseEmployeeRows(warehouseId, PageRequest.of(page, size))
+                .map(row -> WarehouseEmployeeSummaryDTO.builder()
+                        .id((UUID) row[0])
+                        .firstName((String) row[1])
+                        .lastName((String) row[2])
+                        .email((String) row[3])
+                        .photoUrl((String) row[4])
+                        .jobPositionId((UUID) row[5])
+                        .positionName((String) row[6])
+                        .build());
     }
 
     public Warehouse getWarehouseById(UUID id) {
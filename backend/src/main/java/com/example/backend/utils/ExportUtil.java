@@ -4,11 +4,17 @@ import com.example.backend.dto.finance.generalLedger.AuditLogResponseDTO;
 import com.example.backend.dto.finance.payables.InvoiceResponseDTO;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -22,26 +28,100 @@ import com.itextpdf.layout.element.Table;
 @Component
 public class ExportUtil {
 
+    private static final String[] AUDIT_LOG_HEADERS = {
+            "ID", "Entity Type", "Entity ID", "Action", "Changes", "Username", "Timestamp", "IP Address", "User Agent"
+    };
+    // An XLSX sheet holds at most 1,048,576 rows; one of them is the header
+    public static final int MAX_EXCEL_DATA_ROWS = 1_048_575;
+    private static final DateTimeFormatter AUDIT_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     // Creates a minimal but valid XLSX file
     public byte[] exportAuditLogsToExcel(List<AuditLogResponseDTO> auditLogs) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
+        writeAuditLogsToExcel(auditLogs.stream(), baos);
+        return baos.toByteArray();
+    }
+
+    public byte[] exportAuditLogsToCSV(List<AuditLogResponseDTO> auditLogs) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeAuditLogsToCSV(auditLogs.stream(), baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Streams audit logs into an XLSX workbook written directly to the output stream.
+     * Cells use inline strings instead of a shared string table, so rows are written
+     * as they arrive and memory use does not grow with the number of rows.
+     * Callers check the row count against {@link #MAX_EXCEL_DATA_ROWS} first; going past it fails.
+     * The output stream is not closed.
+     */
+    public void writeAuditLogsToExcel(Stream<AuditLogResponseDTO> auditLogs, OutputStream out) throws IOException {
+        ZipOutputStream zos = new ZipOutputStream(out);
 
         // Add required files for XLSX format
         addContentTypes(zos);
         addRels(zos);
         addWorkbook(zos);
         addStyles(zos);
-        addSharedStrings(zos, auditLogs);
-        addWorksheet(zos, auditLogs);
 
-        zos.close();
-        return baos.toByteArray();
+        zos.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(zos, StandardCharsets.UTF_8));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">\n");
+        writer.write("  <sheetData>\n");
+
+        // Header row uses the bold style (s="1")
+        writeWorksheetRow(writer, 1, AUDIT_LOG_HEADERS, true);
+
+        // Data rows
+        int rowNum = 2;
+        Iterator<AuditLogResponseDTO> iterator = auditLogs.iterator();
+        while (iterator.hasNext()) {
+            if (rowNum > MAX_EXCEL_DATA_ROWS + 1) {
+                throw new IllegalStateException("Audit log export exceeds the XLSX limit of "
+                        + MAX_EXCEL_DATA_ROWS + " rows");
+            }
+            writeWorksheetRow(writer, rowNum++, toAuditLogRow(iterator.next()), false);
+        }
+
+        writer.write("  </sheetData>\n");
+        writer.write("</worksheet>");
+        writer.flush();
+        zos.closeEntry();
+
+        // finish() completes the ZIP without closing the underlying stream
+        zos.finish();
+        zos.flush();
     }
 
-    // For backward compatibility
-    public byte[] exportAuditLogsToCSV(List<AuditLogResponseDTO> auditLogs) throws IOException {
-        return exportAuditLogsToExcel(auditLogs);
+    /**
+     * Streams audit logs as CSV (RFC 4180 quoting) directly to the output stream.
+     * Cells that a spreadsheet would read as a formula are prefixed with a single quote.
+     * The output stream is not closed.
+     */
+    public void writeAuditLogsToCSV(Stream<AuditLogResponseDTO> auditLogs, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, AUDIT_LOG_HEADERS);
+
+        Iterator<AuditLogResponseDTO> iterator = auditLogs.iterator();
+        while (iterator.hasNext()) {
+            writeCsvRow(writer, toAuditLogRow(iterator.next()));
+        }
+        writer.flush();
+    }
+
+    private String[] toAuditLogRow(AuditLogResponseDTO log) {
+        return new String[]{
+                log.getId() != null ? log.getId().toString() : "",
+                log.getEntityType() != null ? log.getEntityType() : "",
+                log.getEntityId() != null ? log.getEntityId().toString() : "",
+                log.getAction() != null ? log.getAction() : "",
+                log.getChanges() != null ? log.getChanges() : "",
+                log.getUsername() != null ? log.getUsername() : "",
+                log.getTimestamp() != null ? log.getTimestamp().format(AUDIT_TIMESTAMP_FORMAT) : "",
+                log.getIpAddress() != null ? log.getIpAddress() : "",
+                log.getUserAgent() != null ? log.getUserAgent() : ""
+        };
     }
 
     private void addContentTypes(ZipOutputStream zos) throws IOException {
@@ -53,7 +133,6 @@ public class ExportUtil {
                         "  <Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>\n" +
                         "  <Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>\n" +
                         "  <Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>\n" +
-                        "  <Override PartName=\"/xl/sharedStrings.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sharedStrings+xml\"/>\n" +
                         "</Types>";
 
         addToZip(zos, "[Content_Types].xml", contentTypes);
@@ -73,7 +152,6 @@ public class ExportUtil {
                         "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">\n" +
                         "  <Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet1.xml\"/>\n" +
                         "  <Relationship Id=\"rId2\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>\n" +
-                        "  <Relationship Id=\"rId3\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/sharedStrings\" Target=\"sharedStrings.xml\"/>\n" +
                         "</Relationships>";
 
         addToZip(zos, "xl/_rels/workbook.xml.rels", workbookRels);
@@ -131,99 +209,45 @@ public class ExportUtil {
         addToZip(zos, "xl/styles.xml", styles);
     }
 
-    private void addSharedStrings(ZipOutputStream zos, List<AuditLogResponseDTO> auditLogs) throws IOException {
-        StringBuilder sharedStrings = new StringBuilder();
-        sharedStrings.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
-                .append("<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"")
-                .append(9 + auditLogs.size() * 9) // 9 headers + 9 values per row
-                .append("\" uniqueCount=\"")
-                .append(9 + auditLogs.size() * 9)
-                .append("\">\n");
-
-        // Add header strings
-        addSharedString(sharedStrings, "ID");
-        addSharedString(sharedStrings, "Entity Type");
-        addSharedString(sharedStrings, "Entity ID");
-        addSharedString(sharedStrings, "Action");
-        addSharedString(sharedStrings, "Changes");
-        addSharedString(sharedStrings, "Username");
-        addSharedString(sharedStrings, "Timestamp");
-        addSharedString(sharedStrings, "IP Address");
-        addSharedString(sharedStrings, "User Agent");
-
-        // Add data strings
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        for (AuditLogResponseDTO log : auditLogs) {
-            addSharedString(sharedStrings, log.getId() != null ? log.getId().toString() : "");
-            addSharedString(sharedStrings, log.getEntityType() != null ? log.getEntityType() : "");
-            addSharedString(sharedStrings, log.getEntityId() != null ? log.getEntityId().toString() : "");
-            addSharedString(sharedStrings, log.getAction() != null ? log.getAction() : "");
-            addSharedString(sharedStrings, log.getChanges() != null ? log.getChanges() : "");
-            addSharedString(sharedStrings, log.getUsername() != null ? log.getUsername() : "");
-            addSharedString(sharedStrings, log.getTimestamp() != null ? log.getTimestamp().format(formatter) : "");
-            addSharedString(sharedStrings, log.getIpAddress() != null ? log.getIpAddress() : "");
-            addSharedString(sharedStrings, log.getUserAgent() != null ? log.getUserAgent() : "");
+    private void writeWorksheetRow(Writer writer, int rowNum, String[] values, boolean header) throws IOException {
+        writer.write("    <row r=\"");
+        writer.write(String.valueOf(rowNum));
+        writer.write("\">");
+        for (int colNum = 0; colNum < values.length; colNum++) {
+            char colLetter = (char) ('A' + colNum);
+            writer.write("<c r=\"");
+            writer.write(colLetter);
+            writer.write(String.valueOf(rowNum));
+            writer.write(header ? "\" s=\"1\" t=\"inlineStr\"><is><t>" : "\" t=\"inlineStr\"><is><t>");
+            writer.write(escapeXml(values[colNum]));
+            writer.write("</t></is></c>");
         }
-
-        sharedStrings.append("</sst>");
-
-        addToZip(zos, "xl/sharedStrings.xml", sharedStrings.toString());
+        writer.write("</row>\n");
     }
 
-    private void addSharedString(StringBuilder sb, String value) {
-        sb.append("  <si>\n")
-                .append("    <t>")
-                .append(escapeXml(value))
-                .append("</t>\n")
-                .append("  </si>\n");
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
     }
 
-    private void addWorksheet(ZipOutputStream zos, List<AuditLogResponseDTO> auditLogs) throws IOException {
-        StringBuilder worksheet = new StringBuilder();
-        worksheet.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
-                .append("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">\n")
-                .append("  <sheetData>\n");
-
-        // Add header row
-        worksheet.append("    <row r=\"1\">\n");
-        for (int i = 0; i < 9; i++) {
-            char colLetter = (char)('A' + i);
-            worksheet.append("      <c r=\"")
-                    .append(colLetter)
-                    .append("1\" s=\"1\" t=\"s\">\n")
-                    .append("        <v>")
-                    .append(i)
-                    .append("</v>\n")
-                    .append("      </c>\n");
+    private String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
         }
-        worksheet.append("    </row>\n");
-
-        // Add data rows
-        int stringIndex = 9; // Start after the header strings
-        for (int rowNum = 0; rowNum < auditLogs.size(); rowNum++) {
-            worksheet.append("    <row r=\"")
-                    .append(rowNum + 2)
-                    .append("\">\n");
-
-            for (int colNum = 0; colNum < 9; colNum++) {
-                char colLetter = (char)('A' + colNum);
-                worksheet.append("      <c r=\"")
-                        .append(colLetter)
-                        .append(rowNum + 2)
-                        .append("\" t=\"s\">\n")
-                        .append("        <v>")
-                        .append(stringIndex++)
-                        .append("</v>\n")
-                        .append("      </c>\n");
-            }
-
-            worksheet.append("    </row>\n");
+        // Formula injection: =, +, -, @ (and tab/CR) at the start make Excel evaluate the cell
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
         }
-
-        worksheet.append("  </sheetData>\n")
-                .append("</worksheet>");
-
-        addToZip(zos, "xl/worksheets/sheet1.xml", worksheet.toString());
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
     }
 
     private void addToZip(ZipOutputStream zos, String entryName, String content) throws IOException {
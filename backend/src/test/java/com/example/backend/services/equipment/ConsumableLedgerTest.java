@@ -0,0 +1,250 @@
+package com.example.backend.services.equipment;
+
+import com.example.backend.dto.equipment.ConsumableLedgerDTO;
+import com.example.backend.dto.equipment.ConsumableLedgerEntryDTO;
+import com.example.backend.dto.equipment.ConsumableLedgerEntryDTO.EntryType;
+import com.example.backend.models.PartyType;
+import com.example.backend.models.equipment.*;
+import com.example.backend.models.site.Site;
+import com.example.backend.models.transaction.Transaction;
+import com.example.backend.models.transaction.TransactionItem;
+import com.example.backend.models.transaction.TransactionPurpose;
+import com.example.backend.models.transaction.TransactionStatus;
+import com.example.backend.models.warehouse.*;
+import com.example.backend.repositories.equipment.*;
+import com.example.backend.repositories.transaction.TransactionRepository;
+import com.example.backend.services.warehouse.WarehouseTestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the consumable ledger query (ConsumableRepository.findLedgerRows) against the database
+ * and checks its running balances against hand-computed values
+ */
+@SpringBootTest
+@Transactional
+@Import(WarehouseTestFixtures.class)
+public class ConsumableLedgerTest {
+
+    @Autowired private ConsumablesService consumablesService;
+    @Autowired private ConsumableRepository consumableRepository;
+    @Autowired private ConsumableResolutionRepository consumableResolutionRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private EquipmentRepository equipmentRepository;
+    @Autowired private EquipmentBrandRepository equipmentBrandRepository;
+    @Autowired private EquipmentTypeRepository equipmentTypeRepository;
+    @Autowired private WarehouseTestFixtures fixtures;
+    @Autowired private EntityManager entityManager;
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final LocalDateTime DAY_2 = DAY_1.plusDays(1);
+    private static final LocalDateTime DAY_3 = DAY_1.plusDays(2);
+    private static final LocalDateTime DAY_4 = DAY_1.plusDays(3);
+
+    private Warehouse warehouse;
+    private Equipment excavator;
+    private ItemType oilType;
+    private ItemType boltsType;
+
+    @BeforeEach
+    void setUp() {
+        Site site = fixtures.site("Ledger Test Site");
+        warehouse = fixtures.warehouse(site, "Ledger Warehouse");
+
+        EquipmentBrand brand = new EquipmentBrand();
+        brand.setName("Ledger Brand " + UUID.randomUUID());
+        brand.setDescription("Brand for ledger tests");
+        brand = equipmentBrandRepository.save(brand);
+
+        EquipmentType type = new EquipmentType();
+        type.setName("Ledger Excavator " + UUID.randomUUID());
+        type.setDescription("Equipment type for ledger tests");
+        type.setDrivable(true);
+        type = equipmentTypeRepository.save(type);
+
+        excavator = new Equipment();
+        excavator.setName("Ledger Excavator");
+        excavator.setSerialNumber("LEDGER-" + UUID.randomUUID());
+        excavator.setModel("CAT 320");
+        excavator.setBrand(brand);
+        excavator.setType(type);
+        excavator.setManufactureYear(Year.of(2020));
+        excavator.setPurchasedDate(LocalDate.of(2020, 6, 15));
+        excavator.setDeliveredDate(LocalDate.of(2020, 7, 1));
+        excavator.setEgpPrice(2500000.0);
+        excavator.setDollarPrice(50000.0);
+        excavator.setCountryOfOrigin("USA");
+        excavator.setSite(site);
+        excavator.setStatus(EquipmentStatus.AVAILABLE);
+        excavator = equipmentRepository.save(excavator);
+
+        ItemCategory category = fixtures.itemCategory("Ledger Consumables");
+        oilType = fixtures.itemType(category, "Ledger Hydraulic Oil", "liters");
+        boltsType = fixtures.itemType(category, "Ledger Bolts", "liters");
+    }
+
+    @Test
+    public void testLedgerRunningBalanceOfLinkedTransactions() {
+        // Given
+        // +10 received, the bolts line of the same transaction is another item type and left out
+        Transaction received = transaction(PartyType.WAREHOUSE, warehouse.getId(), PartyType.EQUIPMENT, excavator.getId(),
+                TransactionStatus.ACCEPTED, TransactionPurpose.CONSUMABLE, DAY_1);
+        TransactionItem receivedOil = item(received, oilType, 10, 10);
+        item(received, boltsType, 4, 4);
+        // +6: the equipment confirmed 6 of the 8 sent
+        Transaction partial = transaction(PartyType.WAREHOUSE, warehouse.getId(), PartyType.EQUIPMENT, excavator.getId(),
+                TransactionStatus.PARTIALLY_ACCEPTED, TransactionPurpose.CONSUMABLE, DAY_2);
+        TransactionItem partialOil = item(partial, oilType, 8, 6);
+        // -3 sent back to the warehouse
+        Transaction returned = transaction(PartyType.EQUIPMENT, excavator.getId(), PartyType.WAREHOUSE, warehouse.getId(),
+                TransactionStatus.ACCEPTED, TransactionPurpose.GENERAL, DAY_3);
+        TransactionItem returnedOil = item(returned, oilType, 3, null);
+        // 0 while still pending
+        Transaction pending = transaction(PartyType.WAREHOUSE, warehouse.getId(), PartyType.EQUIPMENT, excavator.getId(),
+                TransactionStatus.PENDING, TransactionPurpose.CONSUMABLE, DAY_4);
+        TransactionItem pendingOil = item(pending, oilType, 5, null);
+
+        Consumable consumable = consumable(List.of(received, partial, returned, pending));
+        // Same timestamp as the partial receipt: transactions sort before resolutions on ties
+        ConsumableResolution resolution = resolution(consumable, DAY_2);
+        flushAndClear();
+
+        // When
+        ConsumableLedgerDTO ledger = consumablesService.getConsumableLedger(consumable.getId());
+
+        // Then
+        List<ConsumableLedgerEntryDTO> entries = ledger.getEntries();
+        assertEquals(5, entries.size());
+        assertEntry(entries.get(0), EntryType.TRANSACTION, receivedOil.getId(), DAY_1, 10, 10);
+        assertEntry(entries.get(1), EntryType.TRANSACTION, partialOil.getId(), DAY_2, 6, 16);
+        assertEntry(entries.get(2), EntryType.RESOLUTION, resolution.getId(), DAY_2, 0, 16);
+        assertEntry(entries.get(3), EntryType.TRANSACTION, returnedOil.getId(), DAY_3, -3, 13);
+        assertEntry(entries.get(4), EntryType.TRANSACTION, pendingOil.getId(), DAY_4, 0, 13);
+
+        assertEquals("Ledger Warehouse", entries.get(0).getSenderName());
+        assertEquals("Ledger Excavator", entries.get(0).getReceiverName());
+        assertEquals(ResolutionType.ACKNOWLEDGE_LOSS, entries.get(2).getResolutionType());
+        assertEquals("storekeeper", entries.get(2).getResolvedBy());
+    }
+
+    @Test
+    public void testLedgerFallsBackToConsumableTransactionsOfEquipment() {
+        // Given
+        Transaction first = transaction(PartyType.WAREHOUSE, warehouse.getId(), PartyType.EQUIPMENT, excavator.getId(),
+                TransactionStatus.ACCEPTED, TransactionPurpose.CONSUMABLE, DAY_1);
+        TransactionItem firstOil = item(first, oilType, 7, null);
+        Transaction second = transaction(PartyType.WAREHOUSE, warehouse.getId(), PartyType.EQUIPMENT, excavator.getId(),
+                TransactionStatus.RESOLVED, TransactionPurpose.CONSUMABLE, DAY_2);
+        TransactionItem secondOil = item(second, oilType, 5, 4);
+        // Not a consumable transaction, so not part of the fallback
+        Transaction general = transaction(PartyType.WAREHOUSE, warehouse.getId(), PartyType.EQUIPMENT, excavator.getId(),
+                TransactionStatus.ACCEPTED, TransactionPurpose.GENERAL, DAY_3);
+        item(general, oilType, 100, 100);
+
+        Consumable consumable = consumable(List.of());
+        flushAndClear();
+
+        // When
+        List<Object[]> rows = consumableRepository.findLedgerRows(consumable.getId());
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(firstOil.getId(), rows.get(0)[1]);
+        assertEquals(7, ((Number) rows.get(0)[10]).intValue());
+        assertEquals(7L, ((Number) rows.get(0)[11]).longValue());
+        assertEquals(secondOil.getId(), rows.get(1)[1]);
+        assertEquals(4, ((Number) rows.get(1)[10]).intValue());
+        assertEquals(11L, ((Number) rows.get(1)[11]).longValue());
+    }
+
+    @Test
+    public void testLedgerOfConsumableWithoutMovementsIsEmpty() {
+        // Given
+        Consumable consumable = consumable(List.of());
+        flushAndClear();
+
+        // When
+        ConsumableLedgerDTO ledger = consumablesService.getConsumableLedger(consumable.getId());
+
+        // Then
+        assertTrue(ledger.getEntries().isEmpty());
+        assertEquals(oilType.getId(), ledger.getItemTypeId());
+    }
+
+    private void assertEntry(ConsumableLedgerEntryDTO entry, EntryType type, UUID entryId, LocalDateTime date,
+                             int quantityChange, long runningBalance) {
+        assertEquals(type, entry.getEntryType());
+        assertEquals(entryId, entry.getEntryId());
+        assertEquals(date, entry.getDate());
+        assertEquals(quantityChange, entry.getQuantityChange());
+        assertEquals(runningBalance, entry.getRunningBalance());
+    }
+
+    private Transaction transaction(PartyType senderType, UUID senderId, PartyType receiverType, UUID receiverId,
+                                    TransactionStatus status, TransactionPurpose purpose, LocalDateTime date) {
+        Transaction transaction = new Transaction();
+        transaction.setSenderType(senderType);
+        transaction.setSenderId(senderId);
+        transaction.setReceiverType(receiverType);
+        transaction.setReceiverId(receiverId);
+        transaction.setStatus(status);
+        transaction.setPurpose(purpose);
+        transaction.setTransactionDate(date);
+        transaction.setAddedBy("storekeeper");
+        transaction.setItems(new ArrayList<>());
+        return transactionRepository.save(transaction);
+    }
+
+    private TransactionItem item(Transaction transaction, ItemType itemType, int quantity, Integer equipmentReceivedQuantity) {
+        TransactionItem item = new TransactionItem();
+        item.setTransaction(transaction);
+        item.setItemType(itemType);
+        item.setQuantity(quantity);
+        item.setEquipmentReceivedQuantity(equipmentReceivedQuantity);
+        item.setStatus(transaction.getStatus());
+        transaction.getItems().add(item);
+        transactionRepository.saveAndFlush(transaction);
+        return transaction.getItems().get(transaction.getItems().size() - 1);
+    }
+
+    private Consumable consumable(List<Transaction> transactions) {
+        Consumable consumable = new Consumable();
+        consumable.setItemType(oilType);
+        consumable.setEquipment(excavator);
+        consumable.setQuantity(13);
+        consumable.setStatus(ItemStatus.IN_WAREHOUSE);
+        consumable.setTransactions(new ArrayList<>(transactions));
+        return consumableRepository.save(consumable);
+    }
+
+    private ConsumableResolution resolution(Consumable consumable, LocalDateTime resolvedAt) {
+        ConsumableResolution resolution = new ConsumableResolution();
+        resolution.setConsumable(consumable);
+        resolution.setResolutionType(ResolutionType.ACKNOWLEDGE_LOSS);
+        resolution.setNotes("Two liters spilled on delivery");
+        resolution.setResolvedBy("storekeeper");
+        resolution.setResolvedAt(resolvedAt);
+        resolution.setOriginalStatus(ItemStatus.MISSING);
+        resolution.setOriginalQuantity(2);
+        return consumableResolutionRepository.save(resolution);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.backend.services.equipment;
+
+import com.example.backend.dto.equipment.EquipmentTimelineEntryDTO;
+import com.example.backend.dto.equipment.EquipmentTimelineEntryDTO.EntryType;
+import com.example.backend.dto.equipment.EquipmentTimelinePageDTO;
+import com.example.backend.exceptions.ResourceNotFoundException;
+import com.example.backend.models.PartyType;
+import com.example.backend.models.equipment.Document;
+import com.example.backend.models.transaction.TransactionPurpose;
+import com.example.backend.models.transaction.TransactionStatus;
+import com.example.backend.repositories.equipment.DocumentRepository;
+import com.example.backend.repositories.equipment.EquipmentRepository;
+import com.example.backend.repositories.equipment.InSiteMaintenanceRepository;
+import com.example.backend.repositories.equipment.SarkyLogRepository;
+import com.example.backend.repositories.transaction.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Equipment timeline: cursor encoding, the k-way merge, and paging through a fixture whose
+ * order is worked out by hand. The repository mocks apply the same keyset condition and
+ * ordering as the real queries, comparing ids the way PostgreSQL does (byte-wise).
+ */
+@ExtendWith(MockitoExtension.class)
+public class EquipmentTimelineServiceTest {
+
+    private static final UUID EQUIPMENT_ID = UUID.fromString("eeeeeeee-0000-0000-0000-000000000001");
+    private static final UUID WAREHOUSE_ID = UUID.fromString("aaaaaaaa-0000-0000-0000-000000000001");
+
+    // Fixture: ids chosen so their order is obvious
+    private static final UUID T1 = id(1);
+    private static final UUID T2 = id(2);
+    private static final UUID T3 = id(3);
+    private static final UUID M1 = id(4);
+    private static final UUID M2 = id(5);
+    private static final UUID S1 = id(6);
+    private static final UUID S2 = id(7);
+    private static final UUID D1 = id(8);
+    private static final UUID D2 = id(9);
+
+    private static final LocalDateTime MAR_5_10AM = LocalDateTime.of(2024, 3, 5, 10, 0);
+    private static final LocalDateTime MAR_4_MIDNIGHT = LocalDateTime.of(2024, 3, 4, 0, 0);
+    private static final LocalDateTime MAR_3_3PM = LocalDateTime.of(2024, 3, 3, 15, 30);
+
+    // Newest first; same timestamp by type (TRANSACTION, MAINTENANCE, SARKY_LOG, DOCUMENT), then id descending:
+    //   Mar 5 10:00  T2, T1 (same type, higher id first), M1
+    //   Mar 5 00:00  S1 (date-only, placed at midnight)
+    //   Mar 4 00:00  T3 (a transaction at midnight), S2, D1
+    //   Mar 3 15:30  M2
+    //   Mar 2 00:00  D2
+    private static final List<UUID> EXPECTED_ORDER = List.of(T2, T1, M1, S1, T3, S2, D1, M2, D2);
+
+    @Mock
+    private EquipmentRepository equipmentRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private InSiteMaintenanceRepository inSiteMaintenanceRepository;
+
+    @Mock
+    private SarkyLogRepository sarkyLogRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EquipmentTimelineService equipmentTimelineService;
+
+    @BeforeEach
+    void setUp() {
+        equipmentTimelineService = new EquipmentTimelineService(equipmentRepository, transactionRepository,
+                inSiteMaintenanceRepository, sarkyLogRepository, documentRepository, transactionManager);
+    }
+
+    @Test
+    public void testCursorRoundTrip() {
+        // Given
+        EquipmentTimelineService.Position position =
+                new EquipmentTimelineService.Position(MAR_5_10AM.plusNanos(123_000), EntryType.SARKY_LOG, D2);
+
+        // When
+        String cursor = EquipmentTimelineService.encodeCursor(position);
+
+        // Then
+        assertEquals(position, EquipmentTimelineService.decodeCursor(cursor));
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "cursor must be URL-safe without padding: " + cursor);
+        assertEquals("2024-03-05T10:00:00.000123|SARKY_LOG|" + D2,
+                new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDecodeCursorRejectsMalformedCursors() {
+        List<String> malformed = List.of(
+                "not base64!",
+                encode("2024-03-05T10:00|TRANSACTION"),
+                encode("yesterday|TRANSACTION|" + T1),
+                encode("2024-03-05T10:00|INVOICE|" + T1),
+                encode("2024-03-05T10:00|TRANSACTION|not-a-uuid"),
+                encode("2024-03-05T10:00|TRANSACTION|" + T1 + "|extra"));
+
+        for (String cursor : malformed) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> EquipmentTimelineService.decodeCursor(cursor), cursor);
+            assertTrue(e.getMessage().startsWith("Invalid timeline cursor"));
+        }
+    }
+
+    @Test
+    public void testMergeOrdersByTimestampThenTypeAndKeepsSourceOrder() {
+        // Given: each source newest first, as the queries return them
+        List<EquipmentTimelineEntryDTO> transactions = List.of(
+                entry(EntryType.TRANSACTION, T2, MAR_5_10AM),
+                entry(EntryType.TRANSACTION, T1, MAR_5_10AM),
+                entry(EntryType.TRANSACTION, T3, MAR_4_MIDNIGHT));
+        List<EquipmentTimelineEntryDTO> maintenance = List.of(
+                entry(EntryType.MAINTENANCE, M1, MAR_5_10AM),
+                entry(EntryType.MAINTENANCE, M2, MAR_3_3PM));
+        List<EquipmentTimelineEntryDTO> documents = List.of(
+                entry(EntryType.DOCUMENT, D1, MAR_4_MIDNIGHT));
+
+        // When: sources passed in an order unrelated to the type order
+        List<EquipmentTimelineEntryDTO> merged =
+                EquipmentTimelineService.merge(List.of(documents, List.of(), maintenance, transactions), 10);
+
+        // Then
+        assertEquals(List.of(T2, T1, M1, T3, D1, M2), ids(merged));
+    }
+
+    @Test
+    public void testMergeStopsAtLimit() {
+        // Given
+        List<EquipmentTimelineEntryDTO> transactions = List.of(
+                entry(EntryType.TRANSACTION, T2, MAR_5_10AM),
+                entry(EntryType.TRANSACTION, T1, MAR_4_MIDNIGHT));
+        List<EquipmentTimelineEntryDTO> maintenance = List.of(
+                entry(EntryType.MAINTENANCE, M1, MAR_5_10AM),
+                entry(EntryType.MAINTENANCE, M2, MAR_3_3PM));
+
+        // When
+        List<EquipmentTimelineEntryDTO> merged = EquipmentTimelineService.merge(List.of(transactions, maintenance), 3);
+
+        // Then
+        assertEquals(List.of(T2, M1, T1), ids(merged));
+        assertTrue(EquipmentTimelineService.merge(List.of(List.of(), List.of()), 3).isEmpty());
+    }
+
+    @Test
+    public void testFirstPageMapsEachSource() {
+        // Given
+        stubFixture();
+
+        // When
+        EquipmentTimelinePageDTO page = equipmentTimelineService.getTimeline(EQUIPMENT_ID, null, 9);
+
+        // Then
+        assertEquals(EXPECTED_ORDER, ids(page.getEntries()));
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+
+        EquipmentTimelineEntryDTO incoming = page.getEntries().get(0);
+        assertEquals(EntryType.TRANSACTION, incoming.getType());
+        assertEquals("Transaction #102", incoming.getTitle());
+        assertEquals("INCOMING", incoming.getDirection());
+        assertEquals("ACCEPTED", incoming.getStatus());
+
+        EquipmentTimelineEntryDTO outgoing = page.getEntries().get(4);
+        assertEquals(T3, outgoing.getId());
+        assertEquals("OUTGOING", outgoing.getDirection());
+        assertEquals("Returned to warehouse", outgoing.getDescription());
+
+        EquipmentTimelineEntryDTO sarkyLog = page.getEntries().get(3);
+        assertEquals(LocalDateTime.of(2024, 3, 5, 0, 0), sarkyLog.getTimestamp());
+        assertEquals("Hani Adel", sarkyLog.getPersonName());
+        assertEquals(8.5, sarkyLog.getWorkedHours());
+    }
+
+    @Test
+    public void testPagesContinueAcrossTiesWithoutGapsOrDuplicates() {
+        // Given
+        stubFixture();
+
+        for (int size = 1; size <= EXPECTED_ORDER.size() + 1; size++) {
+            // When
+            List<UUID> seen = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            EquipmentTimelinePageDTO page;
+            do {
+                page = equipmentTimelineService.getTimeline(EQUIPMENT_ID, cursor, size);
+                seen.addAll(ids(page.getEntries()));
+                cursor = page.getNextCursor();
+                pages++;
+                assertEquals(page.isHasMore(), cursor != null, "page size " + size);
+                assertTrue(pages <= EXPECTED_ORDER.size(), "page size " + size + " does not terminate");
+            } while (page.isHasMore());
+
+            // Then
+            assertEquals(EXPECTED_ORDER, seen, "page size " + size);
+            assertEquals((EXPECTED_ORDER.size() + size - 1) / size, pages, "page size " + size);
+        }
+    }
+
+    @Test
+    public void testCursorAfterSameTypeTieResumesWithinTheTie() {
+        // Given: the first page ends on T2, the newer of two transactions at 10:00
+        stubFixture();
+        EquipmentTimelinePageDTO first = equipmentTimelineService.getTimeline(EQUIPMENT_ID, null, 1);
+
+        // When
+        EquipmentTimelinePageDTO second = equipmentTimelineService.getTimeline(EQUIPMENT_ID, first.getNextCursor(), 2);
+
+        // Then
+        assertEquals(List.of(T2), ids(first.getEntries()));
+        assertEquals(new EquipmentTimelineService.Position(MAR_5_10AM, EntryType.TRANSACTION, T2),
+                EquipmentTimelineService.decodeCursor(first.getNextCursor()));
+        assertEquals(List.of(T1, M1), ids(second.getEntries()));
+        // Transactions resume below T2 at 10:00; maintenance and sarky logs still include the cursor's time and date
+        verify(transactionRepository).findEquipmentTimelineRows(eq(EQUIPMENT_ID), eq(MAR_5_10AM), eq(T2), any());
+        verify(inSiteMaintenanceRepository).findEquipmentTimelineRows(
+                eq(EQUIPMENT_ID), eq(MAR_5_10AM), eq(new UUID(-1L, -1L)), any());
+        verify(sarkyLogRepository).findEquipmentTimelineRows(
+                eq(EQUIPMENT_ID), eq(LocalDate.of(2024, 3, 5)), eq(new UUID(-1L, -1L)), any());
+    }
+
+    @Test
+    public void testGetTimelineRejectsInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> equipmentTimelineService.getTimeline(EQUIPMENT_ID, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> equipmentTimelineService.getTimeline(EQUIPMENT_ID, null, 101));
+
+        when(equipmentRepository.existsById(EQUIPMENT_ID)).thenReturn(false);
+        assertThrows(ResourceNotFoundException.class, () -> equipmentTimelineService.getTimeline(EQUIPMENT_ID, null, 10));
+
+        when(equipmentRepository.existsById(EQUIPMENT_ID)).thenReturn(true);
+        assertThrows(IllegalArgumentException.class,
+                () -> equipmentTimelineService.getTimeline(EQUIPMENT_ID, "garbage", 10));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    // Fixture rows in each query's row layout, served with the queries' keyset condition and order
+
+    private void stubFixture() {
+        when(equipmentRepository.existsById(EQUIPMENT_ID)).thenReturn(true);
+
+        List<Object[]> transactions = List.of(
+                transactionRow(T1, MAR_5_10AM, 101, PartyType.WAREHOUSE, PartyType.EQUIPMENT, EQUIPMENT_ID, null),
+                transactionRow(T2, MAR_5_10AM, 102, PartyType.WAREHOUSE, PartyType.EQUIPMENT, EQUIPMENT_ID, null),
+                transactionRow(T3, MAR_4_MIDNIGHT, 103, PartyType.EQUIPMENT, PartyType.WAREHOUSE, WAREHOUSE_ID,
+                        "Returned to warehouse"));
+        List<Object[]> maintenance = List.of(
+                new Object[]{M1, MAR_5_10AM, "COMPLETED", "Oil change", "Omar", "Said", null},
+                new Object[]{M2, MAR_3_3PM, "IN_PROGRESS", "Inspection", null, null, "Track tension"});
+        List<Object[]> sarkyLogs = List.of(
+                new Object[]{S1, LocalDate.of(2024, 3, 5), "Excavation", 8.5, "Hani", "Adel"},
+                new Object[]{S2, LocalDate.of(2024, 3, 4), "Loading", 6.0, "Hani", "Adel"});
+        List<Object[]> documents = List.of(
+                new Object[]{D1, LocalDate.of(2024, 3, 4), "Inspection report", "PDF", "http://files/d1.pdf"},
+                new Object[]{D2, LocalDate.of(2024, 3, 2), "Invoice", "PDF", "http://files/d2.pdf"});
+
+        when(transactionRepository.findEquipmentTimelineRows(eq(EQUIPMENT_ID), any(), any(), any()))
+                .thenAnswer(call -> keysetPage(transactions, call.getArgument(1), call.getArgument(2), call.getArgument(3)));
+        when(inSiteMaintenanceRepository.findEquipmentTimelineRows(eq(EQUIPMENT_ID), any(), any(), any()))
+                .thenAnswer(call -> keysetPage(maintenance, call.getArgument(1), call.getArgument(2), call.getArgument(3)));
+        when(sarkyLogRepository.findEquipmentTimelineRows(eq(EQUIPMENT_ID), any(), any(), any()))
+                .thenAnswer(call -> keysetPage(sarkyLogs, call.getArgument(1), call.getArgument(2), call.getArgument(3)));
+        when(documentRepository.findTimelineRows(eq(Document.EntityType.EQUIPMENT), eq(EQUIPMENT_ID), any(), any(), any()))
+                .thenAnswer(call -> keysetPage(documents, call.getArgument(2), call.getArgument(3), call.getArgument(4)));
+    }
+
+    // (date, id) < (beforeDate, beforeId), ordered by date and id descending, limited to the page size
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Object[]> keysetPage(List<Object[]> rows, Comparable beforeDate, UUID beforeId, Pageable pageable) {
+        Comparator<Object[]> newestFirst = Comparator
+                .comparing((Object[] row) -> (Comparable) row[1])
+                .thenComparing(row -> row[0].toString())
+                .reversed();
+        return rows.stream()
+                .filter(row -> beforeDate == null
+                        || beforeDate.compareTo(row[1]) > 0
+                        || (beforeDate.compareTo(row[1]) == 0 && row[0].toString().compareTo(beforeId.toString()) < 0))
+                .sorted(newestFirst)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static Object[] transactionRow(UUID id, LocalDateTime date, int batchNumber, PartyType senderType,
+                                           PartyType receiverType, UUID receiverId, String description) {
+        return new Object[]{id, date, TransactionStatus.ACCEPTED, TransactionPurpose.CONSUMABLE, batchNumber,
+                senderType, receiverType, receiverId, description};
+    }
+
+    private static EquipmentTimelineEntryDTO entry(EntryType type, UUID id, LocalDateTime timestamp) {
+        return EquipmentTimelineEntryDTO.builder().type(type).id(id).timestamp(timestamp).build();
+    }
+
+    private static List<UUID> ids(List<EquipmentTimelineEntryDTO> entries) {
+        return entries.stream().map(EquipmentTimelineEntryDTO::getId).toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UUID id(int n) {
+        return UUID.fromString(String.format("00000000-0000-0000-0000-%012d", n));
+    }
+}
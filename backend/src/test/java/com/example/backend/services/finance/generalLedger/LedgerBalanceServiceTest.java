@@ -0,0 +1,220 @@
+package com.example.backend.services.finance.generalLedger;
+
+import com.example.backend.dto.finance.generalLedger.AccountStatementPeriodDTO;
+import com.example.backend.dto.finance.generalLedger.AccountStatementResponseDTO;
+import com.example.backend.dto.finance.generalLedger.TrialBalanceLineDTO;
+import com.example.backend.dto.finance.generalLedger.TrialBalanceResponseDTO;
+import com.example.backend.models.finance.generalLedger.JournalEntry;
+import com.example.backend.models.finance.generalLedger.JournalEntryLine;
+import com.example.backend.models.finance.generalLedger.LedgerBalance;
+import com.example.backend.repositories.finance.generalLedger.JournalEntryLineRepository;
+import com.example.backend.repositories.finance.generalLedger.LedgerBalanceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Ledger balance reads: monthly balances for complete months, journal lines for partial months.
+ */
+@ExtendWith(MockitoExtension.class)
+public class LedgerBalanceServiceTest {
+
+    private static final UUID CASH = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID REVENUE = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    @Mock
+    private LedgerBalanceRepository ledgerBalanceRepository;
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @InjectMocks
+    private LedgerBalanceService ledgerBalanceService;
+
+    @Test
+    public void testTrialBalanceMidMonthExcludesLaterDaysOfTheMonth() {
+        // Given: complete months up to February from the monthly balances, March 1-10 from the lines
+        when(ledgerBalanceRepository.getTrialBalance(202502)).thenReturn(rows(
+                new Object[]{CASH, amount("1000.00"), amount("200.00")},
+                new Object[]{REVENUE, amount("0.00"), amount("800.00")}));
+        when(journalEntryLineRepository.getApprovedTotalsByAccountBetween(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10))).thenReturn(rows(
+                new Object[]{CASH, amount("50.00"), amount("0.00")},
+                new Object[]{null, amount("5.00"), amount("0.00")},
+                new Object[]{REVENUE, amount("0.00"), amount("55.00")}));
+
+        // When
+        TrialBalanceResponseDTO result = ledgerBalanceService.getTrialBalance(LocalDate.of(2025, 3, 10));
+
+        // Then
+        assertEquals(3, result.getLines().size());
+        TrialBalanceLineDTO cash = line(result, CASH);
+        assertEquals(amount("1050.00"), cash.getDebitTotal());
+        assertEquals(amount("200.00"), cash.getCreditTotal());
+        assertEquals(amount("850.00"), cash.getBalance());
+        assertEquals(amount("855.00"), line(result, REVENUE).getCreditTotal());
+        assertEquals(amount("5.00"), line(result, LedgerBalance.UNASSIGNED_ACCOUNT).getDebitTotal());
+        assertEquals(amount("1055.00"), result.getTotalDebits());
+        assertEquals(amount("1055.00"), result.getTotalCredits());
+        assertTrue(result.isBalanced());
+        verify(ledgerBalanceRepository, never()).getTrialBalance(202503);
+    }
+
+    @Test
+    public void testTrialBalanceAtMonthEndUsesMonthlyBalancesOnly() {
+        // Given
+        when(ledgerBalanceRepository.getTrialBalance(202402)).thenReturn(rows(
+                new Object[]{CASH, amount("300.00"), amount("100.00")}));
+
+        // When: 2024 is a leap year, so February 29 is the month end
+        TrialBalanceResponseDTO result = ledgerBalanceService.getTrialBalance(LocalDate.of(2024, 2, 29));
+
+        // Then
+        assertEquals(amount("200.00"), line(result, CASH).getBalance());
+        assertFalse(result.isBalanced());
+        verifyNoInteractions(journalEntryLineRepository);
+    }
+
+    @Test
+    public void testAccountStatementSplitsPartialBoundaryMonths() {
+        // Given: statement from January 10 to March 20
+        when(ledgerBalanceRepository.getTotalsBefore(CASH, 202501)).thenReturn(rows(
+                new Object[]{amount("500.00"), amount("100.00")}));
+        // January 1-9 belongs to the opening balance
+        when(journalEntryLineRepository.getApprovedTotalsBetween(
+                CASH, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 9))).thenReturn(rows(
+                new Object[]{amount("20.00"), amount("0.00")}));
+        // The January and March balance rows cover whole months and must not be used
+        when(ledgerBalanceRepository.findByAccountIdAndPeriodKeyBetweenOrderByPeriodKeyAsc(CASH, 202501, 202503))
+                .thenReturn(List.of(
+                        balance(202501, "999.00", "999.00"),
+                        balance(202502, "70.00", "30.00"),
+                        balance(202503, "999.00", "999.00")));
+        when(journalEntryLineRepository.getApprovedTotalsBetween(
+                CASH, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 31))).thenReturn(rows(
+                new Object[]{amount("40.00"), amount("10.00")}));
+        when(journalEntryLineRepository.getApprovedTotalsBetween(
+                CASH, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 20))).thenReturn(rows(
+                new Object[]{amount("0.00"), amount("25.00")}));
+
+        // When
+        AccountStatementResponseDTO result = ledgerBalanceService.getAccountStatement(
+                CASH, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 3, 20));
+
+        // Then: opening 500 - 100 + 20 = 420; +30, +40, -25
+        assertEquals(amount("420.00"), result.getOpeningBalance());
+        List<AccountStatementPeriodDTO> periods = result.getPeriods();
+        assertEquals(3, periods.size());
+
+        assertEquals(LocalDate.of(2025, 1, 10), periods.get(0).getFromDate());
+        assertEquals(amount("30.00"), periods.get(0).getNetMovement());
+        assertEquals(amount("450.00"), periods.get(0).getRunningBalance());
+
+        assertEquals(2, periods.get(1).getMonth());
+        assertEquals(LocalDate.of(2025, 2, 28), periods.get(1).getToDate());
+        assertEquals(amount("490.00"), periods.get(1).getRunningBalance());
+
+        assertEquals(LocalDate.of(2025, 3, 20), periods.get(2).getToDate());
+        assertEquals(amount("-25.00"), periods.get(2).getNetMovement());
+        assertEquals(amount("465.00"), result.getClosingBalance());
+    }
+
+    @Test
+    public void testAccountStatementSkipsMonthsWithoutMovement() {
+        // Given: a range inside one month with no lines
+        when(ledgerBalanceRepository.getTotalsBefore(CASH, 202504)).thenReturn(rows(
+                new Object[]{amount("10.00"), amount("0.00")}));
+        when(journalEntryLineRepository.getApprovedTotalsBetween(eq(CASH), any(), any())).thenReturn(rows(
+                new Object[]{amount("0.00"), amount("0.00")}));
+        when(ledgerBalanceRepository.findByAccountIdAndPeriodKeyBetweenOrderByPeriodKeyAsc(CASH, 202504, 202504))
+                .thenReturn(List.of());
+
+        // When
+        AccountStatementResponseDTO result = ledgerBalanceService.getAccountStatement(
+                CASH, LocalDate.of(2025, 4, 5), LocalDate.of(2025, 4, 6));
+
+        // Then
+        assertTrue(result.getPeriods().isEmpty());
+        assertEquals(amount("10.00"), result.getClosingBalance());
+    }
+
+    @Test
+    public void testAccountStatementRejectsReversedRange() {
+        assertThrows(RuntimeException.class, () -> ledgerBalanceService.getAccountStatement(
+                CASH, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    public void testApplyEntriesAggregatesPerAccountAndMonth() {
+        // Given: two entries in January, one in February
+        JournalEntry first = entry(LocalDate.of(2025, 1, 5), line(CASH, "100.00", true), line(REVENUE, "100.00", false));
+        JournalEntry second = entry(LocalDate.of(2025, 1, 28), line(CASH, "40.00", true), line(null, "40.00", false));
+        JournalEntry third = entry(LocalDate.of(2025, 2, 1), line(CASH, "15.00", false), line(REVENUE, "15.00", true));
+
+        // When
+        ledgerBalanceService.applyEntries(List.of(first, second, third));
+
+        // Then: one upsert per account and month
+        verify(ledgerBalanceRepository).addToBalance(any(), eq(CASH), eq(202501), eq(amount("140.00")), eq(BigDecimal.ZERO));
+        verify(ledgerBalanceRepository).addToBalance(any(), eq(REVENUE), eq(202501), eq(BigDecimal.ZERO), eq(amount("100.00")));
+        verify(ledgerBalanceRepository).addToBalance(any(), eq(LedgerBalance.UNASSIGNED_ACCOUNT), eq(202501),
+                eq(BigDecimal.ZERO), eq(amount("40.00")));
+        verify(ledgerBalanceRepository).addToBalance(any(), eq(CASH), eq(202502), eq(BigDecimal.ZERO), eq(amount("15.00")));
+        verify(ledgerBalanceRepository).addToBalance(any(), eq(REVENUE), eq(202502), eq(amount("15.00")), eq(BigDecimal.ZERO));
+        verifyNoMoreInteractions(ledgerBalanceRepository);
+    }
+
+    // Helper methods
+
+    private static BigDecimal amount(String value) {
+        return new BigDecimal(value);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static TrialBalanceLineDTO line(TrialBalanceResponseDTO result, UUID accountId) {
+        return result.getLines().stream()
+                .filter(line -> line.getAccountId().equals(accountId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static LedgerBalance balance(int periodKey, String debit, String credit) {
+        LedgerBalance balance = new LedgerBalance();
+        balance.setAccountId(CASH);
+        balance.setPeriodKey(periodKey);
+        balance.setDebitTotal(amount(debit));
+        balance.setCreditTotal(amount(credit));
+        return balance;
+    }
+
+    private static JournalEntry entry(LocalDate entryDate, JournalEntryLine... lines) {
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryDate(entryDate);
+        entry.setEntryLines(new ArrayList<>(List.of(lines)));
+        return entry;
+    }
+
+    private static JournalEntryLine line(UUID accountId, String amount, boolean debit) {
+        JournalEntryLine line = new JournalEntryLine();
+        line.setAccountId(accountId);
+        line.setAmount(amount(amount));
+        line.setDebit(debit);
+        return line;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.backend.services.hr;
+
+import com.example.backend.dto.hr.promotions.MonthlyPromotionTrendDTO;
+import com.example.backend.dto.hr.promotions.PromotionAnalyticsDTO;
+import com.example.backend.models.hr.Department;
+import com.example.backend.models.hr.JobPosition;
+import com.example.backend.models.hr.PromotionRequest;
+import com.example.backend.models.hr.PromotionRequest.PromotionStatus;
+import com.example.backend.repositories.hr.PromotionMonthlyStatRepository;
+import com.example.backend.repositories.hr.PromotionRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Monthly promotion rollup: which bucket requests are counted in, and the figures read back from it.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PromotionAnalyticsServiceTest {
+
+    private static final UUID OPERATIONS = UUID.fromString("00000000-0000-0000-0000-0000000000a1");
+    private static final UUID OPERATIONS_NORTH = UUID.fromString("00000000-0000-0000-0000-0000000000a2");
+
+    @Mock
+    private PromotionMonthlyStatRepository promotionMonthlyStatRepository;
+
+    @Mock
+    private PromotionRequestRepository promotionRequestRepository;
+
+    @InjectMocks
+    private PromotionAnalyticsService promotionAnalyticsService;
+
+    @Test
+    public void testStatusChangeStaysInTheDepartmentTheRequestWasCountedIn() {
+        // Given: a request created in March while its position belonged to Operations
+        JobPosition position = position(OPERATIONS);
+        PromotionRequest request = request(position, PromotionStatus.PENDING);
+        promotionAnalyticsService.recordCreated(request);
+
+        // When: the position moves to another department before the request is approved
+        position.setDepartment(Department.builder().id(OPERATIONS_NORTH).name("Operations").build());
+        request.setStatus(PromotionStatus.APPROVED);
+        promotionAnalyticsService.recordStatusChange(request, PromotionStatus.PENDING);
+
+        // Then: added, moved and removed within the same month/department
+        assertEquals(OPERATIONS, request.getStatsDepartmentId());
+        verify(promotionMonthlyStatRepository).addToStat(any(), eq(202503), eq(OPERATIONS), eq("PENDING"),
+                eq(1L), eq(new BigDecimal("1000.00")));
+        verify(promotionMonthlyStatRepository).addToStat(any(), eq(202503), eq(OPERATIONS), eq("PENDING"),
+                eq(-1L), eq(new BigDecimal("-1000.00")));
+        verify(promotionMonthlyStatRepository).addToStat(any(), eq(202503), eq(OPERATIONS), eq("APPROVED"),
+                eq(1L), eq(new BigDecimal("1000.00")));
+        verify(promotionMonthlyStatRepository, never()).addToStat(any(), anyInt(), eq(OPERATIONS_NORTH),
+                anyString(), anyLong(), any());
+    }
+
+    @Test
+    public void testUnchangedStatusIsNotRecorded() {
+        // Given
+        PromotionRequest request = request(position(OPERATIONS), PromotionStatus.PENDING);
+
+        // When
+        promotionAnalyticsService.recordStatusChange(request, PromotionStatus.PENDING);
+
+        // Then
+        verifyNoInteractions(promotionMonthlyStatRepository);
+    }
+
+    @Test
+    public void testDepartmentFiguresAreKeyedByIdWhenNamesCollide() {
+        // Given: two departments both named "Operations"
+        when(promotionMonthlyStatRepository.getDepartmentTotals(202501, 202512, null)).thenReturn(List.<Object[]>of(
+                new Object[]{OPERATIONS, "Operations", PromotionStatus.PENDING, 2L, new BigDecimal("0.00")},
+                new Object[]{OPERATIONS, "Operations", PromotionStatus.APPROVED, 1L, new BigDecimal("700.00")},
+                new Object[]{OPERATIONS, "Operations", PromotionStatus.IMPLEMENTED, 2L, new BigDecimal("3000.00")},
+                new Object[]{OPERATIONS_NORTH, "Operations", PromotionStatus.IMPLEMENTED, 1L, new BigDecimal("500.00")}));
+
+        // When
+        PromotionAnalyticsDTO analytics = promotionAnalyticsService.getAnalytics(2025, null);
+
+        // Then: 5 requests / 3 approved-or-implemented / 2 implemented vs. 1 / 1 / 1
+        assertEquals(2, analytics.getPromotionsByDepartment().size());
+        assertEquals(2L, analytics.getPromotionsByDepartment().get(OPERATIONS));
+        assertEquals(1L, analytics.getPromotionsByDepartment().get(OPERATIONS_NORTH));
+        assertEquals(new BigDecimal("1500.00"), analytics.getAverageSalaryIncreaseByDepartment().get(OPERATIONS));
+        assertEquals(new BigDecimal("500.00"), analytics.getAverageSalaryIncreaseByDepartment().get(OPERATIONS_NORTH));
+        assertEquals(60.0, analytics.getApprovalRateByDepartment().get(OPERATIONS), 0.0001);
+        assertEquals(100.0, analytics.getApprovalRateByDepartment().get(OPERATIONS_NORTH), 0.0001);
+        assertEquals("Operations", analytics.getDepartmentNames().get(OPERATIONS_NORTH));
+    }
+
+    @Test
+    public void testMonthlyTrendsFromRollup() {
+        // Given
+        when(promotionMonthlyStatRepository.getMonthlyTotals(eq(202501), eq(202512), isNull())).thenReturn(List.<Object[]>of(
+                new Object[]{202503, PromotionStatus.PENDING, 2L, new BigDecimal("0.00")},
+                new Object[]{202503, PromotionStatus.IMPLEMENTED, 3L, new BigDecimal("4500.00")},
+                new Object[]{202507, PromotionStatus.APPROVED, 1L, new BigDecimal("800.00")}));
+
+        // When
+        List<MonthlyPromotionTrendDTO> trends = promotionAnalyticsService.getAnalytics(2025, null).getMonthlyTrends();
+
+        // Then
+        assertEquals(12, trends.size());
+        MonthlyPromotionTrendDTO march = trends.get(2);
+        assertEquals("MARCH", march.getMonthName());
+        assertEquals(5L, march.getTotalRequests());
+        assertEquals(3L, march.getApprovedPromotions());
+        assertEquals(3L, march.getImplementedPromotions());
+        assertEquals(new BigDecimal("1500.00"), march.getAverageSalaryIncrease());
+
+        MonthlyPromotionTrendDTO july = trends.get(6);
+        assertEquals(1L, july.getTotalRequests());
+        assertEquals(1L, july.getApprovedPromotions());
+        assertEquals(0L, july.getImplementedPromotions());
+        assertEquals(BigDecimal.ZERO, july.getAverageSalaryIncrease());
+
+        assertEquals(0L, trends.get(0).getTotalRequests());
+    }
+
+    // Helper Methods
+
+    private static JobPosition position(UUID departmentId) {
+        JobPosition position = new JobPosition();
+        position.setId(UUID.randomUUID());
+        position.setDepartment(Department.builder().id(departmentId).name("Operations").build());
+        return position;
+    }
+
+    private static PromotionRequest request(JobPosition position, PromotionStatus status) {
+        PromotionRequest request = new PromotionRequest();
+        request.setId(UUID.randomUUID());
+        request.setCurrentJobPosition(position);
+        request.setStatus(status);
+        request.setCurrentSalary(new BigDecimal("5000.00"));
+        request.setProposedSalary(new BigDecimal("6000.00"));
+        request.setCreatedAt(LocalDateTime.of(2025, 3, 14, 9, 30));
+        return request;
+    }
+}
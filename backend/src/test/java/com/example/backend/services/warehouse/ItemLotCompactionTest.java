@@ -0,0 +1,143 @@
+package com.example.backend.services.warehouse;
+
+import com.example.backend.models.site.Site;
+import com.example.backend.models.warehouse.*;
+import com.example.backend.repositories.warehouse.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the lot compaction statement (ItemRepository.compactLots) against the database
+ */
+@SpringBootTest
+@Transactional
+@Import(WarehouseTestFixtures.class)
+public class ItemLotCompactionTest {
+
+    @Autowired private ItemRepository itemRepository;
+    @Autowired private WarehouseTestFixtures fixtures;
+    @Autowired private EntityManager entityManager;
+
+    private Warehouse warehouse;
+    private Warehouse otherWarehouse;
+    private ItemType boltsType;
+    private ItemType oilType;
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2024, 1, 1, 8, 0);
+    private static final LocalDateTime DAY_2 = DAY_1.plusDays(1);
+    private static final LocalDateTime DAY_3 = DAY_1.plusDays(2);
+
+    @BeforeEach
+    void setUp() {
+        Site site = fixtures.site("Compaction Test Site");
+        warehouse = fixtures.warehouse(site, "Compaction Warehouse");
+        otherWarehouse = fixtures.warehouse(site, "Other Warehouse");
+
+        ItemCategory category = fixtures.itemCategory("Compaction Parts");
+        boltsType = fixtures.itemType(category, "Compaction Bolts", "pieces");
+        oilType = fixtures.itemType(category, "Compaction Oil", "pieces");
+    }
+
+    @Test
+    public void testCompactLotsMergesEachGroupIntoOldestLot() {
+        // Given
+        Item oldestBolts = lot(boltsType, warehouse, 10, DAY_1, "alice");
+        Item newerBolts = lot(boltsType, warehouse, 5, DAY_2, "bob");
+        Item newestBolts = lot(boltsType, warehouse, 7, DAY_3, "carol");
+        Item singleOil = lot(oilType, warehouse, 20, DAY_1, "alice");
+
+        // When
+        int removed = itemRepository.compactLots(warehouse.getId());
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, removed);
+        Item merged = itemRepository.findById(oldestBolts.getId()).orElseThrow();
+        assertEquals(22, merged.getQuantity()); // 10 + 5 + 7
+        assertEquals(DAY_1, merged.getCreatedAt());
+        assertEquals("alice", merged.getCreatedBy());
+        assertFalse(itemRepository.existsById(newerBolts.getId()));
+        assertFalse(itemRepository.existsById(newestBolts.getId()));
+        // A lot without siblings is left as it is
+        assertEquals(20, itemRepository.findById(singleOil.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    public void testCompactLotsCarriesCreatedByOverWhenSurvivorHasNone() {
+        // Given
+        Item oldest = lot(boltsType, warehouse, 3, DAY_1, null);
+        lot(boltsType, warehouse, 4, DAY_2, "bob");
+        lot(boltsType, warehouse, 5, DAY_3, "carol");
+
+        // When
+        int removed = itemRepository.compactLots(warehouse.getId());
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, removed);
+        Item merged = itemRepository.findById(oldest.getId()).orElseThrow();
+        assertEquals(12, merged.getQuantity());
+        assertEquals("bob", merged.getCreatedBy());
+    }
+
+    @Test
+    public void testCompactLotsLeavesOtherStatusesAndWarehousesAlone() {
+        // Given
+        Item inWarehouse = lot(boltsType, warehouse, 10, DAY_1, "alice");
+        Item resolved = lot(boltsType, warehouse, 5, DAY_2, "bob");
+        resolved.setResolved(true);
+        Item missing = lot(boltsType, warehouse, 6, DAY_2, "bob");
+        missing.setItemStatus(ItemStatus.MISSING);
+        Item elsewhere = lot(boltsType, otherWarehouse, 8, DAY_3, "carol");
+        Item elsewhereToo = lot(boltsType, otherWarehouse, 9, DAY_3, "carol");
+        itemRepository.saveAllAndFlush(List.of(resolved, missing));
+
+        // When
+        int removed = itemRepository.compactLots(warehouse.getId());
+        entityManager.clear();
+
+        // Then
+        assertEquals(0, removed);
+        assertEquals(10, itemRepository.findById(inWarehouse.getId()).orElseThrow().getQuantity());
+        assertEquals(5, itemRepository.findById(resolved.getId()).orElseThrow().getQuantity());
+        assertEquals(6, itemRepository.findById(missing.getId()).orElseThrow().getQuantity());
+        assertTrue(itemRepository.existsById(elsewhere.getId()));
+        assertTrue(itemRepository.existsById(elsewhereToo.getId()));
+    }
+
+    @Test
+    public void testCompactLotsBreaksCreatedAtTiesById() {
+        // Given
+        Item first = lot(boltsType, warehouse, 1, DAY_1, "alice");
+        Item second = lot(boltsType, warehouse, 2, DAY_1, "bob");
+        // Postgres orders uuids byte-wise, which matches their string form (UUID.compareTo is signed)
+        Item keep = first.getId().toString().compareTo(second.getId().toString()) < 0 ? first : second;
+        Item drop = keep == first ? second : first;
+
+        // When
+        int removed = itemRepository.compactLots(warehouse.getId());
+        entityManager.clear();
+
+        // Then
+        assertEquals(1, removed);
+        assertEquals(3, itemRepository.findById(keep.getId()).orElseThrow().getQuantity());
+        assertFalse(itemRepository.existsById(drop.getId()));
+    }
+
+    private Item lot(ItemType itemType, Warehouse target, int quantity, LocalDateTime createdAt, String createdBy) {
+        Item item = new Item(itemType, target, quantity, ItemStatus.IN_WAREHOUSE);
+        item.setCreatedAt(createdAt);
+        item.setCreatedBy(createdBy);
+        return itemRepository.saveAndFlush(item);
+    }
+}
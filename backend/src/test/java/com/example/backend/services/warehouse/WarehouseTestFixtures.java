@@ -0,0 +1,70 @@
+package com.example.backend.services.warehouse;
+
+import com.example.backend.models.site.Site;
+import com.example.backend.models.warehouse.ItemCategory;
+import com.example.backend.models.warehouse.ItemType;
+import com.example.backend.models.warehouse.Warehouse;
+import com.example.backend.repositories.site.SiteRepository;
+import com.example.backend.repositories.warehouse.ItemCategoryRepository;
+import com.example.backend.repositories.warehouse.ItemTypeRepository;
+import com.example.backend.repositories.warehouse.WarehouseRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Saved site, warehouse and item type fixtures for database tests; add with @Import
+ */
+@TestComponent
+public class WarehouseTestFixtures {
+
+    private final SiteRepository siteRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final ItemCategoryRepository itemCategoryRepository;
+    private final ItemTypeRepository itemTypeRepository;
+
+    public WarehouseTestFixtures(SiteRepository siteRepository,
+                                 WarehouseRepository warehouseRepository,
+                                 ItemCategoryRepository itemCategoryRepository,
+                                 ItemTypeRepository itemTypeRepository) {
+        this.siteRepository = siteRepository;
+        this.warehouseRepository = warehouseRepository;
+        this.itemCategoryRepository = itemCategoryRepository;
+        this.itemTypeRepository = itemTypeRepository;
+    }
+
+    public Site site(String name) {
+        Site site = new Site();
+        site.setName(name);
+        site.setPhysicalAddress("Test Location");
+        site.setCompanyAddress("Test HQ");
+        site.setCreationDate(LocalDate.now());
+        return siteRepository.save(site);
+    }
+
+    public Warehouse warehouse(Site site, String name) {
+        Warehouse warehouse = new Warehouse();
+        warehouse.setName(name);
+        warehouse.setSite(site);
+        return warehouseRepository.save(warehouse);
+    }
+
+    public ItemCategory itemCategory(String name) {
+        ItemCategory category = new ItemCategory();
+        category.setName(name);
+        category.setDescription(name + " for tests");
+        return itemCategoryRepository.save(category);
+    }
+
+    // The name gets a random suffix so it cannot match an item type already in the database
+    public ItemType itemType(ItemCategory category, String name, String measuringUnit) {
+        ItemType itemType = new ItemType();
+        itemType.setName(name + " " + UUID.randomUUID());
+        itemType.setMeasuringUnit(measuringUnit);
+        itemType.setItemCategory(category);
+        itemType.setMinQuantity(0);
+        itemType.setStatus("ACTIVE");
+        return itemTypeRepository.save(itemType);
+    }
+}